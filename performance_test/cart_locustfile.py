@@ -0,0 +1,108 @@
+from locust import HttpUser, task, between, events
+import os
+import random
+import string
+import uuid
+
+# --- 장바구니 추가 경로 벤치마크 ---
+# 실행: locust -f performance_test/cart_locustfile.py --headless -u 200 -r 20 -t 2m --host http://localhost:8080
+# p99 는 Locust 통계(Customer: Add Cart Item)에서 확인하고,
+# Redis 왕복 수는 테스트 시작/종료 시점의 INFO stats(total_commands_processed) 차이를 요청 수로 나눠 계산한다.
+# 변경 전(HVALS + DEL + HSET*N + EXPIRE)과 변경 후(EVALSHA 1회)를 같은 조건에서 각각 실행해 비교한다.
+# 네트워크 왕복이 없는 기준값은 서버를 cart.store=memory 로 띄워 같은 시나리오로 측정한다(이때 Redis 명령 수는 0에 가깝다).
+
+REDIS_HOST = os.getenv("REDIS_HOST", "localhost")
+REDIS_PORT = int(os.getenv("REDIS_PORT", "6379"))
+REDIS_PASSWORD = os.getenv("REDIS_PASSWORD")
+
+GLOBAL_STORE_ID = '3bf1fca4-32b4-45b7-bf99-1822aefcec7a'
+GLOBAL_MENU_IDS = [
+    '328f4218-0213-442e-855b-1cae0e3d706a',
+]
+
+_redis_client = None
+_commands_at_start = None
+
+
+def random_string(length=10):
+    letters = string.ascii_lowercase + string.digits
+    return ''.join(random.choices(letters, k=length))
+
+
+def random_phone_number():
+    return f"010{random.randint(1000, 9999):04d}{random.randint(1000, 9999):04d}"
+
+
+def _total_commands():
+    if _redis_client is None:
+        return None
+    return _redis_client.info("stats").get("total_commands_processed")
+
+
+@events.test_start.add_listener
+def on_test_start(environment, **kwargs):
+    global _redis_client, _commands_at_start
+    try:
+        import redis
+        _redis_client = redis.Redis(host=REDIS_HOST, port=REDIS_PORT, password=REDIS_PASSWORD)
+        _commands_at_start = _total_commands()
+    except Exception as e:
+        print(f"Redis 통계 수집 비활성화: {e}")
+        _redis_client = None
+
+
+@events.test_stop.add_listener
+def on_test_stop(environment, **kwargs):
+    if _redis_client is None or _commands_at_start is None:
+        return
+    entry = environment.stats.get("Customer: Add Cart Item", "POST")
+    if entry.num_requests == 0:
+        return
+    commands = _total_commands() - _commands_at_start
+    print(f"add-to-cart 요청 수: {entry.num_requests}")
+    print(f"add-to-cart p99: {entry.get_response_time_percentile(0.99)} ms")
+    # 로그인/블랙리스트 조회 등 다른 명령도 포함되므로 상한값으로 해석한다.
+    print(f"요청당 Redis 명령 수(상한): {commands / entry.num_requests:.2f}")
+
+
+class CartCustomer(HttpUser):
+    wait_time = between(0.1, 0.5)
+
+    def on_start(self):
+        self.token = None
+        username = f"cart_{random_string(8)}_{uuid.uuid4().hex[:6]}"
+        password = "password123!"
+        signup_payload = {
+            "username": username,
+            "password": password,
+            "email": f"{username}@example.com",
+            "nickname": random_string(8),
+            "realName": "Customer",
+            "phoneNumber": random_phone_number(),
+            "userRole": "CUSTOMER"
+        }
+        self.client.post("/api/user/signup", json=signup_payload, name="Customer: Signup")
+
+        with self.client.post("/api/user/login", json={"username": username, "password": password},
+                              name="Customer: Login", catch_response=True) as response:
+            if response.ok:
+                self.token = response.json().get("result", {}).get("accessToken")
+            if self.token:
+                self.client.headers["Authorization"] = f"Bearer {self.token}"
+                response.success()
+            else:
+                response.failure(f"Customer login failed for {username}: {response.text}")
+                self.stop()
+
+    @task(5)
+    def add_item_to_cart(self):
+        payload = {
+            "menuId": random.choice(GLOBAL_MENU_IDS),
+            "storeId": GLOBAL_STORE_ID,
+            "quantity": 1
+        }
+        self.client.post("/api/customer/cart/item", json=payload, name="Customer: Add Cart Item")
+
+    @task(1)
+    def get_cart(self):
+        self.client.get("/api/customer/cart", name="Customer: Get Cart")
@@ -5,11 +5,11 @@ import java.util.UUID;
 import app.domain.ai.model.entity.enums.AiRequestStatus;
 import app.domain.ai.model.entity.enums.ReqType;
 import app.global.entity.BaseEntity;
+import app.global.entity.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -30,7 +30,7 @@ public class AiHistory extends BaseEntity {
 	private Long userId;
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID aiRequestId;
 
 	@Column(nullable = false)
@@ -0,0 +1,33 @@
+package app.domain.cart;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import app.domain.cart.service.CartRedisService;
+import app.global.outbox.OutboxEvent;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제가 완료된 사용자의 장바구니를 비운다. 이미 비어 있으면 그대로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartClearHandler implements OutboxHandler {
+
+	private final CartRedisService cartRedisService;
+
+	@Override
+	public Set<OutboxEventType> eventTypes() {
+		return Set.of(OutboxEventType.PAYMENT_COMPLETED);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, JsonNode payload) {
+		cartRedisService.clearCartItems(payload.get("userId").asLong());
+	}
+}
@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.domain.cart.model.dto.AddCartItemRequest;
+import app.domain.cart.model.dto.BulkCartItemRequest;
+import app.domain.cart.model.dto.CartViewResponse;
 import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.service.CartService;
 import app.domain.cart.status.CartSuccessStatus;
@@ -44,6 +46,13 @@ public class CartController {
 		return ApiResponse.onSuccess(CartSuccessStatus.CART_ITEM_UPDATED, result);
 	}
 
+	@Operation(summary = "장바구니 아이템 일괄 변경 API", description = "여러 메뉴의 추가(ADD), 수량 수정(UPDATE), 삭제(REMOVE)를 요청 순서대로 한 번에 반영하고 변경된 장바구니를 반환합니다.")
+	@PostMapping("/item/bulk")
+	public ApiResponse<List<RedisCartItem>> applyItemChanges(@Valid @RequestBody BulkCartItemRequest request) {
+		List<RedisCartItem> cartItems = cartService.applyCartItemChanges(request);
+		return ApiResponse.onSuccess(CartSuccessStatus.CART_ITEMS_CHANGED, cartItems);
+	}
+
 	@Operation(summary = "장바구니 아이템 삭제 API", description = "장바구니에서 특정 메뉴를 삭제합니다.")
 	@DeleteMapping("/item/{menuId}")
 	public ApiResponse<String> removeItemFromCart(@Valid @PathVariable UUID menuId) {
@@ -58,6 +67,13 @@ public class CartController {
 		return ApiResponse.onSuccess(CartSuccessStatus.CART_RETRIEVED, cartItems);
 	}
 
+	@Operation(summary = "장바구니 상세 조회 API", description = "메뉴 이름, 가격, 금액 합계와 최소 주문 금액 충족 여부를 함께 조회합니다.")
+	@GetMapping("/view")
+	public ApiResponse<CartViewResponse> getCartView() {
+		CartViewResponse cartView = cartService.getCartView();
+		return ApiResponse.onSuccess(CartSuccessStatus.CART_VIEW_RETRIEVED, cartView);
+	}
+
 	@Operation(summary = "장바구니 전체 삭제 API", description = "사용자의 장바구니를 전체 삭제합니다.")
 	@DeleteMapping("/item")
 	public ApiResponse<String> clearCart() {
@@ -0,0 +1,23 @@
+package app.domain.cart.model.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkCartItemRequest {
+
+	@NotEmpty(message = "변경할 아이템은 1개 이상이어야 합니다.")
+	@Size(max = 100, message = "한 번에 변경할 수 있는 아이템은 100개까지입니다.")
+	private List<@Valid CartItemChange> changes;
+
+	public BulkCartItemRequest(List<CartItemChange> changes) {
+		this.changes = changes;
+	}
+}
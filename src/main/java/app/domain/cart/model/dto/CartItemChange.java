@@ -0,0 +1,40 @@
+package app.domain.cart.model.dto;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장바구니 일괄 변경의 단위 명령.
+ * ADD 는 storeId 와 추가 수량, UPDATE 는 변경할 수량이 필요하고 REMOVE 는 menuId 만 사용한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class CartItemChange {
+
+	public enum Type {
+		ADD, UPDATE, REMOVE
+	}
+
+	@NotNull(message = "변경 유형은 필수입니다.")
+	private Type type;
+
+	@NotNull(message = "메뉴 ID는 필수입니다.")
+	private UUID menuId;
+
+	private UUID storeId;
+
+	private int quantity;
+
+	public CartItemChange(Type type, UUID menuId, UUID storeId, int quantity) {
+		this.type = type;
+		this.menuId = menuId;
+		this.storeId = storeId;
+		this.quantity = quantity;
+	}
+}
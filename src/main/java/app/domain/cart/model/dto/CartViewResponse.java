@@ -0,0 +1,81 @@
+package app.domain.cart.model.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import app.domain.menu.MenuCatalogCache.MenuInfo;
+import app.domain.menu.MenuCatalogCache.StoreInfo;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CartViewResponse {
+
+	private UUID storeId;
+	private String storeName;
+	private long minOrderAmount;
+	// 숨김/삭제된 메뉴는 합계에서 제외한다.
+	private long totalPrice;
+	private boolean meetsMinOrderAmount;
+	private boolean storeDeleted;
+	private List<Item> items;
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor
+	@Builder
+	public static class Item {
+		private UUID menuId;
+		private String menuName;
+		private long price;
+		private int quantity;
+		private long lineTotal;
+		private boolean hidden;
+		private boolean deleted;
+
+		public static Item of(RedisCartItem cartItem, MenuInfo menu) {
+			return Item.builder()
+				.menuId(cartItem.getMenuId())
+				.menuName(menu.getName())
+				.price(menu.getPrice())
+				.quantity(cartItem.getQuantity())
+				.lineTotal(menu.getPrice() * cartItem.getQuantity())
+				.hidden(menu.isHidden())
+				.deleted(menu.isDeleted())
+				.build();
+		}
+	}
+
+	public static CartViewResponse empty() {
+		return CartViewResponse.builder()
+			.items(List.of())
+			.build();
+	}
+
+	public static CartViewResponse of(StoreInfo store, List<RedisCartItem> cartItems, Map<UUID, MenuInfo> menus) {
+		List<Item> items = cartItems.stream()
+			.map(cartItem -> Item.of(cartItem, menus.get(cartItem.getMenuId())))
+			.toList();
+		long totalPrice = items.stream()
+			.filter(item -> !item.isHidden() && !item.isDeleted())
+			.mapToLong(Item::getLineTotal)
+			.sum();
+
+		return CartViewResponse.builder()
+			.storeId(store.getStoreId())
+			.storeName(store.getStoreName())
+			.minOrderAmount(store.getMinOrderAmount())
+			.totalPrice(totalPrice)
+			.meetsMinOrderAmount(!store.isDeleted() && totalPrice >= store.getMinOrderAmount())
+			.storeDeleted(store.isDeleted())
+			.items(items)
+			.build();
+	}
+}
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import app.domain.user.model.entity.User;
 import app.global.entity.BaseEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
@@ -20,7 +21,6 @@ import lombok.NoArgsConstructor;
 @Table(name = "p_cart")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Builder
 public class Cart extends BaseEntity {
 
 	@Id
@@ -31,6 +31,11 @@ public class Cart extends BaseEntity {
 	@JoinColumn(name = "user_id", nullable = false, unique = true)
 	private User user;
 
+	// 장바구니 전체를 담은 스냅샷 (cart.persistence=snapshot 일 때 사용, 형식은 CartItemCodec 참고)
+	@Column(name = "snapshot")
+	private byte[] snapshot;
+
+	@Builder
 	public Cart(UUID cartId, User user) {
 		this.cartId = cartId;
 		this.user = user;
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.cart.model.entity.CartItem;
@@ -13,4 +16,9 @@ public interface CartItemRepository extends JpaRepository<CartItem, UUID> {
 	List<CartItem> findByCart_CartId(UUID cartId);
 
 	void deleteByCart_CartId(UUID cartId);
+
+	@Modifying
+	@Query("delete from CartItem ci where ci.cart.cartId in "
+		+ "(select c.cartId from Cart c where c.user.userId = :userId)")
+	int deleteByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
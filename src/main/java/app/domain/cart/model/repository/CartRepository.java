@@ -1,9 +1,13 @@
 package app.domain.cart.model.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.cart.model.entity.Cart;
@@ -11,4 +15,16 @@ import app.domain.cart.model.entity.Cart;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, UUID> {
 	Optional<Cart> findByUser_UserId(Long userId);
+
+	@Modifying
+	@Query("update Cart c set c.snapshot = :snapshot, c.updatedAt = :now where c.user.userId = :userId")
+	int updateSnapshot(@Param("userId") Long userId, @Param("snapshot") byte[] snapshot,
+		@Param("now") LocalDateTime now);
+
+	// 이미 스냅샷이 있는 장바구니만 갱신한다. 0 이면 첫 스냅샷이거나 장바구니가 없다.
+	@Modifying
+	@Query("update Cart c set c.snapshot = :snapshot, c.updatedAt = :now "
+		+ "where c.user.userId = :userId and c.snapshot is not null")
+	int updateExistingSnapshot(@Param("userId") Long userId, @Param("snapshot") byte[] snapshot,
+		@Param("now") LocalDateTime now);
 }
\ No newline at end of file
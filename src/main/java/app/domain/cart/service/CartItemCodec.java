@@ -0,0 +1,186 @@
+package app.domain.cart.service;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.status.CartErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장바구니 캐시 바이너리 코덱.
+ * <pre>
+ * cart:{userId} (hash)
+ *   "m"            -> [버전 1byte][storeId 16byte]   장바구니당 한 번만 저장
+ *   menuId 16byte  -> 수량 varint
+ * </pre>
+ * 메타 필드가 없는 해시는 이전 형식(필드 = menuId 문자열, 값 = 아이템 JSON)으로 보고 읽기만 지원한다.
+ * 이전 형식 장바구니는 다음 쓰기 시점에 새 형식으로 다시 저장된다.
+ * <p>
+ * DB 스냅샷(p_cart.snapshot)도 같은 버전 체계를 쓴다.
+ * <pre>
+ * [버전 1byte][storeId 16byte][아이템 수 varint]([menuId 16byte][수량 varint])*   빈 장바구니는 [버전]만 저장
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class CartItemCodec {
+
+	public static final byte VERSION = 2;
+	private static final int UUID_BYTES = 16;
+
+	private final ObjectMapper redisObjectMapper;
+
+	public byte[] encodeMeta(UUID storeId) {
+		return ByteBuffer.allocate(1 + UUID_BYTES)
+			.put(VERSION)
+			.putLong(storeId.getMostSignificantBits())
+			.putLong(storeId.getLeastSignificantBits())
+			.array();
+	}
+
+	public byte[] encodeUuid(UUID id) {
+		return ByteBuffer.allocate(UUID_BYTES)
+			.putLong(id.getMostSignificantBits())
+			.putLong(id.getLeastSignificantBits())
+			.array();
+	}
+
+	public byte[] encodeQuantity(int quantity) {
+		if (quantity < 0) {
+			throw new GeneralException(CartErrorStatus.INVALID_QUANTITY);
+		}
+		byte[] buffer = new byte[5];
+		int length = 0;
+		int value = quantity;
+		while ((value & ~0x7F) != 0) {
+			buffer[length++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[length++] = (byte)value;
+
+		byte[] encoded = new byte[length];
+		System.arraycopy(buffer, 0, encoded, 0, length);
+		return encoded;
+	}
+
+	/**
+	 * 조회 스크립트 응답을 한 번에 디코딩한다.
+	 * 응답 형식: [메타 값(이전 형식이면 빈 값), 필드1, 값1, 필드2, 값2, ...]
+	 */
+	public List<RedisCartItem> decode(List<byte[]> reply) {
+		if (reply.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		byte[] meta = reply.get(0);
+		if (meta == null || meta.length == 0) {
+			return decodeLegacy(reply);
+		}
+		if (meta[0] != VERSION || meta.length != 1 + UUID_BYTES) {
+			throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+		}
+
+		UUID storeId = readUuid(meta, 1);
+		List<RedisCartItem> items = new ArrayList<>((reply.size() - 1) / 2);
+		for (int i = 1; i + 1 < reply.size(); i += 2) {
+			byte[] field = reply.get(i);
+			if (field.length != UUID_BYTES) {
+				throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+			}
+			items.add(new RedisCartItem(readUuid(field, 0), storeId, readQuantity(reply.get(i + 1))));
+		}
+		return items;
+	}
+
+	public byte[] encodeSnapshot(List<RedisCartItem> items) {
+		if (items.isEmpty()) {
+			return new byte[] {VERSION};
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(1 + UUID_BYTES + 5 + items.size() * (UUID_BYTES + 5));
+		buffer.put(VERSION);
+		buffer.put(encodeUuid(items.get(0).getStoreId()));
+		buffer.put(encodeQuantity(items.size()));
+		for (RedisCartItem item : items) {
+			buffer.put(encodeUuid(item.getMenuId()));
+			buffer.put(encodeQuantity(item.getQuantity()));
+		}
+
+		byte[] snapshot = new byte[buffer.position()];
+		buffer.flip().get(snapshot);
+		return snapshot;
+	}
+
+	public List<RedisCartItem> decodeSnapshot(byte[] snapshot) {
+		if (snapshot.length == 0 || snapshot[0] != VERSION) {
+			throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+		}
+		if (snapshot.length == 1) {
+			return new ArrayList<>();
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(snapshot, 1, snapshot.length - 1);
+			UUID storeId = new UUID(buffer.getLong(), buffer.getLong());
+			int size = readVarint(buffer);
+			List<RedisCartItem> items = new ArrayList<>(Math.min(size, buffer.remaining() / (UUID_BYTES + 1)));
+			for (int i = 0; i < size; i++) {
+				UUID menuId = new UUID(buffer.getLong(), buffer.getLong());
+				items.add(new RedisCartItem(menuId, storeId, readVarint(buffer)));
+			}
+			return items;
+		} catch (BufferUnderflowException e) {
+			throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+		}
+	}
+
+	private List<RedisCartItem> decodeLegacy(List<byte[]> reply) {
+		List<RedisCartItem> items = new ArrayList<>((reply.size() - 1) / 2);
+		for (int i = 2; i < reply.size(); i += 2) {
+			try {
+				items.add(redisObjectMapper.readValue(new String(reply.get(i), StandardCharsets.UTF_8),
+					RedisCartItem.class));
+			} catch (JsonProcessingException e) {
+				throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+			}
+		}
+		return items;
+	}
+
+	private static UUID readUuid(byte[] bytes, int offset) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, UUID_BYTES);
+		return new UUID(buffer.getLong(), buffer.getLong());
+	}
+
+	private static int readQuantity(byte[] bytes) {
+		return readVarint(ByteBuffer.wrap(bytes));
+	}
+
+	private static int readVarint(ByteBuffer buffer) {
+		int value = 0;
+		int shift = 0;
+		while (buffer.hasRemaining()) {
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+			shift += 7;
+			if (shift > 28) {
+				break;
+			}
+		}
+		throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
+	}
+}
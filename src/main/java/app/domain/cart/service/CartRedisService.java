@@ -1,23 +1,51 @@
 package app.domain.cart.service;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
 
+import app.domain.cart.model.dto.CartItemChange;
 import app.domain.cart.model.dto.RedisCartItem;
 
+/**
+ * 장바구니 캐시 명령 모음.
+ * 각 명령은 한 번의 왕복으로 원자적으로 실행되며, 캐시에 장바구니가 없으면 false/empty 를 반환해
+ * 호출 측이 DB 에서 적재한 뒤 다시 시도하도록 한다.
+ */
 public interface CartRedisService {
 	String saveCartToRedis(Long userId, List<RedisCartItem> cartItems);
 
+	boolean saveCartToRedisIfAbsent(Long userId, List<RedisCartItem> cartItems);
+
 	List<RedisCartItem> getCartFromRedis(Long userId);
 
-	String removeCartItem(Long userId, UUID menuId);
+	Optional<List<RedisCartItem>> findCartAndRefreshTtl(Long userId);
+
+	Optional<List<RedisCartItem>> findCart(Long userId);
+
+	boolean addCartItem(Long userId, RedisCartItem cartItem);
+
+	boolean updateCartItemQuantity(Long userId, UUID menuId, int quantity);
+
+	boolean removeCartItem(Long userId, UUID menuId);
+
+	/**
+	 * 추가/수량 변경/삭제 명령을 요청 순서대로 한 번에 원자적으로 반영한다.
+	 * @return 같은 원자적 실행에서 읽은 반영 직후의 장바구니. 캐시에 없으면 empty
+	 */
+	Optional<List<RedisCartItem>> applyCartItemChanges(Long userId, List<CartItemChange> changes);
 
 	String clearCartItems(Long userId);
 
 	boolean existsCartInRedis(Long userId);
 
-	Set<String> getAllCartKeys();
+	/**
+	 * 마지막 동기화 이후 변경된 장바구니를 최대 batchSize 개 선점한다.
+	 * 한 장바구니는 동시에 한 노드에만 배정되며, completeDirtyCarts 로 완료 처리하지 않으면 임대 시간 후 다시 배정된다.
+	 */
+	List<Long> claimDirtyCarts(int batchSize);
+
+	void completeDirtyCarts(List<Long> userIds);
 
 	Long extractUserIdFromKey(String key);
 }
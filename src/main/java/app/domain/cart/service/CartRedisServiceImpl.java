@@ -1,18 +1,20 @@
 package app.domain.cart.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import app.domain.cart.model.dto.CartItemChange;
 import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.status.CartErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -20,30 +22,74 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class CartRedisServiceImpl implements CartRedisService {
-	private final RedisTemplate<String, String> redisTemplate;
-	private final ObjectMapper redisObjectMapper;
+	private final RedisTemplate<String, byte[]> cartRedisTemplate;
+	private final CartItemCodec cartItemCodec;
 	private static final Duration CART_TTL = Duration.ofMinutes(30);
+	private static final byte[] CART_TTL_SECONDS = ascii(String.valueOf(CART_TTL.toSeconds()));
+	private static final byte[] NO_TTL_REFRESH = ascii("0");
+	private static final byte[] SAVE_ALWAYS = ascii("0");
+	private static final byte[] SAVE_IF_ABSENT = ascii("1");
+	private static final byte[] SAVE_IF_LEGACY = ascii("2");
+	private static final byte[] CHANGE_ADD = ascii("a");
+	private static final byte[] CHANGE_UPDATE = ascii("u");
+	private static final byte[] CHANGE_REMOVE = ascii("r");
+	private static final byte[] EMPTY = new byte[0];
+	private static final String DIRTY_KEY = "dirty:cart";
+	private static final String DIRTY_PROCESSING_KEY = "dirty:cart:processing";
+	private static final Duration DIRTY_CLAIM_LEASE = Duration.ofMinutes(5);
+	private static final long NOT_CACHED = -1L;
+	private static final long LEGACY_FORMAT = -2L;
+	private static final byte[] REPLY_NOT_CACHED = ascii("NOT_CACHED");
+	private static final byte[] REPLY_LEGACY = ascii("LEGACY");
+
+	private static final RedisScript<List> READ_SCRIPT = cartScript("read", List.class);
+	private static final RedisScript<Long> ADD_ITEM_SCRIPT = cartScript("add_item", Long.class);
+	private static final RedisScript<Long> UPDATE_QUANTITY_SCRIPT = cartScript("update_quantity", Long.class);
+	private static final RedisScript<Long> REMOVE_ITEM_SCRIPT = cartScript("remove_item", Long.class);
+	private static final RedisScript<List> APPLY_CHANGES_SCRIPT = cartScript("apply_changes", List.class);
+	private static final RedisScript<Long> SAVE_SCRIPT = cartScript("save", Long.class);
+	private static final RedisScript<List> CLAIM_DIRTY_SCRIPT = cartScript("claim_dirty", List.class);
+
+	private static <T> RedisScript<T> cartScript(String name, Class<T> resultType) {
+		return RedisScript.of(new ClassPathResource("redis/cart/" + name + ".lua"), resultType);
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static String cartKey(Long userId) {
+		return "cart:" + userId;
+	}
 
 	@Override
 	public String saveCartToRedis(Long userId, List<RedisCartItem> cartItems) {
-		try {
-			String key = "cart:" + userId;
-			redisTemplate.delete(key);
+		save(userId, cartItems, SAVE_ALWAYS);
+		return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
+	}
 
-			for (RedisCartItem item : cartItems) {
-				String itemJson = redisObjectMapper.writeValueAsString(item);
-				redisTemplate.opsForHash().put(key, item.getMenuId().toString(), itemJson);
-			}
+	@Override
+	public boolean saveCartToRedisIfAbsent(Long userId, List<RedisCartItem> cartItems) {
+		return save(userId, cartItems, SAVE_IF_ABSENT);
+	}
 
-			if (cartItems.isEmpty()) {
-				redisTemplate.opsForValue().set(key, "");
+	private boolean save(Long userId, List<RedisCartItem> cartItems, byte[] mode) {
+		try {
+			List<byte[]> args = new ArrayList<>(3 + cartItems.size() * 2);
+			args.add(CART_TTL_SECONDS);
+			args.add(mode);
+			args.add(cartItems.isEmpty() ? EMPTY : cartItemCodec.encodeMeta(cartItems.get(0).getStoreId()));
+			for (RedisCartItem item : cartItems) {
+				args.add(cartItemCodec.encodeUuid(item.getMenuId()));
+				args.add(cartItemCodec.encodeQuantity(item.getQuantity()));
 			}
 
-			redisTemplate.expire(key, CART_TTL);
-			return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
+			Long saved = cartRedisTemplate.execute(SAVE_SCRIPT, List.of(cartKey(userId), DIRTY_KEY), args.toArray());
+			return saved != null && saved == 1L;
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
 		}
@@ -51,66 +97,144 @@ public class CartRedisServiceImpl implements CartRedisService {
 
 	@Override
 	public List<RedisCartItem> getCartFromRedis(Long userId) {
-		try {
-			String key = "cart:" + userId;
+		return read(userId, false).orElseGet(ArrayList::new);
+	}
 
-			String keyType = redisTemplate.type(key).code();
-			if ("string".equals(keyType)) {
-				return new ArrayList<>();
-			}
+	@Override
+	public Optional<List<RedisCartItem>> findCartAndRefreshTtl(Long userId) {
+		return read(userId, true);
+	}
 
-			return redisTemplate.opsForHash().values(key).stream()
-				.map(value -> {
-					try {
-						return redisObjectMapper.readValue((String)value, RedisCartItem.class);
-					} catch (JsonProcessingException e) {
-						throw new GeneralException(CartErrorStatus.CART_ITEM_PARSE_FAILED);
-					}
-				})
-				.collect(Collectors.toList());
-		} catch (GeneralException e) {
-			throw e;
+	@Override
+	public Optional<List<RedisCartItem>> findCart(Long userId) {
+		return read(userId, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Optional<List<RedisCartItem>> read(Long userId, boolean refreshTtl) {
+		List<byte[]> reply;
+		try {
+			reply = cartRedisTemplate.execute(READ_SCRIPT, List.of(cartKey(userId)),
+				refreshTtl ? CART_TTL_SECONDS : NO_TTL_REFRESH);
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
 		}
+
+		if (reply == null) {
+			return Optional.empty();
+		}
+		return Optional.of(cartItemCodec.decode(reply));
 	}
 
 	@Override
-	public String clearCartItems(Long userId) {
+	public boolean addCartItem(Long userId, RedisCartItem cartItem) {
+		return isCached(mutate(userId, ADD_ITEM_SCRIPT,
+			cartItemCodec.encodeUuid(cartItem.getMenuId()), cartItemCodec.encodeMeta(cartItem.getStoreId()),
+			ascii(String.valueOf(cartItem.getQuantity())), CART_TTL_SECONDS));
+	}
+
+	@Override
+	public boolean updateCartItemQuantity(Long userId, UUID menuId, int quantity) {
+		return isCached(mutate(userId, UPDATE_QUANTITY_SCRIPT,
+			cartItemCodec.encodeUuid(menuId), cartItemCodec.encodeQuantity(quantity), CART_TTL_SECONDS));
+	}
+
+	@Override
+	public boolean removeCartItem(Long userId, UUID menuId) {
+		return isCached(mutate(userId, REMOVE_ITEM_SCRIPT, cartItemCodec.encodeUuid(menuId), CART_TTL_SECONDS));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<List<RedisCartItem>> applyCartItemChanges(Long userId, List<CartItemChange> changes) {
+		List<byte[]> args = new ArrayList<>(1 + changes.size() * 4);
+		args.add(CART_TTL_SECONDS);
+		for (CartItemChange change : changes) {
+			switch (change.getType()) {
+				case ADD -> {
+					args.add(CHANGE_ADD);
+					args.add(cartItemCodec.encodeUuid(change.getMenuId()));
+					args.add(cartItemCodec.encodeMeta(change.getStoreId()));
+					args.add(ascii(String.valueOf(change.getQuantity())));
+				}
+				case UPDATE -> {
+					args.add(CHANGE_UPDATE);
+					args.add(cartItemCodec.encodeUuid(change.getMenuId()));
+					args.add(EMPTY);
+					args.add(cartItemCodec.encodeQuantity(change.getQuantity()));
+				}
+				case REMOVE -> {
+					args.add(CHANGE_REMOVE);
+					args.add(cartItemCodec.encodeUuid(change.getMenuId()));
+					args.add(EMPTY);
+					args.add(EMPTY);
+				}
+			}
+		}
+
+		List<byte[]> reply;
 		try {
-			saveCartToRedis(userId, List.of());
-			return "사용자 " + userId + "의 장바구니가 성공적으로 비워졌습니다.";
+			List<String> keys = List.of(cartKey(userId), DIRTY_KEY);
+			reply = cartRedisTemplate.execute(APPLY_CHANGES_SCRIPT, keys, args.toArray());
+			if (isReply(reply, REPLY_LEGACY)) {
+				migrateLegacyCart(userId);
+				reply = cartRedisTemplate.execute(APPLY_CHANGES_SCRIPT, keys, args.toArray());
+			}
 		} catch (GeneralException e) {
 			throw e;
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
 		}
-	}
 
-	@Override
-	public String removeCartItem(Long userId, UUID menuId) {
-		try {
-			String key = "cart:" + userId;
+		if (reply == null || reply.isEmpty() || isReply(reply, REPLY_NOT_CACHED)) {
+			return Optional.empty();
+		}
+		if (isReply(reply, REPLY_LEGACY)) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+		// 첫 값은 결과 표시이고, 나머지는 조회 스크립트와 같은 형식이다.
+		return Optional.of(cartItemCodec.decode(reply.subList(1, reply.size())));
+	}
 
-			if (!redisTemplate.hasKey(key)) {
-				return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
-			}
+	private static boolean isReply(List<byte[]> reply, byte[] status) {
+		return reply != null && !reply.isEmpty() && Arrays.equals(reply.get(0), status);
+	}
 
-			String keyType = redisTemplate.type(key).code();
-			if ("string".equals(keyType)) {
-				redisTemplate.expire(key, CART_TTL);
-				return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
+	/**
+	 * 변경 스크립트를 실행한다. 이전(JSON) 형식 장바구니를 만나면 새 형식으로 옮겨 저장한 뒤 한 번 더 실행한다.
+	 */
+	private Long mutate(Long userId, RedisScript<Long> script, byte[]... args) {
+		try {
+			List<String> keys = List.of(cartKey(userId), DIRTY_KEY);
+			Long result = cartRedisTemplate.execute(script, keys, (Object[])args);
+			if (result != null && result == LEGACY_FORMAT) {
+				migrateLegacyCart(userId);
+				result = cartRedisTemplate.execute(script, keys, (Object[])args);
 			}
+			return result;
+		} catch (GeneralException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
+	}
 
-			Long hashSize = redisTemplate.opsForHash().size(key);
-			redisTemplate.opsForHash().delete(key, menuId.toString());
+	private void migrateLegacyCart(Long userId) {
+		List<RedisCartItem> items = getCartFromRedis(userId);
+		if (save(userId, items, SAVE_IF_LEGACY)) {
+			log.info("이전 형식 장바구니를 변환했습니다. userId={}, items={}", userId, items.size());
+		}
+	}
 
-			if (hashSize == 1) {
-				redisTemplate.opsForValue().set(key, "");
-			}
+	private boolean isCached(Long scriptResult) {
+		return scriptResult != null && scriptResult != NOT_CACHED;
+	}
 
-			redisTemplate.expire(key, CART_TTL);
-			return "사용자 " + userId + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
+	@Override
+	public String clearCartItems(Long userId) {
+		try {
+			save(userId, List.of(), SAVE_ALWAYS);
+			return "사용자 " + userId + "의 장바구니가 성공적으로 비워졌습니다.";
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
 		}
@@ -119,20 +243,48 @@ public class CartRedisServiceImpl implements CartRedisService {
 	@Override
 	public boolean existsCartInRedis(Long userId) {
 		try {
-			String key = "cart:" + userId;
-			return redisTemplate.hasKey(key);
+			return cartRedisTemplate.hasKey(cartKey(userId));
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
 		}
 	}
 
 	@Override
-	public Set<String> getAllCartKeys() {
+	@SuppressWarnings("unchecked")
+	public List<Long> claimDirtyCarts(int batchSize) {
+		List<byte[]> claimed;
 		try {
-			return redisTemplate.keys("cart:*");
+			claimed = cartRedisTemplate.execute(CLAIM_DIRTY_SCRIPT, List.of(DIRTY_KEY, DIRTY_PROCESSING_KEY),
+				ascii(String.valueOf(System.currentTimeMillis())),
+				ascii(String.valueOf(DIRTY_CLAIM_LEASE.toMillis())),
+				ascii(String.valueOf(batchSize)));
 		} catch (Exception e) {
 			throw new GeneralException(CartErrorStatus.CART_REDIS_LOAD_FAILED);
 		}
+
+		if (claimed == null) {
+			return List.of();
+		}
+		List<Long> userIds = new ArrayList<>(claimed.size());
+		for (byte[] key : claimed) {
+			userIds.add(extractUserIdFromKey(new String(key, StandardCharsets.US_ASCII)));
+		}
+		return userIds;
+	}
+
+	@Override
+	public void completeDirtyCarts(List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		try {
+			Object[] keys = userIds.stream()
+				.map(userId -> ascii(cartKey(userId)))
+				.toArray();
+			cartRedisTemplate.opsForZSet().remove(DIRTY_PROCESSING_KEY, keys);
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED);
+		}
 	}
 
 	@Override
@@ -1,6 +1,10 @@
 package app.domain.cart.service;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -10,11 +14,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.domain.cart.model.dto.AddCartItemRequest;
+import app.domain.cart.model.dto.BulkCartItemRequest;
+import app.domain.cart.model.dto.CartItemChange;
+import app.domain.cart.model.dto.CartViewResponse;
 import app.domain.cart.model.dto.RedisCartItem;
-import app.domain.cart.model.entity.Cart;
-import app.domain.cart.model.entity.CartItem;
-import app.domain.cart.model.repository.CartItemRepository;
-import app.domain.cart.model.repository.CartRepository;
+import app.domain.cart.status.CartErrorStatus;
+import app.domain.menu.MenuCatalogCache;
+import app.domain.menu.MenuCatalogCache.MenuInfo;
+import app.domain.menu.MenuCatalogCache.StoreInfo;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.MenuRepository;
 import app.domain.store.repository.StoreRepository;
@@ -30,12 +37,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CartService {
 
+	private static final int SYNC_BATCH_SIZE = 100;
+	private static final int SYNC_MAX_BATCHES_PER_RUN = 50;
+
 	private final CartRedisService cartRedisService;
-	private final CartRepository cartRepository;
-	private final CartItemRepository cartItemRepository;
+	private final CartSyncService cartSyncService;
 	private final MenuRepository menuRepository;
 	private final StoreRepository storeRepository;
 	private final SecurityUtil securityUtil;
+	private final MenuCatalogCache menuCatalogCache;
 
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	public String addCartItem(AddCartItemRequest request) {
@@ -48,54 +58,125 @@ public class CartService {
 			throw new GeneralException(ErrorStatus.STORE_NOT_FOUND);
 		}
 
-		List<RedisCartItem> items = getCartFromCache();
-
-		if (!items.isEmpty() && !items.get(0).getStoreId().equals(request.getStoreId())) {
-			items.clear();
-		}
+		RedisCartItem item = RedisCartItem.builder()
+			.menuId(request.getMenuId())
+			.storeId(request.getStoreId())
+			.quantity(request.getQuantity())
+			.build();
 
-		boolean isExist = items.stream().anyMatch(i -> i.getMenuId().equals(request.getMenuId()));
-		if (isExist) {
-			items.stream()
-				.filter(item -> item.getMenuId().equals(request.getMenuId()))
-				.findFirst()
-				.ifPresent(item -> item.setQuantity(item.getQuantity() + request.getQuantity()));
-		} else {
-			items.add(RedisCartItem.builder()
-				.menuId(request.getMenuId())
-				.storeId(request.getStoreId())
-				.quantity(request.getQuantity())
-				.build());
+		if (!cartRedisService.addCartItem(user.getUserId(), item)) {
+			loadCartToRedis(user.getUserId());
+			cartRedisService.addCartItem(user.getUserId(), item);
 		}
-
-		return cartRedisService.saveCartToRedis(user.getUserId(), items);
+		return "사용자 " + user.getUserId() + "의 장바구니가 성공적으로 저장되었습니다.";
 	}
 
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	public String updateCartItem(UUID menuId, int quantity) {
+		if (quantity < 1) {
+			throw new GeneralException(CartErrorStatus.INVALID_QUANTITY);
+		}
 		User user = securityUtil.getCurrentUser();
-		List<RedisCartItem> items = getCartFromCache();
-
-		items.stream()
-			.filter(item -> item.getMenuId().equals(menuId))
-			.findFirst()
-			.ifPresent(item -> item.setQuantity(quantity));
-		return cartRedisService.saveCartToRedis(user.getUserId(), items);
+		if (!cartRedisService.updateCartItemQuantity(user.getUserId(), menuId, quantity)) {
+			loadCartToRedis(user.getUserId());
+			cartRedisService.updateCartItemQuantity(user.getUserId(), menuId, quantity);
+		}
+		return "사용자 " + user.getUserId() + "의 장바구니가 성공적으로 저장되었습니다.";
 	}
 
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	public String removeCartItem(UUID menuId) {
 		User user = securityUtil.getCurrentUser();
-		return cartRedisService.removeCartItem(user.getUserId(), menuId);
+		if (!cartRedisService.removeCartItem(user.getUserId(), menuId)) {
+			loadCartToRedis(user.getUserId());
+			cartRedisService.removeCartItem(user.getUserId(), menuId);
+		}
+		return "사용자 " + user.getUserId() + "의 장바구니에서 메뉴 " + menuId + "가 성공적으로 삭제되었습니다.";
+	}
+
+	/**
+	 * 여러 아이템의 추가/수량 변경/삭제를 한 번에 반영하고 반영된 장바구니를 돌려준다.
+	 * 추가/수량 변경 대상 메뉴는 IN 조회 한 번으로 확인한다.
+	 */
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public List<RedisCartItem> applyCartItemChanges(BulkCartItemRequest request) {
+		List<CartItemChange> changes = request.getChanges();
+		validateChanges(changes);
+
+		Long userId = securityUtil.getCurrentUserId();
+		Optional<List<RedisCartItem>> cart = cartRedisService.applyCartItemChanges(userId, changes);
+		if (cart.isEmpty()) {
+			loadCartToRedis(userId);
+			cart = cartRedisService.applyCartItemChanges(userId, changes);
+		}
+		// 적재 직후 다시 만료되는 등 반영하지 못했으면 성공으로 응답하지 않는다.
+		return cart.orElseThrow(() -> new GeneralException(CartErrorStatus.CART_REDIS_SAVE_FAILED));
+	}
+
+	private void validateChanges(List<CartItemChange> changes) {
+		Set<UUID> menuIds = new HashSet<>();
+		for (CartItemChange change : changes) {
+			if (change.getType() == CartItemChange.Type.REMOVE) {
+				continue;
+			}
+			if (change.getQuantity() < 1) {
+				throw new GeneralException(CartErrorStatus.INVALID_QUANTITY);
+			}
+			if (change.getType() == CartItemChange.Type.ADD && change.getStoreId() == null) {
+				throw new GeneralException(CartErrorStatus.STORE_ID_REQUIRED);
+			}
+			menuIds.add(change.getMenuId());
+		}
+		if (menuIds.isEmpty()) {
+			return;
+		}
+
+		Map<UUID, UUID> storeIdByMenuId = new HashMap<>();
+		for (Menu menu : menuRepository.findAllById(menuIds)) {
+			storeIdByMenuId.put(menu.getMenuId(), menu.getStore().getStoreId());
+		}
+		for (CartItemChange change : changes) {
+			if (change.getType() == CartItemChange.Type.REMOVE) {
+				continue;
+			}
+			UUID storeId = storeIdByMenuId.get(change.getMenuId());
+			if (storeId == null) {
+				throw new GeneralException(ErrorStatus.MENU_NOT_FOUND);
+			}
+			if (change.getType() == CartItemChange.Type.ADD && !storeId.equals(change.getStoreId())) {
+				throw new GeneralException(CartErrorStatus.MENU_STORE_MISMATCH);
+			}
+		}
 	}
 
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	public List<RedisCartItem> getCartFromCache() {
-		User user = securityUtil.getCurrentUser();
-		if (!cartRedisService.existsCartInRedis(user.getUserId())) {
-			loadDbToRedis();
+		return findCart(securityUtil.getCurrentUserId());
+	}
+
+	private List<RedisCartItem> findCart(Long userId) {
+		return cartRedisService.findCartAndRefreshTtl(userId)
+			.orElseGet(() -> {
+				loadCartToRedis(userId);
+				return cartRedisService.getCartFromRedis(userId);
+			});
+	}
+
+	/**
+	 * 메뉴 이름/가격과 합계를 채운 장바구니를 돌려준다.
+	 * 장바구니와 메뉴 카탈로그가 모두 캐시에 있으면 DB 를 조회하지 않는다.
+	 */
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public CartViewResponse getCartView() {
+		List<RedisCartItem> cartItems = findCart(securityUtil.getCurrentUserId());
+		if (cartItems.isEmpty()) {
+			return CartViewResponse.empty();
 		}
-		return cartRedisService.getCartFromRedis(user.getUserId());
+
+		Map<UUID, MenuInfo> menus = menuCatalogCache.getMenus(
+			cartItems.stream().map(RedisCartItem::getMenuId).toList());
+		StoreInfo store = menuCatalogCache.getStore(cartItems.get(0).getStoreId());
+		return CartViewResponse.of(store, cartItems, menus);
 	}
 
 	@PreAuthorize("hasAuthority('CUSTOMER')")
@@ -108,57 +189,43 @@ public class CartService {
 	@Transactional(readOnly = true)
 	public String loadDbToRedis() {
 		User user = securityUtil.getCurrentUser();
-		Cart cart = cartRepository.findByUser_UserId(user.getUserId())
-			.orElseThrow(() -> new GeneralException(ErrorStatus.CART_NOT_FOUND));
-
-		List<CartItem> cartItems = cartItemRepository.findByCart_CartId(cart.getCartId());
-		List<RedisCartItem> redisItems = cartItems.stream()
-			.map(item -> RedisCartItem.builder()
-				.menuId(item.getMenu().getMenuId())
-				.storeId(item.getMenu().getStore().getStoreId())
-				.quantity(item.getQuantity())
-				.build())
-			.toList();
-		cartRedisService.saveCartToRedis(user.getUserId(), redisItems);
+		loadCartToRedis(user.getUserId());
 		return "사용자 " + user.getUserId() + "의 장바구니가 DB에서 Redis로 성공적으로 로드되었습니다.";
 	}
 
-	@Transactional
+	private void loadCartToRedis(Long userId) {
+		List<RedisCartItem> redisItems = cartSyncService.loadCart(userId);
+		// 동시에 들어온 다른 요청이 먼저 적재했다면 그 결과를 덮어쓰지 않는다.
+		cartRedisService.saveCartToRedisIfAbsent(userId, redisItems);
+	}
+
 	public String syncRedisToDb(Long userId) {
-		List<RedisCartItem> redisItems = cartRedisService.getCartFromRedis(userId);
-
-		Cart cart = cartRepository.findByUser_UserId(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.CART_NOT_FOUND));
-
-		cartItemRepository.deleteByCart_CartId(cart.getCartId());
-		if (!redisItems.isEmpty()) {
-			List<CartItem> cartItems = redisItems.stream()
-				.filter(item -> menuRepository.existsById(item.getMenuId()))
-				.map(item -> {
-					Menu menu = menuRepository.findById(item.getMenuId()).get();
-					return CartItem.builder()
-						.cart(cart)
-						.menu(menu)
-						.quantity(item.getQuantity())
-						.build();
-				})
-				.toList();
-
-			cartItemRepository.saveAll(cartItems);
-		}
+		cartSyncService.syncCart(userId);
 		return "사용자 " + userId + "의 장바구니가 Redis에서 DB로 성공적으로 동기화되었습니다.";
 	}
 
-	@Scheduled(initialDelay = 900000, fixedRate = 900000)
-	@Transactional
+	/**
+	 * 마지막 동기화 이후 변경된 장바구니만 묶음 단위로 선점해 반영한다.
+	 * 묶음마다 트랜잭션을 커밋하며, 실패한 묶음은 선점 임대가 끝나면 다른 노드가 다시 가져간다.
+	 */
+	@Scheduled(initialDelay = 60000, fixedDelay = 60000)
 	public String syncAllCartsToDb() {
-		Set<String> cartKeys = cartRedisService.getAllCartKeys();
 		int successCount = 0;
-		for (String key : cartKeys) {
-			Long userId = cartRedisService.extractUserIdFromKey(key);
-			syncRedisToDb(userId);
-			successCount++;
+		int failedCount = 0;
+		for (int batch = 0; batch < SYNC_MAX_BATCHES_PER_RUN; batch++) {
+			List<Long> userIds = cartRedisService.claimDirtyCarts(SYNC_BATCH_SIZE);
+			if (userIds.isEmpty()) {
+				break;
+			}
+			try {
+				cartSyncService.syncCarts(userIds);
+				cartRedisService.completeDirtyCarts(userIds);
+				successCount += userIds.size();
+			} catch (Exception e) {
+				log.error("장바구니 동기화 실패 - 대상: {}개", userIds.size(), e);
+				failedCount += userIds.size();
+			}
 		}
-		return "전체 장바구니 동기화 완료 - 성공: " + successCount + "/" + cartKeys.size();
+		return "전체 장바구니 동기화 완료 - 성공: " + successCount + ", 실패: " + failedCount;
 	}
 }
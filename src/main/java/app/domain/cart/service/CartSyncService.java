@@ -0,0 +1,176 @@
+package app.domain.cart.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.model.entity.Cart;
+import app.domain.cart.model.entity.CartItem;
+import app.domain.cart.model.repository.CartItemRepository;
+import app.domain.cart.model.repository.CartRepository;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장바구니 캐시와 DB 사이의 동기화.
+ * cart.persistence 설정에 따라 저장 방식을 고른다.
+ * <ul>
+ *   <li>items (기본값): p_cart_item 행을 모두 지우고 다시 저장</li>
+ *   <li>snapshot: p_cart.snapshot 컬럼 하나에 장바구니 전체를 UPDATE 한 번으로 저장, 조회도 SELECT 한 번</li>
+ * </ul>
+ * snapshot 모드에서 아직 스냅샷이 없는 장바구니는 p_cart_item 행에서 읽어 온다.
+ * 첫 스냅샷을 저장할 때 같은 트랜잭션에서 p_cart_item 행을 지운다. 이후에는 행을 갱신하지 않으므로
+ * snapshot 에서 items 로 되돌리면 스냅샷으로만 남은 장바구니는 캐시에 없을 때 빈 장바구니로 읽힌다(오래된 행이 되살아나지는 않는다).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartSyncService {
+
+	private static final String SNAPSHOT_MODE = "snapshot";
+
+	private enum SyncResult {
+		SYNCED, CACHE_EXPIRED, CART_MISSING
+	}
+
+	private final CartRedisService cartRedisService;
+	private final CartRepository cartRepository;
+	private final CartItemRepository cartItemRepository;
+	private final MenuRepository menuRepository;
+	private final CartItemCodec cartItemCodec;
+
+	@Value("${cart.persistence:items}")
+	private String persistenceMode;
+
+	/**
+	 * 선점한 장바구니 한 묶음을 하나의 트랜잭션으로 DB 에 반영한다.
+	 * 장바구니 행이 없는 사용자(탈퇴 등)는 건너뛰어, 한 건 때문에 묶음 전체가 롤백되고 계속 다시 선점되지 않게 한다.
+	 */
+	@Transactional
+	public int syncCarts(List<Long> userIds) {
+		int synced = 0;
+		for (Long userId : userIds) {
+			SyncResult result = write(userId);
+			if (result == SyncResult.SYNCED) {
+				synced++;
+			} else if (result == SyncResult.CART_MISSING) {
+				log.warn("DB 에 장바구니가 없어 동기화를 건너뜁니다. - 사용자: {}", userId);
+			}
+		}
+		return synced;
+	}
+
+	/**
+	 * 캐시에 장바구니가 없으면(만료 등) DB 를 비우지 않고 건너뛴다.
+	 * @throws GeneralException DB 에 장바구니가 없으면 CART_NOT_FOUND
+	 */
+	@Transactional
+	public boolean syncCart(Long userId) {
+		SyncResult result = write(userId);
+		if (result == SyncResult.CART_MISSING) {
+			throw new GeneralException(ErrorStatus.CART_NOT_FOUND);
+		}
+		return result == SyncResult.SYNCED;
+	}
+
+	private SyncResult write(Long userId) {
+		Optional<List<RedisCartItem>> cached = cartRedisService.findCart(userId);
+		if (cached.isEmpty()) {
+			return SyncResult.CACHE_EXPIRED;
+		}
+
+		Map<UUID, Menu> menus = findMenus(cached.get());
+		List<RedisCartItem> redisItems = cached.get().stream()
+			.filter(item -> menus.containsKey(item.getMenuId()))
+			.toList();
+
+		if (isSnapshotMode()) {
+			return writeSnapshot(userId, cartItemCodec.encodeSnapshot(redisItems));
+		}
+
+		Optional<Cart> found = cartRepository.findByUser_UserId(userId);
+		if (found.isEmpty()) {
+			return SyncResult.CART_MISSING;
+		}
+		Cart cart = found.get();
+
+		cartItemRepository.deleteByCart_CartId(cart.getCartId());
+		if (!redisItems.isEmpty()) {
+			List<CartItem> cartItems = redisItems.stream()
+				.map(item -> {
+					Menu menu = menus.get(item.getMenuId());
+					return CartItem.builder()
+						.cart(cart)
+						.menu(menu)
+						.store(menu.getStore())
+						.quantity(item.getQuantity())
+						.build();
+				})
+				.toList();
+
+			cartItemRepository.saveAll(cartItems);
+		}
+		return SyncResult.SYNCED;
+	}
+
+	/**
+	 * 평소에는 UPDATE 한 번으로 끝난다. 첫 스냅샷이면 더 이상 갱신하지 않을 p_cart_item 행을 지운 뒤 저장한다.
+	 */
+	private SyncResult writeSnapshot(Long userId, byte[] snapshot) {
+		LocalDateTime now = LocalDateTime.now();
+		if (cartRepository.updateExistingSnapshot(userId, snapshot, now) > 0) {
+			return SyncResult.SYNCED;
+		}
+		cartItemRepository.deleteByUserId(userId);
+		int updated = cartRepository.updateSnapshot(userId, snapshot, now);
+		return updated == 0 ? SyncResult.CART_MISSING : SyncResult.SYNCED;
+	}
+
+	/**
+	 * 캐시 미스 시 DB 에 저장된 장바구니를 읽는다.
+	 */
+	@Transactional(readOnly = true)
+	public List<RedisCartItem> loadCart(Long userId) {
+		Cart cart = cartRepository.findByUser_UserId(userId)
+			.orElseThrow(() -> new GeneralException(ErrorStatus.CART_NOT_FOUND));
+
+		if (isSnapshotMode() && cart.getSnapshot() != null) {
+			return cartItemCodec.decodeSnapshot(cart.getSnapshot());
+		}
+
+		// 메뉴/매장은 지연 로딩 프록시의 ID 만 읽으므로 행마다 추가 조회가 발생하지 않는다.
+		return cartItemRepository.findByCart_CartId(cart.getCartId()).stream()
+			.map(item -> RedisCartItem.builder()
+				.menuId(item.getMenu().getMenuId())
+				.storeId(item.getStore().getStoreId())
+				.quantity(item.getQuantity())
+				.build())
+			.toList();
+	}
+
+	private Map<UUID, Menu> findMenus(List<RedisCartItem> items) {
+		if (items.isEmpty()) {
+			return Map.of();
+		}
+		List<UUID> menuIds = items.stream().map(RedisCartItem::getMenuId).toList();
+		return menuRepository.findAllById(menuIds).stream()
+			.collect(Collectors.toMap(Menu::getMenuId, Function.identity()));
+	}
+
+	private boolean isSnapshotMode() {
+		return SNAPSHOT_MODE.equals(persistenceMode);
+	}
+}
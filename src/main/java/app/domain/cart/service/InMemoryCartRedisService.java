@@ -0,0 +1,521 @@
+package app.domain.cart.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import app.domain.cart.model.dto.CartItemChange;
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.status.CartErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네트워크 왕복 없이 JVM 메모리에 장바구니를 보관하는 구현 (cart.store=memory).
+ * 단일 노드 배포와 테스트, 그리고 Redis 구현과의 비교 기준으로 사용한다.
+ * <ul>
+ *   <li>사용자별 잠금은 고정 개수의 잠금을 나눠 쓰는 스트라이프 방식</li>
+ *   <li>TTL 만료는 1초 단위 타이머 휠로 처리하고, 조회 시점에도 만료 여부를 확인한다</li>
+ *   <li>메모리 예산(cart.memory.max-bytes)을 넘으면 DB 에 반영된 장바구니 중 가장 오래 사용되지 않은 것부터 내보낸다</li>
+ * </ul>
+ * DB 에 아직 반영되지 않은 장바구니는 내보내지 않는다. 그런 장바구니만으로 예산을 넘으면
+ * 동기화로 내보낼 수 있게 될 때까지 장바구니를 늘리는 쓰기를 CART_STORE_FULL 로 거절한다.
+ */
+@Service
+@ConditionalOnProperty(name = "cart.store", havingValue = "memory")
+@Slf4j
+public class InMemoryCartRedisService implements CartRedisService {
+
+	private static final Duration CART_TTL = Duration.ofMinutes(30);
+	private static final Duration DIRTY_CLAIM_LEASE = Duration.ofMinutes(5);
+	private static final int LOCK_STRIPES = 64;
+	private static final long TICK_MILLIS = 1000L;
+	private static final int WHEEL_SLOTS = 512;
+	// 장바구니/아이템 하나가 차지하는 힙 크기 추정치(객체 헤더, 맵 엔트리, UUID 포함)
+	private static final long CART_ENTRY_BYTES = 240L;
+	private static final long CART_ITEM_BYTES = 120L;
+
+	private final Map<Long, CartEntry> carts = new ConcurrentHashMap<>();
+	private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+	private final LinkedHashMap<Long, Boolean> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+	private final AtomicLong usedBytes = new AtomicLong();
+
+	private final Set<Long>[] wheel;
+	private long currentTick;
+
+	private final Set<Long> dirtyCarts = ConcurrentHashMap.newKeySet();
+	private final Map<Long, Long> claimedCarts = new ConcurrentHashMap<>();
+
+	private final Clock clock;
+	private final long maxBytes;
+
+	@Autowired
+	public InMemoryCartRedisService(@Value("${cart.memory.max-bytes:67108864}") long maxBytes) {
+		this(Clock.systemUTC(), maxBytes);
+	}
+
+	@SuppressWarnings("unchecked")
+	public InMemoryCartRedisService(Clock clock, long maxBytes) {
+		this.clock = clock;
+		this.maxBytes = maxBytes;
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		this.wheel = new Set[WHEEL_SLOTS];
+		for (int i = 0; i < WHEEL_SLOTS; i++) {
+			wheel[i] = ConcurrentHashMap.newKeySet();
+		}
+		this.currentTick = clock.millis() / TICK_MILLIS;
+	}
+
+	private static final class CartEntry {
+		private UUID storeId;
+		private final LinkedHashMap<UUID, Integer> items = new LinkedHashMap<>();
+		private long expiresAt;
+
+		private long estimatedBytes() {
+			return CART_ENTRY_BYTES + CART_ITEM_BYTES * items.size();
+		}
+
+		private List<RedisCartItem> toItems() {
+			List<RedisCartItem> result = new ArrayList<>(items.size());
+			items.forEach((menuId, quantity) -> result.add(new RedisCartItem(menuId, storeId, quantity)));
+			return result;
+		}
+	}
+
+	private ReentrantLock lockFor(Long userId) {
+		return locks[Math.floorMod(userId.hashCode() * 0x9E3779B9, LOCK_STRIPES)];
+	}
+
+	/**
+	 * 만료되지 않은 장바구니만 돌려준다. 잠금을 잡은 상태에서 호출해야 한다.
+	 */
+	private CartEntry liveEntry(Long userId, long now) {
+		CartEntry entry = carts.get(userId);
+		if (entry != null && entry.expiresAt <= now) {
+			removeEntry(userId, entry);
+			return null;
+		}
+		return entry;
+	}
+
+	private void removeEntry(Long userId, CartEntry entry) {
+		if (carts.remove(userId, entry)) {
+			usedBytes.addAndGet(-entry.estimatedBytes());
+			synchronized (accessOrder) {
+				accessOrder.remove(userId);
+			}
+		}
+	}
+
+	private void touch(Long userId, CartEntry entry, long now) {
+		entry.expiresAt = now + CART_TTL.toMillis();
+		synchronized (accessOrder) {
+			accessOrder.put(userId, Boolean.TRUE);
+		}
+	}
+
+	private CartEntry createEntry(Long userId, long now) {
+		CartEntry entry = new CartEntry();
+		CartEntry previous = carts.put(userId, entry);
+		if (previous != null) {
+			usedBytes.addAndGet(-previous.estimatedBytes());
+		}
+		usedBytes.addAndGet(entry.estimatedBytes());
+		touch(userId, entry, now);
+		schedule(userId, entry.expiresAt);
+		return entry;
+	}
+
+	private void resize(CartEntry entry, int itemsBefore) {
+		usedBytes.addAndGet(CART_ITEM_BYTES * (entry.items.size() - itemsBefore));
+	}
+
+	@Override
+	public String saveCartToRedis(Long userId, List<RedisCartItem> cartItems) {
+		reserveCapacity();
+		save(userId, cartItems, false, true);
+		return "사용자 " + userId + "의 장바구니가 성공적으로 저장되었습니다.";
+	}
+
+	@Override
+	public boolean saveCartToRedisIfAbsent(Long userId, List<RedisCartItem> cartItems) {
+		reserveCapacity();
+		return save(userId, cartItems, true, false);
+	}
+
+	private boolean save(Long userId, List<RedisCartItem> cartItems, boolean onlyIfAbsent, boolean markDirty) {
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			long now = clock.millis();
+			if (onlyIfAbsent && liveEntry(userId, now) != null) {
+				return false;
+			}
+			CartEntry entry = createEntry(userId, now);
+			if (!cartItems.isEmpty()) {
+				entry.storeId = cartItems.get(0).getStoreId();
+			}
+			for (RedisCartItem item : cartItems) {
+				entry.items.put(item.getMenuId(), item.getQuantity());
+			}
+			resize(entry, 0);
+			// 내보내기 대상에서 빠지도록 잠금을 풀기 전에 표시한다
+			if (markDirty) {
+				dirtyCarts.add(userId);
+			}
+		} finally {
+			lock.unlock();
+		}
+		evictIfOverBudget();
+		return true;
+	}
+
+	@Override
+	public List<RedisCartItem> getCartFromRedis(Long userId) {
+		return read(userId, false).orElseGet(ArrayList::new);
+	}
+
+	@Override
+	public Optional<List<RedisCartItem>> findCartAndRefreshTtl(Long userId) {
+		return read(userId, true);
+	}
+
+	@Override
+	public Optional<List<RedisCartItem>> findCart(Long userId) {
+		return read(userId, false);
+	}
+
+	private Optional<List<RedisCartItem>> read(Long userId, boolean refreshTtl) {
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			long now = clock.millis();
+			CartEntry entry = liveEntry(userId, now);
+			if (entry == null) {
+				return Optional.empty();
+			}
+			if (refreshTtl) {
+				touch(userId, entry, now);
+			}
+			return Optional.of(entry.toItems());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean addCartItem(Long userId, RedisCartItem cartItem) {
+		reserveCapacity();
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			long now = clock.millis();
+			CartEntry entry = liveEntry(userId, now);
+			if (entry == null) {
+				return false;
+			}
+			addItem(entry, cartItem.getMenuId(), cartItem.getStoreId(), cartItem.getQuantity());
+			touch(userId, entry, now);
+			dirtyCarts.add(userId);
+		} finally {
+			lock.unlock();
+		}
+		evictIfOverBudget();
+		return true;
+	}
+
+	@Override
+	public boolean updateCartItemQuantity(Long userId, UUID menuId, int quantity) {
+		if (quantity < 0) {
+			throw new GeneralException(CartErrorStatus.INVALID_QUANTITY);
+		}
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			long now = clock.millis();
+			CartEntry entry = liveEntry(userId, now);
+			if (entry == null) {
+				return false;
+			}
+			touch(userId, entry, now);
+			if (updateItem(entry, menuId, quantity)) {
+				dirtyCarts.add(userId);
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean removeCartItem(Long userId, UUID menuId) {
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			long now = clock.millis();
+			CartEntry entry = liveEntry(userId, now);
+			if (entry == null) {
+				return false;
+			}
+			if (removeItem(entry, menuId)) {
+				dirtyCarts.add(userId);
+			}
+			touch(userId, entry, now);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Optional<List<RedisCartItem>> applyCartItemChanges(Long userId, List<CartItemChange> changes) {
+		// 일부만 반영되지 않도록 잠금을 잡기 전에 수량을 먼저 확인한다.
+		for (CartItemChange change : changes) {
+			if (change.getType() != CartItemChange.Type.REMOVE && change.getQuantity() < 0) {
+				throw new GeneralException(CartErrorStatus.INVALID_QUANTITY);
+			}
+		}
+		reserveCapacity();
+		List<RedisCartItem> cart;
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			long now = clock.millis();
+			CartEntry entry = liveEntry(userId, now);
+			if (entry == null) {
+				return Optional.empty();
+			}
+			boolean changed = false;
+			for (CartItemChange change : changes) {
+				changed |= switch (change.getType()) {
+					case ADD -> {
+						addItem(entry, change.getMenuId(), change.getStoreId(), change.getQuantity());
+						yield true;
+					}
+					case UPDATE -> updateItem(entry, change.getMenuId(), change.getQuantity());
+					case REMOVE -> removeItem(entry, change.getMenuId());
+				};
+			}
+			touch(userId, entry, now);
+			if (changed) {
+				dirtyCarts.add(userId);
+			}
+			cart = entry.toItems();
+		} finally {
+			lock.unlock();
+		}
+		evictIfOverBudget();
+		return Optional.of(cart);
+	}
+
+	/**
+	 * 아래 메서드들은 잠금을 잡은 상태에서 호출해야 한다.
+	 */
+	private void addItem(CartEntry entry, UUID menuId, UUID storeId, int quantity) {
+		if (!entry.items.isEmpty() && !storeId.equals(entry.storeId)) {
+			// 다른 매장의 메뉴를 담으면 기존 장바구니를 비운다.
+			int itemsBefore = entry.items.size();
+			entry.items.clear();
+			resize(entry, itemsBefore);
+		}
+		entry.storeId = storeId;
+
+		int itemsBefore = entry.items.size();
+		entry.items.merge(menuId, quantity, Integer::sum);
+		resize(entry, itemsBefore);
+	}
+
+	private boolean updateItem(CartEntry entry, UUID menuId, int quantity) {
+		return entry.items.replace(menuId, quantity) != null;
+	}
+
+	private boolean removeItem(CartEntry entry, UUID menuId) {
+		if (entry.items.remove(menuId) == null) {
+			return false;
+		}
+		resize(entry, entry.items.size() + 1);
+		if (entry.items.isEmpty()) {
+			entry.storeId = null;
+		}
+		return true;
+	}
+
+	@Override
+	public String clearCartItems(Long userId) {
+		// 장바구니를 줄이기만 하므로 예산을 넘어도 거절하지 않는다
+		save(userId, List.of(), false, true);
+		return "사용자 " + userId + "의 장바구니가 성공적으로 비워졌습니다.";
+	}
+
+	@Override
+	public boolean existsCartInRedis(Long userId) {
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			return liveEntry(userId, clock.millis()) != null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public List<Long> claimDirtyCarts(int batchSize) {
+		long now = clock.millis();
+		long leaseExpiredBefore = now - DIRTY_CLAIM_LEASE.toMillis();
+		claimedCarts.forEach((userId, claimedAt) -> {
+			if (claimedAt <= leaseExpiredBefore && claimedCarts.remove(userId, claimedAt)) {
+				dirtyCarts.add(userId);
+			}
+		});
+
+		List<Long> claimed = new ArrayList<>(Math.min(batchSize, dirtyCarts.size()));
+		Iterator<Long> iterator = dirtyCarts.iterator();
+		while (claimed.size() < batchSize && iterator.hasNext()) {
+			Long userId = iterator.next();
+			// 아직 동기화 중인 장바구니는 다음 차례로 미룬다.
+			if (claimedCarts.containsKey(userId)) {
+				continue;
+			}
+			if (dirtyCarts.remove(userId)) {
+				claimedCarts.put(userId, now);
+				claimed.add(userId);
+			}
+		}
+		return claimed;
+	}
+
+	@Override
+	public void completeDirtyCarts(List<Long> userIds) {
+		userIds.forEach(claimedCarts::remove);
+	}
+
+	@Override
+	public Long extractUserIdFromKey(String key) {
+		try {
+			return Long.parseLong(key.substring(5));
+		} catch (Exception e) {
+			throw new GeneralException(CartErrorStatus.INVALID_KEY_EXTRACT_FAILED);
+		}
+	}
+
+	public long getUsedBytes() {
+		return usedBytes.get();
+	}
+
+	private void schedule(Long userId, long expiresAt) {
+		long tick = (expiresAt + TICK_MILLIS - 1) / TICK_MILLIS;
+		wheel[(int)(tick & (WHEEL_SLOTS - 1))].add(userId);
+	}
+
+	/**
+	 * 타이머 휠을 현재 시각까지 돌리며 만료된 장바구니를 정리한다.
+	 * 슬롯에 있는 장바구니가 그 사이 TTL 이 갱신됐다면 새 만료 시각의 슬롯으로 옮긴다.
+	 */
+	@Scheduled(fixedDelay = TICK_MILLIS)
+	public synchronized void expireCarts() {
+		long now = clock.millis();
+		long targetTick = now / TICK_MILLIS;
+		long ticks = Math.min(targetTick - currentTick, WHEEL_SLOTS);
+		for (long i = 1; i <= ticks; i++) {
+			Set<Long> slot = wheel[(int)((currentTick + i) & (WHEEL_SLOTS - 1))];
+			List<Long> userIds = new ArrayList<>(slot);
+			slot.removeAll(userIds);
+			for (Long userId : userIds) {
+				expireOrReschedule(userId, now);
+			}
+		}
+		currentTick = targetTick;
+	}
+
+	private void expireOrReschedule(Long userId, long now) {
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			CartEntry entry = carts.get(userId);
+			if (entry == null) {
+				return;
+			}
+			if (entry.expiresAt <= now) {
+				removeEntry(userId, entry);
+			} else {
+				schedule(userId, entry.expiresAt);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 장바구니를 늘리는 쓰기 전에 호출한다. 내보낼 수 있는 장바구니를 모두 내보내도 예산을 넘으면 거절한다.
+	 */
+	private void reserveCapacity() {
+		if (!evictIfOverBudget()) {
+			log.warn("장바구니 메모리 예산 초과 - 동기화 대기 중인 장바구니만 남아 쓰기를 거절합니다. usedBytes={}",
+				usedBytes.get());
+			throw new GeneralException(CartErrorStatus.CART_STORE_FULL);
+		}
+	}
+
+	/**
+	 * 메모리 예산을 넘으면 DB 에 반영된 장바구니 중 가장 오래 사용되지 않은 것부터 내보낸다.
+	 * 동기화 대기 중이거나 동기화 중인 장바구니는 내보내면 변경이 사라지므로 건너뛴다.
+	 * @return 예산 안으로 들어왔으면 true, 내보낼 장바구니가 없어 여전히 넘으면 false
+	 */
+	private boolean evictIfOverBudget() {
+		while (usedBytes.get() > maxBytes) {
+			Long victim = selectEvictionVictim();
+			if (victim == null) {
+				return false;
+			}
+			ReentrantLock lock = lockFor(victim);
+			lock.lock();
+			try {
+				CartEntry entry = carts.get(victim);
+				// 고른 뒤 잠금을 잡기 전에 변경됐을 수 있으므로 다시 확인한다
+				if (entry != null && !isUnsynced(victim)) {
+					removeEntry(victim, entry);
+				} else if (entry == null) {
+					synchronized (accessOrder) {
+						accessOrder.remove(victim);
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		return true;
+	}
+
+	private Long selectEvictionVictim() {
+		synchronized (accessOrder) {
+			for (Long userId : accessOrder.keySet()) {
+				if (!isUnsynced(userId)) {
+					return userId;
+				}
+			}
+			return null;
+		}
+	}
+
+	private boolean isUnsynced(Long userId) {
+		return dirtyCarts.contains(userId) || claimedCarts.containsKey(userId);
+	}
+}
@@ -0,0 +1,257 @@
+package app.domain.cart.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import app.domain.cart.model.dto.CartItemChange;
+import app.domain.cart.model.dto.RedisCartItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 장바구니 근거리 캐시 (cart.near-cache.enabled=true).
+ * 조회는 로컬 캐시를 먼저 보고, 변경은 원본 저장소에 반영한 뒤 로컬 항목을 지우고 무효화 메시지를 발행한다.
+ * 다른 노드는 무효화 메시지를 받아 해당 사용자의 항목을 지운다.
+ * <p>
+ * 메시지가 유실돼도 항목은 TTL(cart.near-cache.ttl) 안에 만료되므로 오래된 장바구니를 보는 시간은 TTL 로 제한된다.
+ * TTL 갱신 조회가 로컬 캐시에서 끝나더라도 항목이 만료될 때마다 원본을 다시 읽으므로 Redis TTL 도 계속 갱신된다.
+ * DB 동기화용 조회(findCart)는 항상 원본을 읽는다.
+ */
+@Slf4j
+public class NearCacheCartRedisService implements CartRedisService {
+
+	private static final int EPOCH_STRIPES = 64;
+
+	private final CartRedisService delegate;
+	private final Consumer<String> invalidationPublisher;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final int maxEntries;
+	private final long ttlMillis;
+	private final Clock clock;
+
+	private final LinkedHashMap<Long, CachedCart> entries;
+	// 무효화가 일어날 때마다 증가한다. 원본을 읽는 동안 무효화가 있었다면 읽은 값을 캐시에 넣지 않는다.
+	private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter localInvalidations;
+	private final Counter remoteInvalidations;
+	private final Counter evictions;
+
+	private record CachedCart(List<RedisCartItem> items, long expiresAt) {
+	}
+
+	public NearCacheCartRedisService(CartRedisService delegate, Consumer<String> invalidationPublisher,
+		int maxEntries, Duration ttl, Clock clock, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.invalidationPublisher = invalidationPublisher;
+		this.maxEntries = maxEntries;
+		this.ttlMillis = ttl.toMillis();
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, CachedCart> eldest) {
+				if (size() > NearCacheCartRedisService.this.maxEntries) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+
+		this.hits = Counter.builder("cart.near_cache.requests").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder("cart.near_cache.requests").tag("result", "miss").register(meterRegistry);
+		this.localInvalidations = Counter.builder("cart.near_cache.invalidations").tag("source", "local")
+			.register(meterRegistry);
+		this.remoteInvalidations = Counter.builder("cart.near_cache.invalidations").tag("source", "remote")
+			.register(meterRegistry);
+		this.evictions = Counter.builder("cart.near_cache.evictions").register(meterRegistry);
+		meterRegistry.gauge("cart.near_cache.size", entries, map -> {
+			synchronized (map) {
+				return map.size();
+			}
+		});
+	}
+
+	private int stripe(Long userId) {
+		return Math.floorMod(userId.hashCode(), EPOCH_STRIPES);
+	}
+
+	private List<RedisCartItem> lookup(Long userId) {
+		long now = clock.millis();
+		synchronized (entries) {
+			CachedCart cached = entries.get(userId);
+			if (cached != null && cached.expiresAt() > now) {
+				hits.increment();
+				return copyOf(cached.items());
+			}
+			if (cached != null) {
+				entries.remove(userId);
+			}
+		}
+		misses.increment();
+		return null;
+	}
+
+	private void store(Long userId, List<RedisCartItem> items, long epoch) {
+		synchronized (entries) {
+			if (epochs.get(stripe(userId)) != epoch) {
+				return;
+			}
+			entries.put(userId, new CachedCart(copyOf(items), clock.millis() + ttlMillis));
+		}
+	}
+
+	private static List<RedisCartItem> copyOf(List<RedisCartItem> items) {
+		List<RedisCartItem> copy = new ArrayList<>(items.size());
+		for (RedisCartItem item : items) {
+			copy.add(new RedisCartItem(item.getMenuId(), item.getStoreId(), item.getQuantity()));
+		}
+		return copy;
+	}
+
+	private void invalidateLocally(Long userId) {
+		epochs.incrementAndGet(stripe(userId));
+		synchronized (entries) {
+			entries.remove(userId);
+		}
+	}
+
+	private void invalidate(Long userId) {
+		invalidateLocally(userId);
+		localInvalidations.increment();
+		try {
+			invalidationPublisher.accept(nodeId + ":" + userId);
+		} catch (Exception e) {
+			// 다른 노드의 항목은 TTL 이 지나면 만료된다.
+			log.warn("장바구니 무효화 메시지 발행 실패 - userId: {}", userId, e);
+		}
+	}
+
+	/**
+	 * 무효화 채널로 받은 메시지("노드ID:사용자ID")를 처리한다. 자신이 보낸 메시지는 무시한다.
+	 */
+	public void onInvalidationMessage(String message) {
+		int separator = message.lastIndexOf(':');
+		if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+			return;
+		}
+		try {
+			invalidateLocally(Long.parseLong(message.substring(separator + 1)));
+			remoteInvalidations.increment();
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 장바구니 무효화 메시지: {}", message);
+		}
+	}
+
+	@Override
+	public Optional<List<RedisCartItem>> findCartAndRefreshTtl(Long userId) {
+		List<RedisCartItem> cached = lookup(userId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		long epoch = epochs.get(stripe(userId));
+		Optional<List<RedisCartItem>> loaded = delegate.findCartAndRefreshTtl(userId);
+		loaded.ifPresent(items -> store(userId, items, epoch));
+		return loaded;
+	}
+
+	@Override
+	public List<RedisCartItem> getCartFromRedis(Long userId) {
+		List<RedisCartItem> cached = lookup(userId);
+		if (cached != null) {
+			return cached;
+		}
+		long epoch = epochs.get(stripe(userId));
+		Optional<List<RedisCartItem>> loaded = delegate.findCart(userId);
+		loaded.ifPresent(items -> store(userId, items, epoch));
+		return loaded.orElseGet(ArrayList::new);
+	}
+
+	@Override
+	public Optional<List<RedisCartItem>> findCart(Long userId) {
+		return delegate.findCart(userId);
+	}
+
+	@Override
+	public String saveCartToRedis(Long userId, List<RedisCartItem> cartItems) {
+		String result = delegate.saveCartToRedis(userId, cartItems);
+		invalidate(userId);
+		return result;
+	}
+
+	@Override
+	public boolean saveCartToRedisIfAbsent(Long userId, List<RedisCartItem> cartItems) {
+		// DB 에서 적재하는 경로라 원본 내용이 바뀌지 않으므로 다른 노드에는 알리지 않는다.
+		boolean saved = delegate.saveCartToRedisIfAbsent(userId, cartItems);
+		if (saved) {
+			invalidateLocally(userId);
+		}
+		return saved;
+	}
+
+	@Override
+	public boolean addCartItem(Long userId, RedisCartItem cartItem) {
+		boolean cached = delegate.addCartItem(userId, cartItem);
+		invalidate(userId);
+		return cached;
+	}
+
+	@Override
+	public boolean updateCartItemQuantity(Long userId, UUID menuId, int quantity) {
+		boolean cached = delegate.updateCartItemQuantity(userId, menuId, quantity);
+		invalidate(userId);
+		return cached;
+	}
+
+	@Override
+	public boolean removeCartItem(Long userId, UUID menuId) {
+		boolean cached = delegate.removeCartItem(userId, menuId);
+		invalidate(userId);
+		return cached;
+	}
+
+	@Override
+	public Optional<List<RedisCartItem>> applyCartItemChanges(Long userId, List<CartItemChange> changes) {
+		Optional<List<RedisCartItem>> cart = delegate.applyCartItemChanges(userId, changes);
+		invalidate(userId);
+		return cart;
+	}
+
+	@Override
+	public String clearCartItems(Long userId) {
+		String result = delegate.clearCartItems(userId);
+		invalidate(userId);
+		return result;
+	}
+
+	@Override
+	public boolean existsCartInRedis(Long userId) {
+		return delegate.existsCartInRedis(userId);
+	}
+
+	@Override
+	public List<Long> claimDirtyCarts(int batchSize) {
+		return delegate.claimDirtyCarts(batchSize);
+	}
+
+	@Override
+	public void completeDirtyCarts(List<Long> userIds) {
+		delegate.completeDirtyCarts(userIds);
+	}
+
+	@Override
+	public Long extractUserIdFromKey(String key) {
+		return delegate.extractUserIdFromKey(key);
+	}
+}
@@ -16,7 +16,10 @@ public enum CartErrorStatus implements BaseCode {
 	CART_ITEM_PARSE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CART003", "장바구니 아이템 파싱에 실패했습니다."),
 	CART_DB_SYNC_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CART005", "장바구니 DB 동기화에 실패했습니다."),
 	INVALID_QUANTITY(HttpStatus.BAD_REQUEST, "CART006", "수량은 1 이상이어야 합니다."),
-	INVALID_KEY_EXTRACT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CART007", "Redis 키 형식이 잘못됐습니다");
+	INVALID_KEY_EXTRACT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CART007", "Redis 키 형식이 잘못됐습니다"),
+	STORE_ID_REQUIRED(HttpStatus.BAD_REQUEST, "CART008", "메뉴 추가에는 매장 ID가 필요합니다."),
+	MENU_STORE_MISMATCH(HttpStatus.BAD_REQUEST, "CART009", "메뉴가 요청한 매장에 속하지 않습니다."),
+	CART_STORE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "CART010", "장바구니 저장 공간이 부족합니다. 잠시 후 다시 시도해 주세요.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -14,7 +14,9 @@ public enum CartSuccessStatus implements BaseCode {
 	CART_ITEM_UPDATED(HttpStatus.OK, "CART202", "장바구니 아이템 수량이 수정되었습니다"),
 	CART_ITEM_REMOVED(HttpStatus.OK, "CART203", "장바구니에서 아이템이 삭제되었습니다"),
 	CART_RETRIEVED(HttpStatus.OK, "CART204", "장바구니 조회가 완료되었습니다"),
-	CART_CLEARED(HttpStatus.OK, "CART205", "장바구니가 전체 삭제되었습니다");
+	CART_CLEARED(HttpStatus.OK, "CART205", "장바구니가 전체 삭제되었습니다"),
+	CART_VIEW_RETRIEVED(HttpStatus.OK, "CART206", "장바구니 상세 조회가 완료되었습니다"),
+	CART_ITEMS_CHANGED(HttpStatus.OK, "CART207", "장바구니 아이템이 일괄 변경되었습니다");
 
 	private final HttpStatus httpStatus;
 	private final String code;
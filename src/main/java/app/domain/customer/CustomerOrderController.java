@@ -1,7 +1,5 @@
 package app.domain.customer;
 
-import java.util.List;
-
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +9,8 @@ import org.springframework.web.bind.annotation.RestController;
 import app.domain.customer.dto.response.CustomerOrderResponse;
 import app.domain.customer.status.CustomerSuccessStatus;
 import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -25,9 +25,10 @@ public class CustomerOrderController {
 
 	@Operation(summary = "고객 주문 내역 조회 API", description = "자신의 모든 주문 내역을 조회합니다.")
 	@GetMapping
-	public ApiResponse<List<CustomerOrderResponse>> getCustomerOrders(
-		@AuthenticationPrincipal UserDetails principal
+	public ApiResponse<CursorResponse<CustomerOrderResponse>> getCustomerOrders(
+		@AuthenticationPrincipal UserDetails principal,
+		CursorRequest request
 	) {
-		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_OK, customerOrderService.getCustomerOrders());
+		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_OK, customerOrderService.getCustomerOrders(request));
 	}
 }
\ No newline at end of file
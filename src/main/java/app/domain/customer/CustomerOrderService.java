@@ -1,18 +1,16 @@
 package app.domain.customer;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.domain.customer.dto.response.CustomerOrderResponse;
 import app.domain.customer.status.CustomerErrorStatus;
-import app.domain.order.model.repository.OrdersRepository;
-import app.domain.order.model.entity.Orders;
+import app.domain.order.model.repository.OrdersQueryRepository;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 
@@ -20,20 +18,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CustomerOrderService {
 
-	private final OrdersRepository ordersRepository;
+	private final OrdersQueryRepository ordersQueryRepository;
 	private final UserRepository userRepository;
 	private final SecurityUtil securityUtil;
 
 	@Transactional(readOnly = true)
-	public List<CustomerOrderResponse> getCustomerOrders() {
+	public CursorResponse<CustomerOrderResponse> getCustomerOrders(CursorRequest request) {
 		User user = securityUtil.getCurrentUser();
-		List<Orders> orders = ordersRepository.findByUser(user);
-		if (orders.isEmpty()) {
+		CursorResponse<CustomerOrderResponse> orders = ordersQueryRepository.findUserOrders(user.getUserId(), request);
+		// 주문이 하나도 없을 때만 예외로 알리고, 마지막 페이지 다음이 비는 것은 정상 응답으로 돌려준다.
+		if (request.isFirstPage() && orders.getContent().isEmpty()) {
 			throw new GeneralException(CustomerErrorStatus.CUSTOMER_ORDER_NOT_FOUND);
 		}
-		return orders.stream()
-			.map(CustomerOrderResponse::of)
-			.collect(Collectors.toList());
-
+		return orders;
 	}
 }
\ No newline at end of file
@@ -1,17 +1,14 @@
 package app.domain.customer;
 
-import static org.springframework.data.domain.Sort.Direction.*;
-
 import java.util.UUID;
 
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 import app.domain.customer.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.customer.dto.response.GetStoreListResponse;
 import app.domain.customer.status.CustomerSuccessStatus;
 import app.global.apiPayload.ApiResponse;
-import app.global.apiPayload.PagedResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -28,11 +25,10 @@ public class CustomerStoreController {
 	@GetMapping
 	@Operation(
 		summary = "승인이 허용된 가게 목록 조회",
-		description = "가게 목록을 페이지 별로 조회합니다. 생성일 또는 수정일 기준으로 정렬할 수 있습니다.")
-	public ApiResponse<PagedResponse<GetStoreListResponse>> getApprovedStoreList(
-		@PageableDefault(size = 20, sort = "createdAt", direction = DESC) Pageable pageable) {
+		description = "가게 목록을 최신순으로 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+	public ApiResponse<CursorResponse<GetStoreListResponse>> getApprovedStoreList(CursorRequest request) {
 		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_GET_STORE_LIST_OK,
-			customerStoreService.getApprovedStore(pageable));
+			customerStoreService.getApprovedStore(request));
 	}
 
 
@@ -50,10 +46,10 @@ public class CustomerStoreController {
 	@Operation(
 		summary = "가게 목록 검색",
 		description = "가게를 키워드에 따라 검색 합니다 ")
-	public ApiResponse<PagedResponse<GetStoreListResponse>> searchApprovedStore(
+	public ApiResponse<CursorResponse<GetStoreListResponse>> searchApprovedStore(
 		@RequestParam String keyword,
-		@PageableDefault(size = 10) Pageable pageable) {
+		CursorRequest request) {
 		return ApiResponse.onSuccess(CustomerSuccessStatus.CUSTOMER_SEARCH_STORE_OK,
-			customerStoreService.searchApproveStores(keyword, pageable));
+			customerStoreService.searchApproveStores(keyword, request));
 	}
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package app.domain.customer;
 
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import app.domain.customer.dto.response.GetCustomerStoreDetailResponse;
@@ -11,7 +10,8 @@ import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreAcceptStatus;
-import app.global.apiPayload.PagedResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +25,8 @@ public class CustomerStoreService {
 	private final ReviewRepository reviewRepository;
 
 	@Transactional(readOnly = true)
-	public PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable) {
-		return storeQueryRepository.getApprovedStore(pageable);
+	public CursorResponse<GetStoreListResponse> getApprovedStore(CursorRequest request) {
+		return storeQueryRepository.getApprovedStore(request);
 	}
 	@Transactional(readOnly = true)
 	public GetCustomerStoreDetailResponse getApproveStoreDetail(UUID storeId) {
@@ -37,7 +37,7 @@ public class CustomerStoreService {
 	}
 
 	@Transactional(readOnly = true)
-	public PagedResponse<GetStoreListResponse> searchApproveStores(String keyword, Pageable pageable) {
-		return storeQueryRepository.searchStoresWithAvgRating(keyword, StoreAcceptStatus.APPROVE, pageable);
+	public CursorResponse<GetStoreListResponse> searchApproveStores(String keyword, CursorRequest request) {
+		return storeQueryRepository.searchStoresWithAvgRating(keyword, StoreAcceptStatus.APPROVE, request);
 	}
 }
\ No newline at end of file
@@ -19,14 +19,13 @@ public class CustomerOrderResponse {
     private ReceiptMethod receiptMethod;
     private OrderStatus orderStatus;
     private boolean isRefundable;
-    private String orderHistory;
     private String requestMessage;
     private LocalDateTime createdAt;
 
     public CustomerOrderResponse() {
     }
 
-    public CustomerOrderResponse(UUID ordersId, String storeName, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String orderHistory, String requestMessage, LocalDateTime createdAt) {
+    public CustomerOrderResponse(UUID ordersId, String storeName, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String requestMessage, LocalDateTime createdAt) {
         this.ordersId = ordersId;
         this.storeName = storeName;
         this.totalPrice = totalPrice;
@@ -36,7 +35,6 @@ public class CustomerOrderResponse {
         this.receiptMethod = receiptMethod;
         this.orderStatus = orderStatus;
         this.isRefundable = isRefundable;
-        this.orderHistory = orderHistory;
         this.requestMessage = requestMessage;
         this.createdAt = createdAt;
     }
@@ -52,7 +50,6 @@ public class CustomerOrderResponse {
             orders.getReceiptMethod(),
             orders.getOrderStatus(),
             orders.isRefundable(),
-            orders.getOrderHistory(),
             orders.getRequestMessage(),
             orders.getCreatedAt()
         );
@@ -130,14 +127,6 @@ public class CustomerOrderResponse {
         isRefundable = refundable;
     }
 
-    public String getOrderHistory() {
-        return orderHistory;
-    }
-
-    public void setOrderHistory(String orderHistory) {
-        this.orderHistory = orderHistory;
-    }
-
     public String getRequestMessage() {
         return requestMessage;
     }
@@ -22,6 +22,8 @@ import app.domain.manager.status.ManagerSuccessStatus;
 import app.domain.order.model.dto.response.OrderDetailResponse;
 import app.domain.store.status.StoreAcceptStatus;
 import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -72,23 +74,23 @@ public class ManagerController {
 	@GetMapping("/customer/search")
 	@Operation(
 		summary = "사용자 검색",
-		description = "키워드를 사용하여 가입한 사용자를 검색하고, 결과를 페이지 별로 조회합니다. 생성일 또는 수정일 기준으로 정렬할 수 있습니다.")
-	public ApiResponse<PagedResponse<GetCustomerListResponse>> searchCustomer(
-		Pageable pageable,
+		description = "키워드를 사용하여 가입한 사용자를 검색하고, 결과를 최신 가입순으로 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+	public ApiResponse<CursorResponse<GetCustomerListResponse>> searchCustomer(
+		CursorRequest request,
 		@RequestParam String keyWord
 	) {
-		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_CUSTOMER_OK,managerService.searchCustomer(keyWord, pageable));
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_CUSTOMER_OK,managerService.searchCustomer(keyWord, request));
 	}
 
 	@GetMapping("/store")
 	@Operation(
 		summary = "전체 가게 목록 조회",
-		description = "가게 목록을 페이지 별로 조회합니다. 생성일 또는 수정일 기준으로 정렬할 수 있습니다.")
-	public ApiResponse<PagedResponse<GetStoreListResponse>> getAllStore(
-		@PageableDefault(size = 20, sort = "createdAt", direction = DESC) Pageable pageable,
+		description = "가게 목록을 최신순으로 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+	public ApiResponse<CursorResponse<GetStoreListResponse>> getAllStore(
+		CursorRequest request,
 		@RequestParam(defaultValue = "APPROVE") StoreAcceptStatus status
 	) {
-		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_STORE_LIST_OK,managerService.getAllStore( status,pageable));
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_STORE_LIST_OK,managerService.getAllStore( status,request));
 	}
 
 
@@ -117,12 +119,12 @@ public class ManagerController {
 	@Operation(
 		summary = "가게를 검색합니다.",
 		description = "가게 제목에 따라서 검색 합니다.")
-	public ApiResponse<PagedResponse<GetStoreListResponse>> getAllStore(
-		@PageableDefault(size = 20, sort = "createdAt", direction = DESC) Pageable pageable,
+	public ApiResponse<CursorResponse<GetStoreListResponse>> getAllStore(
+		CursorRequest request,
 		@RequestParam(required = false) String keyword,
 		@RequestParam(required = false) StoreAcceptStatus status
 	) {
-		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_STORE_OK,managerService.searchStore(status, keyword, pageable));
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_SEARCH_STORE_OK,managerService.searchStore(status, keyword, request));
 	}
 
 }
\ No newline at end of file
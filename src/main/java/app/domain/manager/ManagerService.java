@@ -13,12 +13,9 @@ import app.domain.manager.dto.response.GetCustomerListResponse;
 import app.domain.manager.dto.response.GetStoreDetailResponse;
 import app.domain.manager.dto.response.GetCustomerDetailResponse;
 import app.domain.customer.dto.response.GetStoreListResponse;
-import app.domain.order.model.repository.OrderItemRepository;
-import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.model.repository.OrdersQueryRepository;
 import app.domain.manager.status.ManagerErrorStatus;
 import app.domain.order.model.dto.response.OrderDetailResponse;
-import app.domain.order.model.entity.OrderItem;
-import app.domain.order.model.entity.Orders;
 import app.domain.review.model.ReviewRepository;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Store;
@@ -29,6 +26,8 @@ import app.domain.user.model.UserQueryRepository;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -41,8 +40,7 @@ public class ManagerService {
 	private final UserRepository userRepository;
 	private final UserQueryRepository userQueryRepository;
 	private final UserAddressRepository userAddressRepository;
-	private final OrdersRepository ordersRepository;
-	private final OrderItemRepository orderItemRepository;
+	private final OrdersQueryRepository ordersQueryRepository;
 	private final StoreRepository storeRepository;
 	private final ReviewRepository reviewRepository;
 	private final StoreQueryRepository storeQueryRepository;
@@ -67,31 +65,22 @@ public class ManagerService {
 
 	@Transactional(readOnly = true)
 	public PagedResponse<OrderDetailResponse> getCustomerOrderListById(Long userId, Pageable pageable) {
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-
-		Page<Orders> ordersPage = ordersRepository.findAllByUserAndDeliveryAddressIsNotNull(user, pageable);
-
-		Page<OrderDetailResponse> mapped = ordersPage.map(order -> {
-			List<OrderItem> orderItems = orderItemRepository.findByOrders(order);
-			return OrderDetailResponse.from(order, orderItems);
-		});
+		if (!userRepository.existsById(userId)) {
+			throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+		}
 
-		return PagedResponse.from(mapped);
+		return PagedResponse.from(ordersQueryRepository.findOrderDetails(userId, pageable));
 	}
 
 	@Transactional(readOnly = true)
-	public PagedResponse<GetCustomerListResponse> searchCustomer(String keyWord, Pageable pageable) {
-		Page<User> users = userQueryRepository.searchUser(keyWord, pageable);
-
-		Page<GetCustomerListResponse> content = users.map(GetCustomerListResponse::from);
-
-		return PagedResponse.from(content);
+	public CursorResponse<GetCustomerListResponse> searchCustomer(String keyWord, CursorRequest request) {
+		return userQueryRepository.searchUser(keyWord, request)
+			.map(GetCustomerListResponse::from);
 	}
 
 	@Transactional(readOnly = true)
-	public PagedResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, Pageable pageable) {
-		return storeQueryRepository.getAllStore(status, pageable);
+	public CursorResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, CursorRequest request) {
+		return storeQueryRepository.getAllStore(status, request);
 	}
 
 	@Transactional(readOnly = true)
@@ -116,9 +105,9 @@ public class ManagerService {
 	}
 
 	@Transactional(readOnly = true)
-	public PagedResponse<GetStoreListResponse> searchStore(StoreAcceptStatus status, String keyword,
-		Pageable pageable) {
-		return storeQueryRepository.searchStoresWithAvgRating(keyword, status, pageable);
+	public CursorResponse<GetStoreListResponse> searchStore(StoreAcceptStatus status, String keyword,
+		CursorRequest request) {
+		return storeQueryRepository.searchStoresWithAvgRating(keyword, status, request);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+package app.domain.menu;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.store.repository.StoreRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장바구니 화면에 필요한 메뉴 이름/가격/노출 상태와 매장 최소 주문 금액을 노드 메모리에 보관한다.
+ * 메뉴/매장 정보가 바뀌면 해당 서비스가 커밋 후 항목을 지우고, 다른 노드의 항목은 TTL(catalog.cache.ttl) 안에 만료된다.
+ * 없는 메뉴/매장도 삭제된 항목으로 보관해 같은 장바구니를 다시 볼 때 DB 를 조회하지 않는다.
+ */
+@Component
+public class MenuCatalogCache {
+
+	private final MenuRepository menuRepository;
+	private final StoreRepository storeRepository;
+	private final Clock clock;
+	private final long ttlMillis;
+	private final int maxEntries;
+
+	private final Map<UUID, Cached<MenuInfo>> menus;
+	private final Map<UUID, Cached<StoreInfo>> stores;
+
+	@Getter
+	@AllArgsConstructor
+	public static class MenuInfo {
+		private final UUID menuId;
+		private final UUID storeId;
+		private final String name;
+		private final long price;
+		private final boolean hidden;
+		private final boolean deleted;
+
+		public boolean isOrderable() {
+			return !hidden && !deleted;
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class StoreInfo {
+		private final UUID storeId;
+		private final String storeName;
+		private final long minOrderAmount;
+		private final boolean deleted;
+	}
+
+	private record Cached<T>(T value, long expiresAt) {
+	}
+
+	@Autowired
+	public MenuCatalogCache(MenuRepository menuRepository, StoreRepository storeRepository,
+		@Value("${catalog.cache.ttl:60s}") Duration ttl,
+		@Value("${catalog.cache.max-entries:50000}") int maxEntries) {
+		this(menuRepository, storeRepository, Clock.systemUTC(), ttl, maxEntries);
+	}
+
+	public MenuCatalogCache(MenuRepository menuRepository, StoreRepository storeRepository, Clock clock,
+		Duration ttl, int maxEntries) {
+		this.menuRepository = menuRepository;
+		this.storeRepository = storeRepository;
+		this.clock = clock;
+		this.ttlMillis = ttl.toMillis();
+		this.maxEntries = maxEntries;
+		this.menus = lruMap();
+		this.stores = lruMap();
+	}
+
+	private <T> Map<UUID, Cached<T>> lruMap() {
+		return new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UUID, Cached<T>> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * 요청한 메뉴 정보를 돌려준다. 캐시에 없는 메뉴만 IN 조회 한 번으로 읽어 온다.
+	 */
+	public Map<UUID, MenuInfo> getMenus(Collection<UUID> menuIds) {
+		long now = clock.millis();
+		Map<UUID, MenuInfo> result = new HashMap<>();
+		List<UUID> missing;
+		synchronized (menus) {
+			for (UUID menuId : menuIds) {
+				Cached<MenuInfo> cached = menus.get(menuId);
+				if (cached != null && cached.expiresAt() > now) {
+					result.put(menuId, cached.value());
+				}
+			}
+			missing = menuIds.stream().filter(menuId -> !result.containsKey(menuId)).distinct().toList();
+		}
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		Map<UUID, MenuInfo> loaded = new HashMap<>();
+		for (Menu menu : menuRepository.findAllById(missing)) {
+			loaded.put(menu.getMenuId(), new MenuInfo(menu.getMenuId(), menu.getStore().getStoreId(), menu.getName(),
+				menu.getPrice(), menu.isHidden(), menu.getDeletedAt() != null));
+		}
+		for (UUID menuId : missing) {
+			loaded.putIfAbsent(menuId, new MenuInfo(menuId, null, null, 0L, false, true));
+		}
+
+		long expiresAt = clock.millis() + ttlMillis;
+		synchronized (menus) {
+			loaded.forEach((menuId, info) -> menus.put(menuId, new Cached<>(info, expiresAt)));
+		}
+		result.putAll(loaded);
+		return result;
+	}
+
+	public StoreInfo getStore(UUID storeId) {
+		long now = clock.millis();
+		synchronized (stores) {
+			Cached<StoreInfo> cached = stores.get(storeId);
+			if (cached != null && cached.expiresAt() > now) {
+				return cached.value();
+			}
+		}
+
+		StoreInfo info = storeRepository.findById(storeId)
+			.map(store -> new StoreInfo(store.getStoreId(), store.getStoreName(), store.getMinOrderAmount(),
+				store.isDeleted()))
+			.orElseGet(() -> new StoreInfo(storeId, null, 0L, true));
+		synchronized (stores) {
+			stores.put(storeId, new Cached<>(info, clock.millis() + ttlMillis));
+		}
+		return info;
+	}
+
+	public void evictMenu(UUID menuId) {
+		evictAfterCommit(() -> {
+			synchronized (menus) {
+				menus.remove(menuId);
+			}
+		});
+	}
+
+	public void evictStore(UUID storeId) {
+		evictAfterCommit(() -> {
+			synchronized (stores) {
+				stores.remove(storeId);
+			}
+		});
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되면 커밋 직후에도 한 번 더 지워, 커밋 전에 다른 요청이 다시 채운 옛 값을 남기지 않는다.
+	 */
+	private void evictAfterCommit(Runnable eviction) {
+		eviction.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					eviction.run();
+				}
+			});
+		}
+	}
+}
@@ -33,6 +33,7 @@ public class StoreMenuService {
 	private final MenuRepository menuRepository;
 	private final StoreRepository storeRepository;
 	private final SecurityUtil securityUtil;
+	private final MenuCatalogCache menuCatalogCache;
 
 	@Transactional
 	public MenuCreateResponse createMenu(MenuCreateRequest request) {
@@ -72,6 +73,7 @@ public class StoreMenuService {
 		menu.update(request.getName(), request.getPrice(), request.getDescription(), request.getIsHidden());
 
 		Menu updatedMenu = menuRepository.save(menu);
+		menuCatalogCache.evictMenu(menu.getMenuId());
 
 		return new MenuUpdateResponse(updatedMenu.getMenuId(), updatedMenu.getName());
 	}
@@ -95,6 +97,7 @@ public class StoreMenuService {
 
 		menu.markAsDeleted();
 		menuRepository.save(menu);
+		menuCatalogCache.evictMenu(menu.getMenuId());
 
 		return new MenuDeleteResponse(menu.getMenuId(), "DELETED");
 	}
@@ -114,6 +117,7 @@ public class StoreMenuService {
 
 		menu.update(null, null, null, visible);
 		Menu updatedMenu = menuRepository.save(menu);
+		menuCatalogCache.evictMenu(menu.getMenuId());
 
 		return new MenuUpdateResponse(updatedMenu.getMenuId(), updatedMenu.getName());
 	}
@@ -5,10 +5,10 @@ import java.util.UUID;
 
 import app.domain.store.model.entity.Store;
 import app.global.entity.BaseEntity;
+import app.global.entity.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -30,7 +30,7 @@ import lombok.Setter;
 public class Menu extends BaseEntity {
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID menuId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -1,7 +1,9 @@
 package app.domain.order;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -10,12 +12,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.request.UpdateOrderStatusRequest;
 import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.dto.response.OrderIntakeStatusResponse;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
+import app.domain.order.service.OrderIntakeService;
 import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderTrackingService;
 import app.domain.order.status.OrderSuccessStatus;
 import app.global.apiPayload.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,16 +37,30 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 
 	private final OrderService orderService;
+	private final OrderIntakeService orderIntakeService;
+	private final OrderTrackingService orderTrackingService;
 
 	@Operation(summary = "주문 생성 API", description = "사용자의 장바구니를 기반으로 주문을 생성합니다.")
 	@PostMapping
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	public ApiResponse<UUID> createOrder(
 		@Valid @RequestBody CreateOrderRequest request) {
+		if (orderIntakeService.isEnabled()) {
+			UUID orderId = orderIntakeService.submit(request);
+			return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_ACCEPTED, orderId);
+		}
 		UUID orderId = orderService.createOrder(request);
 		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_CREATED, orderId);
 	}
 
+	@Operation(summary = "주문 접수 상태 조회 API", description = "접수한 주문이 저장되었는지 조회합니다.")
+	@GetMapping("/{orderId}/intake")
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public ApiResponse<OrderIntakeStatusResponse> getIntakeStatus(@PathVariable UUID orderId) {
+		OrderIntakeStatusResponse result = orderIntakeService.getStatus(orderId);
+		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_INTAKE_STATUS_FETCHED, result);
+	}
+
 	@Operation(summary = "주문 상세 조회 API", description = "주문 ID로 주문 상세 정보를 조회합니다.")
 	@GetMapping("/{orderId}")
 	public ApiResponse<OrderDetailResponse> getOrderDetail(@PathVariable UUID orderId) {
@@ -47,6 +68,20 @@ public class OrderController {
 		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_DETAIL_FETCHED, result);
 	}
 
+	@Operation(summary = "주문 상태 추적 API", description = "현재 주문 상태를 보낸 뒤 상태가 바뀔 때마다 SSE 로 보냅니다.")
+	@GetMapping(value = "/{orderId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public SseEmitter trackOrderStatus(@PathVariable UUID orderId) {
+		return orderTrackingService.subscribeOrderStatus(orderId);
+	}
+
+	@Operation(summary = "주문 상태 이력 조회 API", description = "주문 ID로 주문 상태 변경 이력을 시간순으로 조회합니다.")
+	@GetMapping("/{orderId}/history")
+	public ApiResponse<List<OrderStatusHistoryResponse>> getOrderHistory(@PathVariable UUID orderId) {
+		List<OrderStatusHistoryResponse> result = orderService.getOrderHistory(orderId);
+		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_HISTORY_FETCHED, result);
+	}
+
 	@Operation(summary = "주문 상태 변경 API", description = "주문 ID로 주문 상태를 변경합니다.")
 	@PatchMapping("/{orderId}/status")
 	@PreAuthorize("hasAnyAuthority('OWNER', 'MANAGER', 'MASTER')")
@@ -54,7 +89,8 @@ public class OrderController {
 		@PathVariable UUID orderId,
 		@Valid @RequestBody UpdateOrderStatusRequest request
 	) {
-		UpdateOrderStatusResponse response = orderService.updateOrderStatus(orderId, request.getNewStatus());
+		UpdateOrderStatusResponse response = orderService.updateOrderStatus(orderId, request.getExpectedStatus(),
+			request.getNewStatus());
 		return ApiResponse.onSuccess(OrderSuccessStatus.ORDER_STATUS_UPDATED, response);
 	}
 
@@ -0,0 +1,50 @@
+package app.domain.order;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import app.global.outbox.OutboxEvent;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxHandler;
+
+/**
+ * 주문 생성과 상태 변경을 주문 이벤트 스트림(order.events.stream)에 발행한다.
+ * 같은 이벤트가 다시 발행될 수 있으므로 소비자는 eventId 로 중복을 거른다.
+ */
+@Component
+public class OrderEventStreamHandler implements OutboxHandler {
+
+	private static final RedisScript<String> PUBLISH_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/order/publish_order_event.lua"), String.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String streamKey;
+	private final int retention;
+
+	public OrderEventStreamHandler(RedisTemplate<String, String> redisTemplate,
+		@Value("${order.events.stream:order-events}") String streamKey,
+		@Value("${order.events.retention:100000}") int retention) {
+		this.redisTemplate = redisTemplate;
+		this.streamKey = streamKey;
+		this.retention = retention;
+	}
+
+	@Override
+	public Set<OutboxEventType> eventTypes() {
+		return Set.of(OutboxEventType.ORDER_CREATED, OutboxEventType.ORDER_STATUS_CHANGED);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, JsonNode payload) {
+		redisTemplate.execute(PUBLISH_SCRIPT, List.of(streamKey), event.getEventId().toString(),
+			event.getEventType().name(), payload.toString(), String.valueOf(retention));
+	}
+}
@@ -0,0 +1,364 @@
+package app.domain.order;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.service.OrderFeedService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 노드에 연결된 점주의 실시간 주문 피드와 고객의 주문 상태 추적(SSE) 연결을 관리한다.
+ * order:feed 채널로 받은 이벤트를 해당 매장과 해당 주문의 구독자에게 전달하며, 연결마다 보내기 대기열을 따로 둬
+ * 느린 연결이 다른 연결이나 구독 스레드를 막지 않게 한다. 대기열이 order.feed.buffer-size 를 넘으면 연결을 끊고,
+ * 클라이언트는 Last-Event-ID 로 다시 연결해 매장별 피드 스트림에서 놓친 이벤트를 이어 받는다.
+ */
+@Slf4j
+@Component
+public class OrderFeedBroker {
+
+	private static final String EVENT_NAME = "order";
+	private static final String RESYNC_EVENT_NAME = "resync";
+	// 이 상태가 되면 더 바뀌지 않으므로 주문 상태 추적 연결을 닫는다.
+	private static final Set<OrderStatus> FINAL_STATUSES = EnumSet.of(OrderStatus.COMPLETED, OrderStatus.REJECTED,
+		OrderStatus.REFUNDED, OrderStatus.FAILED);
+
+	private final OrderFeedService orderFeedService;
+	private final int bufferSize;
+	private final int replayLimit;
+	private final long timeoutMillis;
+	private final ExecutorService sender;
+	private final ScheduledExecutorService heartbeat;
+	private final Map<UUID, Set<Subscription>> storeSubscriptions = new ConcurrentHashMap<>();
+	private final Map<UUID, Set<Subscription>> orderSubscriptions = new ConcurrentHashMap<>();
+
+	private final Counter sent;
+	private final Counter overflowed;
+
+	private record Outgoing(String eventId, SseEmitter.SseEventBuilder event, boolean last) {
+	}
+
+	public OrderFeedBroker(OrderFeedService orderFeedService, MeterRegistry meterRegistry,
+		@Value("${order.feed.buffer-size:256}") int bufferSize,
+		@Value("${order.feed.replay-limit:1000}") int replayLimit,
+		@Value("${order.feed.timeout:30m}") Duration timeout,
+		@Value("${order.feed.heartbeat:15s}") Duration heartbeatInterval,
+		@Value("${order.feed.sender-threads:4}") int senderThreads) {
+		this.orderFeedService = orderFeedService;
+		this.bufferSize = bufferSize;
+		this.replayLimit = replayLimit;
+		this.timeoutMillis = timeout.toMillis();
+
+		AtomicInteger sequence = new AtomicInteger();
+		this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+			Thread thread = new Thread(runnable, "order-feed-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "order-feed-heartbeat");
+			thread.setDaemon(true);
+			return thread;
+		});
+		heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatInterval.toMillis(),
+			heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+		this.sent = Counter.builder("order.feed.events").tag("result", "sent").register(meterRegistry);
+		this.overflowed = Counter.builder("order.feed.disconnects").tag("reason", "overflow").register(meterRegistry);
+		Gauge.builder("order.feed.connections", storeSubscriptions, OrderFeedBroker::countAll)
+			.tag("type", "store")
+			.register(meterRegistry);
+		Gauge.builder("order.feed.connections", orderSubscriptions, OrderFeedBroker::countAll)
+			.tag("type", "order")
+			.register(meterRegistry);
+	}
+
+	private static double countAll(Map<UUID, Set<Subscription>> subscriptions) {
+		return subscriptions.values().stream().mapToInt(Set::size).sum();
+	}
+
+	/**
+	 * 매장의 주문 피드를 구독한다. lastEventId 가 있으면 그 다음 이벤트부터 이어서 보낸다.
+	 * 보관 범위를 벗어나 놓친 이벤트가 있을 수 있으면 먼저 resync 이벤트를 보내 목록을 다시 읽게 한다.
+	 */
+	public SseEmitter subscribeStore(UUID storeId, String lastEventId) {
+		String resumeFrom = OrderFeedService.validEventId(lastEventId).orElse(null);
+		// 재전송을 읽는 동안 도착한 이벤트를 놓치지 않도록 먼저 등록한다.
+		Subscription subscription = register(storeSubscriptions, storeId, resumeFrom, false);
+		if (resumeFrom == null && lastEventId == null) {
+			subscription.finishReplay(List.of(), false);
+		} else {
+			sender.execute(() -> replay(subscription, resumeFrom));
+		}
+		return subscription.emitter;
+	}
+
+	/**
+	 * 주문 하나의 상태 변경을 구독한다. 먼저 현재 상태를 보내고, 이후 바뀔 때마다 보낸다.
+	 * 현재 상태는 등록한 뒤에 읽어, 그 사이에 바뀐 상태를 놓치지 않는다. 더 바뀌지 않는 상태가 되면 연결을 닫는다.
+	 */
+	public SseEmitter subscribeOrder(UUID orderId, Supplier<OrderFeedEvent> currentStatus) {
+		Subscription subscription = register(orderSubscriptions, orderId, null, true);
+		OrderFeedEvent current;
+		try {
+			current = currentStatus.get();
+		} catch (RuntimeException e) {
+			subscription.close();
+			throw e;
+		}
+		subscription.finishReplay(List.of(current), false);
+		return subscription.emitter;
+	}
+
+	private Subscription register(Map<UUID, Set<Subscription>> registry, UUID key, String lastEventId,
+		boolean closeOnFinalStatus) {
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Subscription subscription = new Subscription(registry, key, emitter, lastEventId, closeOnFinalStatus);
+		emitter.onCompletion(subscription::close);
+		emitter.onTimeout(subscription::close);
+		emitter.onError(error -> subscription.close());
+		registry.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(subscription);
+		return subscription;
+	}
+
+	private void replay(Subscription subscription, String lastEventId) {
+		if (lastEventId == null) {
+			subscription.finishReplay(List.of(), true);
+			return;
+		}
+		try {
+			boolean gap = orderFeedService.mayHaveGap(subscription.key, lastEventId);
+			List<OrderFeedEvent> missed = orderFeedService.readAfter(subscription.key, lastEventId, replayLimit);
+			subscription.finishReplay(missed, gap || missed.size() >= replayLimit);
+		} catch (Exception e) {
+			log.warn("주문 피드 재전송 실패 - 매장 ID: {}", subscription.key, e);
+			subscription.finishReplay(List.of(), true);
+		}
+	}
+
+	/**
+	 * order:feed 채널 메시지를 이 노드의 매장/주문 구독자에게 전달한다.
+	 */
+	public void onMessage(String message) {
+		OrderFeedEvent event;
+		try {
+			event = orderFeedService.parseMessage(message);
+		} catch (Exception e) {
+			log.warn("주문 피드 메시지를 해석하지 못했습니다.", e);
+			return;
+		}
+		offerAll(storeSubscriptions.get(event.getStoreId()), event);
+		offerAll(orderSubscriptions.get(event.getOrderId()), event);
+	}
+
+	private void offerAll(Set<Subscription> subscriptions, OrderFeedEvent event) {
+		if (subscriptions == null) {
+			return;
+		}
+		for (Subscription subscription : subscriptions) {
+			subscription.offer(event);
+		}
+	}
+
+	public int countConnections(UUID storeId) {
+		Set<Subscription> subscriptions = storeSubscriptions.get(storeId);
+		return subscriptions == null ? 0 : subscriptions.size();
+	}
+
+	public int countOrderConnections(UUID orderId) {
+		Set<Subscription> subscriptions = orderSubscriptions.get(orderId);
+		return subscriptions == null ? 0 : subscriptions.size();
+	}
+
+	private void sendHeartbeats() {
+		forEachSubscription(Subscription::heartbeat);
+	}
+
+	private void forEachSubscription(Consumer<Subscription> action) {
+		for (Map<UUID, Set<Subscription>> registry : List.of(storeSubscriptions, orderSubscriptions)) {
+			for (Set<Subscription> subscriptions : registry.values()) {
+				subscriptions.forEach(action);
+			}
+		}
+	}
+
+	private void unregister(Subscription subscription) {
+		subscription.registry.computeIfPresent(subscription.key, (key, subscriptions) -> {
+			subscriptions.remove(subscription);
+			return subscriptions.isEmpty() ? null : subscriptions;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		heartbeat.shutdownNow();
+		forEachSubscription(subscription -> subscription.emitter.complete());
+		sender.shutdownNow();
+	}
+
+	/**
+	 * 연결 하나의 보내기 대기열. 보내기는 항상 한 스레드만 하며, 이미 보낸 이벤트보다 앞선 이벤트는 건너뛴다.
+	 */
+	private final class Subscription {
+
+		private final Map<UUID, Set<Subscription>> registry;
+		// 매장 구독이면 매장 ID, 주문 구독이면 주문 ID
+		private final UUID key;
+		private final SseEmitter emitter;
+		private final boolean closeOnFinalStatus;
+		private final Deque<Outgoing> queue = new ArrayDeque<>();
+		// 재전송이 끝나기 전에 도착한 실시간 이벤트. 재전송이 끝나면 null 이다.
+		private List<OrderFeedEvent> held = new ArrayList<>();
+		private String lastSentId;
+		private boolean draining;
+		private boolean closed;
+
+		private Subscription(Map<UUID, Set<Subscription>> registry, UUID key, SseEmitter emitter, String lastEventId,
+			boolean closeOnFinalStatus) {
+			this.registry = registry;
+			this.key = key;
+			this.emitter = emitter;
+			this.lastSentId = lastEventId;
+			this.closeOnFinalStatus = closeOnFinalStatus;
+		}
+
+		synchronized void offer(OrderFeedEvent event) {
+			if (closed) {
+				return;
+			}
+			if (held != null) {
+				if (held.size() >= bufferSize) {
+					overflow();
+				} else {
+					held.add(event);
+				}
+				return;
+			}
+			enqueue(toOutgoing(event), true);
+		}
+
+		synchronized void finishReplay(List<OrderFeedEvent> missed, boolean resync) {
+			if (closed) {
+				return;
+			}
+			if (resync) {
+				enqueue(new Outgoing(null, SseEmitter.event().name(RESYNC_EVENT_NAME).data(key.toString()), false),
+					false);
+			}
+			// 재전송 분량은 replay-limit 로 제한되므로 대기열 한도를 적용하지 않는다.
+			for (OrderFeedEvent event : missed) {
+				enqueue(toOutgoing(event), false);
+			}
+			List<OrderFeedEvent> live = held;
+			held = null;
+			for (OrderFeedEvent event : live) {
+				enqueue(toOutgoing(event), true);
+			}
+		}
+
+		synchronized void heartbeat() {
+			if (!closed) {
+				enqueue(new Outgoing(null, SseEmitter.event().comment("heartbeat"), false), true);
+			}
+		}
+
+		private void enqueue(Outgoing outgoing, boolean bounded) {
+			if (closed) {
+				return;
+			}
+			if (bounded && queue.size() >= bufferSize) {
+				overflow();
+				return;
+			}
+			queue.add(outgoing);
+			if (!draining) {
+				draining = true;
+				sender.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			while (true) {
+				Outgoing next;
+				synchronized (this) {
+					next = queue.poll();
+					if (next == null || closed) {
+						draining = false;
+						return;
+					}
+					if (next.eventId() != null) {
+						if (lastSentId != null && OrderFeedService.compareEventIds(next.eventId(), lastSentId) <= 0) {
+							continue;
+						}
+						lastSentId = next.eventId();
+					}
+				}
+				try {
+					emitter.send(next.event());
+					if (next.eventId() != null) {
+						sent.increment();
+					}
+				} catch (IOException | IllegalStateException e) {
+					// 클라이언트가 연결을 끊었다.
+					close();
+					return;
+				}
+				if (next.last()) {
+					close();
+					emitter.complete();
+					return;
+				}
+			}
+		}
+
+		private void overflow() {
+			log.info("주문 피드 대기열이 가득 차 연결을 끊습니다. - 구독 대상 ID: {}", key);
+			overflowed.increment();
+			close();
+			emitter.complete();
+		}
+
+		synchronized void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			queue.clear();
+			unregister(this);
+		}
+
+		private Outgoing toOutgoing(OrderFeedEvent event) {
+			return new Outgoing(event.getEventId(), SseEmitter.event()
+				.id(event.getEventId())
+				.name(EVENT_NAME)
+				.data(event, MediaType.APPLICATION_JSON),
+				closeOnFinalStatus && FINAL_STATUSES.contains(event.getOrderStatus()));
+		}
+	}
+}
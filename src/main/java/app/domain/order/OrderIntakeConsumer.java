@@ -0,0 +1,232 @@
+package app.domain.order;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import app.domain.order.model.dto.OrderIntakeCommand;
+import app.domain.order.model.dto.response.OrderIntakeStatusResponse.Status;
+import app.domain.order.service.OrderIntakeService;
+import app.domain.order.service.OrderIntakeService.Delivery;
+import app.domain.order.service.OrderIntakeWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 접수 스트림의 주문을 여러 작업자가 묶음 단위로 저장한다.
+ * 저장(환불 일정 등록용 아웃박스 이벤트 포함)이 커밋된 뒤에만 항목을 확인하므로, 도중에 실패한 항목은 claim-idle 이 지나면 다른 작업자가 다시 가져간다.
+ * 묶음 저장이 실패하면 한 건씩 다시 시도해 문제 있는 주문만 남기고, max-deliveries 를 넘긴 주문은 실패로 표시한다.
+ * 접수 후 메뉴 가격이나 판매 여부가 바뀌어 저장하지 않은 주문도 실패로 표시한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.intake.mode", havingValue = "stream")
+public class OrderIntakeConsumer implements CommandLineRunner {
+
+	private final OrderIntakeService orderIntakeService;
+	private final OrderIntakeWriter orderIntakeWriter;
+	private final int workers;
+	private final int batchSize;
+	private final Duration block;
+	private final Duration claimIdle;
+	private final int maxDeliveries;
+	private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+	private final Counter persisted;
+	private final Counter duplicate;
+	private final Counter failed;
+	private final Timer persistLag;
+
+	private volatile boolean running;
+	private ExecutorService executor;
+
+	public OrderIntakeConsumer(OrderIntakeService orderIntakeService, OrderIntakeWriter orderIntakeWriter,
+		MeterRegistry meterRegistry,
+		@Value("${order.intake.workers:2}") int workers,
+		@Value("${order.intake.batch-size:50}") int batchSize,
+		@Value("${order.intake.block:1s}") Duration block,
+		@Value("${order.intake.claim-idle:30s}") Duration claimIdle,
+		@Value("${order.intake.max-deliveries:3}") int maxDeliveries) {
+		this.orderIntakeService = orderIntakeService;
+		this.orderIntakeWriter = orderIntakeWriter;
+		this.workers = workers;
+		this.batchSize = batchSize;
+		this.block = block;
+		this.claimIdle = claimIdle;
+		this.maxDeliveries = maxDeliveries;
+
+		this.persisted = Counter.builder("order.intake.orders").tag("result", "persisted").register(meterRegistry);
+		this.duplicate = Counter.builder("order.intake.orders").tag("result", "duplicate").register(meterRegistry);
+		this.failed = Counter.builder("order.intake.orders").tag("result", "failed").register(meterRegistry);
+		this.persistLag = Timer.builder("order.intake.persist_lag")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		Gauge.builder("order.intake.backlog", this, consumer -> consumer.measureBacklog()).register(meterRegistry);
+	}
+
+	@Override
+	public void run(String... args) {
+		orderIntakeService.createGroup();
+		start();
+	}
+
+	public void start() {
+		running = true;
+		AtomicInteger sequence = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "order-intake-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (int i = 1; i <= workers; i++) {
+			String consumer = "intake-" + instanceId + "-" + i;
+			executor.submit(() -> work(consumer));
+		}
+	}
+
+	private void work(String consumer) {
+		long lastRecovery = 0L;
+		while (running && !Thread.currentThread().isInterrupted()) {
+			try {
+				int read = pollOnce(consumer);
+				// 새 항목이 없거나 claim-idle 마다 한 번씩 멈춘 항목을 회수한다.
+				if (read == 0 || System.currentTimeMillis() - lastRecovery >= claimIdle.toMillis()) {
+					recoverOnce(consumer);
+					lastRecovery = System.currentTimeMillis();
+				}
+			} catch (Exception e) {
+				log.error("주문 접수 처리 실패 - 소비자: {}", consumer, e);
+				try {
+					Thread.sleep(block.toMillis());
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 새 항목을 한 묶음 읽어 저장한다.
+	 * @return 읽은 항목 수
+	 */
+	public int pollOnce(String consumer) {
+		List<Delivery> deliveries = orderIntakeService.readNew(consumer, batchSize, block);
+		if (deliveries.isEmpty()) {
+			return 0;
+		}
+
+		List<Delivery> readable = new ArrayList<>(deliveries.size());
+		for (Delivery delivery : deliveries) {
+			if (delivery.command() == null) {
+				fail(delivery);
+			} else {
+				readable.add(delivery);
+			}
+		}
+		try {
+			persistAndComplete(readable);
+		} catch (Exception e) {
+			log.warn("접수 주문 묶음 저장 실패, 한 건씩 다시 시도합니다. - 대상: {}개", readable.size(), e);
+			for (Delivery delivery : readable) {
+				persistOne(delivery);
+			}
+		}
+		return deliveries.size();
+	}
+
+	/**
+	 * claim-idle 동안 확인되지 않은 항목을 가져와 한 건씩 다시 저장한다.
+	 * @return 가져온 항목 수
+	 */
+	public int recoverOnce(String consumer) {
+		List<Delivery> deliveries = orderIntakeService.claimStale(consumer, claimIdle, batchSize);
+		for (Delivery delivery : deliveries) {
+			if (delivery.command() == null || delivery.deliveryCount() > maxDeliveries) {
+				fail(delivery);
+			} else {
+				persistOne(delivery);
+			}
+		}
+		return deliveries.size();
+	}
+
+	private void persistOne(Delivery delivery) {
+		try {
+			persistAndComplete(List.of(delivery));
+		} catch (Exception e) {
+			// 확인하지 않고 남겨 두면 claim-idle 후 다시 시도한다.
+			log.error("접수 주문 저장 실패 - 주문 ID: {}, 전달 횟수: {}", delivery.orderId(), delivery.deliveryCount(), e);
+		}
+	}
+
+	private void persistAndComplete(List<Delivery> deliveries) {
+		if (deliveries.isEmpty()) {
+			return;
+		}
+		List<OrderIntakeCommand> commands = deliveries.stream().map(Delivery::command).toList();
+		OrderIntakeWriter.Result result = orderIntakeWriter.persist(commands);
+		Set<UUID> rejectedIds = new HashSet<>(result.rejected());
+		List<Delivery> accepted = new ArrayList<>(deliveries.size());
+		List<Delivery> rejected = new ArrayList<>(rejectedIds.size());
+		long now = System.currentTimeMillis();
+		for (Delivery delivery : deliveries) {
+			if (rejectedIds.contains(delivery.orderId())) {
+				rejected.add(delivery);
+				continue;
+			}
+			accepted.add(delivery);
+			persistLag.record(Math.max(now - delivery.command().getAcceptedAtMillis(), 0L), TimeUnit.MILLISECONDS);
+		}
+		orderIntakeService.complete(accepted, Status.PERSISTED);
+		orderIntakeService.complete(rejected, Status.FAILED);
+		persisted.increment(result.persisted().size());
+		duplicate.increment(accepted.size() - result.persisted().size());
+		failed.increment(rejected.size());
+	}
+
+	private void fail(Delivery delivery) {
+		log.error("접수 주문을 저장하지 못해 실패로 표시합니다. - 주문 ID: {}, 전달 횟수: {}", delivery.orderId(),
+			delivery.deliveryCount());
+		orderIntakeService.complete(List.of(delivery), Status.FAILED);
+		failed.increment();
+	}
+
+	// Redis 에 접속할 수 없을 때 수집이 실패하지 않도록 값을 비워 둔다.
+	private double measureBacklog() {
+		try {
+			return orderIntakeService.countBacklog();
+		} catch (Exception e) {
+			return Double.NaN;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		if (executor != null) {
+			executor.shutdownNow();
+			try {
+				executor.awaitTermination(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
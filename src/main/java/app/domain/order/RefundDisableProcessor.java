@@ -1,57 +1,161 @@
 package app.domain.order;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
-import org.redisson.api.RBlockingQueue;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import app.domain.order.service.OrderDelayService;
 import app.domain.order.service.RefundUpdateService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 환불 가능 기간이 끝난 주문을 여러 작업자가 묶음 단위로 선점해 한 번의 UPDATE 로 환불 불가 처리한다.
+ * DB 반영에 실패한 묶음은 완료 처리하지 않으며, 선점 임대가 끝나면 다른 작업자(또는 재시작한 노드)가 다시 가져간다.
+ * 같은 주문이 다시 처리되더라도 이미 환불 불가인 주문은 UPDATE 대상에서 빠진다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RefundDisableProcessor implements CommandLineRunner {
 
-	private final RedissonClient redissonClient;
+	private final OrderDelayService orderDelayService;
 	private final RefundUpdateService refundUpdateService;
-	private static final String REFUND_DISABLE_QUEUE = "refund-disable-queue";
-	private Thread processingThread;
+	private final int workers;
+	private final int batchSize;
+	private final Duration pollInterval;
+
+	private final Counter disabled;
+	private final Counter skipped;
+	private final Counter failed;
+
+	private volatile boolean running;
+	private ExecutorService executor;
+
+	public RefundDisableProcessor(OrderDelayService orderDelayService, RefundUpdateService refundUpdateService,
+		MeterRegistry meterRegistry,
+		@Value("${order.refund.workers:2}") int workers,
+		@Value("${order.refund.batch-size:500}") int batchSize,
+		@Value("${order.refund.poll-interval:1s}") Duration pollInterval) {
+		this.orderDelayService = orderDelayService;
+		this.refundUpdateService = refundUpdateService;
+		this.workers = workers;
+		this.batchSize = batchSize;
+		this.pollInterval = pollInterval;
+
+		this.disabled = Counter.builder("order.refund_expiry.orders").tag("result", "disabled")
+			.register(meterRegistry);
+		this.skipped = Counter.builder("order.refund_expiry.orders").tag("result", "skipped")
+			.register(meterRegistry);
+		this.failed = Counter.builder("order.refund_expiry.orders").tag("result", "failed")
+			.register(meterRegistry);
+		Gauge.builder("order.refund_expiry.backlog", this, processor -> processor.measure(orderDelayService::countDue))
+			.register(meterRegistry);
+		Gauge.builder("order.refund_expiry.in_flight", this,
+				processor -> processor.measure(orderDelayService::countInFlight))
+			.register(meterRegistry);
+		Gauge.builder("order.refund_expiry.lag", this,
+				processor -> processor.measure(() -> orderDelayService.oldestDueLag().toMillis()) / 1000.0)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
 
 	@Override
 	public void run(String... args) {
-		processRefundDisableQueue();
+		try {
+			orderDelayService.migrateLegacyQueues();
+		} catch (Exception e) {
+			log.warn("이전 환불 비활성화 큐를 옮기지 못했습니다.", e);
+		}
+		start();
 	}
 
-	private void processRefundDisableQueue() {
-		processingThread = new Thread(() -> {
-			RBlockingQueue<UUID> queue = redissonClient.getBlockingQueue(REFUND_DISABLE_QUEUE);
+	public void start() {
+		running = true;
+		AtomicInteger sequence = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "refund-expiry-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (int i = 0; i < workers; i++) {
+			executor.submit(this::work);
+		}
+	}
 
-			while (!Thread.currentThread().isInterrupted()) {
+	private void work() {
+		while (running && !Thread.currentThread().isInterrupted()) {
+			int processed = drainOnce();
+			if (processed < batchSize) {
 				try {
-					UUID orderId = queue.take();
-					refundUpdateService.updateRefundableStatus(orderId);
+					Thread.sleep(pollInterval.toMillis());
 				} catch (InterruptedException e) {
 					Thread.currentThread().interrupt();
-					break;
+					return;
 				}
 			}
-		});
-		processingThread.start();
+		}
+	}
+
+	/**
+	 * 만료된 주문을 한 묶음 처리한다.
+	 * @return 선점해 처리한 주문 수. 실패했거나 처리할 주문이 없으면 0
+	 */
+	public int drainOnce() {
+		List<UUID> orderIds;
+		try {
+			orderIds = orderDelayService.claimDueRefundDisables(batchSize);
+		} catch (Exception e) {
+			log.error("환불 만료 주문 선점 실패", e);
+			return 0;
+		}
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			int updated = refundUpdateService.disableRefunds(orderIds);
+			orderDelayService.completeRefundDisables(orderIds);
+			disabled.increment(updated);
+			skipped.increment(orderIds.size() - updated);
+			return orderIds.size();
+		} catch (Exception e) {
+			log.error("환불 불가 처리 실패 - 대상: {}개", orderIds.size(), e);
+			failed.increment(orderIds.size());
+			return 0;
+		}
+	}
+
+	// Redis 에 접속할 수 없을 때 수집이 실패하지 않도록 값을 비워 둔다.
+	private double measure(LongSupplier supplier) {
+		try {
+			return supplier.getAsLong();
+		} catch (Exception e) {
+			return Double.NaN;
+		}
 	}
 
 	@PreDestroy
 	public void shutdown() {
-		if (processingThread != null && processingThread.isAlive()) {
-			processingThread.interrupt();
+		running = false;
+		if (executor != null) {
+			executor.shutdownNow();
 			try {
-				processingThread.join(1000);
+				executor.awaitTermination(5, TimeUnit.SECONDS);
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 			}
 		}
 	}
-}
\ No newline at end of file
+}
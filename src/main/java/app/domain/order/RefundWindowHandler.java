@@ -0,0 +1,36 @@
+package app.domain.order;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import app.domain.order.service.OrderDelayService;
+import app.global.outbox.OutboxEvent;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 새 주문의 환불 가능 기간 만료 일정을 잡는다.
+ * 주문 시각을 기준으로 잡으므로 이벤트가 늦게 또는 여러 번 전달돼도 만료 시각은 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefundWindowHandler implements OutboxHandler {
+
+	private final OrderDelayService orderDelayService;
+
+	@Override
+	public Set<OutboxEventType> eventTypes() {
+		return Set.of(OutboxEventType.ORDER_CREATED);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, JsonNode payload) {
+		orderDelayService.scheduleRefundDisable(UUID.fromString(payload.get("orderId").asText()),
+			payload.get("occurredAt").asLong());
+	}
+}
@@ -0,0 +1,55 @@
+package app.domain.order.model.dto;
+
+import java.util.UUID;
+
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 새 주문과 주문 상태 변경을 실시간 피드로 알리는 이벤트.
+ * eventId 는 매장별 피드 스트림의 항목 ID 로, 발행 후에 정해지며 재연결 시 Last-Event-ID 로 쓰인다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class OrderFeedEvent {
+
+	private String eventId;
+	private UUID storeId;
+	private UUID orderId;
+	private Long userId;
+	private OrderStatus orderStatus;
+	// 주문 엔티티에서 만든 이벤트에만 채운다.
+	private Long totalPrice;
+	private long occurredAtMillis;
+
+	public static OrderFeedEvent of(Orders order) {
+		return OrderFeedEvent.builder()
+			.storeId(order.getStore().getStoreId())
+			.orderId(order.getOrdersId())
+			.userId(order.getUser() == null ? null : order.getUser().getUserId())
+			.orderStatus(order.getOrderStatus())
+			.totalPrice(order.getTotalPrice())
+			.occurredAtMillis(System.currentTimeMillis())
+			.build();
+	}
+
+	public static OrderFeedEvent statusChanged(UUID storeId, UUID orderId, Long userId, OrderStatus orderStatus) {
+		return OrderFeedEvent.builder()
+			.storeId(storeId)
+			.orderId(orderId)
+			.userId(userId)
+			.orderStatus(orderStatus)
+			.occurredAtMillis(System.currentTimeMillis())
+			.build();
+	}
+
+	public OrderFeedEvent withEventId(String eventId) {
+		return toBuilder().eventId(eventId).build();
+	}
+}
@@ -0,0 +1,47 @@
+package app.domain.order.model.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검증을 마치고 접수 스트림에 기록되는 주문. 소비자는 이 값만으로 주문을 저장할 수 있도록
+ * 메뉴 이름/가격을 접수 시점의 값으로 함께 담는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderIntakeCommand {
+
+	private UUID orderId;
+	private Long userId;
+	private UUID storeId;
+	private PaymentMethod paymentMethod;
+	private OrderChannel orderChannel;
+	private ReceiptMethod receiptMethod;
+	private String requestMessage;
+	private long totalPrice;
+	private String deliveryAddress;
+	// 접수 시각(epoch ms). 상태 이력과 환불 가능 기간의 기준이 된다.
+	private long acceptedAtMillis;
+	private List<Item> items;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class Item {
+		private UUID menuId;
+		private String menuName;
+		private long price;
+		private int quantity;
+	}
+}
@@ -11,10 +11,18 @@ public class UpdateOrderStatusRequest {
 	@NotNull
 	private OrderStatus newStatus;
 
+	// 지정하면 주문이 이 상태일 때만 전이한다. 다른 요청이 먼저 바꿨다면 충돌로 응답한다.
+	private OrderStatus expectedStatus;
+
 	public UpdateOrderStatusRequest() {
 	}
 
 	public UpdateOrderStatusRequest(OrderStatus newStatus) {
 		this.newStatus = newStatus;
 	}
+
+	public UpdateOrderStatusRequest(OrderStatus newStatus, OrderStatus expectedStatus) {
+		this.newStatus = newStatus;
+		this.expectedStatus = expectedStatus;
+	}
 }
\ No newline at end of file
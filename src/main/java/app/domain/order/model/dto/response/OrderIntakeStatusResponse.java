@@ -0,0 +1,22 @@
+package app.domain.order.model.dto.response;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIntakeStatusResponse {
+
+	private UUID orderId;
+	private Status status;
+
+	public enum Status {
+		QUEUED,    // 접수되어 저장을 기다리는 중
+		PERSISTED, // 주문이 저장됨
+		FAILED     // 저장하지 못함
+	}
+}
@@ -0,0 +1,35 @@
+package app.domain.order.model.dto.response;
+
+import java.time.LocalDateTime;
+
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.enums.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OrderStatusHistoryResponse {
+
+	@Schema(description = "변경된 주문 상태")
+	private OrderStatus orderStatus;
+
+	@Schema(description = "변경 시각")
+	private LocalDateTime occurredAt;
+
+	public OrderStatusHistoryResponse() {
+	}
+
+	public OrderStatusHistoryResponse(OrderStatus orderStatus, LocalDateTime occurredAt) {
+		this.orderStatus = orderStatus;
+		this.occurredAt = occurredAt;
+	}
+
+	public static OrderStatusHistoryResponse from(OrderStatusEvent event) {
+		return OrderStatusHistoryResponse.builder()
+			.orderStatus(event.getOrderStatus())
+			.occurredAt(event.getOccurredAt())
+			.build();
+	}
+}
@@ -0,0 +1,55 @@
+package app.domain.order.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.global.entity.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 변경 이력. 추가만 하고 수정/삭제하지 않으므로 BaseEntity 의 수정/삭제 컬럼을 두지 않는다.
+ * 주문별 이력은 (orders_id, occurred_at) 인덱스 범위 조회 한 번으로 읽는다.
+ */
+@Entity
+@Table(name = "p_order_status_event",
+	indexes = @Index(name = "idx_order_status_event_orders_occurred", columnList = "orders_id, occurred_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderStatusEvent {
+
+	@Id
+	@TimeOrderedUuid
+	private UUID eventId;
+
+	@Column(name = "orders_id", nullable = false, updatable = false)
+	private UUID ordersId;
+
+	@Column(nullable = false, updatable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private OrderStatus orderStatus;
+
+	@Column(name = "occurred_at", nullable = false, updatable = false)
+	private LocalDateTime occurredAt;
+
+	public static OrderStatusEvent of(UUID ordersId, OrderStatus orderStatus) {
+		return OrderStatusEvent.builder()
+			.ordersId(ordersId)
+			.orderStatus(orderStatus)
+			.occurredAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -1,7 +1,5 @@
 package app.domain.order.model.entity;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 import app.domain.order.model.entity.enums.OrderChannel;
@@ -11,11 +9,11 @@ import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.store.model.entity.Store;
 import app.domain.user.model.entity.User;
 import app.global.entity.BaseEntity;
+import app.global.entity.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -33,7 +31,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Orders extends BaseEntity {
 
-	public Orders(UUID ordersId, Store store, User user, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String orderHistory, String requestMessage) {
+	public Orders(UUID ordersId, Store store, User user, Long totalPrice, String deliveryAddress, PaymentMethod paymentMethod, OrderChannel orderChannel, ReceiptMethod receiptMethod, OrderStatus orderStatus, boolean isRefundable, String requestMessage) {
 		this.ordersId = ordersId;
 		this.store = store;
 		this.user = user;
@@ -44,12 +42,11 @@ public class Orders extends BaseEntity {
 		this.receiptMethod = receiptMethod;
 		this.orderStatus = orderStatus;
 		this.isRefundable = isRefundable;
-		this.orderHistory = orderHistory;
 		this.requestMessage = requestMessage;
 	}
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID ordersId;
 
 	@ManyToOne
@@ -85,32 +82,14 @@ public class Orders extends BaseEntity {
 	@Column(nullable = false)
 	private boolean isRefundable;
 
-	@Column(nullable = false, columnDefinition = "TEXT")
-	private String orderHistory;
-
 	private String requestMessage;
 
 	public void updateOrderStatus(OrderStatus orderStatus) {
 		this.orderStatus = orderStatus;
 	}
 
-	public void addHistory(String state, LocalDateTime dateTime) {
-		String newEntry = state + ":" + dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-
-		if (this.orderHistory == null || this.orderHistory.toString().isEmpty()) {
-			this.orderHistory = newEntry;
-		} else {
-			this.orderHistory = this.orderHistory.toString() + "\n" + newEntry;
-		}
-	}
-
 	public void disableRefund() {
 		this.isRefundable = false;
 	}
 
-	public void updateStatusAndHistory(OrderStatus newStatus, String updatedHistory) {
-		this.orderStatus = newStatus;
-		this.orderHistory = updatedHistory;
-	}
-
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package app.domain.order.model.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import app.domain.customer.dto.response.CustomerOrderResponse;
+import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.store.model.dto.response.StoreOrderResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
+
+public interface OrdersQueryRepository {
+
+	CursorResponse<StoreOrderResponse> findStoreOrders(UUID storeId, CursorRequest request);
+
+	CursorResponse<CustomerOrderResponse> findUserOrders(Long userId, CursorRequest request);
+
+	/**
+	 * 배달 주소가 있는 주문을 주문 항목과 함께 읽는다. 페이지 크기와 상관없이 주문, 주문 항목, 개수 쿼리 세 번으로 끝난다.
+	 */
+	Page<OrderDetailResponse> findOrderDetails(Long userId, Pageable pageable);
+}
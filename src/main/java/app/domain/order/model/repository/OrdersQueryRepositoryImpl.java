@@ -0,0 +1,195 @@
+package app.domain.order.model.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import app.domain.customer.dto.response.CustomerOrderResponse;
+import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.QOrderItem;
+import app.domain.order.model.entity.QOrders;
+import app.domain.store.model.dto.response.StoreOrderResponse;
+import app.domain.store.model.entity.QStore;
+import app.domain.user.model.entity.QUser;
+import app.global.apiPayload.CursorPaging;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OrdersQueryRepositoryImpl implements OrdersQueryRepository {
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public CursorResponse<StoreOrderResponse> findStoreOrders(UUID storeId, CursorRequest request) {
+		QOrders orders = QOrders.orders;
+		QUser user = QUser.user;
+		BooleanExpression condition = orders.store.storeId.eq(storeId);
+
+		// 오프라인 주문은 고객이 없으므로 left join 으로 이름만 읽는다.
+		List<StoreOrderResponse> rows = queryFactory
+			.select(Projections.constructor(StoreOrderResponse.class,
+				orders.ordersId,
+				user.username,
+				orders.totalPrice,
+				orders.orderStatus,
+				orders.createdAt
+			))
+			.from(orders)
+			.leftJoin(orders.user, user)
+			.where(condition, CursorPaging.after(request, orders.createdAt, orders.ordersId))
+			.orderBy(CursorPaging.latestFirst(orders.createdAt, orders.ordersId))
+			.limit(CursorPaging.limit(request))
+			.fetch();
+
+		return CursorResponse.of(rows, request, StoreOrderResponse::getOrderedAt, StoreOrderResponse::getOrderId)
+			.withTotal(request, () -> count(condition));
+	}
+
+	@Override
+	public CursorResponse<CustomerOrderResponse> findUserOrders(Long userId, CursorRequest request) {
+		QOrders orders = QOrders.orders;
+		QStore store = QStore.store;
+		BooleanExpression condition = orders.user.userId.eq(userId);
+
+		List<CustomerOrderResponse> rows = queryFactory
+			.select(Projections.constructor(CustomerOrderResponse.class,
+				orders.ordersId,
+				store.storeName,
+				orders.totalPrice,
+				orders.deliveryAddress,
+				orders.paymentMethod,
+				orders.orderChannel,
+				orders.receiptMethod,
+				orders.orderStatus,
+				orders.isRefundable,
+				orders.requestMessage,
+				orders.createdAt
+			))
+			.from(orders)
+			.join(orders.store, store)
+			.where(condition, CursorPaging.after(request, orders.createdAt, orders.ordersId))
+			.orderBy(CursorPaging.latestFirst(orders.createdAt, orders.ordersId))
+			.limit(CursorPaging.limit(request))
+			.fetch();
+
+		return CursorResponse.of(rows, request, CustomerOrderResponse::getCreatedAt, CustomerOrderResponse::getOrdersId)
+			.withTotal(request, () -> count(condition));
+	}
+
+	@Override
+	public Page<OrderDetailResponse> findOrderDetails(Long userId, Pageable pageable) {
+		QOrders orders = QOrders.orders;
+		QStore store = QStore.store;
+		BooleanExpression condition = orders.user.userId.eq(userId).and(orders.deliveryAddress.isNotNull());
+
+		List<Tuple> rows = queryFactory
+			.select(
+				orders.ordersId,
+				store.storeName,
+				orders.totalPrice,
+				orders.deliveryAddress,
+				orders.paymentMethod,
+				orders.orderChannel,
+				orders.receiptMethod,
+				orders.orderStatus,
+				orders.requestMessage
+			)
+			.from(orders)
+			.join(orders.store, store)
+			.where(condition)
+			.orderBy(orderSpecifiers(pageable.getSort()))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		List<UUID> orderIds = rows.stream().map(row -> row.get(orders.ordersId)).toList();
+		Map<UUID, List<OrderDetailResponse.Menu>> menusByOrder = findMenus(orderIds);
+
+		List<OrderDetailResponse> content = rows.stream()
+			.map(row -> OrderDetailResponse.builder()
+				.storeName(row.get(store.storeName))
+				.menuList(menusByOrder.getOrDefault(row.get(orders.ordersId), List.of()))
+				.totalPrice(row.get(orders.totalPrice))
+				.deliveryAddress(row.get(orders.deliveryAddress))
+				.paymentMethod(row.get(orders.paymentMethod))
+				.orderChannel(row.get(orders.orderChannel))
+				.receiptMethod(row.get(orders.receiptMethod))
+				.orderStatus(row.get(orders.orderStatus))
+				.requestMessage(row.get(orders.requestMessage))
+				.build())
+			.toList();
+
+		return new PageImpl<>(content, pageable, count(condition));
+	}
+
+	/**
+	 * 페이지에 담긴 주문들의 항목을 한 번에 읽어 주문별로 묶는다.
+	 */
+	private Map<UUID, List<OrderDetailResponse.Menu>> findMenus(List<UUID> orderIds) {
+		if (orderIds.isEmpty()) {
+			return Map.of();
+		}
+		QOrderItem orderItem = QOrderItem.orderItem;
+
+		return queryFactory
+			.select(orderItem.orders.ordersId, orderItem.menuName, orderItem.quantity, orderItem.price)
+			.from(orderItem)
+			.where(orderItem.orders.ordersId.in(orderIds))
+			.orderBy(orderItem.orderItemId.asc())
+			.fetch()
+			.stream()
+			.collect(Collectors.groupingBy(
+				row -> row.get(orderItem.orders.ordersId),
+				Collectors.mapping(
+					row -> new OrderDetailResponse.Menu(row.get(orderItem.menuName), row.get(orderItem.quantity),
+						row.get(orderItem.price)),
+					Collectors.toList())));
+	}
+
+	/**
+	 * Pageable 의 정렬을 주문 엔티티 속성 기준으로 옮긴다. 정렬이 없으면 최신순으로 읽는다.
+	 */
+	private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+		QOrders orders = QOrders.orders;
+		if (sort.isUnsorted()) {
+			return CursorPaging.latestFirst(orders.createdAt, orders.ordersId);
+		}
+		PathBuilder<Orders> path = new PathBuilder<>(Orders.class, orders.getMetadata());
+		List<OrderSpecifier<?>> specifiers = new ArrayList<>();
+		for (Sort.Order order : sort) {
+			specifiers.add(new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC,
+				path.getComparable(order.getProperty(), Comparable.class)));
+		}
+		return specifiers.toArray(OrderSpecifier<?>[]::new);
+	}
+
+	private long count(BooleanExpression condition) {
+		QOrders orders = QOrders.orders;
+		Long total = queryFactory
+			.select(orders.count())
+			.from(orders)
+			.where(condition)
+			.fetchOne();
+		return total != null ? total : 0;
+	}
+}
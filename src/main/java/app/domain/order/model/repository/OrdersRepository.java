@@ -1,22 +1,67 @@
 package app.domain.order.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.order.model.entity.Orders;
-import app.domain.store.model.entity.Store;
-import app.domain.user.model.entity.User;
+import app.domain.order.model.entity.enums.OrderStatus;
 
 @Repository
 public interface OrdersRepository extends JpaRepository<Orders, UUID> {
-	Page<Orders> findAllByUserAndDeliveryAddressIsNotNull(User user, Pageable pageable);
 
-	List<Orders> findByUser(User user);
+	/**
+	 * 현재 상태가 fromStatuses 중 하나이고 ownerId 가 매장 점주일 때만 상태를 바꾼다.
+	 * @return 바뀐 행 수 (0 또는 1)
+	 */
+	@Modifying
+	@Query("update Orders o set o.orderStatus = :newStatus, o.updatedAt = :now "
+		+ "where o.ordersId = :orderId and o.orderStatus in :fromStatuses "
+		+ "and o.store.storeId in (select s.storeId from Store s where s.user.userId = :ownerId)")
+	int transitionStatus(@Param("orderId") UUID orderId, @Param("ownerId") Long ownerId,
+		@Param("fromStatuses") Collection<OrderStatus> fromStatuses, @Param("newStatus") OrderStatus newStatus,
+		@Param("now") LocalDateTime now);
 
-	List<Orders> findByStore(Store store);
+	/**
+	 * 환불 가능 기간이 끝난 주문들을 한 번에 환불 불가로 바꾼다. 이미 바뀐 주문은 건너뛰므로 다시 실행해도 안전하다.
+	 */
+	@Modifying
+	@Query("update Orders o set o.isRefundable = false, o.updatedAt = :now "
+		+ "where o.ordersId in :orderIds and o.isRefundable = true")
+	int disableRefunds(@Param("orderIds") Collection<UUID> orderIds, @Param("now") LocalDateTime now);
+
+	@Query("select o.orderStatus as orderStatus, s.user.userId as ownerId "
+		+ "from Orders o join o.store s where o.ordersId = :orderId")
+	Optional<StatusSnapshot> findStatusSnapshot(@Param("orderId") UUID orderId);
+
+	@Query("select o.store.storeId as storeId, u.userId as userId, o.orderStatus as orderStatus "
+		+ "from Orders o left join o.user u where o.ordersId = :orderId")
+	Optional<FeedKey> findFeedKey(@Param("orderId") UUID orderId);
+
+	boolean existsByOrdersIdAndUser_UserId(UUID ordersId, Long userId);
+
+	@Query("select o.ordersId from Orders o where o.ordersId in :orderIds")
+	List<UUID> findExistingIds(@Param("orderIds") Collection<UUID> orderIds);
+
+	interface StatusSnapshot {
+		OrderStatus getOrderStatus();
+
+		Long getOwnerId();
+	}
+
+	interface FeedKey {
+		UUID getStoreId();
+
+		Long getUserId();
+
+		OrderStatus getOrderStatus();
+	}
 }
@@ -1,31 +1,160 @@
 package app.domain.order.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import org.redisson.api.RDelayedQueue;
 import org.redisson.api.RQueue;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 주문별 환불 가능 기간 만료 일정을 Redis sorted set(score = 만료 시각)에 보관한다.
+ * 작업자는 만료된 주문을 묶음 단위로 선점하고, DB 반영 후 완료 처리한다.
+ * 완료되지 않은 선점은 임대 시간이 지나면 다시 대기 집합으로 돌아가므로 재시작해도 유실되지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OrderDelayService {
 
+	// 이전 소비자가 설정과 무관하게 사용하던 큐 이름
+	private static final String LEGACY_CONSUMER_QUEUE = "refund-disable-queue";
+	private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/order/claim_refund_expiry.lua"), List.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
 	private final RedissonClient redissonClient;
+	private final Clock clock;
+	private final String queueName;
+	private final String dueKey;
+	private final String processingKey;
+	private final Duration refundWindow;
+	private final Duration claimLease;
 
-	@Value("${REDIS_REFUND_QUEUE}")
-	private String REFUND_DISABLE_QUEUE;
+	@Autowired
+	public OrderDelayService(RedisTemplate<String, String> redisTemplate, RedissonClient redissonClient,
+		@Value("${order.refund.queue:refund-disable-queue}") String queueName,
+		@Value("${order.refund.window:5m}") Duration refundWindow,
+		@Value("${order.refund.claim-lease:1m}") Duration claimLease) {
+		this(redisTemplate, redissonClient, Clock.systemUTC(), queueName, refundWindow, claimLease);
+	}
+
+	public OrderDelayService(RedisTemplate<String, String> redisTemplate, RedissonClient redissonClient, Clock clock,
+		String queueName, Duration refundWindow, Duration claimLease) {
+		this.redisTemplate = redisTemplate;
+		this.redissonClient = redissonClient;
+		this.clock = clock;
+		this.queueName = queueName;
+		this.dueKey = queueName + ":due";
+		this.processingKey = queueName + ":processing";
+		this.refundWindow = refundWindow;
+		this.claimLease = claimLease;
+	}
 
 	public void scheduleRefundDisable(UUID orderId) {
-		RQueue<UUID> queue = redissonClient.getQueue(REFUND_DISABLE_QUEUE);
-		RDelayedQueue<UUID> delayedQueue = redissonClient.getDelayedQueue(queue);
+		scheduleAt(orderId, clock.millis() + refundWindow.toMillis());
+	}
+
+	/**
+	 * 접수 시각을 기준으로 일정을 잡는다. 같은 주문을 다시 등록해도 만료 시각은 바뀌지 않는다.
+	 */
+	public void scheduleRefundDisable(UUID orderId, long acceptedAtMillis) {
+		scheduleAt(orderId, acceptedAtMillis + refundWindow.toMillis());
+	}
+
+	private void scheduleAt(UUID orderId, long dueAtMillis) {
+		redisTemplate.opsForZSet().add(dueKey, orderId.toString(), dueAtMillis);
+	}
+
+	/**
+	 * 환불 가능 기간이 끝난 주문을 최대 batchSize 개 선점한다. 같은 주문은 임대 시간 동안 다른 작업자에게 배정되지 않는다.
+	 */
+	public List<UUID> claimDueRefundDisables(int batchSize) {
+		List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(dueKey, processingKey),
+			String.valueOf(clock.millis()), String.valueOf(claimLease.toMillis()), String.valueOf(batchSize));
+		if (claimed == null || claimed.isEmpty()) {
+			return List.of();
+		}
+		List<UUID> orderIds = new ArrayList<>(claimed.size());
+		for (String member : claimed) {
+			orderIds.add(UUID.fromString(member));
+		}
+		return orderIds;
+	}
+
+	public void completeRefundDisables(Collection<UUID> orderIds) {
+		if (orderIds.isEmpty()) {
+			return;
+		}
+		redisTemplate.opsForZSet().remove(processingKey, orderIds.stream().map(UUID::toString).toArray());
+	}
+
+	/**
+	 * 기한이 지났지만 아직 선점되지 않은 주문 수
+	 */
+	public long countDue() {
+		Long count = redisTemplate.opsForZSet().count(dueKey, Double.NEGATIVE_INFINITY, clock.millis());
+		return count == null ? 0L : count;
+	}
+
+	public long countInFlight() {
+		Long count = redisTemplate.opsForZSet().zCard(processingKey);
+		return count == null ? 0L : count;
+	}
+
+	/**
+	 * 가장 오래 기다린 만료 주문의 지연 시간. 기한이 지난 주문이 없으면 0 이다.
+	 */
+	public Duration oldestDueLag() {
+		Set<ZSetOperations.TypedTuple<String>> oldest = redisTemplate.opsForZSet().rangeWithScores(dueKey, 0, 0);
+		if (oldest == null || oldest.isEmpty()) {
+			return Duration.ZERO;
+		}
+		Double dueAt = oldest.iterator().next().getScore();
+		long lag = dueAt == null ? 0L : clock.millis() - dueAt.longValue();
+		return Duration.ofMillis(Math.max(lag, 0L));
+	}
+
+	/**
+	 * 이전 Redisson 지연 큐에 남은 주문을 옮긴다. 이미 만료된 항목은 즉시 처리 대상으로,
+	 * 아직 지연 중인 항목은 남은 시간을 알 수 없으므로 환불 가능 기간을 처음부터 다시 준다.
+	 * @return 옮긴 주문 수
+	 */
+	public int migrateLegacyQueues() {
+		int migrated = 0;
+		for (String name : new LinkedHashSet<>(List.of(queueName, LEGACY_CONSUMER_QUEUE))) {
+			RQueue<UUID> queue = redissonClient.getQueue(name);
+			RDelayedQueue<UUID> delayedQueue = redissonClient.getDelayedQueue(queue);
+			for (UUID orderId : delayedQueue.readAll()) {
+				scheduleRefundDisable(orderId);
+				migrated++;
+			}
+			delayedQueue.delete();
+			delayedQueue.destroy();
 
-		delayedQueue.offer(orderId, 5, TimeUnit.MINUTES);
+			UUID orderId;
+			while ((orderId = queue.poll()) != null) {
+				scheduleAt(orderId, clock.millis());
+				migrated++;
+			}
+		}
+		if (migrated > 0) {
+			log.info("이전 환불 비활성화 큐에서 {}건을 옮겼습니다.", migrated);
+		}
+		return migrated;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package app.domain.order.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 생성/상태 변경 이벤트를 아웃박스에 기록한다. 주문을 바꾸는 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+
+	private final OutboxService outboxService;
+
+	public void created(UUID orderId, UUID storeId, Long userId, long occurredAtMillis) {
+		outboxService.append(OutboxEventType.ORDER_CREATED, orderId,
+			payload(orderId, storeId, userId, OrderStatus.PENDING, occurredAtMillis));
+	}
+
+	public void statusChanged(UUID orderId, UUID storeId, Long userId, OrderStatus orderStatus) {
+		outboxService.append(OutboxEventType.ORDER_STATUS_CHANGED, orderId,
+			payload(orderId, storeId, userId, orderStatus, System.currentTimeMillis()));
+	}
+
+	/**
+	 * 이미 읽어 온 주문의 현재 상태로 기록한다.
+	 */
+	public void statusChanged(Orders order) {
+		statusChanged(order.getOrdersId(), order.getStore().getStoreId(),
+			order.getUser() == null ? null : order.getUser().getUserId(), order.getOrderStatus());
+	}
+
+	private static Map<String, Object> payload(UUID orderId, UUID storeId, Long userId, OrderStatus orderStatus,
+		long occurredAtMillis) {
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("orderId", orderId.toString());
+		payload.put("storeId", storeId.toString());
+		payload.put("userId", userId);
+		payload.put("orderStatus", orderStatus.name());
+		payload.put("occurredAt", occurredAtMillis);
+		return payload;
+	}
+}
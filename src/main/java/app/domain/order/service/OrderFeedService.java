@@ -0,0 +1,191 @@
+package app.domain.order.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.order.model.dto.OrderFeedEvent;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 실시간 피드의 발행과 이어 받기.
+ * 이벤트는 매장별 Redis 스트림(order.feed.retention 개, order.feed.stream-ttl 동안 보관)에 남기고
+ * order:feed 채널로 모든 노드에 알린다. 각 노드는 자신에게 연결된 구독자에게만 전달한다.
+ * 주문별 최신 상태도 함께 보관해, 상태 추적을 시작할 때 DB 대신 읽는다.
+ * 최신 상태는 상태 변경 시각을 버전으로 두고 더 오래된 이벤트로는 바꾸지 않아, 발행 순서가 뒤바뀌어도 되돌아가지 않는다.
+ */
+@Slf4j
+@Service
+public class OrderFeedService {
+
+	public static final String CHANNEL = "order:feed";
+	// DB 에서 읽어 채운 최신 상태의 이벤트 ID. 발행된 어떤 이벤트보다 앞선다.
+	public static final String INITIAL_EVENT_ID = "0-0";
+	private static final String STREAM_KEY_PREFIX = "order:feed:store:";
+	private static final String STATUS_KEY_PREFIX = "order:status:";
+	private static final Pattern STREAM_ID = Pattern.compile("\\d+-\\d+");
+	private static final RedisScript<String> PUBLISH_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/order/publish_order_feed.lua"), String.class);
+	private static final RedisScript<Long> SEED_STATUS_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/order/seed_order_status.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final int retention;
+	private final Duration streamTtl;
+
+	public OrderFeedService(RedisTemplate<String, String> redisTemplate, ObjectMapper redisObjectMapper,
+		@Value("${order.feed.retention:1000}") int retention,
+		@Value("${order.feed.stream-ttl:1d}") Duration streamTtl) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = redisObjectMapper;
+		this.retention = retention;
+		this.streamTtl = streamTtl;
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되면 커밋 후에 발행해, 롤백된 변경은 알리지 않는다.
+	 * 발행에 실패해도 주문 처리는 그대로 진행하며, 구독자는 다음 이벤트나 재연결 시 목록 조회로 따라잡는다.
+	 */
+	public void publish(OrderFeedEvent event) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					send(event);
+				}
+			});
+		} else {
+			send(event);
+		}
+	}
+
+	private void send(OrderFeedEvent event) {
+		try {
+			redisTemplate.execute(PUBLISH_SCRIPT, List.of(streamKey(event.getStoreId()), statusKey(event.getOrderId())),
+				CHANNEL,
+				objectMapper.writeValueAsString(event), String.valueOf(retention),
+				String.valueOf(streamTtl.toSeconds()), String.valueOf(event.getOccurredAtMillis()));
+		} catch (Exception e) {
+			log.warn("주문 피드 발행 실패 - 주문 ID: {}, 상태: {}", event.getOrderId(), event.getOrderStatus(), e);
+		}
+	}
+
+	/**
+	 * 채널로 받은 메시지를 해석한다. 스트림 항목 ID 를 eventId 로 채운다.
+	 */
+	public OrderFeedEvent parseMessage(String message) throws JsonProcessingException {
+		JsonNode envelope = objectMapper.readTree(message);
+		return objectMapper.treeToValue(envelope.get("event"), OrderFeedEvent.class)
+			.withEventId(envelope.get("id").asText());
+	}
+
+	/**
+	 * lastEventId 다음 이벤트부터 최대 limit 개를 발행 순서대로 읽는다.
+	 */
+	public List<OrderFeedEvent> readAfter(UUID storeId, String lastEventId, int limit) {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(streamKey(storeId),
+			Range.rightUnbounded(Range.Bound.exclusive(lastEventId)), Limit.limit().count(limit));
+		if (records == null || records.isEmpty()) {
+			return List.of();
+		}
+		List<OrderFeedEvent> events = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			try {
+				events.add(objectMapper.readValue((String)record.getValue().get("event"), OrderFeedEvent.class)
+					.withEventId(record.getId().getValue()));
+			} catch (JsonProcessingException e) {
+				log.warn("주문 피드 항목을 해석하지 못했습니다. - 항목 ID: {}", record.getId(), e);
+			}
+		}
+		return events;
+	}
+
+	/**
+	 * lastEventId 이후 이벤트 중 보관 기간/개수를 넘겨 지워진 것이 있을 수 있는지 확인한다.
+	 */
+	public boolean mayHaveGap(UUID storeId, String lastEventId) {
+		List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream()
+			.range(streamKey(storeId), Range.unbounded(), Limit.limit().count(1));
+		if (oldest == null || oldest.isEmpty()) {
+			return true;
+		}
+		return compareEventIds(oldest.get(0).getId().getValue(), lastEventId) > 0;
+	}
+
+	/**
+	 * 마지막으로 발행된(또는 DB 에서 읽어 채운) 주문 상태를 읽는다. 보관 시간이 지났으면 비어 있다.
+	 */
+	public Optional<OrderFeedEvent> findStatus(UUID orderId) {
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(statusKey(orderId));
+		if (entries.get("id") == null || entries.get("event") == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue((String)entries.get("event"), OrderFeedEvent.class)
+				.withEventId((String)entries.get("id")));
+		} catch (JsonProcessingException e) {
+			log.warn("주문 상태를 해석하지 못했습니다. - 주문 ID: {}", orderId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * DB 에서 읽은 주문 상태를 보관한다. 그 사이 발행된 상태가 있으면 덮어쓰지 않는다.
+	 */
+	public OrderFeedEvent cacheStatus(OrderFeedEvent event) {
+		OrderFeedEvent initial = event.withEventId(INITIAL_EVENT_ID);
+		try {
+			redisTemplate.execute(SEED_STATUS_SCRIPT, List.of(statusKey(event.getOrderId())), INITIAL_EVENT_ID,
+				objectMapper.writeValueAsString(event), String.valueOf(streamTtl.toSeconds()));
+		} catch (Exception e) {
+			log.warn("주문 상태 보관 실패 - 주문 ID: {}", event.getOrderId(), e);
+		}
+		return initial;
+	}
+
+	public static Optional<String> validEventId(String eventId) {
+		return Optional.ofNullable(eventId).filter(id -> STREAM_ID.matcher(id).matches());
+	}
+
+	/**
+	 * 스트림 항목 ID(밀리초-순번)를 발행 순서로 비교한다.
+	 */
+	public static int compareEventIds(String left, String right) {
+		int leftDash = left.indexOf('-');
+		int rightDash = right.indexOf('-');
+		int byTime = Long.compare(Long.parseLong(left.substring(0, leftDash)),
+			Long.parseLong(right.substring(0, rightDash)));
+		if (byTime != 0) {
+			return byTime;
+		}
+		return Long.compare(Long.parseLong(left.substring(leftDash + 1)), Long.parseLong(right.substring(rightDash + 1)));
+	}
+
+	private static String streamKey(UUID storeId) {
+		return STREAM_KEY_PREFIX + storeId;
+	}
+
+	private static String statusKey(UUID orderId) {
+		return STATUS_KEY_PREFIX + orderId;
+	}
+}
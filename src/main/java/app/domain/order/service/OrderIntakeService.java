@@ -0,0 +1,308 @@
+package app.domain.order.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartService;
+import app.domain.menu.MenuCatalogCache;
+import app.domain.menu.MenuCatalogCache.MenuInfo;
+import app.domain.menu.MenuCatalogCache.StoreInfo;
+import app.domain.order.model.dto.OrderIntakeCommand;
+import app.domain.order.model.dto.request.CreateOrderRequest;
+import app.domain.order.model.dto.response.OrderIntakeStatusResponse;
+import app.domain.order.model.dto.response.OrderIntakeStatusResponse.Status;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.status.OrderErrorStatus;
+import app.global.SecurityUtil;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.entity.TimeOrderedUuidGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 주문 접수(order.intake.mode=stream).
+ * 주문을 검증한 뒤 Redis 스트림에 기록하고 주문 ID 를 바로 돌려준다. 저장은 {@code OrderIntakeConsumer} 가 묶음 단위로 한다.
+ * 저장 전에도 주문별 접수 상태(hash)로 진행 상황을 조회할 수 있다.
+ */
+@Slf4j
+@Service
+public class OrderIntakeService {
+
+	public static final String CONSUMER_GROUP = "order-intake-writers";
+	private static final String STATUS_KEY_PREFIX = "order:intake:";
+	private static final TimeOrderedUuidGenerator ID_GENERATOR = new TimeOrderedUuidGenerator();
+	private static final RedisScript<String> SUBMIT_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/order/submit_intake.lua"), String.class);
+	private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/order/complete_intake.lua"), Long.class);
+	private static final RedisScript<List> FIND_STALE_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/order/find_stale_intake.lua"), List.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final CartService cartService;
+	private final MenuCatalogCache menuCatalogCache;
+	private final OrdersRepository ordersRepository;
+	private final SecurityUtil securityUtil;
+	private final Clock clock;
+	private final boolean enabled;
+	private final String streamKey;
+	private final Duration statusTtl;
+
+	/**
+	 * 스트림에서 읽은 항목. 내용을 해석하지 못하면 command 는 null 이다.
+	 */
+	public record Delivery(RecordId messageId, UUID orderId, OrderIntakeCommand command, long deliveryCount) {
+	}
+
+	@Autowired
+	public OrderIntakeService(RedisTemplate<String, String> redisTemplate, ObjectMapper redisObjectMapper,
+		CartService cartService, MenuCatalogCache menuCatalogCache, OrdersRepository ordersRepository,
+		SecurityUtil securityUtil,
+		@Value("${order.intake.mode:sync}") String mode,
+		@Value("${order.intake.stream:order-intake}") String streamKey,
+		@Value("${order.intake.status-ttl:1h}") Duration statusTtl) {
+		this(redisTemplate, redisObjectMapper, cartService, menuCatalogCache, ordersRepository, securityUtil,
+			Clock.systemUTC(), "stream".equalsIgnoreCase(mode), streamKey, statusTtl);
+	}
+
+	public OrderIntakeService(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+		CartService cartService, MenuCatalogCache menuCatalogCache, OrdersRepository ordersRepository,
+		SecurityUtil securityUtil, Clock clock, boolean enabled, String streamKey, Duration statusTtl) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.cartService = cartService;
+		this.menuCatalogCache = menuCatalogCache;
+		this.ordersRepository = ordersRepository;
+		this.securityUtil = securityUtil;
+		this.clock = clock;
+		this.enabled = enabled;
+		this.streamKey = streamKey;
+		this.statusTtl = statusTtl;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 장바구니를 검증하고 접수 스트림에 기록한다. DB 에는 접근하지 않는다.
+	 * 메뉴/매장 정보는 {@link MenuCatalogCache} 에서 읽으므로 최대 catalog.cache.ttl 만큼 이전 값일 수 있고,
+	 * 그사이 바뀐 가격이나 판매 여부는 {@link OrderIntakeWriter} 가 저장 전에 DB 값으로 다시 확인한다.
+	 * @return 발급한 주문 ID
+	 */
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public UUID submit(CreateOrderRequest request) {
+		Long userId = securityUtil.getCurrentUserId();
+
+		List<RedisCartItem> cartItems = cartService.getCartFromCache();
+		if (cartItems.isEmpty()) {
+			throw new GeneralException(ErrorStatus.CART_NOT_FOUND);
+		}
+		UUID storeId = cartItems.get(0).getStoreId();
+		boolean allSameStore = cartItems.stream().allMatch(item -> item.getStoreId().equals(storeId));
+		if (!allSameStore) {
+			throw new GeneralException(OrderErrorStatus.ORDER_DIFFERENT_STORE);
+		}
+
+		StoreInfo store = menuCatalogCache.getStore(storeId);
+		if (store.isDeleted()) {
+			throw new GeneralException(ErrorStatus.STORE_NOT_FOUND);
+		}
+
+		Map<UUID, MenuInfo> menus = menuCatalogCache.getMenus(
+			cartItems.stream().map(RedisCartItem::getMenuId).toList());
+		List<OrderIntakeCommand.Item> items = new ArrayList<>(cartItems.size());
+		long calculatedTotalPrice = 0L;
+		for (RedisCartItem cartItem : cartItems) {
+			MenuInfo menu = menus.get(cartItem.getMenuId());
+			if (menu == null || !menu.isOrderable()) {
+				throw new GeneralException(ErrorStatus.MENU_NOT_FOUND);
+			}
+			if (!storeId.equals(menu.getStoreId())) {
+				throw new GeneralException(OrderErrorStatus.ORDER_DIFFERENT_STORE);
+			}
+			items.add(new OrderIntakeCommand.Item(menu.getMenuId(), menu.getName(), menu.getPrice(),
+				cartItem.getQuantity()));
+			calculatedTotalPrice += menu.getPrice() * cartItem.getQuantity();
+		}
+
+		if (request.getTotalPrice() != calculatedTotalPrice) {
+			throw new GeneralException(OrderErrorStatus.ORDER_PRICE_MISMATCH);
+		}
+
+		OrderIntakeCommand command = OrderIntakeCommand.builder()
+			.orderId(ID_GENERATOR.generate())
+			.userId(userId)
+			.storeId(storeId)
+			.paymentMethod(request.getPaymentMethod())
+			.orderChannel(request.getOrderChannel())
+			.receiptMethod(request.getReceiptMethod())
+			.requestMessage(request.getRequestMessage())
+			.totalPrice(request.getTotalPrice())
+			.deliveryAddress(request.getDeliveryAddress())
+			.acceptedAtMillis(clock.millis())
+			.items(items)
+			.build();
+
+		redisTemplate.execute(SUBMIT_SCRIPT, List.of(streamKey, statusKey(command.getOrderId())),
+			command.getOrderId().toString(), serialize(command), String.valueOf(userId),
+			String.valueOf(statusTtl.toSeconds()));
+		return command.getOrderId();
+	}
+
+	/**
+	 * 접수 상태를 조회한다. 상태 보관 시간이 지난 주문은 저장 여부로 판단한다.
+	 * 다른 사용자의 주문은 상태 보관 여부와 관계없이 존재 여부도 알려주지 않는다.
+	 */
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public OrderIntakeStatusResponse getStatus(UUID orderId) {
+		Long userId = securityUtil.getCurrentUserId();
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(statusKey(orderId));
+		if (!entries.isEmpty()) {
+			if (!String.valueOf(userId).equals(entries.get("userId"))) {
+				throw new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
+			}
+			return new OrderIntakeStatusResponse(orderId, Status.valueOf((String)entries.get("status")));
+		}
+		if (ordersRepository.existsByOrdersIdAndUser_UserId(orderId, userId)) {
+			return new OrderIntakeStatusResponse(orderId, Status.PERSISTED);
+		}
+		throw new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
+	}
+
+	/**
+	 * 소비자 그룹을 만든다. 스트림이 없으면 함께 만들고, 이미 있으면 그대로 둔다.
+	 */
+	public void createGroup() {
+		try {
+			redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), CONSUMER_GROUP);
+		} catch (RedisSystemException e) {
+			if (e.getMostSpecificCause().getMessage() == null
+				|| !e.getMostSpecificCause().getMessage().contains("BUSYGROUP")) {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * 아직 어느 소비자에게도 배정되지 않은 항목을 최대 count 개 읽는다. 없으면 block 동안 기다린다.
+	 */
+	public List<Delivery> readNew(String consumer, int count, Duration block) {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+			Consumer.from(CONSUMER_GROUP, consumer),
+			StreamReadOptions.empty().count(count).block(block),
+			StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+		if (records == null || records.isEmpty()) {
+			return List.of();
+		}
+		List<Delivery> deliveries = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			deliveries.add(toDelivery(record, 1L));
+		}
+		return deliveries;
+	}
+
+	/**
+	 * minIdle 이상 확인되지 않은 항목(소비자 장애, 저장 실패 등)을 최대 count 개 가져온다.
+	 * 유휴 시간 조건은 XPENDING IDLE 로 서버에서 걸러, 앞쪽의 처리 중인 항목에 가려 오래된 항목을 놓치지 않는다.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Delivery> claimStale(String consumer, Duration minIdle, int count) {
+		List<String> stale = redisTemplate.execute(FIND_STALE_SCRIPT, List.of(streamKey), CONSUMER_GROUP,
+			String.valueOf(minIdle.toMillis()), String.valueOf(count));
+		Map<RecordId, Long> deliveryCounts = new HashMap<>();
+		if (stale != null) {
+			for (int i = 0; i + 1 < stale.size(); i += 2) {
+				deliveryCounts.put(RecordId.of(stale.get(i)), Long.parseLong(stale.get(i + 1)));
+			}
+		}
+		if (deliveryCounts.isEmpty()) {
+			return List.of();
+		}
+
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().claim(streamKey,
+			CONSUMER_GROUP, consumer, minIdle, deliveryCounts.keySet().toArray(RecordId[]::new));
+		List<Delivery> deliveries = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			// XCLAIM 이 전달 횟수를 하나 올린다.
+			deliveries.add(toDelivery(record, deliveryCounts.getOrDefault(record.getId(), 0L) + 1));
+		}
+		return deliveries;
+	}
+
+	/**
+	 * 처리한 항목을 확인하고 스트림에서 지운 뒤 접수 상태를 status 로 바꾼다.
+	 */
+	public void complete(List<Delivery> deliveries, Status status) {
+		if (deliveries.isEmpty()) {
+			return;
+		}
+		List<String> keys = new ArrayList<>(deliveries.size() + 1);
+		List<String> args = new ArrayList<>(deliveries.size() + 3);
+		keys.add(streamKey);
+		args.add(CONSUMER_GROUP);
+		args.add(status.name());
+		args.add(String.valueOf(statusTtl.toSeconds()));
+		for (Delivery delivery : deliveries) {
+			keys.add(statusKey(delivery.orderId()));
+			args.add(delivery.messageId().getValue());
+		}
+		redisTemplate.execute(COMPLETE_SCRIPT, keys, args.toArray());
+	}
+
+	/**
+	 * 저장을 기다리는 접수 항목 수 (처리 중인 항목 포함)
+	 */
+	public long countBacklog() {
+		Long size = redisTemplate.opsForStream().size(streamKey);
+		return size == null ? 0L : size;
+	}
+
+	private Delivery toDelivery(MapRecord<String, Object, Object> record, long deliveryCount) {
+		UUID orderId = UUID.fromString((String)record.getValue().get("orderId"));
+		OrderIntakeCommand command = null;
+		try {
+			command = objectMapper.readValue((String)record.getValue().get("payload"), OrderIntakeCommand.class);
+		} catch (JsonProcessingException e) {
+			log.error("접수 주문을 해석하지 못했습니다. - 주문 ID: {}", orderId, e);
+		}
+		return new Delivery(record.getId(), orderId, command, deliveryCount);
+	}
+
+	private String serialize(OrderIntakeCommand command) {
+		try {
+			return objectMapper.writeValueAsString(command);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("접수 주문 직렬화 실패", e);
+		}
+	}
+
+	private static String statusKey(UUID orderId) {
+		return STATUS_KEY_PREFIX + orderId;
+	}
+}
@@ -0,0 +1,160 @@
+package app.domain.order.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.dto.OrderIntakeCommand;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.StoreRepository;
+import app.domain.user.model.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 접수된 주문 묶음을 한 트랜잭션으로 저장한다.
+ * 같은 항목이 다시 전달돼도(확인 전 장애 등) 이미 저장된 주문 ID 는 건너뛰므로 중복 저장되지 않는다.
+ * 새로 저장한 주문마다 주문 생성 이벤트를 같은 트랜잭션에 기록하고, 환불 기간 일정은 OutboxRelay 가 접수 시각 기준으로 잡는다.
+ * 접수 때 검증한 메뉴/매장 정보는 노드별 캐시 값이므로, 저장 전에 DB 의 가격과 판매 여부로 다시 확인하고
+ * 맞지 않는 주문은 저장하지 않고 거절한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeWriter {
+
+	private final OrdersRepository ordersRepository;
+	private final OrderItemRepository orderItemRepository;
+	private final OrderStatusEventRepository orderStatusEventRepository;
+	private final UserRepository userRepository;
+	private final StoreRepository storeRepository;
+	private final MenuRepository menuRepository;
+	private final EntityManager entityManager;
+	private final OrderFeedService orderFeedService;
+	private final OrderEventOutbox orderEventOutbox;
+
+	/**
+	 * @param persisted 이번에 새로 저장한 주문 ID 목록
+	 * @param rejected 가격이나 판매 여부가 접수 때와 달라 저장하지 않은 주문 ID 목록
+	 */
+	public record Result(List<UUID> persisted, List<UUID> rejected) {
+	}
+
+	@Transactional
+	public Result persist(List<OrderIntakeCommand> commands) {
+		if (commands.isEmpty()) {
+			return new Result(List.of(), List.of());
+		}
+		Set<UUID> existingIds = new HashSet<>(ordersRepository.findExistingIds(
+			commands.stream().map(OrderIntakeCommand::getOrderId).toList()));
+		Map<UUID, Store> stores = new HashMap<>();
+		for (Store store : storeRepository.findAllById(
+			commands.stream().map(OrderIntakeCommand::getStoreId).distinct().toList())) {
+			stores.put(store.getStoreId(), store);
+		}
+		Map<UUID, Menu> menus = new HashMap<>();
+		for (Menu menu : menuRepository.findAllById(commands.stream()
+			.flatMap(command -> command.getItems().stream())
+			.map(OrderIntakeCommand.Item::getMenuId)
+			.distinct()
+			.toList())) {
+			menus.put(menu.getMenuId(), menu);
+		}
+
+		List<UUID> persistedIds = new ArrayList<>(commands.size());
+		List<UUID> rejectedIds = new ArrayList<>();
+		List<OrderItem> orderItems = new ArrayList<>();
+		List<OrderStatusEvent> events = new ArrayList<>(commands.size());
+		for (OrderIntakeCommand command : commands) {
+			if (!existingIds.add(command.getOrderId())) {
+				continue;
+			}
+			if (!matchesCatalog(command, stores, menus)) {
+				log.warn("접수 후 메뉴 가격이나 판매 여부가 바뀌어 주문을 저장하지 않습니다. - 주문 ID: {}",
+					command.getOrderId());
+				rejectedIds.add(command.getOrderId());
+				continue;
+			}
+			Orders order = Orders.builder()
+				.ordersId(command.getOrderId())
+				.user(userRepository.getReferenceById(command.getUserId()))
+				.store(storeRepository.getReferenceById(command.getStoreId()))
+				.paymentMethod(command.getPaymentMethod())
+				.orderChannel(command.getOrderChannel())
+				.receiptMethod(command.getReceiptMethod())
+				.requestMessage(command.getRequestMessage())
+				.totalPrice(command.getTotalPrice())
+				.orderStatus(OrderStatus.PENDING)
+				.deliveryAddress(command.getDeliveryAddress())
+				.isRefundable(true)
+				.build();
+			// 식별자가 이미 정해져 있으므로 save(merge) 대신 persist 로 조회 없이 삽입한다.
+			entityManager.persist(order);
+
+			for (OrderIntakeCommand.Item item : command.getItems()) {
+				orderItems.add(OrderItem.builder()
+					.orders(order)
+					.menuName(item.getMenuName())
+					.price(item.getPrice())
+					.quantity(item.getQuantity())
+					.build());
+			}
+			events.add(OrderStatusEvent.builder()
+				.ordersId(command.getOrderId())
+				.orderStatus(OrderStatus.PENDING)
+				.occurredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(command.getAcceptedAtMillis()),
+					ZoneId.systemDefault()))
+				.build());
+			orderFeedService.publish(OrderFeedEvent.of(order));
+			orderEventOutbox.created(command.getOrderId(), command.getStoreId(), command.getUserId(),
+				command.getAcceptedAtMillis());
+			persistedIds.add(command.getOrderId());
+		}
+		orderItemRepository.saveAll(orderItems);
+		orderStatusEventRepository.saveAll(events);
+		return new Result(persistedIds, rejectedIds);
+	}
+
+	/**
+	 * 매장이 영업 중이고, 모든 메뉴가 그 매장에서 접수 때 가격 그대로 판매 중이며, 총액이 맞는지 확인한다.
+	 */
+	private static boolean matchesCatalog(OrderIntakeCommand command, Map<UUID, Store> stores, Map<UUID, Menu> menus) {
+		Store store = stores.get(command.getStoreId());
+		if (store == null || store.isDeleted() || command.getItems().isEmpty()) {
+			return false;
+		}
+		long totalPrice = 0L;
+		for (OrderIntakeCommand.Item item : command.getItems()) {
+			Menu menu = menus.get(item.getMenuId());
+			if (menu == null || menu.getDeletedAt() != null || menu.isHidden()
+				|| !Objects.equals(menu.getStore().getStoreId(), command.getStoreId())
+				|| menu.getPrice() != item.getPrice()) {
+				return false;
+			}
+			totalPrice += item.getPrice() * item.getQuantity();
+		}
+		return totalPrice == command.getTotalPrice();
+	}
+}
@@ -1,10 +1,12 @@
 package app.domain.order.service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,27 +15,26 @@ import java.util.UUID;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.service.CartService;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.model.dto.OrderFeedEvent;
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
 import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.OrderStatusEvent;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.status.OrderErrorStatus;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.user.model.entity.User;
-import app.domain.user.model.entity.enums.UserRole;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -49,9 +50,10 @@ public class OrderService {
 	private final CartService cartService;
 	private final StoreRepository storeRepository;
 	private final MenuRepository menuRepository;
-	private final OrderDelayService orderDelayService;
+	private final OrderEventOutbox orderEventOutbox;
 	private final SecurityUtil securityUtil;
-	private final ObjectMapper objectMapper;
+	private final OrderStatusEventRepository orderStatusEventRepository;
+	private final OrderFeedService orderFeedService;
 
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	@Transactional
@@ -71,12 +73,17 @@ public class OrderService {
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.STORE_NOT_FOUND));
 
+		List<UUID> menuIds = cartItems.stream().map(RedisCartItem::getMenuId).toList();
 		Map<UUID, Menu> menuMap = new HashMap<>();
-		for (RedisCartItem cartItem : cartItems) {
-			Menu menu = menuRepository.findById(cartItem.getMenuId())
-				.orElseThrow(
-					() -> new GeneralException(ErrorStatus.MENU_NOT_FOUND));
-			menuMap.put(cartItem.getMenuId(), menu);
+		for (Menu menu : menuRepository.findAllById(menuIds)) {
+			// 지연 로딩 프록시에서도 식별자는 추가 조회 없이 읽힌다.
+			if (!menu.getStore().getStoreId().equals(storeId)) {
+				throw new GeneralException(OrderErrorStatus.ORDER_DIFFERENT_STORE);
+			}
+			menuMap.put(menu.getMenuId(), menu);
+		}
+		if (!menuMap.keySet().containsAll(menuIds)) {
+			throw new GeneralException(ErrorStatus.MENU_NOT_FOUND);
 		}
 
 		long calculatedTotalPrice = cartItems.stream()
@@ -97,26 +104,29 @@ public class OrderService {
 			.totalPrice(request.getTotalPrice())
 			.orderStatus(OrderStatus.PENDING)
 			.deliveryAddress(request.getDeliveryAddress())
-			.orderHistory(
-				"pending:" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
 			.isRefundable(true)
 			.build();
 
 		Orders savedOrder = ordersRepository.save(order);
+		orderStatusEventRepository.save(OrderStatusEvent.of(savedOrder.getOrdersId(), OrderStatus.PENDING));
 
+		List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
 		for (RedisCartItem cartItem : cartItems) {
 			Menu menu = menuMap.get(cartItem.getMenuId());
 
-			OrderItem orderItem = OrderItem.builder()
+			orderItems.add(OrderItem.builder()
 				.orders(savedOrder)
 				.menuName(menu.getName())
 				.price(menu.getPrice())
 				.quantity(cartItem.getQuantity())
-				.build();
-			orderItemRepository.save(orderItem);
+				.build());
 		}
+		// 식별자를 애플리케이션에서 생성하므로 flush 시점에 하나의 JDBC 배치로 삽입된다. (hibernate.jdbc.batch_size)
+		orderItemRepository.saveAll(orderItems);
 
-		orderDelayService.scheduleRefundDisable(savedOrder.getOrdersId());
+		// 환불 기간 일정 등록과 주문 이벤트 발행은 커밋 후 OutboxRelay 가 처리한다.
+		orderEventOutbox.created(savedOrder.getOrdersId(), storeId, user.getUserId(), System.currentTimeMillis());
+		orderFeedService.publish(OrderFeedEvent.of(savedOrder));
 
 		return savedOrder.getOrdersId();
 	}
@@ -131,6 +141,21 @@ public class OrderService {
 		return OrderDetailResponse.from(order, orderItems);
 	}
 
+	/**
+	 * (orders_id, occurred_at) 인덱스 범위 조회 한 번으로 상태 이력을 읽는다.
+	 * 이력이 없을 때만 주문 존재 여부를 확인한다.
+	 */
+	@PreAuthorize("hasAnyAuthority('CUSTOMER','OWNER','MANAGER','MASTER')")
+	public List<OrderStatusHistoryResponse> getOrderHistory(UUID orderId) {
+		List<OrderStatusEvent> events = orderStatusEventRepository.findByOrdersIdOrderByOccurredAtAscEventIdAsc(orderId);
+		if (events.isEmpty() && !ordersRepository.existsById(orderId)) {
+			throw new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
+		}
+		return events.stream()
+			.map(OrderStatusHistoryResponse::from)
+			.toList();
+	}
+
 	private static final Map<OrderStatus, Set<OrderStatus>> VALID_TRANSITIONS = Map.of(
 		OrderStatus.PENDING, EnumSet.of(OrderStatus.ACCEPTED, OrderStatus.REJECTED, OrderStatus.REFUNDED),
 		OrderStatus.ACCEPTED, EnumSet.of(OrderStatus.COOKING),
@@ -138,66 +163,86 @@ public class OrderService {
 		OrderStatus.IN_DELIVERY, EnumSet.of(OrderStatus.COMPLETED)
 	);
 
+	// 전이 대상 상태 -> 그 상태로 바뀔 수 있는 현재 상태
+	private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED_SOURCES = invert(VALID_TRANSITIONS);
+
 	@Transactional
 	@PreAuthorize("hasAnyAuthority('OWNER','MANAGER','MASTER')")
 	public UpdateOrderStatusResponse updateOrderStatus(UUID orderId, OrderStatus newStatus) {
-		User currentUser = securityUtil.getCurrentUser();
-
-		Orders order = ordersRepository.findById(orderId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
-
-		validateOrderStatusUpdate(currentUser, order, newStatus);
-
-		String updatedHistory = appendToHistory(order.getOrderHistory(), newStatus);
-		order.updateStatusAndHistory(newStatus, updatedHistory);
-
-		return UpdateOrderStatusResponse.from(order);
+		return updateOrderStatus(orderId, null, newStatus);
 	}
 
-	private void validateOrderStatusUpdate(User user, Orders order, OrderStatus newStatus) {
-		UserRole role = user.getUserRole();
-
-		switch (role) {
-			case OWNER, MANAGER, MASTER -> validateOwnerUpdate(user, order, newStatus);
-			default -> throw new GeneralException(OrderErrorStatus.ORDER_ACCESS_DENIED);
+	/**
+	 * 현재 상태가 expectedStatus(없으면 newStatus 로 전이할 수 있는 상태 중 하나)이고 요청자가 매장 점주일 때만
+	 * 조건부 UPDATE 한 번으로 상태를 바꾼다. 바뀐 행이 없을 때만 주문을 읽어 실패 원인을 구분한다.
+	 */
+	@Transactional
+	@PreAuthorize("hasAnyAuthority('OWNER','MANAGER','MASTER')")
+	public UpdateOrderStatusResponse updateOrderStatus(UUID orderId, OrderStatus expectedStatus, OrderStatus newStatus) {
+		Set<OrderStatus> fromStatuses = ALLOWED_SOURCES.getOrDefault(newStatus, EnumSet.noneOf(OrderStatus.class));
+		if (expectedStatus != null) {
+			if (!fromStatuses.contains(expectedStatus)) {
+				throw new GeneralException(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
+			}
+			fromStatuses = EnumSet.of(expectedStatus);
+		}
+		if (fromStatuses.isEmpty()) {
+			throw new GeneralException(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
 		}
-	}
 
-	private void validateOwnerUpdate(User owner, Orders order, OrderStatus newStatus) {
-		if (!order.getStore().getUser().getUserId().equals(owner.getUserId())) {
-			throw new GeneralException(OrderErrorStatus.ORDER_ACCESS_DENIED);
+		Long userId = securityUtil.getCurrentUserId();
+		int updated = ordersRepository.transitionStatus(orderId, userId, fromStatuses, newStatus, LocalDateTime.now());
+		if (updated == 0) {
+			throw transitionFailure(orderId, userId, expectedStatus, newStatus);
 		}
+		orderStatusEventRepository.save(OrderStatusEvent.of(orderId, newStatus));
+		ordersRepository.findFeedKey(orderId).ifPresent(key -> {
+			orderFeedService.publish(OrderFeedEvent.statusChanged(key.getStoreId(), orderId, key.getUserId(), newStatus));
+			orderEventOutbox.statusChanged(orderId, key.getStoreId(), key.getUserId(), newStatus);
+		});
 
-		Set<OrderStatus> allowedTransitions = VALID_TRANSITIONS.getOrDefault(order.getOrderStatus(),
-			EnumSet.noneOf(OrderStatus.class));
+		return new UpdateOrderStatusResponse(orderId, newStatus);
+	}
 
-		if (!allowedTransitions.contains(newStatus)) {
-			throw new GeneralException(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
+	private GeneralException transitionFailure(UUID orderId, Long userId, OrderStatus expectedStatus,
+		OrderStatus newStatus) {
+		OrdersRepository.StatusSnapshot snapshot = ordersRepository.findStatusSnapshot(orderId).orElse(null);
+		if (snapshot == null) {
+			return new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
+		}
+		if (!snapshot.getOwnerId().equals(userId)) {
+			return new GeneralException(OrderErrorStatus.ORDER_ACCESS_DENIED);
 		}
+		// 요청 시점에는 유효했던 전이가 다른 요청에 밀린 경우는 충돌, 처음부터 불가능한 전이는 잘못된 요청이다.
+		if (expectedStatus != null || isPassedBy(snapshot.getOrderStatus(), newStatus)) {
+			return new GeneralException(OrderErrorStatus.ORDER_STATUS_CONFLICT);
+		}
+		return new GeneralException(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
 	}
 
-	private String appendToHistory(String currentHistoryJson, OrderStatus newStatus) {
-		TypeReference<Map<String, String>> typeRef = new TypeReference<>() {
-		};
-
-		Map<String, String> historyMap;
-		if (currentHistoryJson == null || currentHistoryJson.isBlank() || currentHistoryJson.equals("{}")) {
-			historyMap = new LinkedHashMap<>();
-		} else {
-			try {
-				historyMap = objectMapper.readValue(currentHistoryJson, typeRef);
-			} catch (JsonProcessingException e) {
-				throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+	/**
+	 * 주문이 newStatus 로 전이할 수 있던 상태를 이미 지나 current 에 도달했는지 확인한다.
+	 */
+	private boolean isPassedBy(OrderStatus current, OrderStatus newStatus) {
+		Set<OrderStatus> visited = EnumSet.noneOf(OrderStatus.class);
+		Deque<OrderStatus> queue = new ArrayDeque<>(ALLOWED_SOURCES.getOrDefault(newStatus, Set.of()));
+		while (!queue.isEmpty()) {
+			OrderStatus status = queue.poll();
+			if (!visited.add(status)) {
+				continue;
+			}
+			if (VALID_TRANSITIONS.getOrDefault(status, Set.of()).contains(current)) {
+				return true;
 			}
+			queue.addAll(VALID_TRANSITIONS.getOrDefault(status, Set.of()));
 		}
+		return false;
+	}
 
-		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-		historyMap.put(newStatus.name(), timestamp);
-
-		try {
-			return objectMapper.writeValueAsString(historyMap);
-		} catch (JsonProcessingException e) {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
+	private static Map<OrderStatus, Set<OrderStatus>> invert(Map<OrderStatus, Set<OrderStatus>> transitions) {
+		Map<OrderStatus, Set<OrderStatus>> sources = new EnumMap<>(OrderStatus.class);
+		transitions.forEach((from, targets) -> targets.forEach(
+			to -> sources.computeIfAbsent(to, key -> EnumSet.noneOf(OrderStatus.class)).add(from)));
+		return sources;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package app.domain.order.service;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import app.domain.order.OrderFeedBroker;
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.status.OrderErrorStatus;
+import app.global.SecurityUtil;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 고객의 주문 상태 추적. 주문 상세를 반복 조회하는 대신 상태가 바뀔 때만 받는다.
+ * 현재 상태는 피드 발행 시 갱신되는 Redis 의 주문별 최신 상태에서 읽고, 없을 때만 DB 를 한 번 조회해 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderTrackingService {
+
+	private final OrderFeedService orderFeedService;
+	private final OrderFeedBroker orderFeedBroker;
+	private final OrdersRepository ordersRepository;
+	private final SecurityUtil securityUtil;
+
+	public SseEmitter subscribeOrderStatus(UUID orderId) {
+		Long userId = securityUtil.getCurrentUserId();
+		OrderFeedEvent current = loadStatus(orderId);
+		if (!userId.equals(current.getUserId())) {
+			throw new GeneralException(OrderErrorStatus.ORDER_ACCESS_DENIED);
+		}
+		return orderFeedBroker.subscribeOrder(orderId, () -> loadStatus(orderId));
+	}
+
+	private OrderFeedEvent loadStatus(UUID orderId) {
+		return orderFeedService.findStatus(orderId).orElseGet(() -> {
+			OrdersRepository.FeedKey key = ordersRepository.findFeedKey(orderId)
+				.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+			return orderFeedService.cacheStatus(
+				OrderFeedEvent.statusChanged(key.getStoreId(), orderId, key.getUserId(), key.getOrderStatus()));
+		});
+	}
+}
@@ -1,14 +1,13 @@
 package app.domain.order.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import app.domain.order.model.entity.Orders;
 import app.domain.order.model.repository.OrdersRepository;
-import app.global.apiPayload.code.status.ErrorStatus;
-import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,11 +18,14 @@ public class RefundUpdateService {
 
 	private final OrdersRepository ordersRepository;
 
+	/**
+	 * @return 실제로 환불 불가로 바뀐 주문 수
+	 */
 	@Transactional
-	public void updateRefundableStatus(UUID orderId) {
-		Orders order = ordersRepository.findById(orderId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
-		order.disableRefund();
-		ordersRepository.save(order);
+	public int disableRefunds(Collection<UUID> orderIds) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		return ordersRepository.disableRefunds(orderIds, LocalDateTime.now());
 	}
-}
\ No newline at end of file
+}
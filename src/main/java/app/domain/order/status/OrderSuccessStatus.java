@@ -13,7 +13,10 @@ public enum OrderSuccessStatus implements BaseCode {
 
 	ORDER_STATUS_UPDATED(HttpStatus.OK, "ORDER201", "주문 상태 전이에 성공하였습니다."),
 	ORDER_DETAIL_FETCHED(HttpStatus.OK, "ORDER202", "주문 상세 조회에 성공하였습니다."),
-	ORDER_CREATED(HttpStatus.OK, "ORDER203", "주문 생성에 성공하였습니다.");
+	ORDER_CREATED(HttpStatus.OK, "ORDER203", "주문 생성에 성공하였습니다."),
+	ORDER_HISTORY_FETCHED(HttpStatus.OK, "ORDER204", "주문 상태 이력 조회에 성공하였습니다."),
+	ORDER_ACCEPTED(HttpStatus.ACCEPTED, "ORDER205", "주문이 접수되었습니다. 저장이 끝나면 주문 상태가 반영됩니다."),
+	ORDER_INTAKE_STATUS_FETCHED(HttpStatus.OK, "ORDER206", "주문 접수 상태 조회에 성공하였습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
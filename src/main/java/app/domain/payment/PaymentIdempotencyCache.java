@@ -0,0 +1,190 @@
+package app.domain.payment;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 승인/취소 요청의 멱등 키별 처리 상태와 최종 결과를 Redis hash 에 보관한다.
+ * 처음 들어온 요청만 처리하고, 처리 중에 들어온 같은 요청은 결과가 저장될 때까지 기다렸다가 그 결과를 받는다.
+ * 결과가 저장된 뒤의 재시도는 DB 와 대행사를 거치지 않고 저장된 결과를 그대로 돌려받는다.
+ * 시간 초과처럼 결과가 확정되지 않은 실패는 저장하지 않고 처리 중 표시만 지워, 재시도가 다시 처리되도록 한다.
+ * Redis 에 접근할 수 없으면 멱등 처리 없이 진행한다. 이때도 주문별 결제 유일 제약이 중복 승인을 막는다.
+ */
+@Slf4j
+@Component
+public class PaymentIdempotencyCache {
+
+	public enum Operation {
+		CONFIRM, CANCEL
+	}
+
+	// 같은 요청을 다시 보내도 결과가 바뀌지 않는 실패만 저장해 재사용한다.
+	// 금액 불일치는 요청 값의 오류라 저장하지 않고, 고친 요청이 다시 처리되도록 한다.
+	private static final Set<PaymentErrorStatus> FINAL_FAILURES = EnumSet.of(
+		PaymentErrorStatus.PAYMENT_CONFIRM_FAILED,
+		PaymentErrorStatus.PAYMENT_NOT_REFUNDABLE);
+	private static final String SUCCESS = "SUCCESS";
+	private static final String FAILURE = "FAILURE";
+	private static final RedisScript<List> BEGIN_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/payment/begin_idempotent.lua"), List.class);
+	private static final RedisScript<Long> FINISH_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/payment/finish_idempotent.lua"), Long.class);
+	private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+		new ClassPathResource("redis/payment/release_idempotent.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final String keyPrefix;
+	private final Duration lockTtl;
+	private final Duration replayTtl;
+	private final Duration waitTimeout;
+	private final Duration pollInterval;
+
+	public PaymentIdempotencyCache(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+		@Value("${payment.idempotency.key-prefix:payment:idempotency}") String keyPrefix,
+		@Value("${payment.idempotency.lock-ttl:30s}") Duration lockTtl,
+		@Value("${payment.idempotency.replay-ttl:24h}") Duration replayTtl,
+		@Value("${payment.idempotency.wait-timeout:10s}") Duration waitTimeout,
+		@Value("${payment.idempotency.poll-interval:50ms}") Duration pollInterval) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.keyPrefix = keyPrefix;
+		this.lockTtl = lockTtl;
+		this.replayTtl = replayTtl;
+		this.waitTimeout = waitTimeout;
+		this.pollInterval = pollInterval;
+	}
+
+	/**
+	 * 멱등 키로 한 번만 처리한다.
+	 * @param action 처음 들어온 요청일 때 실행할 처리. 반환값이 저장된 결과가 된다
+	 * @return 이번에 처리한 결과 또는 저장된 결과
+	 * @throws GeneralException 같은 요청이 wait-timeout 안에 끝나지 않으면 PAYMENT_IN_PROGRESS.
+	 *                          저장된 결과가 실패면 그 실패를 다시 던진다
+	 */
+	public String execute(Operation operation, String idempotencyKey, Supplier<String> action) {
+		String key = keyPrefix + ":" + operation.name().toLowerCase(Locale.ROOT) + ":" + idempotencyKey;
+		String token = UUID.randomUUID().toString();
+		long deadline = System.nanoTime() + waitTimeout.toNanos();
+		boolean waited = false;
+		while (true) {
+			List<String> state;
+			try {
+				state = begin(key, token);
+			} catch (Exception e) {
+				log.warn("결제 멱등 상태를 확인하지 못해 그대로 처리합니다. - 작업: {}", operation, e);
+				count(operation, "bypassed");
+				return action.get();
+			}
+
+			switch (state.get(0)) {
+				case "ACQUIRED" -> {
+					count(operation, waited ? "executed_after_wait" : "executed");
+					return run(operation, key, token, action);
+				}
+				case "DONE" -> {
+					count(operation, waited ? "replayed_after_wait" : "replayed");
+					return replay(state);
+				}
+				default -> {
+					if (System.nanoTime() >= deadline) {
+						count(operation, "in_progress");
+						throw new GeneralException(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+					}
+					waited = true;
+					sleep();
+				}
+			}
+		}
+	}
+
+	private String run(Operation operation, String key, String token, Supplier<String> action) {
+		String result;
+		try {
+			result = action.get();
+		} catch (GeneralException e) {
+			if (e.getCode() instanceof PaymentErrorStatus status && FINAL_FAILURES.contains(status)) {
+				finish(operation, key, token, FAILURE, status.name());
+			} else {
+				release(operation, key, token);
+			}
+			throw e;
+		} catch (RuntimeException e) {
+			release(operation, key, token);
+			throw e;
+		}
+		finish(operation, key, token, SUCCESS, result);
+		return result;
+	}
+
+	private static String replay(List<String> state) {
+		if (FAILURE.equals(state.get(1))) {
+			throw new GeneralException(PaymentErrorStatus.valueOf(state.get(2)));
+		}
+		return state.get(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> begin(String key, String token) {
+		List<String> state = redisTemplate.execute(BEGIN_SCRIPT, List.of(key), token,
+			String.valueOf(lockTtl.toMillis()));
+		if (state == null || state.isEmpty()) {
+			throw new IllegalStateException("멱등 상태 스크립트가 결과를 돌려주지 않았습니다.");
+		}
+		return state;
+	}
+
+	// 결과 저장에 실패해도 응답은 그대로 돌려준다. 처리 중 표시는 lock-ttl 이 지나면 사라진다.
+	private void finish(Operation operation, String key, String token, String outcome, String response) {
+		try {
+			Long stored = redisTemplate.execute(FINISH_SCRIPT, List.of(key), token, outcome, response,
+				String.valueOf(replayTtl.toMillis()));
+			if (stored == null || stored == 0) {
+				log.warn("결제 멱등 처리 중 표시가 먼저 만료되어 결과를 저장하지 않았습니다. - 작업: {}", operation);
+			}
+		} catch (Exception e) {
+			log.warn("결제 멱등 결과 저장 실패 - 작업: {}", operation, e);
+		}
+	}
+
+	private void release(Operation operation, String key, String token) {
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+		} catch (Exception e) {
+			log.warn("결제 멱등 처리 중 표시 해제 실패 - 작업: {}", operation, e);
+		}
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(pollInterval.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+		}
+	}
+
+	private void count(Operation operation, String result) {
+		Counter.builder("payment.idempotency.requests")
+			.tags("operation", operation.name().toLowerCase(Locale.ROOT), "result", result)
+			.register(meterRegistry)
+			.increment();
+	}
+}
@@ -0,0 +1,93 @@
+package app.domain.payment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import app.domain.payment.gateway.GatewayResponse;
+import app.domain.payment.gateway.TossPaymentsClient;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승인 요청이 시간 초과나 장애로 끝나 PENDING 으로 남은 결제를 대행사에 조회해 확정한다.
+ * 확정은 PaymentWriter.complete 의 조건부 갱신으로 하므로 여러 노드가 동시에 돌거나 승인 응답과 겹쳐도 한 번만 반영된다.
+ */
+@Slf4j
+@Component
+public class PaymentRecoveryScheduler {
+
+	private final PaymentRepository paymentRepository;
+	private final PaymentWriter paymentWriter;
+	private final TossPaymentsClient tossPaymentsClient;
+	private final Duration staleAfter;
+	private final int batchSize;
+
+	public PaymentRecoveryScheduler(PaymentRepository paymentRepository, PaymentWriter paymentWriter,
+		TossPaymentsClient tossPaymentsClient,
+		@Value("${payment.recovery.stale-after:1m}") Duration staleAfter,
+		@Value("${payment.recovery.batch-size:50}") int batchSize) {
+		this.paymentRepository = paymentRepository;
+		this.paymentWriter = paymentWriter;
+		this.tossPaymentsClient = tossPaymentsClient;
+		this.staleAfter = staleAfter;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return 이번에 확정한 결제 수
+	 */
+	@Scheduled(initialDelayString = "${payment.recovery.interval:30s}",
+		fixedDelayString = "${payment.recovery.interval:30s}")
+	public int recover() {
+		List<Payment> stale = paymentRepository.findStalePending(LocalDateTime.now().minus(staleAfter),
+			PageRequest.of(0, batchSize));
+		int resolved = 0;
+		for (Payment payment : stale) {
+			GatewayResponse response;
+			try {
+				response = TossPaymentsClient.await(tossPaymentsClient.lookup(payment.getOrdersId().toString()));
+			} catch (GeneralException e) {
+				log.warn("PENDING 결제 조회 실패 paymentId={} code={}", payment.getPaymentId(), e.getCode());
+				if (e.getCode() == PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE) {
+					break; // 대행사가 막혀 있으면 다음 주기에 다시 본다
+				}
+				continue;
+			}
+			PaymentStatus status = resolve(response);
+			if (status == null) {
+				continue;
+			}
+			if (paymentWriter.complete(payment.getPaymentId(), status, response.body()) == status) {
+				resolved++;
+			}
+		}
+		if (resolved > 0) {
+			log.info("PENDING 결제 {}건 확정", resolved);
+		}
+		return resolved;
+	}
+
+	/**
+	 * 조회 결과로 확정할 상태. 아직 진행 중이거나 알 수 없으면 null 을 돌려 다음 주기에 다시 조회한다.
+	 */
+	private static PaymentStatus resolve(GatewayResponse response) {
+		if (response.status() == 404) {
+			return PaymentStatus.FAILED; // 대행사에 승인 요청이 닿지 않았다
+		}
+		if (!response.isSuccess()) {
+			return null;
+		}
+		return TossPaymentsClient.confirmResultOf(new JSONObject(response.body()).optString("status"));
+	}
+}
@@ -1,33 +1,33 @@
 package app.domain.payment;
 
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.time.LocalDateTime;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.UUID;
 
-import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
-import app.domain.cart.service.CartService;
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.entity.OrderStatusEvent;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusEventRepository;
 import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.payment.PaymentIdempotencyCache.Operation;
+import app.domain.payment.gateway.GatewayResponse;
+import app.domain.payment.gateway.TossPaymentsClient;
 import app.domain.payment.model.dto.request.CancelPaymentRequest;
 import app.domain.payment.model.dto.request.PaymentConfirmRequest;
 import app.domain.payment.model.dto.request.PaymentFailRequest;
 import app.domain.payment.model.entity.Payment;
-import app.domain.payment.model.entity.PaymentEtc;
 import app.domain.payment.model.entity.enums.PaymentStatus;
-import app.domain.payment.model.repository.PaymentEtcRepository;
 import app.domain.payment.model.repository.PaymentRepository;
 import app.domain.payment.status.PaymentErrorStatus;
-import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -38,170 +38,115 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PaymentService {
 
-	@Value("${TOSS_SECRET_KEY}")
-	private String tossSecretKey;
-	@Value("${TOSS_URL}")
-	private String tossUrl;
+	// MessageDigest 는 스레드 안전하지 않으므로 스레드마다 하나씩 만들어 재사용한다
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
 
 	private final OrdersRepository ordersRepository;
+	private final OrderStatusEventRepository orderStatusEventRepository;
+	private final OrderFeedService orderFeedService;
 	private final PaymentRepository paymentRepository;
-	private final PaymentEtcRepository paymentEtcRepository;
-	private final CartService cartService;
 	private final SecurityUtil securityUtil;
+	private final TossPaymentsClient tossPaymentsClient;
+	private final PaymentWriter paymentWriter;
+	private final OrderEventOutbox orderEventOutbox;
+	private final PaymentIdempotencyCache paymentIdempotencyCache;
 
 	public Orders getOrderById(UUID orderId) {
 		return ordersRepository.findById(orderId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
 	}
 
-	private String generateIdempotencyKey(Long userId, String orderId) {
-		try {
-			String input = userId + orderId;
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-			return Base64.getEncoder().encodeToString(hash);
-		} catch (Exception e) {
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+	/**
+	 * @param details 키를 더 좁힐 요청 값. 같은 주문이라도 이 값이 다르면 다른 요청으로 처리된다
+	 */
+	private String generateIdempotencyKey(Long userId, String orderId, String... details) {
+		StringBuilder input = new StringBuilder().append(userId).append(orderId);
+		for (String detail : details) {
+			input.append(':').append(detail);
 		}
+		byte[] hash = SHA_256.get().digest(input.toString().getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(hash);
 	}
 
-	public String callTossConfirmApi(PaymentConfirmRequest request, Long userId) {
-		try {
-			String widgetSecretKey = tossSecretKey;
-			Base64.Encoder encoder = Base64.getEncoder();
-			byte[] encodedBytes = encoder.encode((widgetSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-			String authorizations = "Basic " + new String(encodedBytes);
-			String fullUrl = tossUrl + "/confirm";
-			String idempotencyKey = generateIdempotencyKey(userId, request.getOrderId());
-
-			JSONObject obj = new JSONObject();
-			obj.put("orderId", request.getOrderId());
-			obj.put("amount", request.getAmount());
-			obj.put("paymentKey", request.getPaymentKey());
-
-			URL url = new URL(fullUrl);
-			HttpURLConnection connection = (HttpURLConnection)url.openConnection();
-			connection.setRequestProperty("Authorization", authorizations);
-			connection.setRequestProperty("Content-Type", "application/json");
-			connection.setRequestProperty("Idempotency-Key", idempotencyKey);
-			connection.setRequestMethod("POST");
-			connection.setDoOutput(true);
-
-			OutputStream outputStream = connection.getOutputStream();
-			outputStream.write(obj.toString().getBytes("UTF-8"));
-
-			int code = connection.getResponseCode();
-			boolean isSuccess = code == 200;
-
-			java.io.InputStream responseStream = isSuccess ? connection.getInputStream() : connection.getErrorStream();
-			java.io.BufferedReader reader = new java.io.BufferedReader(
-				new java.io.InputStreamReader(responseStream, StandardCharsets.UTF_8));
-			StringBuilder responseBuilder = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				responseBuilder.append(line);
-			}
-			String responseBody = responseBuilder.toString();
-			return (isSuccess ? "success:" : "fail:") + responseBody;
-		} catch (Exception e) {
-			throw new GeneralException(PaymentErrorStatus.TOSS_API_ERROR);
-		}
+	/**
+	 * 결제 의도 기록, 대행사 승인, 결과 확정을 각각 나눠 진행한다.
+	 * 대행사 응답을 기다리는 동안에는 트랜잭션도 DB 커넥션도 잡고 있지 않다.
+	 * 장바구니 비우기는 결과 확정과 함께 기록한 이벤트로 OutboxRelay 가 처리한다.
+	 * 같은 사용자가 같은 주문을 같은 결제 키와 금액으로 승인하는 요청은 한 번만 처리하고, 재시도에는 처음 결과를 돌려준다.
+	 * 결제 키나 금액이 다른 요청은 저장된 결과를 받지 않고 따로 처리된다.
+	 */
+	@PreAuthorize("hasAuthority('CUSTOMER')")
+	public String confirmPayment(PaymentConfirmRequest request) {
+		String idempotencyKey = generateIdempotencyKey(securityUtil.getCurrentUserId(), request.getOrderId(),
+			request.getPaymentKey(), request.getAmount());
+		return paymentIdempotencyCache.execute(Operation.CONFIRM, idempotencyKey,
+			() -> confirm(request, idempotencyKey));
 	}
 
-	public String callTossCancelApi(String paymentKey, String cancelReason, Long userId, UUID orderId) {
+	private String confirm(PaymentConfirmRequest request, String idempotencyKey) {
+		Payment payment = recordIntent(request);
+
+		GatewayResponse response;
 		try {
-			String widgetSecretKey = tossSecretKey;
-			Base64.Encoder encoder = Base64.getEncoder();
-			byte[] encodedBytes = encoder.encode((widgetSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-			String authorizations = "Basic " + new String(encodedBytes);
-			String idempotencyKey = generateIdempotencyKey(userId, orderId.toString());
-
-			JSONObject obj = new JSONObject();
-			obj.put("cancelReason", cancelReason);
-
-			String cancelUrl = tossUrl + "/" + paymentKey + "/cancel";
-
-			URL url = new URL(cancelUrl);
-			HttpURLConnection connection = (HttpURLConnection)url.openConnection();
-			connection.setRequestProperty("Authorization", authorizations);
-			connection.setRequestProperty("Content-Type", "application/json");
-			connection.setRequestProperty("Idempotency-Key", idempotencyKey);
-			connection.setRequestMethod("POST");
-			connection.setDoOutput(true);
-
-			OutputStream outputStream = connection.getOutputStream();
-			outputStream.write(obj.toString().getBytes("UTF-8"));
-
-			int code = connection.getResponseCode();
-			boolean isSuccess = code == 200;
-
-			java.io.InputStream responseStream = isSuccess ? connection.getInputStream() : connection.getErrorStream();
-			java.io.BufferedReader reader = new java.io.BufferedReader(
-				new java.io.InputStreamReader(responseStream, StandardCharsets.UTF_8));
-			StringBuilder responseBuilder = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				responseBuilder.append(line);
+			response = TossPaymentsClient.await(tossPaymentsClient.confirm(request.getPaymentKey(),
+				request.getOrderId(), request.getAmount(), idempotencyKey));
+		} catch (GeneralException e) {
+			if (e.getCode() == PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE) {
+				paymentWriter.abandon(payment.getPaymentId());
 			}
-			String responseBody = responseBuilder.toString();
-			return (isSuccess ? "success:" : "fail:") + responseBody;
-		} catch (Exception e) {
-			throw new GeneralException(PaymentErrorStatus.TOSS_API_ERROR);
-		}
-	}
-
-	@PreAuthorize("hasAuthority('CUSTOMER')")
-	@Transactional
-	public String confirmPayment(PaymentConfirmRequest request) {
-		User user = securityUtil.getCurrentUser();
-		Orders order = getOrderById(UUID.fromString(request.getOrderId()));
-		long requestAmount = Long.parseLong(request.getAmount());
-		if (order.getTotalPrice() != requestAmount) {
-			throw new GeneralException(PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH);
+			// 시간 초과나 통신 오류는 대행사가 승인했을 수도 있으므로 PENDING 으로 두고 복구 작업이 조회해 확정한다.
+			throw e;
 		}
 
-		String responseWithPrefix = callTossConfirmApi(request, user.getUserId());
-		boolean isSuccess = responseWithPrefix.startsWith("success:");
-		String responseBody = responseWithPrefix.substring(responseWithPrefix.indexOf(":") + 1);
-		PaymentStatus paymentStatus = isSuccess ? PaymentStatus.COMPLETED : PaymentStatus.FAILED;
-
-		Payment payment = Payment.builder()
-			.ordersId(order.getOrdersId())
-			.paymentKey(request.getPaymentKey())
-			.paymentMethod(order.getPaymentMethod())
-			.paymentStatus(paymentStatus)
-			.amount(order.getTotalPrice())
-			.build();
-
-		Payment savedPayment = paymentRepository.save(payment);
-
-		PaymentEtc paymentEtc = PaymentEtc.builder()
-			.payment(savedPayment)
-			.paymentResponse(responseBody)
-			.build();
+		PaymentStatus paymentStatus = paymentWriter.complete(payment.getPaymentId(),
+			response.isSuccess() ? PaymentStatus.COMPLETED : PaymentStatus.FAILED, response.body());
 
-		paymentEtcRepository.save(paymentEtc);
-
-		if (isSuccess) {
-			cartService.clearCartItems();
+		if (paymentStatus == PaymentStatus.COMPLETED) {
 			return "결제 승인이 완료되었습니다. PaymentKey: " + request.getAmount();
 		} else {
 			throw new GeneralException(PaymentErrorStatus.PAYMENT_CONFIRM_FAILED);
 		}
 	}
 
+	private Payment recordIntent(PaymentConfirmRequest request) {
+		try {
+			return paymentWriter.recordIntent(request);
+		} catch (DataIntegrityViolationException e) {
+			// 같은 주문의 승인 요청이 동시에 들어와 다른 요청이 먼저 기록한 경우. 그 결과가 확정되면 다시 시도할 수 있다
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+		}
+	}
+
 	@PreAuthorize("hasAuthority('CUSTOMER')")
 	@Transactional
 	public String failSave(PaymentFailRequest request) {
 		Orders order = getOrderById(UUID.fromString(request.getOrderId()));
 		order.updateOrderStatus(OrderStatus.FAILED);
+		orderStatusEventRepository.save(OrderStatusEvent.of(order.getOrdersId(), OrderStatus.FAILED));
+		orderFeedService.publish(OrderFeedEvent.of(order));
+		orderEventOutbox.statusChanged(order);
 		return "결제 실패 처리가 완료되었습니다.";
 	}
 
+	/**
+	 * 환불 가능 여부를 확인하고 대행사에 취소를 요청한 뒤, 응답을 짧은 트랜잭션으로 반영한다.
+	 * 같은 사용자의 같은 주문 취소 요청은 한 번만 처리하고, 재시도에는 처음 결과를 돌려준다.
+	 */
 	@PreAuthorize("hasAuthority('CUSTOMER')")
-	@Transactional
 	public String cancelPayment(CancelPaymentRequest request) {
-		User user = securityUtil.getCurrentUser();
+		String idempotencyKey = generateIdempotencyKey(securityUtil.getCurrentUserId(),
+			request.getOrderId().toString());
+		return paymentIdempotencyCache.execute(Operation.CANCEL, idempotencyKey,
+			() -> cancel(request, idempotencyKey));
+	}
+
+	private String cancel(CancelPaymentRequest request, String idempotencyKey) {
 		Orders order = getOrderById(request.getOrderId());
 
 		if (!order.isRefundable()) {
@@ -211,28 +156,15 @@ public class PaymentService {
 		Payment payment = paymentRepository.findByOrdersId(request.getOrderId())
 			.orElseThrow(() -> new GeneralException(ErrorStatus.PAYMENT_NOT_FOUND));
 
-		String responseWithPrefix = callTossCancelApi(payment.getPaymentKey(), request.getCancelReason(), user.getUserId(),
-			request.getOrderId());
-		boolean isSuccess = responseWithPrefix.startsWith("success:");
-		String responseBody = responseWithPrefix.substring(responseWithPrefix.indexOf(":") + 1);
-
-		if (isSuccess) {
-			order.updateOrderStatus(OrderStatus.REFUNDED);
-			order.addHistory("cancel", LocalDateTime.now());
-			payment.updatePaymentStatus(PaymentStatus.CANCELLED);
-		}
-
-		PaymentEtc paymentEtc = PaymentEtc.builder()
-			.payment(payment)
-			.paymentResponse(responseBody)
-			.build();
-
-		paymentEtcRepository.save(paymentEtc);
+		GatewayResponse response = TossPaymentsClient.await(tossPaymentsClient.cancel(payment.getPaymentKey(),
+			request.getCancelReason(), idempotencyKey));
+		paymentWriter.recordCancel(order.getOrdersId(), payment.getPaymentId(), response.isSuccess(),
+			response.body());
 
-		if (isSuccess) {
+		if (response.isSuccess()) {
 			return "결제 취소가 완료되었습니다.";
 		} else {
 			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package app.domain.payment;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import app.domain.payment.gateway.TossPaymentsClient;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.global.outbox.OutboxEvent;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 받은 결제 웹훅을 결제와 주문에 반영한다.
+ * 승인 응답이 시간 초과로 끝나 PENDING 으로 남은 결제는 복구 주기를 기다리지 않고 여기서 확정되고,
+ * 대행사에서 직접 취소된 결제는 주문을 환불 상태로 바꾼다.
+ * 반영은 PaymentWriter 의 조건부 갱신으로 하므로 승인/취소 응답과 겹치거나 이벤트가 다시 전달돼도 한 번만 적용된다.
+ */
+@Slf4j
+@Component
+public class PaymentWebhookHandler implements OutboxHandler {
+
+	private final PaymentRepository paymentRepository;
+	private final PaymentWriter paymentWriter;
+	private final MeterRegistry meterRegistry;
+
+	public PaymentWebhookHandler(PaymentRepository paymentRepository, PaymentWriter paymentWriter,
+		MeterRegistry meterRegistry) {
+		this.paymentRepository = paymentRepository;
+		this.paymentWriter = paymentWriter;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Set<OutboxEventType> eventTypes() {
+		return Set.of(OutboxEventType.PAYMENT_WEBHOOK_RECEIVED);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, JsonNode payload) {
+		UUID orderId = UUID.fromString(payload.get("orderId").asText());
+		String paymentKey = payload.path("paymentKey").asText(null);
+		String gatewayStatus = payload.path("status").asText(null);
+		String body = payload.path("body").asText(null);
+
+		Optional<Payment> found = paymentRepository.findByOrdersId(orderId);
+		if (found.isEmpty() || !Objects.equals(found.get().getPaymentKey(), paymentKey)) {
+			// 승인 요청 전에 도착했거나 다른 결제의 웹훅이다. 승인 요청은 응답이나 복구 작업으로 확정된다
+			count("unmatched");
+			log.info("결제와 맞지 않는 웹훅 - 이벤트 ID: {}, 주문 ID: {}", payload.path("eventId").asText(), orderId);
+			return;
+		}
+		Payment payment = found.get();
+
+		PaymentStatus confirmed = TossPaymentsClient.confirmResultOf(gatewayStatus);
+		if (confirmed != null && payment.getPaymentStatus() == PaymentStatus.PENDING) {
+			paymentWriter.complete(payment.getPaymentId(), confirmed, body);
+			count(confirmed == PaymentStatus.COMPLETED ? "completed" : "failed");
+		} else if ("CANCELED".equals(gatewayStatus) && payment.getPaymentStatus() == PaymentStatus.COMPLETED) {
+			paymentWriter.recordCancel(orderId, payment.getPaymentId(), true, body);
+			count("cancelled");
+		} else {
+			count("unchanged"); // 이미 같은 결과가 반영되었거나 반영할 상태가 아니다
+		}
+	}
+
+	private void count(String result) {
+		Counter.builder("payment.webhook.reconciled")
+			.tag("result", result)
+			.register(meterRegistry)
+			.increment();
+	}
+}
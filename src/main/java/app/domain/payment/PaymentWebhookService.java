@@ -0,0 +1,123 @@
+package app.domain.payment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.payment.gateway.PaymentWebhookVerifier;
+import app.domain.payment.model.repository.PaymentWebhookEventRepository;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스페이먼츠 결제 상태 변경 웹훅 수신.
+ * 서명을 확인하고 이벤트 ID 로 중복을 거른 뒤 기록만 하고 바로 응답한다. 대행사 호출이나 결제/주문 갱신은 하지 않는다.
+ * 반영은 같은 트랜잭션에 기록한 아웃박스 이벤트를 {@link PaymentWebhookHandler} 가 OutboxRelay 작업자에서 처리한다.
+ */
+@Slf4j
+@Service
+public class PaymentWebhookService {
+
+	private static final String STATUS_CHANGED = "PAYMENT_STATUS_CHANGED";
+
+	private final PaymentWebhookVerifier paymentWebhookVerifier;
+	private final PaymentWriter paymentWriter;
+	private final PaymentWebhookEventRepository paymentWebhookEventRepository;
+	private final Duration retention;
+
+	private final Counter accepted;
+	private final Counter duplicate;
+	private final Counter ignored;
+	private final Counter rejected;
+
+	public PaymentWebhookService(PaymentWebhookVerifier paymentWebhookVerifier, PaymentWriter paymentWriter,
+		PaymentWebhookEventRepository paymentWebhookEventRepository, MeterRegistry meterRegistry,
+		@Value("${payment.webhook.retention:7d}") Duration retention) {
+		this.paymentWebhookVerifier = paymentWebhookVerifier;
+		this.paymentWriter = paymentWriter;
+		this.paymentWebhookEventRepository = paymentWebhookEventRepository;
+		this.retention = retention;
+
+		this.accepted = Counter.builder("payment.webhook.events").tag("result", "accepted").register(meterRegistry);
+		this.duplicate = Counter.builder("payment.webhook.events").tag("result", "duplicate").register(meterRegistry);
+		this.ignored = Counter.builder("payment.webhook.events").tag("result", "ignored").register(meterRegistry);
+		this.rejected = Counter.builder("payment.webhook.events").tag("result", "rejected").register(meterRegistry);
+	}
+
+	/**
+	 * @param eventId tosspayments-webhook-transmission-id 헤더. 재전송에도 같은 값이 온다
+	 * @throws GeneralException 서명이 맞지 않으면 PAYMENT_WEBHOOK_INVALID_SIGNATURE,
+	 *                          본문을 해석할 수 없으면 PAYMENT_WEBHOOK_INVALID_PAYLOAD
+	 */
+	public void receive(String eventId, String transmissionTime, String signature, String body) {
+		if (!paymentWebhookVerifier.verify(body, transmissionTime, signature)) {
+			rejected.increment();
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_SIGNATURE);
+		}
+		if (eventId == null || eventId.isBlank() || eventId.length() > 100) {
+			rejected.increment();
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_PAYLOAD);
+		}
+
+		JSONObject data;
+		String eventType;
+		try {
+			JSONObject json = new JSONObject(body);
+			eventType = json.optString("eventType");
+			data = json.optJSONObject("data");
+		} catch (JSONException e) {
+			rejected.increment();
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_PAYLOAD);
+		}
+		String orderId = data == null ? null : data.optString("orderId", null);
+		// 다른 종류의 웹훅이나 이 서비스가 만들지 않은 주문은 다시 보내지 않도록 받은 것으로 응답만 한다
+		if (!STATUS_CHANGED.equals(eventType) || !isOrderId(orderId)) {
+			ignored.increment();
+			log.info("반영하지 않는 결제 웹훅 - 이벤트 ID: {}, 종류: {}", eventId, eventType);
+			return;
+		}
+
+		boolean recorded;
+		try {
+			recorded = paymentWriter.recordWebhook(eventId, orderId, data.optString("paymentKey", null),
+				data.optString("status", null), body);
+		} catch (DataIntegrityViolationException e) {
+			recorded = false; // 같은 웹훅이 동시에 두 번 들어와 다른 요청이 먼저 기록한 경우
+		}
+		(recorded ? accepted : duplicate).increment();
+	}
+
+	/**
+	 * 대행사가 재전송할 수 있는 기간이 지난 수신 기록을 지운다.
+	 * @return 지운 기록 수
+	 */
+	@Scheduled(initialDelayString = "${payment.webhook.purge-interval:1h}",
+		fixedDelayString = "${payment.webhook.purge-interval:1h}")
+	@Transactional
+	public int purge() {
+		return paymentWebhookEventRepository.deleteReceivedBefore(LocalDateTime.now().minus(retention));
+	}
+
+	private static boolean isOrderId(String orderId) {
+		if (orderId == null) {
+			return false;
+		}
+		try {
+			UUID.fromString(orderId);
+			return true;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+}
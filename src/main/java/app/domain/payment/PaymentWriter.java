@@ -0,0 +1,186 @@
+package app.domain.payment;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.payment.model.dto.request.PaymentConfirmRequest;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.PaymentEtc;
+import app.domain.payment.model.entity.PaymentWebhookEvent;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentEtcRepository;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.domain.payment.model.repository.PaymentWebhookEventRepository;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 승인/취소 전후와 웹훅 수신의 짧은 트랜잭션들.
+ * 대행사 호출은 이 트랜잭션들 사이에서 커넥션 없이 진행되고,
+ * 그 사이에 남은 PENDING 결제는 PaymentRecoveryScheduler 가 대행사에 조회해 확정한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentWriter {
+
+	private final OrdersRepository ordersRepository;
+	private final PaymentRepository paymentRepository;
+	private final PaymentEtcRepository paymentEtcRepository;
+	private final OutboxService outboxService;
+	private final OrderStatusEventRepository orderStatusEventRepository;
+	private final OrderFeedService orderFeedService;
+	private final OrderEventOutbox orderEventOutbox;
+	private final PaymentWebhookEventRepository paymentWebhookEventRepository;
+
+	/**
+	 * 주문 금액을 확인하고 PENDING 결제 의도를 기록한다.
+	 * 같은 주문의 결제가 실패로 확정되어 있으면 그 행을 새 결제 키로 다시 PENDING 으로 돌려 재결제를 받는다.
+	 * 승인 결과를 기다리는 결제가 있으면 PAYMENT_IN_PROGRESS(결과가 확정된 뒤 다시 시도하면 된다),
+	 * 완료되었거나 취소된 결제가 있으면 PAYMENT_ALREADY_PROCESSED.
+	 */
+	@Transactional
+	public Payment recordIntent(PaymentConfirmRequest request) {
+		Orders order = ordersRepository.findById(UUID.fromString(request.getOrderId()))
+			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+		long requestAmount = Long.parseLong(request.getAmount());
+		if (order.getTotalPrice() != requestAmount) {
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH);
+		}
+		Optional<Payment> existing = paymentRepository.findByOrdersId(order.getOrdersId());
+		if (existing.isPresent()) {
+			return retry(existing.get(), request.getPaymentKey(), order.getTotalPrice());
+		}
+
+		return paymentRepository.save(Payment.builder()
+			.ordersId(order.getOrdersId())
+			.paymentKey(request.getPaymentKey())
+			.paymentMethod(order.getPaymentMethod())
+			.paymentStatus(PaymentStatus.PENDING)
+			.amount(order.getTotalPrice())
+			.build());
+	}
+
+	private Payment retry(Payment payment, String paymentKey, Long amount) {
+		switch (payment.getPaymentStatus()) {
+			case PENDING -> throw new GeneralException(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+			case FAILED -> {
+				if (paymentRepository.retryFailed(payment.getPaymentId(), paymentKey, amount, LocalDateTime.now()) == 0) {
+					// 같은 주문의 다른 재시도가 먼저 PENDING 으로 되돌렸다
+					throw new GeneralException(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+				}
+				return paymentRepository.findById(payment.getPaymentId())
+					.orElseThrow(() -> new GeneralException(ErrorStatus.PAYMENT_NOT_FOUND));
+			}
+			default -> throw new GeneralException(PaymentErrorStatus.PAYMENT_ALREADY_PROCESSED);
+		}
+	}
+
+	/**
+	 * PENDING 결제를 대행사 응답으로 확정하고 응답 본문을 남긴다.
+	 * 다른 쪽(승인 요청 또는 복구 작업)이 먼저 확정했다면 바꾸지 않고 그 결과를 돌려준다.
+	 * 결제가 완료되면 장바구니 비우기 등 후속 작업을 위한 이벤트를 같은 트랜잭션에 기록한다.
+	 * @return 확정된 결제 상태
+	 */
+	@Transactional
+	public PaymentStatus complete(UUID paymentId, PaymentStatus status, String responseBody) {
+		if (paymentRepository.resolvePending(paymentId, status, LocalDateTime.now()) == 0) {
+			return paymentRepository.findById(paymentId)
+				.map(Payment::getPaymentStatus)
+				.orElseThrow(() -> new GeneralException(ErrorStatus.PAYMENT_NOT_FOUND));
+		}
+		Payment payment = paymentRepository.getReferenceById(paymentId);
+		paymentEtcRepository.save(PaymentEtc.builder()
+			.payment(payment)
+			.paymentResponse(responseBody)
+			.build());
+		if (status == PaymentStatus.COMPLETED) {
+			UUID ordersId = payment.getOrdersId();
+			Long userId = ordersRepository.findFeedKey(ordersId)
+				.map(OrdersRepository.FeedKey::getUserId)
+				.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+			outboxService.append(OutboxEventType.PAYMENT_COMPLETED, paymentId, Map.of(
+				"paymentId", paymentId.toString(),
+				"orderId", ordersId.toString(),
+				"userId", userId));
+		}
+		return status;
+	}
+
+	/**
+	 * 대행사 취소 결과를 반영한다. 취소에 성공했으면 주문을 환불 상태로 바꾸고, 결과와 관계없이 응답 본문을 남긴다.
+	 * 취소 응답과 취소 웹훅이 모두 들어와도 주문 상태는 한 번만 바뀐다.
+	 */
+	@Transactional
+	public void recordCancel(UUID orderId, UUID paymentId, boolean success, String responseBody) {
+		Orders order = ordersRepository.findById(orderId)
+			.orElseThrow(() -> new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
+		Payment payment = paymentRepository.findById(paymentId)
+			.orElseThrow(() -> new GeneralException(ErrorStatus.PAYMENT_NOT_FOUND));
+
+		if (success && paymentRepository.cancelCompleted(paymentId, LocalDateTime.now()) == 1) {
+			order.updateOrderStatus(OrderStatus.REFUNDED);
+			orderStatusEventRepository.save(OrderStatusEvent.of(order.getOrdersId(), OrderStatus.REFUNDED));
+			orderFeedService.publish(OrderFeedEvent.of(order));
+			orderEventOutbox.statusChanged(order);
+		}
+
+		paymentEtcRepository.save(PaymentEtc.builder()
+			.payment(payment)
+			.paymentResponse(responseBody)
+			.build());
+	}
+
+	/**
+	 * 검증한 웹훅을 받은 것으로 기록하고, 반영은 아웃박스 이벤트로 넘긴다.
+	 * 같은 이벤트 ID 가 이미 기록되어 있으면 아무것도 하지 않는다.
+	 * @return 새로 기록했으면 true, 이미 받은 이벤트면 false
+	 */
+	@Transactional
+	public boolean recordWebhook(String eventId, String orderId, String paymentKey, String gatewayStatus,
+		String body) {
+		if (paymentWebhookEventRepository.existsById(eventId)) {
+			return false;
+		}
+		paymentWebhookEventRepository.save(PaymentWebhookEvent.builder()
+			.eventId(eventId)
+			.orderId(orderId)
+			.gatewayStatus(gatewayStatus)
+			.receivedAt(LocalDateTime.now())
+			.build());
+
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("eventId", eventId);
+		payload.put("orderId", orderId);
+		payload.put("paymentKey", paymentKey);
+		payload.put("status", gatewayStatus);
+		payload.put("body", body);
+		outboxService.append(OutboxEventType.PAYMENT_WEBHOOK_RECEIVED, orderId, payload);
+		return true;
+	}
+
+	/**
+	 * 대행사에 보내지도 못한 결제 의도를 지운다.
+	 */
+	@Transactional
+	public void abandon(UUID paymentId) {
+		paymentRepository.deletePending(paymentId);
+	}
+}
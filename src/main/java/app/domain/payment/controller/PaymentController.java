@@ -2,10 +2,12 @@ package app.domain.payment.controller;
 
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.domain.payment.PaymentService;
+import app.domain.payment.PaymentWebhookService;
 import app.domain.payment.model.dto.request.CancelPaymentRequest;
 import app.domain.payment.model.dto.request.PaymentConfirmRequest;
 import app.domain.payment.model.dto.request.PaymentFailRequest;
@@ -23,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class PaymentController {
 
 	private final PaymentService paymentService;
+	private final PaymentWebhookService paymentWebhookService;
 
 	@Operation(summary = "결제 승인 API", description = "토스페이먼츠를 통해 결제를 승인합니다.")
 	@PostMapping("/confirm")
@@ -44,4 +47,15 @@ public class PaymentController {
 		String result = paymentService.cancelPayment(request);
 		return ApiResponse.onSuccess(PaymentSuccessStatus.PAYMENT_CANCELLED, result);
 	}
+
+	@Operation(summary = "결제 웹훅 수신 API", description = "토스페이먼츠 결제 상태 변경 웹훅을 검증해 접수하고, 반영은 비동기로 처리합니다.")
+	@PostMapping("/webhook")
+	public ApiResponse<Void> webhook(
+		@RequestHeader(value = "tosspayments-webhook-transmission-id", required = false) String eventId,
+		@RequestHeader(value = "tosspayments-webhook-transmission-time", required = false) String transmissionTime,
+		@RequestHeader(value = "tosspayments-webhook-signature", required = false) String signature,
+		@RequestBody String body) {
+		paymentWebhookService.receive(eventId, transmissionTime, signature, body);
+		return ApiResponse.onSuccess(PaymentSuccessStatus.PAYMENT_WEBHOOK_ACCEPTED, null);
+	}
 }
\ No newline at end of file
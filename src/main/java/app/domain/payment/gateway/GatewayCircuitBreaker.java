@@ -0,0 +1,147 @@
+package app.domain.payment.gateway;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대행사 호출용 서킷 브레이커.
+ * 최근 windowSize 번의 호출 중 실패 비율이 failureRate(%) 이상이면 openDuration 동안 호출을 막고,
+ * 그 뒤 한 번만 시험 호출을 보내 성공하면 다시 연다. 실패는 타임아웃, 연결 오류, 5xx 응답이다.
+ * 시험 중에는 시험 호출의 결과만 상태를 바꾸고, 열리기 전에 시작해 늦게 끝난 호출의 결과는 무시한다.
+ */
+@Component
+public class GatewayCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	/**
+	 * tryAcquire 가 내준 호출 허가. 결과를 알릴 때 그대로 넘긴다.
+	 */
+	public static final class Permit {
+		private Permit() {
+		}
+	}
+
+	private final int failureRate;
+	private final int minimumCalls;
+	private final Duration openDuration;
+	private final Clock clock;
+	private final boolean[] window;
+
+	private State state = State.CLOSED;
+	private int index;
+	private int calls;
+	private int failures;
+	private long openedAt;
+	private Permit probe;
+
+	@Autowired
+	public GatewayCircuitBreaker(
+		@Value("${payment.gateway.circuit-breaker.failure-rate:50}") int failureRate,
+		@Value("${payment.gateway.circuit-breaker.window-size:20}") int windowSize,
+		@Value("${payment.gateway.circuit-breaker.minimum-calls:10}") int minimumCalls,
+		@Value("${payment.gateway.circuit-breaker.open-duration:30s}") Duration openDuration) {
+		this(failureRate, windowSize, minimumCalls, openDuration, Clock.systemUTC());
+	}
+
+	public GatewayCircuitBreaker(int failureRate, int windowSize, int minimumCalls, Duration openDuration,
+		Clock clock) {
+		this.failureRate = failureRate;
+		this.minimumCalls = Math.min(minimumCalls, windowSize);
+		this.openDuration = openDuration;
+		this.clock = clock;
+		this.window = new boolean[windowSize];
+	}
+
+	/**
+	 * 호출해도 되는지 확인한다. 허가를 받았으면 결과를 그 허가와 함께 onSuccess 또는 onFailure 로 알려야 한다.
+	 */
+	public synchronized Optional<Permit> tryAcquire() {
+		if (state == State.OPEN) {
+			if (clock.millis() - openedAt < openDuration.toMillis()) {
+				return Optional.empty();
+			}
+			state = State.HALF_OPEN;
+			probe = null;
+		}
+		if (state == State.HALF_OPEN) {
+			if (probe != null) {
+				return Optional.empty();
+			}
+			probe = new Permit();
+			return Optional.of(probe);
+		}
+		return Optional.of(new Permit());
+	}
+
+	public synchronized void onSuccess(Permit permit) {
+		if (state == State.OPEN) {
+			// 열리기 전에 시작된 호출의 늦은 결과다. 다시 열어 openedAt 을 미루지 않도록 무시한다.
+			return;
+		}
+		if (state == State.HALF_OPEN) {
+			if (permit == probe) {
+				close();
+			}
+			return;
+		}
+		record(false);
+	}
+
+	public synchronized void onFailure(Permit permit) {
+		if (state == State.OPEN) {
+			// 열리기 전에 시작된 호출의 늦은 결과다. 다시 열어 openedAt 을 미루지 않도록 무시한다.
+			return;
+		}
+		if (state == State.HALF_OPEN) {
+			if (permit == probe) {
+				open();
+			}
+			return;
+		}
+		record(true);
+		if (calls >= minimumCalls && failures * 100 >= failureRate * calls) {
+			open();
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void record(boolean failed) {
+		if (calls == window.length) {
+			if (window[index]) {
+				failures--;
+			}
+		} else {
+			calls++;
+		}
+		window[index] = failed;
+		if (failed) {
+			failures++;
+		}
+		index = (index + 1) % window.length;
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openedAt = clock.millis();
+		probe = null;
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		index = 0;
+		calls = 0;
+		failures = 0;
+		probe = null;
+	}
+}
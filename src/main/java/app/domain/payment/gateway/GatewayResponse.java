@@ -0,0 +1,11 @@
+package app.domain.payment.gateway;
+
+/**
+ * 결제 대행사 응답. 200 이면 승인(취소)된 것이고, 그 밖의 응답 본문은 실패 사유로 그대로 보관한다.
+ */
+public record GatewayResponse(int status, String body) {
+
+	public boolean isSuccess() {
+		return status == 200;
+	}
+}
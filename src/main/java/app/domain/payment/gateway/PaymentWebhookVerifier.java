@@ -0,0 +1,91 @@
+package app.domain.payment.gateway;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토스페이먼츠 웹훅 서명 검증.
+ * 서명은 "{본문}:{tosspayments-webhook-transmission-time}" 을 웹훅 보안 키로 HMAC-SHA256 한 값이고,
+ * tosspayments-webhook-signature 헤더에 "v1:{base64}" 형식으로 쉼표로 구분해 여러 개 올 수 있다(키 교체 기간).
+ * 비교는 MessageDigest.isEqual 로 해 일치하는 바이트 수에 따라 응답 시간이 달라지지 않는다.
+ * 전송 시각이 허용 범위를 벗어나면 서명이 맞아도 재전송 공격으로 보고 거절한다.
+ */
+@Component
+public class PaymentWebhookVerifier {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final String VERSION_PREFIX = "v1:";
+
+	private final ThreadLocal<Mac> mac;
+	private final Duration tolerance;
+	private final Clock clock;
+
+	@Autowired
+	public PaymentWebhookVerifier(@Value("${payment.webhook.secret}") String secret,
+		@Value("${payment.webhook.tolerance:5m}") Duration tolerance) {
+		this(secret, tolerance, Clock.systemUTC());
+	}
+
+	public PaymentWebhookVerifier(String secret, Duration tolerance, Clock clock) {
+		SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+		// Mac 은 스레드 안전하지 않으므로 스레드마다 하나씩 만들어 재사용한다
+		this.mac = ThreadLocal.withInitial(() -> {
+			try {
+				Mac instance = Mac.getInstance(ALGORITHM);
+				instance.init(key);
+				return instance;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		this.tolerance = tolerance;
+		this.clock = clock;
+	}
+
+	public boolean verify(String payload, String transmissionTime, String signatureHeader) {
+		if (payload == null || transmissionTime == null || signatureHeader == null) {
+			return false;
+		}
+		Instant sentAt;
+		try {
+			sentAt = OffsetDateTime.parse(transmissionTime).toInstant();
+		} catch (DateTimeParseException e) {
+			return false;
+		}
+		if (Duration.between(sentAt, clock.instant()).abs().compareTo(tolerance) > 0) {
+			return false;
+		}
+
+		byte[] expected = mac.get().doFinal((payload + ":" + transmissionTime).getBytes(StandardCharsets.UTF_8));
+		boolean matched = false;
+		for (String candidate : signatureHeader.split(",")) {
+			String signature = candidate.trim();
+			if (!signature.startsWith(VERSION_PREFIX)) {
+				continue;
+			}
+			byte[] provided;
+			try {
+				provided = Base64.getDecoder().decode(signature.substring(VERSION_PREFIX.length()));
+			} catch (IllegalArgumentException e) {
+				continue;
+			}
+			// 앞에서 일치해도 멈추지 않고 모든 서명을 비교한다
+			matched |= MessageDigest.isEqual(expected, provided);
+		}
+		return matched;
+	}
+}
@@ -0,0 +1,201 @@
+package app.domain.payment.gateway;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스페이먼츠 결제 승인/취소/조회 API 클라이언트.
+ * 하나의 HttpClient 로 keep-alive 연결을 재사용하고, 연결/응답 시간 제한과 동시 호출 수 제한을 둔다.
+ * 호출은 CompletableFuture 로 돌려주므로 요청 스레드가 응답을 기다리며 막히지 않는다.
+ * 동시 호출 수가 가득 찼거나 서킷이 열려 있으면 대행사를 호출하지 않고 바로 PAYMENT_GATEWAY_UNAVAILABLE 로 끝낸다.
+ */
+@Slf4j
+@Component
+public class TossPaymentsClient {
+
+	private final HttpClient httpClient;
+	private final String baseUrl;
+	private final String authorization;
+	private final Duration readTimeout;
+	private final Semaphore permits;
+	private final GatewayCircuitBreaker circuitBreaker;
+	private final MeterRegistry meterRegistry;
+
+	private final Counter busy;
+	private final Counter circuitOpen;
+
+	public TossPaymentsClient(GatewayCircuitBreaker circuitBreaker, MeterRegistry meterRegistry,
+		@Value("${payment.gateway.url}") String baseUrl,
+		@Value("${payment.gateway.secret-key}") String secretKey,
+		@Value("${payment.gateway.connect-timeout:2s}") Duration connectTimeout,
+		@Value("${payment.gateway.read-timeout:5s}") Duration readTimeout,
+		@Value("${payment.gateway.max-concurrency:32}") int maxConcurrency) {
+		this.httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1) // HTTP/1.1 keep-alive 연결 풀을 쓴다
+			.connectTimeout(connectTimeout)
+			.build();
+		this.baseUrl = baseUrl;
+		this.authorization = "Basic " + Base64.getEncoder()
+			.encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+		this.readTimeout = readTimeout;
+		this.permits = new Semaphore(maxConcurrency);
+		this.circuitBreaker = circuitBreaker;
+		this.meterRegistry = meterRegistry;
+
+		this.busy = Counter.builder("payment.gateway.rejected").tag("reason", "busy").register(meterRegistry);
+		this.circuitOpen = Counter.builder("payment.gateway.rejected").tag("reason", "circuit_open")
+			.register(meterRegistry);
+		Gauge.builder("payment.gateway.circuit_open", circuitBreaker,
+			breaker -> breaker.getState() == GatewayCircuitBreaker.State.CLOSED ? 0 : 1).register(meterRegistry);
+		Gauge.builder("payment.gateway.in_flight", this,
+			client -> maxConcurrency - client.permits.availablePermits()).register(meterRegistry);
+	}
+
+	public CompletableFuture<GatewayResponse> confirm(String paymentKey, String orderId, String amount,
+		String idempotencyKey) {
+		JSONObject body = new JSONObject();
+		body.put("orderId", orderId);
+		body.put("amount", amount);
+		body.put("paymentKey", paymentKey);
+		return post("confirm", "/confirm", body, idempotencyKey);
+	}
+
+	public CompletableFuture<GatewayResponse> cancel(String paymentKey, String cancelReason, String idempotencyKey) {
+		JSONObject body = new JSONObject();
+		body.put("cancelReason", cancelReason);
+		String path = "/" + URLEncoder.encode(paymentKey, StandardCharsets.UTF_8) + "/cancel";
+		return post("cancel", path, body, idempotencyKey);
+	}
+
+	/**
+	 * 주문 번호로 결제를 조회한다. 결과를 모르는 채 남은 승인 요청을 확정할 때 쓴다.
+	 */
+	public CompletableFuture<GatewayResponse> lookup(String orderId) {
+		HttpRequest request = requestBuilder("/orders/" + URLEncoder.encode(orderId, StandardCharsets.UTF_8))
+			.GET()
+			.build();
+		return send("lookup", request);
+	}
+
+	/**
+	 * 응답을 기다려 꺼낸다. 대행사 호출 실패는 GeneralException 으로 던진다.
+	 */
+	public static GatewayResponse await(CompletableFuture<GatewayResponse> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof GeneralException generalException) {
+				throw generalException;
+			}
+			throw new GeneralException(PaymentErrorStatus.TOSS_API_ERROR);
+		}
+	}
+
+	/**
+	 * 대행사 결제 상태로 확정할 승인 결과. 아직 진행 중이거나 취소처럼 승인 결과가 아닌 상태면 null 이다.
+	 */
+	public static PaymentStatus confirmResultOf(String gatewayStatus) {
+		if (gatewayStatus == null) {
+			return null;
+		}
+		return switch (gatewayStatus) {
+			case "DONE" -> PaymentStatus.COMPLETED;
+			case "ABORTED", "EXPIRED" -> PaymentStatus.FAILED;
+			default -> null;
+		};
+	}
+
+	private CompletableFuture<GatewayResponse> post(String operation, String path, JSONObject body,
+		String idempotencyKey) {
+		HttpRequest request = requestBuilder(path)
+			.header("Content-Type", "application/json")
+			.header("Idempotency-Key", idempotencyKey)
+			.POST(HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8))
+			.build();
+		return send(operation, request);
+	}
+
+	private HttpRequest.Builder requestBuilder(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.timeout(readTimeout)
+			.header("Authorization", authorization);
+	}
+
+	private CompletableFuture<GatewayResponse> send(String operation, HttpRequest request) {
+		if (!permits.tryAcquire()) {
+			busy.increment();
+			return CompletableFuture.failedFuture(new GeneralException(PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE));
+		}
+		Optional<GatewayCircuitBreaker.Permit> permit = circuitBreaker.tryAcquire();
+		if (permit.isEmpty()) {
+			permits.release();
+			circuitOpen.increment();
+			return CompletableFuture.failedFuture(new GeneralException(PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE));
+		}
+
+		long start = System.nanoTime();
+		CompletableFuture<HttpResponse<String>> sent;
+		try {
+			sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+		} catch (RuntimeException e) {
+			sent = CompletableFuture.failedFuture(e);
+		}
+		return sent.handle((response, error) -> {
+			permits.release();
+			Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+			String outcome = outcomeOf(response, cause);
+			record(operation, outcome, System.nanoTime() - start);
+			if (cause == null && response.statusCode() < 500) {
+				circuitBreaker.onSuccess(permit.get());
+			} else {
+				circuitBreaker.onFailure(permit.get());
+			}
+			if (cause != null) {
+				log.warn("토스페이먼츠 {} 호출 실패 outcome={}", operation, outcome, cause);
+				throw new CompletionException(new GeneralException(cause instanceof HttpTimeoutException
+					? PaymentErrorStatus.PAYMENT_GATEWAY_TIMEOUT : PaymentErrorStatus.TOSS_API_ERROR));
+			}
+			return new GatewayResponse(response.statusCode(), response.body());
+		});
+	}
+
+	private static String outcomeOf(HttpResponse<String> response, Throwable cause) {
+		if (cause != null) {
+			return cause instanceof HttpTimeoutException ? "timeout" : "error";
+		}
+		int status = response.statusCode();
+		return status == 200 ? "success" : status >= 500 ? "server_error" : "rejected";
+	}
+
+	private void record(String operation, String outcome, long nanos) {
+		Timer.builder("payment.gateway.latency")
+			.tags("operation", operation, "outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(Duration.ofNanos(nanos));
+	}
+}
@@ -5,11 +5,11 @@ import java.util.UUID;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.payment.model.entity.enums.PaymentStatus;
 import app.global.entity.BaseEntity;
+import app.global.entity.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -26,7 +26,7 @@ import lombok.NoArgsConstructor;
 public class Payment extends BaseEntity {
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID paymentId;
 
 	@Column(nullable = false)
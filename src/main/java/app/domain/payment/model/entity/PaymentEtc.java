@@ -3,10 +3,10 @@ package app.domain.payment.model.entity;
 import java.util.UUID;
 
 import app.global.entity.BaseEntity;
+import app.global.entity.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -25,7 +25,7 @@ import lombok.NoArgsConstructor;
 public class PaymentEtc extends BaseEntity {
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID paymentEtcId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
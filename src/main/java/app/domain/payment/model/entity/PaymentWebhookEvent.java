@@ -0,0 +1,41 @@
+package app.domain.payment.model.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 받은 결제 웹훅의 기록. 대행사가 같은 웹훅을 다시 보내도 한 번만 반영하도록 이벤트 ID(전송 ID)로 중복을 거른다.
+ * payment.webhook.retention 이 지나면 지운다.
+ */
+@Entity
+@Table(name = "p_payment_webhook_event",
+	indexes = @Index(name = "idx_payment_webhook_event_received", columnList = "received_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PaymentWebhookEvent {
+
+	@Id
+	@Column(length = 100)
+	private String eventId;
+
+	@Column(nullable = false, updatable = false, length = 100)
+	private String orderId;
+
+	@Column(length = 50, updatable = false)
+	private String gatewayStatus;
+
+	@Column(name = "received_at", nullable = false, updatable = false)
+	private LocalDateTime receivedAt;
+}
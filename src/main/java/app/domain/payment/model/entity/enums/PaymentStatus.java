@@ -1,6 +1,7 @@
 package app.domain.payment.model.entity.enums;
 
 public enum PaymentStatus {
+	PENDING, // 승인 요청 전 기록한 결제 의도. 대행사 응답으로 확정하거나 복구 작업이 확정한다
 	COMPLETED,
 	FAILED,
 	CANCELLED
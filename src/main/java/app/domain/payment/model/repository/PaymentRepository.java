@@ -1,14 +1,68 @@
 package app.domain.payment.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, UUID> {
 	Optional<Payment> findByOrdersId(UUID ordersId);
-}
\ No newline at end of file
+
+	/**
+	 * 아직 PENDING 인 결제만 확정한다. 승인 응답과 복구 작업이 겹쳐도 한쪽만 반영된다.
+	 * @return 바뀐 행 수 (0 또는 1)
+	 */
+	@Modifying
+	@Query("update Payment p set p.paymentStatus = :status, p.updatedAt = :now "
+		+ "where p.paymentId = :paymentId and p.paymentStatus = app.domain.payment.model.entity.enums.PaymentStatus.PENDING")
+	int resolvePending(@Param("paymentId") UUID paymentId, @Param("status") PaymentStatus status,
+		@Param("now") LocalDateTime now);
+
+	/**
+	 * 완료된 결제만 취소 상태로 바꾼다. 취소 응답과 취소 웹훅이 겹쳐도 한쪽만 반영된다.
+	 * @return 바뀐 행 수 (0 또는 1)
+	 */
+	@Modifying
+	@Query("update Payment p set p.paymentStatus = app.domain.payment.model.entity.enums.PaymentStatus.CANCELLED, "
+		+ "p.updatedAt = :now "
+		+ "where p.paymentId = :paymentId and p.paymentStatus = app.domain.payment.model.entity.enums.PaymentStatus.COMPLETED")
+	int cancelCompleted(@Param("paymentId") UUID paymentId, @Param("now") LocalDateTime now);
+
+	/**
+	 * 실패로 확정된 결제를 새 결제 키로 다시 PENDING 으로 되돌린다. 같은 주문의 재시도가 겹쳐도 한쪽만 반영된다.
+	 * @return 바뀐 행 수 (0 또는 1)
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update Payment p set p.paymentStatus = app.domain.payment.model.entity.enums.PaymentStatus.PENDING, "
+		+ "p.paymentKey = :paymentKey, p.amount = :amount, p.updatedAt = :now "
+		+ "where p.paymentId = :paymentId and p.paymentStatus = app.domain.payment.model.entity.enums.PaymentStatus.FAILED")
+	int retryFailed(@Param("paymentId") UUID paymentId, @Param("paymentKey") String paymentKey,
+		@Param("amount") Long amount, @Param("now") LocalDateTime now);
+
+	/**
+	 * 대행사에 보내지 못한 PENDING 결제 의도를 지운다. 같은 주문으로 다시 결제할 수 있게 된다.
+	 */
+	@Modifying
+	@Query("delete from Payment p "
+		+ "where p.paymentId = :paymentId and p.paymentStatus = app.domain.payment.model.entity.enums.PaymentStatus.PENDING")
+	int deletePending(@Param("paymentId") UUID paymentId);
+
+	/**
+	 * before 이전부터 PENDING 으로 남아 있는 결제. 오래된 것부터 돌려준다.
+	 */
+	@Query("select p from Payment p "
+		+ "where p.paymentStatus = app.domain.payment.model.entity.enums.PaymentStatus.PENDING and p.updatedAt < :before "
+		+ "order by p.updatedAt")
+	List<Payment> findStalePending(@Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package app.domain.payment.model.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.payment.model.entity.PaymentWebhookEvent;
+
+@Repository
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, String> {
+
+	@Modifying
+	@Query("delete from PaymentWebhookEvent e where e.receivedAt < :before")
+	int deleteReceivedBefore(@Param("before") LocalDateTime before);
+}
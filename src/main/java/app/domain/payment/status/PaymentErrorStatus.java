@@ -15,7 +15,13 @@ public enum PaymentErrorStatus implements BaseCode {
 	PAYMENT_CONFIRM_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT002", "결제 승인에 실패했습니다."),
 	TOSS_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT003", "토스페이먼츠 API 오류가 발생했습니다."),
 	PAYMENT_NOT_REFUNDABLE(HttpStatus.BAD_REQUEST, "PAYMENT004", "환불이 불가능한 주문입니다."),
-	PAYMENT_CANCEL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT005", "결제 취소에 실패했습니다.");
+	PAYMENT_CANCEL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT005", "결제 취소에 실패했습니다."),
+	PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT006", "결제 대행사 호출이 잠시 중단되었습니다. 잠시 후 다시 시도해 주세요."),
+	PAYMENT_GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "PAYMENT007", "결제 대행사 응답 시간이 초과되었습니다. 결제 결과는 확인 후 반영됩니다."),
+	PAYMENT_ALREADY_PROCESSED(HttpStatus.CONFLICT, "PAYMENT008", "이미 처리 중이거나 처리된 결제입니다."),
+	PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "PAYMENT009", "같은 결제 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+	PAYMENT_WEBHOOK_INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "PAYMENT010", "결제 웹훅 서명을 확인할 수 없습니다."),
+	PAYMENT_WEBHOOK_INVALID_PAYLOAD(HttpStatus.BAD_REQUEST, "PAYMENT011", "결제 웹훅 내용을 해석할 수 없습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -13,7 +13,8 @@ public enum PaymentSuccessStatus implements BaseCode {
 
 	PAYMENT_CONFIRMED(HttpStatus.OK, "PAYMENT201", "결제가 성공적으로 승인되었습니다"),
 	PAYMENT_FAIL_SAVED(HttpStatus.OK, "PAYMENT202", "결제 실패 정보가 저장되었습니다"),
-	PAYMENT_CANCELLED(HttpStatus.OK, "PAYMENT203", "결제가 성공적으로 취소되었습니다");
+	PAYMENT_CANCELLED(HttpStatus.OK, "PAYMENT203", "결제가 성공적으로 취소되었습니다"),
+	PAYMENT_WEBHOOK_ACCEPTED(HttpStatus.OK, "PAYMENT204", "결제 웹훅을 접수했습니다");
 
 	private final HttpStatus httpStatus;
 	private final String code;
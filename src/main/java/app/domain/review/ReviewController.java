@@ -1,7 +1,5 @@
 package app.domain.review;
 
-import java.util.List;
-
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -12,6 +10,8 @@ import app.domain.review.model.dto.request.CreateReviewRequest;
 import app.domain.review.model.dto.response.GetReviewResponse;
 import app.domain.review.status.ReviewSuccessStatus;
 import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -35,8 +35,9 @@ public class ReviewController {
 
 	@GetMapping
 	@Operation(summary = "리뷰 조회 API", description = "리뷰를 조회합니다.")
-	public ApiResponse<List<GetReviewResponse>> getReviews(
+	public ApiResponse<CursorResponse<GetReviewResponse>> getReviews(
+		CursorRequest request
 	) {
-		return ApiResponse.onSuccess(ReviewSuccessStatus.GET_REVIEWS_SUCCESS, reviewService.getReviews());
+		return ApiResponse.onSuccess(ReviewSuccessStatus.GET_REVIEWS_SUCCESS, reviewService.getReviews(request));
 	}
 }
\ No newline at end of file
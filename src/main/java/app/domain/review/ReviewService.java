@@ -1,14 +1,12 @@
 // app.domain.review.ReviewService.java
 package app.domain.review;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.model.entity.Orders;
+import app.domain.review.model.ReviewQueryRepository;
 import app.domain.review.model.ReviewRepository;
 import app.domain.review.model.dto.request.CreateReviewRequest;
 import app.domain.review.model.dto.response.GetReviewResponse;
@@ -18,6 +16,8 @@ import app.domain.store.repository.StoreRepository;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class ReviewService {
 
 	private final ReviewRepository reviewRepository;
+	private final ReviewQueryRepository reviewQueryRepository;
 	private final UserRepository userRepository;
 	private final StoreRepository storeRepository;
 	private final OrdersRepository ordersRepository;
@@ -61,26 +62,15 @@ public class ReviewService {
 		return "리뷰 : " + savedReview.getReviewId() + " 가 생성되었습니다.";
 	}
 
-	public List<GetReviewResponse> getReviews() {
+	public CursorResponse<GetReviewResponse> getReviews(CursorRequest request) {
 		User user = securityUtil.getCurrentUser();
 
-		List<Review> userReviews = reviewRepository.findByUser(user);
+		CursorResponse<GetReviewResponse> responses = reviewQueryRepository.findUserReviews(user.getUserId(), request);
 
-		if (userReviews.isEmpty()) {
+		if (request.isFirstPage() && responses.getContent().isEmpty()) {
 			throw new GeneralException(ReviewErrorStatus.NO_REVIEWS_FOUND_FOR_USER);
 		}
 
-		List<GetReviewResponse> responses = userReviews.stream()
-			.map(review -> new GetReviewResponse(
-				review.getReviewId(),
-				review.getUser().getUsername(),
-				review.getStore().getStoreName(),
-				review.getRating(),
-				review.getContent(),
-				review.getCreatedAt()
-			))
-			.collect(Collectors.toList());
-
 		return responses;
 	}
 }
\ No newline at end of file
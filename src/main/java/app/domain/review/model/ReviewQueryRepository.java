@@ -0,0 +1,14 @@
+package app.domain.review.model;
+
+import java.util.UUID;
+
+import app.domain.review.model.dto.response.GetReviewResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
+
+public interface ReviewQueryRepository {
+
+	CursorResponse<GetReviewResponse> findStoreReviews(UUID storeId, CursorRequest request);
+
+	CursorResponse<GetReviewResponse> findUserReviews(Long userId, CursorRequest request);
+}
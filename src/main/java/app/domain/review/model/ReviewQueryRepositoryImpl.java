@@ -0,0 +1,70 @@
+package app.domain.review.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import app.domain.review.model.dto.response.GetReviewResponse;
+import app.domain.review.model.entity.QReview;
+import app.domain.store.model.entity.QStore;
+import app.domain.user.model.entity.QUser;
+import app.global.apiPayload.CursorPaging;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewQueryRepositoryImpl implements ReviewQueryRepository {
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public CursorResponse<GetReviewResponse> findStoreReviews(UUID storeId, CursorRequest request) {
+		return findReviews(QReview.review.store.storeId.eq(storeId), request);
+	}
+
+	@Override
+	public CursorResponse<GetReviewResponse> findUserReviews(Long userId, CursorRequest request) {
+		return findReviews(QReview.review.user.userId.eq(userId), request);
+	}
+
+	// 응답에 필요한 작성자 이름과 가게 이름만 join 으로 함께 읽는다.
+	private CursorResponse<GetReviewResponse> findReviews(BooleanExpression condition, CursorRequest request) {
+		QReview review = QReview.review;
+		QUser user = QUser.user;
+		QStore store = QStore.store;
+
+		List<GetReviewResponse> rows = queryFactory
+			.select(Projections.constructor(GetReviewResponse.class,
+				review.reviewId,
+				user.username,
+				store.storeName,
+				review.rating,
+				review.content,
+				review.createdAt
+			))
+			.from(review)
+			.join(review.user, user)
+			.join(review.store, store)
+			.where(condition, CursorPaging.after(request, review.createdAt, review.reviewId))
+			.orderBy(CursorPaging.latestFirst(review.createdAt, review.reviewId))
+			.limit(CursorPaging.limit(request))
+			.fetch();
+
+		return CursorResponse.of(rows, request, GetReviewResponse::getCreatedAt, GetReviewResponse::getReviewId)
+			.withTotal(request, () -> {
+				Long total = queryFactory
+					.select(review.count())
+					.from(review)
+					.where(condition)
+					.fetchOne();
+				return total != null ? total : 0;
+			});
+	}
+}
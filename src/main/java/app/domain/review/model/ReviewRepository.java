@@ -1,6 +1,5 @@
 package app.domain.review.model;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,18 +9,12 @@ import org.springframework.stereotype.Repository;
 
 import app.domain.order.model.entity.Orders;
 import app.domain.review.model.entity.Review;
-import app.domain.store.model.entity.Store;
-import app.domain.user.model.entity.User;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
-	List<Review> findByUser(User user);
-
 	@Query("SELECT AVG(r.rating) FROM Review r WHERE r.store.storeId = :storeId")
 	Double getAverageRatingByStore(@Param("storeId") UUID storeId);
 
-	List<Review> findByStore(Store store);
-
 	boolean existsByOrders(Orders orders);
 }
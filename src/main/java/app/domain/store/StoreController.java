@@ -1,16 +1,18 @@
 package app.domain.store;
 
-import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import app.domain.menu.model.dto.response.MenuListResponse;
 import app.domain.review.model.dto.response.GetReviewResponse;
@@ -18,13 +20,15 @@ import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.StoreApproveResponse;
 import app.domain.store.model.dto.response.StoreInfoUpdateResponse;
-import app.domain.store.model.dto.response.StoreOrderListResponse;
+import app.domain.store.model.dto.response.StoreOrderResponse;
 import app.domain.store.model.entity.Region;
 import app.domain.store.repository.RegionRepository;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreErrorCode;
 import app.domain.store.status.StoreSuccessStatus;
 import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.exception.GeneralException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -97,17 +101,25 @@ public class StoreController {
 	}
 
 	@GetMapping("/{storeId}/review")
-	public ApiResponse<List<GetReviewResponse>> getStoreReviews(@PathVariable UUID storeId) {
-		List<GetReviewResponse> response = storeService.getStoreReviewList(storeId);
+	public ApiResponse<CursorResponse<GetReviewResponse>> getStoreReviews(@PathVariable UUID storeId,
+		CursorRequest request) {
+		CursorResponse<GetReviewResponse> response = storeService.getStoreReviewList(storeId, request);
 		return ApiResponse.onSuccess(StoreSuccessStatus._OK, response);
 	}
 
 	@GetMapping("/{storeId}/order")
-	public ApiResponse<StoreOrderListResponse> getStoreOrders(@PathVariable UUID storeId) {
-		StoreOrderListResponse response = storeService.getStoreOrderList(storeId);
+	public ApiResponse<CursorResponse<StoreOrderResponse>> getStoreOrders(@PathVariable UUID storeId,
+		CursorRequest request) {
+		CursorResponse<StoreOrderResponse> response = storeService.getStoreOrderList(storeId, request);
 		return ApiResponse.onSuccess(StoreSuccessStatus._OK, response);
 	}
 
+	@GetMapping(value = "/{storeId}/order/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeStoreOrderFeed(@PathVariable UUID storeId,
+		@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+		return storeService.subscribeOrderFeed(storeId, lastEventId);
+	}
+
 	@PostMapping("/order/{orderId}/accept")
 	public ApiResponse<String> acceptOrder(@PathVariable UUID orderId) {
 		storeService.acceptOrder(orderId);
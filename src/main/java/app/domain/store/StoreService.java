@@ -6,23 +6,26 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import app.domain.menu.MenuCatalogCache;
 import app.domain.menu.model.dto.response.MenuListResponse;
 import app.domain.menu.model.entity.Category;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.CategoryRepository;
 import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.OrderFeedBroker;
 import app.domain.order.model.entity.Orders;
+import app.domain.order.model.repository.OrdersQueryRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.service.OrderService;
-import app.domain.review.model.ReviewRepository;
+import app.domain.review.model.ReviewQueryRepository;
 import app.domain.review.model.dto.response.GetReviewResponse;
-import app.domain.review.model.entity.Review;
 import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.StoreApproveResponse;
 import app.domain.store.model.dto.response.StoreInfoUpdateResponse;
-import app.domain.store.model.dto.response.StoreOrderListResponse;
+import app.domain.store.model.dto.response.StoreOrderResponse;
 import app.domain.store.model.entity.Region;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.RegionRepository;
@@ -31,6 +34,8 @@ import app.domain.store.status.StoreAcceptStatus;
 import app.domain.store.status.StoreErrorCode;
 import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 
@@ -42,10 +47,13 @@ public class StoreService {
 	private final RegionRepository regionRepository;
 	private final CategoryRepository categoryRepository;
 	private final MenuRepository menuRepository;
-	private final ReviewRepository reviewRepository;
+	private final ReviewQueryRepository reviewQueryRepository;
 	private final OrdersRepository ordersRepository;
+	private final OrdersQueryRepository ordersQueryRepository;
 	private final OrderService orderService;
 	private final SecurityUtil securityUtil;
+	private final MenuCatalogCache menuCatalogCache;
+	private final OrderFeedBroker orderFeedBroker;
 
 	@Transactional
 	public StoreApproveResponse createStore(StoreApproveRequest request) {
@@ -101,6 +109,7 @@ public class StoreService {
 		}
 
 		Store updatedStore = storeRepository.save(store);
+		menuCatalogCache.evictStore(request.getStoreId());
 		return new StoreInfoUpdateResponse(updatedStore.getStoreId());
 	}
 
@@ -117,6 +126,7 @@ public class StoreService {
 		}
 
 		store.markAsDeleted();
+		menuCatalogCache.evictStore(storeId);
 	}
 
 	@Transactional(readOnly = true)
@@ -142,7 +152,7 @@ public class StoreService {
 	}
 
 	@Transactional(readOnly = true)
-	public List<GetReviewResponse> getStoreReviewList(UUID storeId) {
+	public CursorResponse<GetReviewResponse> getStoreReviewList(UUID storeId, CursorRequest request) {
 		User user = securityUtil.getCurrentUser();
 		Long userId = user.getUserId();
 
@@ -153,16 +163,11 @@ public class StoreService {
 			throw new GeneralException(StoreErrorCode.INVALID_USER_ROLE);
 		}
 
-		List<Review> reviews = reviewRepository.findByStore(store);
-
-		return reviews.stream()
-			.map(review -> new GetReviewResponse(review.getReviewId(), review.getUser().getUsername(),
-				review.getStore().getStoreName(), review.getRating(), review.getContent(), review.getCreatedAt()))
-			.collect(Collectors.toList());
+		return reviewQueryRepository.findStoreReviews(storeId, request);
 	}
 
 	@Transactional(readOnly = true)
-	public StoreOrderListResponse getStoreOrderList(UUID storeId) {
+	public CursorResponse<StoreOrderResponse> getStoreOrderList(UUID storeId, CursorRequest request) {
 		User user = securityUtil.getCurrentUser();
 		Long userId = user.getUserId();
 
@@ -173,13 +178,24 @@ public class StoreService {
 			throw new GeneralException(StoreErrorCode.INVALID_USER_ROLE);
 		}
 
-		List<Orders> orders = ordersRepository.findByStore(store);
+		return ordersQueryRepository.findStoreOrders(storeId, request);
+	}
+
+	/**
+	 * 새 주문과 주문 상태 변경을 실시간으로 받는다. 목록은 연결할 때(또는 resync 이벤트를 받았을 때)만 다시 읽으면 된다.
+	 */
+	@Transactional(readOnly = true)
+	public SseEmitter subscribeOrderFeed(UUID storeId, String lastEventId) {
+		Long userId = securityUtil.getCurrentUserId();
 
-		List<StoreOrderListResponse.StoreOrderDetail> orderDetails = orders.stream()
-			.map(StoreOrderListResponse.StoreOrderDetail::from)
-			.collect(Collectors.toList());
+		Store store = storeRepository.findById(storeId)
+			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
+
+		if (!store.getUser().getUserId().equals(userId)) {
+			throw new GeneralException(StoreErrorCode.INVALID_USER_ROLE);
+		}
 
-		return new StoreOrderListResponse(store.getStoreId(), orderDetails);
+		return orderFeedBroker.subscribeStore(storeId, lastEventId);
 	}
 
 	@Transactional
@@ -1,17 +1,17 @@
 package app.domain.store.model;
 
-import org.springframework.data.domain.Pageable;
 import app.domain.customer.dto.response.GetStoreListResponse;
 import app.domain.store.status.StoreAcceptStatus;
-import app.global.apiPayload.PagedResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 
 public interface StoreQueryRepository {
-	PagedResponse<GetStoreListResponse> searchStoresWithAvgRating(
+	CursorResponse<GetStoreListResponse> searchStoresWithAvgRating(
 		String keyword,
 		StoreAcceptStatus status,
-		Pageable pageable
+		CursorRequest request
 	);
-	PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable);
+	CursorResponse<GetStoreListResponse> getApprovedStore(CursorRequest request);
 
-	PagedResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, Pageable pageable);
-}
\ No newline at end of file
+	CursorResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, CursorRequest request);
+}
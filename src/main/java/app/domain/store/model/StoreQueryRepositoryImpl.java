@@ -2,11 +2,11 @@ package app.domain.store.model;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -14,7 +14,9 @@ import app.domain.customer.dto.response.GetStoreListResponse;
 import app.domain.review.model.entity.QReview;
 import app.domain.store.model.entity.QStore;
 import app.domain.store.status.StoreAcceptStatus;
-import app.global.apiPayload.PagedResponse;
+import app.global.apiPayload.CursorPaging;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -24,120 +26,75 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 	private final JPAQueryFactory queryFactory;
 
 	@Override
-	public PagedResponse<GetStoreListResponse> searchStoresWithAvgRating(
+	public CursorResponse<GetStoreListResponse> searchStoresWithAvgRating(
 		String keyword,
 		StoreAcceptStatus status,
-		Pageable pageable
+		CursorRequest request
 	) {
 		QStore store = QStore.store;
-		QReview review = QReview.review;
-
-		List<GetStoreListResponse> content = queryFactory
-			.select(Projections.constructor(
-				GetStoreListResponse.class,
-				store.storeId,
-				store.storeName,
-				store.address,
-				store.minOrderAmount,
-				review.rating.avg().coalesce(0.0)
-			))
-			.from(store)
-			.leftJoin(review).on(review.store.eq(store))
-			.where(
-				store.storeAcceptStatus.eq(status),
-				store.deletedAt.isNull(),
-				store.storeName.containsIgnoreCase(keyword)
-			)
-			.groupBy(store.storeId)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
 
-		Long total = queryFactory
-			.select(store.count())
-			.from(store)
-			.where(
-				store.storeAcceptStatus.eq(status),
-				store.deletedAt.isNull(),
-				store.storeName.containsIgnoreCase(keyword)
-			)
-			.fetchOne();
-
-		Page<GetStoreListResponse> page = new PageImpl<>(content, pageable, total != null ? total : 0);
-		return PagedResponse.from(page);
+		return findStores(request,
+			store.storeAcceptStatus.eq(status),
+			store.deletedAt.isNull(),
+			store.storeName.containsIgnoreCase(keyword)
+		);
 	}
 
 	@Override
-	public PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable) {
+	public CursorResponse<GetStoreListResponse> getApprovedStore(CursorRequest request) {
 		QStore store = QStore.store;
-		QReview review = QReview.review;
 
-		List<GetStoreListResponse> results = queryFactory
-			.select(Projections.constructor(GetStoreListResponse.class,
-				store.storeId,
-				store.storeName,
-				store.address,
-				store.minOrderAmount,
-				review.rating.avg().coalesce(0.0)
-			))
-			.from(store)
-			.leftJoin(review).on(review.store.eq(store))
-			.where(store.storeAcceptStatus.eq(StoreAcceptStatus.APPROVE)
-				.and(store.deletedAt.isNull()))
-			.groupBy(store.storeId)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
-
-		// 전체 개수 쿼리 (페이징용)
-		Long total = queryFactory
-			.select(store.countDistinct())
-			.from(store)
-			.where(store.storeAcceptStatus.eq(StoreAcceptStatus.APPROVE)
-				.and(store.deletedAt.isNull()))
-			.fetchOne();
+		return findStores(request,
+			store.storeAcceptStatus.eq(StoreAcceptStatus.APPROVE),
+			store.deletedAt.isNull()
+		);
+	}
 
-		Page<GetStoreListResponse> page = new PageImpl<>(results, pageable, total != null ? total : 0);
+	@Override
+	public CursorResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, CursorRequest request) {
+		QStore store = QStore.store;
 
-		return PagedResponse.from(page);
+		return findStores(request,
+			store.storeAcceptStatus.eq(status),
+			store.deletedAt.isNull()
+		);
 	}
 
-	@Override
-	public PagedResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, Pageable pageable) {
+	/**
+	 * 최신 가게순으로 한 페이지를 읽고, 그 페이지 가게들의 평균 평점만 함께 계산한다.
+	 */
+	private CursorResponse<GetStoreListResponse> findStores(CursorRequest request, Predicate... conditions) {
 		QStore store = QStore.store;
 		QReview review = QReview.review;
-
-		List<GetStoreListResponse> content = queryFactory
-			.select(Projections.constructor(
-				GetStoreListResponse.class,
-				store.storeId,
-				store.storeName,
-				store.address,
-				store.minOrderAmount,
-				review.rating.avg().coalesce(0.0)
-			))
+		ConstructorExpression<GetStoreListResponse> item = Projections.constructor(
+			GetStoreListResponse.class,
+			store.storeId,
+			store.storeName,
+			store.address,
+			store.minOrderAmount,
+			review.rating.avg().coalesce(0.0)
+		);
+
+		List<Tuple> rows = queryFactory
+			.select(item, store.createdAt)
 			.from(store)
 			.leftJoin(review).on(review.store.eq(store))
-			.where(
-				store.storeAcceptStatus.eq(status),
-				store.deletedAt.isNull()
-			)
-			.groupBy(store.storeId)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
+			.where(conditions)
+			.where(CursorPaging.after(request, store.createdAt, store.storeId))
+			.groupBy(store.storeId, store.createdAt)
+			.orderBy(CursorPaging.latestFirst(store.createdAt, store.storeId))
+			.limit(CursorPaging.limit(request))
 			.fetch();
 
-		Long total = queryFactory
-			.select(store.count())
-			.from(store)
-			.where(
-				store.storeAcceptStatus.eq(status),
-				store.deletedAt.isNull()
-			)
-			.fetchOne();
-
-		Page<GetStoreListResponse> page = new PageImpl<>(content, pageable, total != null ? total : 0);
-
-		return PagedResponse.from(page);
+		return CursorResponse.of(rows, request, row -> row.get(store.createdAt), row -> row.get(item).getStoreId())
+			.map(row -> row.get(item))
+			.withTotal(request, () -> {
+				Long total = queryFactory
+					.select(store.count())
+					.from(store)
+					.where(conditions)
+					.fetchOne();
+				return total != null ? total : 0;
+			});
 	}
-}
\ No newline at end of file
+}
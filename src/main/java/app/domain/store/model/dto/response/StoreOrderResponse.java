@@ -0,0 +1,23 @@
+package app.domain.store.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import app.domain.order.model.entity.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreOrderResponse {
+
+    private UUID orderId;
+    private String customerName;
+    private Long totalPrice;
+    private OrderStatus orderStatus;
+    private LocalDateTime orderedAt;
+}
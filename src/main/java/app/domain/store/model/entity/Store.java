@@ -7,12 +7,12 @@ import app.domain.menu.model.entity.Category;
 import app.domain.store.status.StoreAcceptStatus;
 import app.domain.user.model.entity.User;
 import app.global.entity.BaseEntity;
+import app.global.entity.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -32,7 +32,7 @@ import lombok.NoArgsConstructor;
 public class Store extends BaseEntity {
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID storeId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -1,11 +1,10 @@
 package app.domain.user.model;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
 import app.domain.user.model.entity.User;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 
 public interface UserQueryRepository {
 
-	Page<User> searchUser(String keyWord, Pageable pageable);
+	CursorResponse<User> searchUser(String keyWord, CursorRequest request);
 }
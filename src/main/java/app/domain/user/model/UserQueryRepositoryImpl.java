@@ -2,9 +2,6 @@ package app.domain.user.model;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -12,6 +9,9 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import app.domain.user.model.entity.QUser;
 import app.domain.user.model.entity.User;
+import app.global.apiPayload.CursorPaging;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import lombok.RequiredArgsConstructor;
 
 @Repository
@@ -21,7 +21,7 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
 	private final JPAQueryFactory queryFactory;
 
 	@Override
-	public Page<User> searchUser(String keyWord, Pageable pageable) {
+	public CursorResponse<User> searchUser(String keyWord, CursorRequest request) {
 		QUser user = QUser.user;
 		BooleanBuilder builder = new BooleanBuilder();
 
@@ -35,18 +35,19 @@ public class UserQueryRepositoryImpl implements UserQueryRepository {
 
 		List<User> results = queryFactory
 			.selectFrom(user)
-			.where(builder)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.orderBy(user.createdAt.desc())
+			.where(builder, CursorPaging.after(request, user.createdAt, user.userId))
+			.orderBy(CursorPaging.latestFirst(user.createdAt, user.userId))
+			.limit(CursorPaging.limit(request))
 			.fetch();
 
-		long total = queryFactory
-			.select(user.count())
-			.from(user)
-			.where(builder)
-			.fetchOne();
-
-		return new PageImpl<>(results, pageable, total);
+		return CursorResponse.of(results, request, User::getCreatedAt, User::getUserId)
+			.withTotal(request, () -> {
+				Long total = queryFactory
+					.select(user.count())
+					.from(user)
+					.where(builder)
+					.fetchOne();
+				return total != null ? total : 0;
+			});
 	}
-}
\ No newline at end of file
+}
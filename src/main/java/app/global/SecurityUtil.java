@@ -22,6 +22,17 @@ public class SecurityUtil {
 	 * @throws GeneralException 인증 정보가 없거나 사용자를 찾을 수 없는 경우
 	 */
 	public User getCurrentUser() {
+		Long userId = getCurrentUserId();
+		return userRepository.findById(userId)
+			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+	}
+
+	/**
+	 * 현재 인증된 사용자의 ID 를 DB 조회 없이 반환합니다.
+	 * @return 현재 사용자 ID
+	 * @throws GeneralException 인증 정보가 없는 경우
+	 */
+	public Long getCurrentUserId() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(
@@ -29,8 +40,6 @@ public class SecurityUtil {
 			throw new GeneralException(ErrorStatus._UNAUTHORIZED);
 		}
 
-		Long userId = Long.parseLong(authentication.getName());
-		return userRepository.findById(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+		return Long.parseLong(authentication.getName());
 	}
 }
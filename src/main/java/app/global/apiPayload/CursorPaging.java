@@ -0,0 +1,65 @@
+package app.global.apiPayload;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.Expressions;
+
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+/**
+ * QueryDSL 목록 조회에 커서 조건과 정렬을 붙인다. 최신순(createdAt desc, id desc)으로 정렬하고,
+ * 커서 다음 항목부터 (created_at, id) 인덱스 범위로 읽기 때문에 뒤쪽 페이지도 첫 페이지와 같은 비용으로 읽는다.
+ */
+public final class CursorPaging {
+
+	private CursorPaging() {
+	}
+
+	/**
+	 * 커서가 가리키는 항목보다 오래된 항목만 남긴다. 첫 페이지면 null 을 돌려 where 에서 무시되게 한다.
+	 */
+	public static BooleanExpression after(CursorRequest request, DateTimePath<LocalDateTime> createdAt,
+		ComparableExpressionBase<?> id) {
+		return request.key()
+			.map(key -> {
+				Expression<?> cursorId = Expressions.constant(parseId(key.id(), id.getType()));
+				return createdAt.lt(key.createdAt())
+					.or(createdAt.eq(key.createdAt()).and(Expressions.booleanOperation(Ops.LT, id, cursorId)));
+			})
+			.orElse(null);
+	}
+
+	public static OrderSpecifier<?>[] latestFirst(DateTimePath<LocalDateTime> createdAt,
+		ComparableExpressionBase<?> id) {
+		return new OrderSpecifier<?>[] {createdAt.desc(), id.desc()};
+	}
+
+	/**
+	 * 다음 페이지가 있는지 알기 위해 한 개 더 읽는다.
+	 */
+	public static long limit(CursorRequest request) {
+		return request.pageSize() + 1L;
+	}
+
+	private static Object parseId(String id, Class<?> type) {
+		try {
+			if (type == UUID.class) {
+				return UUID.fromString(id);
+			}
+			if (type == Long.class) {
+				return Long.valueOf(id);
+			}
+			return id;
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package app.global.apiPayload;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+/**
+ * 커서 기반 목록 조회 요청. 쿼리 파라미터 cursor, size, withTotal 로 받는다.
+ * cursor 는 직전 페이지 마지막 항목의 (createdAt, id) 를 인코딩한 값으로, 클라이언트는 내용을 해석하지 않고 그대로 돌려준다.
+ * 전체 개수는 withTotal=true 일 때만 센다.
+ */
+public record CursorRequest(String cursor, Integer size, Boolean withTotal) {
+
+	public static final int DEFAULT_SIZE = 20;
+	public static final int MAX_SIZE = 100;
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * 정렬 키. 생성 시각이 같은 항목은 ID 로 순서를 정한다.
+	 */
+	public record Key(LocalDateTime createdAt, String id) {
+	}
+
+	public static CursorRequest first(int size) {
+		return new CursorRequest(null, size, false);
+	}
+
+	public static String encode(LocalDateTime createdAt, Object id) {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public int pageSize() {
+		if (size == null || size <= 0) {
+			return DEFAULT_SIZE;
+		}
+		return Math.min(size, MAX_SIZE);
+	}
+
+	public boolean isFirstPage() {
+		return cursor == null || cursor.isBlank();
+	}
+
+	public boolean isWithTotal() {
+		return Boolean.TRUE.equals(withTotal);
+	}
+
+	public Optional<Key> key() {
+		if (isFirstPage()) {
+			return Optional.empty();
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+			}
+			return Optional.of(new Key(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package app.global.apiPayload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 목록 응답. 다음 페이지가 있으면 nextCursor 를 다음 요청의 cursor 로 넘긴다.
+ * totalElements 는 요청에서 withTotal=true 일 때만 채운다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+	private List<T> content;
+	private int size;
+	private boolean hasNext;
+	private String nextCursor;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long totalElements;
+
+	/**
+	 * pageSize + 1 개까지 읽은 rows 로 응답을 만든다. 넘친 한 개는 다음 페이지가 있다는 표시로만 쓴다.
+	 */
+	public static <E> CursorResponse<E> of(List<E> rows, CursorRequest request,
+		Function<E, LocalDateTime> createdAt, Function<E, ?> id) {
+		int pageSize = request.pageSize();
+		boolean hasNext = rows.size() > pageSize;
+		List<E> content = hasNext ? rows.subList(0, pageSize) : rows;
+		String nextCursor = null;
+		if (hasNext) {
+			E last = content.get(content.size() - 1);
+			nextCursor = CursorRequest.encode(createdAt.apply(last), id.apply(last));
+		}
+		return new CursorResponse<>(content, pageSize, hasNext, nextCursor, null);
+	}
+
+	public static <T> CursorResponse<T> empty(CursorRequest request) {
+		return new CursorResponse<>(List.of(), request.pageSize(), false, null, null);
+	}
+
+	public <R> CursorResponse<R> map(Function<? super T, ? extends R> mapper) {
+		List<R> mapped = content.stream().<R>map(mapper).toList();
+		return new CursorResponse<>(mapped, size, hasNext, nextCursor, totalElements);
+	}
+
+	/**
+	 * 요청에서 전체 개수를 원했을 때만 count 를 실행해 채운다.
+	 */
+	public CursorResponse<T> withTotal(CursorRequest request, LongSupplier count) {
+		if (request.isWithTotal()) {
+			totalElements = count.getAsLong();
+		}
+		return this;
+	}
+}
@@ -0,0 +1,53 @@
+package app.global.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import app.domain.cart.service.CartRedisServiceImpl;
+import app.domain.cart.service.NearCacheCartRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Redis 장바구니 앞단의 노드별 근거리 캐시 설정.
+ * 변경한 노드가 cart:invalidation 채널로 사용자 ID 를 발행하고, 모든 노드가 구독해 자신의 캐시에서 지운다.
+ */
+@Configuration
+@ConditionalOnExpression("'${cart.store:redis}' == 'redis' and ${cart.near-cache.enabled:false}")
+public class CartNearCacheConfig {
+
+	public static final String INVALIDATION_CHANNEL = "cart:invalidation";
+
+	@Bean
+	@Primary
+	public NearCacheCartRedisService nearCacheCartRedisService(
+		CartRedisServiceImpl cartRedisServiceImpl,
+		RedisTemplate<String, String> redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${cart.near-cache.max-entries:10000}") int maxEntries,
+		@Value("${cart.near-cache.ttl:30s}") Duration ttl) {
+		return new NearCacheCartRedisService(cartRedisServiceImpl,
+			message -> redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message),
+			maxEntries, ttl, Clock.systemUTC(), meterRegistry);
+	}
+
+	@Bean
+	public RedisMessageListenerContainer cartInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+		NearCacheCartRedisService nearCacheCartRedisService) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener((message, pattern) -> nearCacheCartRedisService.onInvalidationMessage(
+			new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(INVALIDATION_CHANNEL));
+		return container;
+	}
+}
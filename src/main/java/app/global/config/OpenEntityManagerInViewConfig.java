@@ -0,0 +1,37 @@
+package app.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * spring.jpa.open-in-view 대신 직접 등록하는 OSIV 인터셉터.
+ * SSE 처럼 오래 유지되는 응답은 요청이 끝날 때까지 DB 커넥션을 붙잡지 않도록 제외한다.
+ * 외부 API 응답을 기다리는 경로도 같은 이유로 제외한다. OSIV 가 열려 있으면 트랜잭션이 끝나도 커넥션이 반환되지 않는다.
+ */
+@Configuration
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+	public static final String[] STREAMING_PATHS = {"/store/*/order/feed", "/order/*/status/stream"};
+	public static final String[] REMOTE_CALL_PATHS = {"/payment/confirm", "/payment/cancel"};
+
+	private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+	public OpenEntityManagerInViewConfig(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		entityManagerFactory.ifAvailable(factory -> {
+			OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+			interceptor.setEntityManagerFactory(factory);
+			registry.addWebRequestInterceptor(interceptor).excludePathPatterns(STREAMING_PATHS)
+				.excludePathPatterns(REMOTE_CALL_PATHS);
+		});
+	}
+}
@@ -0,0 +1,30 @@
+package app.global.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import app.domain.order.OrderFeedBroker;
+import app.domain.order.service.OrderFeedService;
+
+/**
+ * 주문 실시간 피드 구독 설정.
+ * 모든 노드가 order:feed 채널을 구독하고, 받은 이벤트를 자신에게 연결된 구독자에게만 전달한다.
+ */
+@Configuration
+public class OrderFeedConfig {
+
+	@Bean
+	public RedisMessageListenerContainer orderFeedListenerContainer(RedisConnectionFactory connectionFactory,
+		OrderFeedBroker orderFeedBroker) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener((message, pattern) -> orderFeedBroker.onMessage(
+			new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(OrderFeedService.CHANNEL));
+		return container;
+	}
+}
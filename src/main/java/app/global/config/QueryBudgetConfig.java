@@ -0,0 +1,48 @@
+package app.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import app.global.jdbc.QueryBudgetEndpoint;
+import app.global.jdbc.QueryBudgetFilter;
+import app.global.jdbc.QueryBudgetProperties;
+import app.global.jdbc.QueryBudgetRecorder;
+import app.global.jdbc.QueryCountingDataSourcePostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 요청별 SQL 문 수, 읽은 행 수, 실행 시간 계측 설정.
+ * show_sql 로그 대신 엔드포인트별 지표와 예산 초과 경고로 N+1 을 찾는다.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+@ConditionalOnProperty(prefix = "query.budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+	@Bean
+	public static QueryCountingDataSourcePostProcessor queryCountingDataSourcePostProcessor() {
+		return new QueryCountingDataSourcePostProcessor();
+	}
+
+	@Bean
+	public QueryBudgetRecorder queryBudgetRecorder(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+		return new QueryBudgetRecorder(properties, meterRegistry);
+	}
+
+	@Bean
+	public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudgetRecorder recorder) {
+		FilterRegistrationBean<QueryBudgetFilter> registration = new FilterRegistrationBean<>(
+			new QueryBudgetFilter(recorder));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+		return registration;
+	}
+
+	@Bean
+	public QueryBudgetEndpoint queryBudgetEndpoint(QueryBudgetRecorder recorder) {
+		return new QueryBudgetEndpoint(recorder);
+	}
+}
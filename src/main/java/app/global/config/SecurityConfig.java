@@ -21,6 +21,7 @@ import app.global.jwt.JwtAccessDeniedHandler;
 import app.global.jwt.JwtAuthenticationEntryPoint;
 import app.global.jwt.JwtAuthenticationFilter;
 import app.global.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -53,6 +54,10 @@ public class SecurityConfig {
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
 			.authorizeHttpRequests(auth -> auth
+				// SSE 응답이 끝날 때의 비동기 재디스패치는 최초 요청에서 이미 인가되었다.
+				.dispatcherTypeMatchers(DispatcherType.ASYNC)
+				.permitAll()
+
 				.requestMatchers(
 					"/v2/api-docs", "/v3/api-docs", "/v3/api-docs/**", "/swagger-resources",
 					"/swagger-resources/**", "/configuration/ui", "/configuration/security", "/swagger-ui/**",
@@ -92,6 +97,13 @@ public class SecurityConfig {
 				.requestMatchers("/owner/ai/**")
 				.hasAuthority(UserRole.OWNER.name())
 
+				// 헬스 체크만 열어 두고, 쿼리 형태와 내부 지표는 관리자만 본다.
+				.requestMatchers("/actuator/health", "/actuator/health/**")
+				.permitAll()
+
+				.requestMatchers("/actuator/**")
+				.hasAnyAuthority(UserRole.MANAGER.name(), UserRole.MASTER.name())
+
 				.anyRequest()
 				.authenticated()
 			)
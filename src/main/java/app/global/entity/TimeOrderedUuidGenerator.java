@@ -0,0 +1,76 @@
+package app.global.entity;
+
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * UUID 버전 7 생성기 (RFC 9562).
+ * <pre>
+ * [unix ms 48bit][버전 4bit = 7][카운터 12bit][variant 2bit][난수 62bit]
+ * </pre>
+ * 같은 밀리초 안에서는 12bit 카운터를 증가시켜 단조 증가를 보장하고, 카운터가 넘치면 타임스탬프를 1ms 앞당긴다.
+ * 마지막으로 발급한 (타임스탬프, 카운터)를 하나의 AtomicLong 으로 관리하므로 여러 스레드가 동시에 호출해도
+ * 같은 생성기에서 나온 값은 중복되지 않고 발급 순서대로 정렬된다.
+ * 저장 전에 식별자를 미리 정한 엔티티(비동기 주문 접수 등)는 그 값을 그대로 사용한다.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+	private static final int COUNTER_BITS = 12;
+	private static final long VERSION_7 = 0x7000L;
+	private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+	private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+	private final Clock clock;
+	// (unix ms << 12) | 카운터
+	private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+	public TimeOrderedUuidGenerator() {
+		this(Clock.systemUTC());
+	}
+
+	public TimeOrderedUuidGenerator(Clock clock) {
+		this.clock = clock;
+	}
+
+	public UUID generate() {
+		long now = clock.millis() << COUNTER_BITS;
+		long timestampAndCounter = lastTimestampAndCounter.updateAndGet(last -> Math.max(now, last + 1));
+
+		long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+			| VERSION_7
+			| (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+		long leastSigBits = VARIANT_RFC | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	/**
+	 * UUID 버전 7 값에서 생성 시각(unix ms)을 꺼낸다.
+	 */
+	public static long extractTimestamp(UUID uuid) {
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+		EventType eventType) {
+		return currentValue != null ? currentValue : generate();
+	}
+
+	@Override
+	public boolean allowAssignedIdentifiers() {
+		return true;
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+}
@@ -0,0 +1,24 @@
+package app.global.jdbc;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * /actuator/querybudget 에서 엔드포인트별 SQL 문 예산 리포트를 보여준다.
+ */
+@Endpoint(id = "querybudget")
+public class QueryBudgetEndpoint {
+
+	private final QueryBudgetRecorder recorder;
+
+	public QueryBudgetEndpoint(QueryBudgetRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	@ReadOperation
+	public List<QueryBudgetRecorder.EndpointReport> report() {
+		return recorder.report();
+	}
+}
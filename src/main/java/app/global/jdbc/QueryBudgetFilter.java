@@ -0,0 +1,40 @@
+package app.global.jdbc;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 QueryStats 구간을 열고, 응답이 끝나면 매핑 패턴 기준으로 기록한다.
+ * 인증 필터에서 실행하는 조회도 세도록 보안 필터보다 먼저 등록한다.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+	private static final String UNMAPPED = "UNMAPPED";
+
+	private final QueryBudgetRecorder recorder;
+
+	public QueryBudgetFilter(QueryBudgetRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		QueryStats stats = QueryStatsHolder.open();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			QueryStatsHolder.close(stats);
+			// 매핑되지 않은 경로는 URI 를 태그로 쓰지 않아 지표 수가 늘어나지 않게 한다.
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			recorder.record(request.getMethod(), pattern != null ? pattern.toString() : UNMAPPED, stats);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package app.global.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 엔드포인트별 SQL 문 예산. 키는 "GET /store/{storeId}/order" 처럼 메서드와 매핑 패턴을 공백으로 이은 값이다.
+ * 목록에 없는 엔드포인트는 defaultStatements 를 쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query.budget")
+public class QueryBudgetProperties {
+
+	private boolean enabled = true;
+	private int defaultStatements = 20;
+	private Map<String, Integer> endpoints = new HashMap<>();
+	private int logShapes = 10; // 예산 초과 로그에 남길 SQL 모양 수
+
+	public int budgetOf(String endpoint) {
+		return endpoints.getOrDefault(endpoint, defaultStatements);
+	}
+}
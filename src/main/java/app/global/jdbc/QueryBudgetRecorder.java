@@ -0,0 +1,100 @@
+package app.global.jdbc;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 하나가 끝날 때 모은 QueryStats 를 엔드포인트별 지표와 예산 리포트에 반영한다.
+ * 예산을 넘긴 요청은 많이 실행된 SQL 모양과 함께 경고 로그로 남긴다.
+ */
+@Slf4j
+public class QueryBudgetRecorder {
+
+	private final QueryBudgetProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, EndpointUsage> usages = new ConcurrentHashMap<>();
+
+	public QueryBudgetRecorder(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	public void record(String method, String uri, QueryStats stats) {
+		String endpoint = method + " " + uri;
+		int budget = properties.budgetOf(endpoint);
+		boolean overBudget = stats.getStatements() > budget;
+
+		DistributionSummary.builder("http.server.requests.jdbc.statements")
+			.tags("method", method, "uri", uri)
+			.register(meterRegistry)
+			.record(stats.getStatements());
+		DistributionSummary.builder("http.server.requests.jdbc.rows")
+			.tags("method", method, "uri", uri)
+			.register(meterRegistry)
+			.record(stats.getRows());
+		Timer.builder("http.server.requests.jdbc.time")
+			.tags("method", method, "uri", uri)
+			.register(meterRegistry)
+			.record(stats.getElapsed().toNanos(), TimeUnit.NANOSECONDS);
+		usages.computeIfAbsent(endpoint, key -> new EndpointUsage()).add(stats, overBudget);
+
+		if (overBudget) {
+			Counter.builder("http.server.requests.jdbc.over_budget")
+				.tags("method", method, "uri", uri)
+				.register(meterRegistry)
+				.increment();
+			log.warn("SQL 문 예산 초과 {} budget={} {}", endpoint, budget, stats.describe(properties.getLogShapes()));
+		}
+	}
+
+	/**
+	 * 엔드포인트별 예산 리포트. 가장 많은 문장을 실행한 엔드포인트부터 돌려준다.
+	 */
+	public List<EndpointReport> report() {
+		return usages.entrySet().stream()
+			.map(entry -> entry.getValue().toReport(entry.getKey(), properties.budgetOf(entry.getKey())))
+			.sorted(Comparator.comparingInt(EndpointReport::maxStatements).reversed())
+			.toList();
+	}
+
+	public record EndpointReport(String endpoint, int budget, long requests, int maxStatements,
+								 double avgStatements, long maxRows, long overBudget) {
+	}
+
+	private static final class EndpointUsage {
+
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder statements = new LongAdder();
+		private final LongAdder overBudget = new LongAdder();
+		private final AtomicInteger maxStatements = new AtomicInteger();
+		private final AtomicInteger maxRows = new AtomicInteger();
+
+		void add(QueryStats stats, boolean over) {
+			requests.increment();
+			statements.add(stats.getStatements());
+			maxStatements.accumulateAndGet(stats.getStatements(), Math::max);
+			maxRows.accumulateAndGet((int)Math.min(stats.getRows(), Integer.MAX_VALUE), Math::max);
+			if (over) {
+				overBudget.increment();
+			}
+		}
+
+		EndpointReport toReport(String endpoint, int budget) {
+			long count = requests.sum();
+			double average = count == 0 ? 0 : (double)statements.sum() / count;
+			return new EndpointReport(endpoint, budget, count, maxStatements.get(), average, maxRows.get(),
+				overBudget.sum());
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package app.global.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션, 문장, 결과 집합을 감싸 현재 스레드의 QueryStats 에 실행 횟수, 시간, 읽은 행 수를 기록한다.
+ * 배치 실행(executeBatch)은 DB 왕복 한 번이므로 문장 하나로 센다.
+ * 열린 구간이 없으면 원래 객체를 그대로 호출하므로 운영에서도 켜 둘 수 있다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+	public QueryCountingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	private static Connection wrapConnection(Connection connection) {
+		return proxy(Connection.class, connection, (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			if (result instanceof Statement statement) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String prepared ? prepared : null;
+				return wrapStatement(statement, sql);
+			}
+			return result;
+		});
+	}
+
+	private static Statement wrapStatement(Statement statement, String preparedSql) {
+		Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+			: statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+		return proxy(type, statement, (proxy, method, args) -> {
+			String name = method.getName();
+			QueryStats stats = QueryStatsHolder.current();
+			if (stats != null && name.startsWith("execute")) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed
+					: preparedSql;
+				long start = System.nanoTime();
+				try {
+					return wrapResultSet(invoke(statement, method, args));
+				} finally {
+					stats.recordStatement(sql, System.nanoTime() - start);
+				}
+			}
+			if (name.equals("getResultSet")) {
+				return wrapResultSet(invoke(statement, method, args));
+			}
+			return invoke(statement, method, args);
+		});
+	}
+
+	private static Object wrapResultSet(Object result) {
+		if (!(result instanceof ResultSet resultSet)) {
+			return result;
+		}
+		return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+			Object value = invoke(resultSet, method, args);
+			if (Boolean.TRUE.equals(value) && method.getName().equals("next")) {
+				QueryStats stats = QueryStatsHolder.current();
+				if (stats != null) {
+					stats.recordRow();
+				}
+			}
+			return value;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+		return (T)Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[] {type},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "toString" -> target.toString();
+				default -> handler.invoke(proxy, method, args);
+			});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package app.global.jdbc;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 컨테이너의 DataSource 빈을 QueryCountingDataSource 로 감싼다.
+ * 테스트에서는 이 클래스를 @Import 하면 QueryStatsHolder.measure 로 SQL 문 수를 잴 수 있다.
+ */
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+			return new QueryCountingDataSource(dataSource);
+		}
+		return bean;
+	}
+}
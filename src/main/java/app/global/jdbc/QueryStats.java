@@ -0,0 +1,113 @@
+package app.global.jdbc;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 한 구간(HTTP 요청 하나, 테스트 하나)에서 실행된 JDBC 문 수, 읽은 행 수, 실행 시간과 SQL 모양을 모은다.
+ * SQL 모양은 리터럴과 IN 목록을 지운 문장이라, 같은 모양이 여러 번 나오면 N+1 을 의심할 수 있다.
+ * 같은 스레드 안에서만 쓰기 때문에 동기화하지 않는다.
+ */
+public final class QueryStats {
+
+	private static final int MAX_SHAPES = 100;
+	private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final QueryStats parent;
+	private final Map<String, Integer> shapes = new LinkedHashMap<>();
+	private int statements;
+	private long rows;
+	private long elapsedNanos;
+
+	QueryStats(QueryStats parent) {
+		this.parent = parent;
+	}
+
+	QueryStats parent() {
+		return parent;
+	}
+
+	void recordStatement(String sql, long nanos) {
+		statements++;
+		elapsedNanos += nanos;
+		String shape = shapeOf(sql);
+		if (shapes.containsKey(shape) || shapes.size() < MAX_SHAPES) {
+			shapes.merge(shape, 1, Integer::sum);
+		}
+		if (parent != null) {
+			parent.recordStatement(sql, nanos);
+		}
+	}
+
+	void recordRow() {
+		rows++;
+		if (parent != null) {
+			parent.recordRow();
+		}
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public Duration getElapsed() {
+		return Duration.ofNanos(elapsedNanos);
+	}
+
+	/**
+	 * SQL 모양별 실행 횟수. 처음 실행된 순서대로 돌려준다.
+	 */
+	public Map<String, Integer> getShapes() {
+		return Collections.unmodifiableMap(shapes);
+	}
+
+	/**
+	 * 두 번 이상 실행된 SQL 모양. 비어 있지 않으면 반복 조회(N+1)가 있었다는 뜻이다.
+	 */
+	public Map<String, Integer> getRepeatedShapes() {
+		return shapes.entrySet().stream()
+			.filter(entry -> entry.getValue() > 1)
+			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+	}
+
+	/**
+	 * 로그와 테스트 실패 메시지용 요약. 많이 실행된 모양부터 limit 개까지 적는다.
+	 */
+	public String describe(int limit) {
+		String shapeLines = shapes.entrySet().stream()
+			.sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+			.limit(limit)
+			.map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+			.collect(Collectors.joining("\n"));
+		return "statements=" + statements + ", rows=" + rows + ", time=" + getElapsed().toMillis() + "ms"
+			+ (shapeLines.isEmpty() ? "" : "\n" + shapeLines);
+	}
+
+	@Override
+	public String toString() {
+		return describe(MAX_SHAPES);
+	}
+
+	static String shapeOf(String sql) {
+		if (sql == null) {
+			return "<batch>";
+		}
+		String shape = COMMENT.matcher(sql).replaceAll(" ");
+		shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+		shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+		shape = IN_LIST.matcher(shape).replaceAll("(?)");
+		return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+	}
+}
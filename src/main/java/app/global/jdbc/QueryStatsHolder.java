@@ -0,0 +1,63 @@
+package app.global.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 모으고 있는 QueryStats 를 보관한다.
+ * 구간은 겹쳐 열 수 있고, 안쪽 구간에서 센 값은 바깥 구간에도 더해진다.
+ * 다른 스레드(비동기 작업, 스케줄러)에서 실행한 SQL 은 세지 않는다.
+ */
+public final class QueryStatsHolder {
+
+	private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+	private QueryStatsHolder() {
+	}
+
+	public static QueryStats open() {
+		QueryStats stats = new QueryStats(CURRENT.get());
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static void close(QueryStats stats) {
+		if (CURRENT.get() != stats) {
+			return;
+		}
+		QueryStats parent = stats.parent();
+		if (parent == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(parent);
+		}
+	}
+
+	static QueryStats current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * action 을 실행하는 동안 이 스레드에서 실행된 SQL 을 센다.
+	 */
+	public static QueryStats measure(Runnable action) {
+		QueryStats stats = open();
+		try {
+			action.run();
+		} finally {
+			close(stats);
+		}
+		return stats;
+	}
+
+	public static <T> Measured<T> measure(Supplier<T> action) {
+		QueryStats stats = open();
+		try {
+			return new Measured<>(action.get(), stats);
+		} finally {
+			close(stats);
+		}
+	}
+
+	public record Measured<T>(T result, QueryStats stats) {
+	}
+}
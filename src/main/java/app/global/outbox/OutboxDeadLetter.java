@@ -0,0 +1,51 @@
+package app.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 한도(outbox.relay.max-attempts)를 넘겨 더 이상 전달하지 않는 아웃박스 이벤트.
+ * 이벤트 ID 와 내용은 원래 이벤트 그대로이고, dead_at 은 옮긴 시각이다.
+ */
+@Entity
+@Table(name = "p_outbox_dead_letter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxDeadLetter {
+
+	@Id
+	private UUID eventId;
+
+	@Column(nullable = false, updatable = false, length = 50)
+	@Enumerated(EnumType.STRING)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false, updatable = false, length = 100)
+	private String aggregateId;
+
+	@Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false, updatable = false)
+	private int attempts;
+
+	@Column(name = "dead_at", nullable = false, updatable = false)
+	private LocalDateTime deadAt;
+}
@@ -0,0 +1,55 @@
+package app.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import app.global.entity.TimeOrderedUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문/결제 변경과 같은 트랜잭션에 기록하는 후속 작업. OutboxRelay 가 처리한 뒤 지운다.
+ * available_at 은 처음에는 기록 시각이고, 선점되면 임대 만료 시각으로 바뀐다.
+ */
+@Entity
+@Table(name = "p_outbox_event",
+	indexes = @Index(name = "idx_outbox_event_available", columnList = "available_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+	@Id
+	@TimeOrderedUuid
+	private UUID eventId;
+
+	@Column(nullable = false, updatable = false, length = 50)
+	@Enumerated(EnumType.STRING)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false, updatable = false, length = 100)
+	private String aggregateId;
+
+	@Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "available_at", nullable = false)
+	private LocalDateTime availableAt;
+
+	@Column(nullable = false)
+	private int attempts;
+}
@@ -0,0 +1,39 @@
+package app.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+	/**
+	 * 처리할 차례가 된 이벤트를 잠그며 읽는다. 다른 노드가 잠근 행은 기다리지 않고 건너뛴다.
+	 */
+	@Query(value = "SELECT * FROM p_outbox_event WHERE available_at <= :now "
+		+ "ORDER BY available_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<OutboxEvent> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Modifying
+	@Query("update OutboxEvent e set e.availableAt = :leaseUntil, e.attempts = e.attempts + 1 "
+		+ "where e.eventId in :eventIds")
+	int lease(@Param("eventIds") Collection<UUID> eventIds, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+	@Modifying
+	@Query("update OutboxEvent e set e.availableAt = :availableAt where e.eventId = :eventId")
+	int reschedule(@Param("eventId") UUID eventId, @Param("availableAt") LocalDateTime availableAt);
+
+	@Modifying
+	@Query("delete from OutboxEvent e where e.eventId in :eventIds")
+	int deleteByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+	@Query("select min(e.createdAt) from OutboxEvent e")
+	LocalDateTime findOldestCreatedAt();
+}
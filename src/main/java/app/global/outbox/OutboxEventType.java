@@ -0,0 +1,11 @@
+package app.global.outbox;
+
+/**
+ * 아웃박스 이벤트 종류. 값 이름이 그대로 event_type 컬럼에 저장되므로 이름을 바꾸지 않는다.
+ */
+public enum OutboxEventType {
+	ORDER_CREATED,
+	ORDER_STATUS_CHANGED,
+	PAYMENT_COMPLETED,
+	PAYMENT_WEBHOOK_RECEIVED
+}
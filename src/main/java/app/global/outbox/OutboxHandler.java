@@ -0,0 +1,17 @@
+package app.global.outbox;
+
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 아웃박스 이벤트를 받아 후속 작업을 하는 빈.
+ * 이벤트는 적어도 한 번 전달되고(처리 도중 장애가 나면 다시 전달된다) 같은 주문의 이벤트끼리도 순서가 보장되지 않으므로,
+ * 같은 이벤트를 여러 번 받아도 결과가 같도록 만든다.
+ */
+public interface OutboxHandler {
+
+	Set<OutboxEventType> eventTypes();
+
+	void handle(OutboxEvent event, JsonNode payload) throws Exception;
+}
@@ -0,0 +1,212 @@
+package app.global.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 이벤트를 묶음 단위로 선점해 처리기에 전달하고, 모든 처리기가 성공한 이벤트를 지운다.
+ * 선점은 FOR UPDATE SKIP LOCKED 로 하므로 여러 노드가 동시에 돌아도 같은 이벤트를 나눠 갖지 않는다.
+ * 처리에 실패한 이벤트는 OutboxService.retry 가 정한 시각에, 처리 도중 노드가 죽은 이벤트는 선점 임대가 끝나면 다시 전달된다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements CommandLineRunner {
+
+	private final OutboxService outboxService;
+	private final MeterRegistry meterRegistry;
+	private final Map<OutboxEventType, List<OutboxHandler>> handlers = new EnumMap<>(OutboxEventType.class);
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final int workers;
+	private final int batchSize;
+	private final Duration pollInterval;
+
+	private final Counter published;
+	private final Counter failed;
+	private final Counter deadLettered;
+
+	private volatile boolean running;
+	private ExecutorService executor;
+
+	public OutboxRelay(OutboxService outboxService, List<OutboxHandler> handlers, MeterRegistry meterRegistry,
+		@Value("${outbox.relay.workers:1}") int workers,
+		@Value("${outbox.relay.batch-size:100}") int batchSize,
+		@Value("${outbox.relay.poll-interval:500ms}") Duration pollInterval) {
+		this.outboxService = outboxService;
+		this.meterRegistry = meterRegistry;
+		for (OutboxHandler handler : handlers) {
+			for (OutboxEventType eventType : handler.eventTypes()) {
+				this.handlers.computeIfAbsent(eventType, key -> new ArrayList<>()).add(handler);
+			}
+		}
+		this.workers = workers;
+		this.batchSize = batchSize;
+		this.pollInterval = pollInterval;
+
+		this.published = Counter.builder("outbox.relay.events").tag("result", "published").register(meterRegistry);
+		this.failed = Counter.builder("outbox.relay.events").tag("result", "failed").register(meterRegistry);
+		this.deadLettered = Counter.builder("outbox.relay.events").tag("result", "dead_lettered")
+			.register(meterRegistry);
+		Gauge.builder("outbox.relay.backlog", this, relay -> relay.measure(outboxService::countPending))
+			.register(meterRegistry);
+		Gauge.builder("outbox.relay.oldest_age", this,
+				relay -> relay.measure(() -> outboxService.oldestPendingAge().toMillis()) / 1000.0)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public void run(String... args) {
+		start();
+	}
+
+	public void start() {
+		running = true;
+		AtomicInteger sequence = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "outbox-relay-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (int i = 0; i < workers; i++) {
+			executor.submit(this::work);
+		}
+	}
+
+	private void work() {
+		while (running && !Thread.currentThread().isInterrupted()) {
+			int processed = drainOnce();
+			if (processed < batchSize) {
+				try {
+					Thread.sleep(pollInterval.toMillis());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 이벤트를 한 묶음 처리한다. 처리기 호출은 트랜잭션 밖에서 하므로 그동안 DB 커넥션을 잡고 있지 않다.
+	 * @return 선점한 이벤트 수. 선점에 실패했거나 처리할 이벤트가 없으면 0
+	 */
+	public int drainOnce() {
+		List<OutboxEvent> events;
+		try {
+			events = outboxService.claim(batchSize);
+		} catch (Exception e) {
+			log.error("아웃박스 이벤트 선점 실패", e);
+			return 0;
+		}
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		List<OutboxEvent> done = new ArrayList<>(events.size());
+		List<OutboxEvent> retries = new ArrayList<>();
+		for (OutboxEvent event : events) {
+			if (dispatch(event)) {
+				done.add(event);
+			} else {
+				retries.add(event);
+			}
+		}
+		if (!retries.isEmpty()) {
+			try {
+				deadLettered.increment(outboxService.retry(retries));
+			} catch (Exception e) {
+				// 재시도 시각을 정하지 못한 이벤트는 선점 임대가 끝나면 다시 전달된다.
+				log.error("아웃박스 이벤트 재시도 예약 실패 - 대상: {}개", retries.size(), e);
+			}
+		}
+		try {
+			outboxService.complete(done.stream().map(OutboxEvent::getEventId).toList());
+		} catch (Exception e) {
+			// 지우지 못한 이벤트는 임대가 끝나면 다시 전달된다. 처리기는 같은 이벤트를 다시 받아도 된다.
+			log.error("아웃박스 이벤트 완료 처리 실패 - 대상: {}개", done.size(), e);
+			failed.increment(events.size());
+			return events.size();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		for (OutboxEvent event : done) {
+			lagTimer(event.getEventType()).record(Duration.between(event.getCreatedAt(), now));
+		}
+		published.increment(done.size());
+		failed.increment(events.size() - done.size());
+		return events.size();
+	}
+
+	private boolean dispatch(OutboxEvent event) {
+		List<OutboxHandler> eventHandlers = handlers.get(event.getEventType());
+		if (eventHandlers == null) {
+			// 배포 중 이 이벤트를 아는 노드가 아직 없을 수 있으므로 지우지 않고 다른 실패처럼 다시 전달한다.
+			log.warn("아웃박스 이벤트 처리기가 없습니다. - 종류: {}, 이벤트 ID: {}", event.getEventType(), event.getEventId());
+			return false;
+		}
+		try {
+			JsonNode payload = objectMapper.readTree(event.getPayload());
+			for (OutboxHandler handler : eventHandlers) {
+				handler.handle(event, payload);
+			}
+			return true;
+		} catch (Exception e) {
+			log.warn("아웃박스 이벤트 처리 실패 - 종류: {}, 이벤트 ID: {}, 시도: {}", event.getEventType(), event.getEventId(),
+				event.getAttempts() + 1, e);
+			return false;
+		}
+	}
+
+	private Timer lagTimer(OutboxEventType eventType) {
+		return Timer.builder("outbox.relay.lag")
+			.description("아웃박스 이벤트가 기록된 뒤 처리되기까지 걸린 시간")
+			.tag("event_type", eventType.name())
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	// DB 에 접속할 수 없을 때 수집이 실패하지 않도록 값을 비워 둔다.
+	private double measure(LongSupplier supplier) {
+		try {
+			return supplier.getAsLong();
+		} catch (Exception e) {
+			return Double.NaN;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		if (executor != null) {
+			executor.shutdownNow();
+			try {
+				executor.awaitTermination(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package app.global.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+/**
+ * 아웃박스 이벤트의 기록과 선점.
+ * 기록은 호출한 쪽의 트랜잭션에 포함되므로 주문/결제 변경이 커밋될 때만 남고, 롤백되면 함께 사라진다.
+ * 처리에 실패한 이벤트는 시도할 때마다 두 배씩 늘어나는 간격을 두고 다시 전달하고,
+ * 재시도 한도를 넘기면 p_outbox_dead_letter 로 옮겨 더 이상 전달하지 않는다.
+ */
+@Service
+public class OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Duration claimLease;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+	private final Duration maxRetryBackoff;
+
+	public OutboxService(OutboxEventRepository outboxEventRepository,
+		OutboxDeadLetterRepository outboxDeadLetterRepository,
+		@Value("${outbox.relay.claim-lease:30s}") Duration claimLease,
+		@Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+		@Value("${outbox.relay.retry-backoff:5s}") Duration retryBackoff,
+		@Value("${outbox.relay.max-retry-backoff:10m}") Duration maxRetryBackoff) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+		this.claimLease = claimLease;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+		this.maxRetryBackoff = maxRetryBackoff;
+	}
+
+	/**
+	 * 현재 트랜잭션에 이벤트를 기록한다. 트랜잭션 밖에서 부르면 후속 작업이 유실될 수 있으므로 예외를 던진다.
+	 * @param payload JSON 으로 저장할 값. 시각은 epoch 밀리초로 넣는다
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(OutboxEventType eventType, Object aggregateId, Map<String, ?> payload) {
+		LocalDateTime now = LocalDateTime.now();
+		outboxEventRepository.save(OutboxEvent.builder()
+			.eventType(eventType)
+			.aggregateId(String.valueOf(aggregateId))
+			.payload(serialize(payload))
+			.createdAt(now)
+			.availableAt(now)
+			.attempts(0)
+			.build());
+	}
+
+	/**
+	 * 처리할 차례가 된 이벤트를 최대 batchSize 개 선점한다.
+	 * 선점한 이벤트는 임대 시간 동안 다른 노드에 배정되지 않고, 그 안에 지워지지 않으면 다시 선점된다.
+	 * 돌려주는 이벤트의 attempts 는 이번 선점 전의 값이다.
+	 */
+	@Transactional
+	public List<OutboxEvent> claim(int batchSize) {
+		List<OutboxEvent> events = outboxEventRepository.findClaimable(LocalDateTime.now(), batchSize);
+		if (!events.isEmpty()) {
+			outboxEventRepository.lease(events.stream().map(OutboxEvent::getEventId).toList(),
+				LocalDateTime.now().plus(claimLease));
+		}
+		return events;
+	}
+
+	@Transactional
+	public void complete(Collection<UUID> eventIds) {
+		if (!eventIds.isEmpty()) {
+			outboxEventRepository.deleteByEventIds(eventIds);
+		}
+	}
+
+	/**
+	 * 처리에 실패한 이벤트를 다시 전달할 시각을 정한다. 이번이 n 번째 시도였다면 retryBackoff * 2^(n-1) 뒤에
+	 * (최대 maxRetryBackoff) 다시 선점되고, n 이 재시도 한도에 이르렀으면 p_outbox_dead_letter 로 옮긴다.
+	 * @param events claim 이 돌려준 이벤트
+	 * @return dead letter 로 옮긴 이벤트 수
+	 */
+	@Transactional
+	public int retry(Collection<OutboxEvent> events) {
+		LocalDateTime now = LocalDateTime.now();
+		List<UUID> exhausted = new ArrayList<>();
+		for (OutboxEvent event : events) {
+			int attempts = event.getAttempts() + 1;
+			if (attempts < maxAttempts) {
+				outboxEventRepository.reschedule(event.getEventId(), now.plus(backoff(attempts)));
+				continue;
+			}
+			outboxDeadLetterRepository.save(OutboxDeadLetter.builder()
+				.eventId(event.getEventId())
+				.eventType(event.getEventType())
+				.aggregateId(event.getAggregateId())
+				.payload(event.getPayload())
+				.createdAt(event.getCreatedAt())
+				.attempts(attempts)
+				.deadAt(now)
+				.build());
+			exhausted.add(event.getEventId());
+		}
+		if (!exhausted.isEmpty()) {
+			outboxEventRepository.deleteByEventIds(exhausted);
+		}
+		return exhausted.size();
+	}
+
+	private Duration backoff(int attempts) {
+		Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+		return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+	}
+
+	public long countPending() {
+		return outboxEventRepository.count();
+	}
+
+	/**
+	 * 가장 오래 남아 있는 이벤트가 기록된 뒤 지난 시간. 남은 이벤트가 없으면 0 이다.
+	 */
+	public Duration oldestPendingAge() {
+		LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+		if (oldest == null) {
+			return Duration.ZERO;
+		}
+		Duration age = Duration.between(oldest, LocalDateTime.now());
+		return age.isNegative() ? Duration.ZERO : age;
+	}
+
+	private String serialize(Map<String, ?> payload) {
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+		}
+	}
+}
@@ -0,0 +1,262 @@
+-- 엔티티 매핑과 같은 기준 스키마. 이후 변경은 새 버전 파일로만 추가한다.
+-- 모든 테이블의 created_at ~ deleted_by 는 BaseEntity 의 감사 컬럼이다.
+
+CREATE TABLE p_user
+(
+    user_id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username      VARCHAR(50)  NOT NULL,
+    email         VARCHAR(100) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    nickname      VARCHAR(50)  NOT NULL,
+    real_name     VARCHAR(50)  NOT NULL,
+    phone_number  VARCHAR(20)  NOT NULL,
+    user_role     VARCHAR(20)  NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    BIGINT,
+    updated_by    BIGINT,
+    deleted_at    TIMESTAMP(6),
+    deleted_by    BIGINT,
+    CONSTRAINT uk_user_username UNIQUE (username),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_nickname UNIQUE (nickname),
+    CONSTRAINT uk_user_phone_number UNIQUE (phone_number)
+);
+
+CREATE TABLE p_user_address
+(
+    address_id     UUID PRIMARY KEY,
+    user_id        BIGINT       NOT NULL REFERENCES p_user (user_id),
+    alias          VARCHAR(50)  NOT NULL,
+    address        VARCHAR(255) NOT NULL,
+    address_detail VARCHAR(255) NOT NULL,
+    is_default     BOOLEAN      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    created_by     BIGINT,
+    updated_by     BIGINT,
+    deleted_at     TIMESTAMP(6),
+    deleted_by     BIGINT
+);
+
+CREATE TABLE p_refresh_token
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    token      TEXT         NOT NULL,
+    expiration BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    created_by BIGINT,
+    updated_by BIGINT,
+    deleted_at TIMESTAMP(6),
+    deleted_by BIGINT,
+    CONSTRAINT uk_refresh_token_user UNIQUE (user_id)
+);
+
+CREATE TABLE p_region
+(
+    region_id   UUID PRIMARY KEY,
+    region_code VARCHAR(255) NOT NULL,
+    region_name VARCHAR(100) NOT NULL,
+    is_active   BOOLEAN      NOT NULL,
+    full_name   VARCHAR(255) NOT NULL,
+    sido        VARCHAR(20),
+    sigungu     VARCHAR(30),
+    eupmyendong VARCHAR(30),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    created_by  BIGINT,
+    updated_by  BIGINT,
+    deleted_at  TIMESTAMP(6),
+    deleted_by  BIGINT,
+    CONSTRAINT uk_region_code UNIQUE (region_code)
+);
+
+CREATE TABLE p_category
+(
+    category_id   UUID PRIMARY KEY,
+    category_name VARCHAR(100) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    BIGINT,
+    updated_by    BIGINT,
+    deleted_at    TIMESTAMP(6),
+    deleted_by    BIGINT
+);
+
+CREATE TABLE p_store
+(
+    store_id            UUID PRIMARY KEY,
+    user_id             BIGINT       NOT NULL REFERENCES p_user (user_id),
+    region_id           UUID         NOT NULL REFERENCES p_region (region_id),
+    category_id         UUID         NOT NULL REFERENCES p_category (category_id),
+    store_name          VARCHAR(100) NOT NULL,
+    description         VARCHAR(255),
+    address             VARCHAR(255) NOT NULL,
+    phone_number        VARCHAR(20),
+    min_order_amount    BIGINT       NOT NULL,
+    store_accept_status VARCHAR(255) NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    created_by          BIGINT,
+    updated_by          BIGINT,
+    deleted_at          TIMESTAMP(6),
+    deleted_by          BIGINT
+);
+
+CREATE TABLE p_menu
+(
+    menu_id     UUID PRIMARY KEY,
+    store_id    UUID         NOT NULL REFERENCES p_store (store_id),
+    name        VARCHAR(100) NOT NULL,
+    price       BIGINT       NOT NULL,
+    description VARCHAR(255),
+    is_hidden   BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    created_by  BIGINT,
+    updated_by  BIGINT,
+    deleted_at  TIMESTAMP(6),
+    deleted_by  BIGINT
+);
+
+CREATE TABLE p_cart
+(
+    cart_id    UUID PRIMARY KEY,
+    user_id    BIGINT       NOT NULL REFERENCES p_user (user_id),
+    snapshot   BYTEA,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    created_by BIGINT,
+    updated_by BIGINT,
+    deleted_at TIMESTAMP(6),
+    deleted_by BIGINT,
+    CONSTRAINT uk_cart_user UNIQUE (user_id)
+);
+
+CREATE TABLE p_cart_item
+(
+    cart_item_id UUID PRIMARY KEY,
+    cart_id      UUID         NOT NULL REFERENCES p_cart (cart_id),
+    menu_id      UUID         NOT NULL REFERENCES p_menu (menu_id),
+    store_id     UUID         NOT NULL REFERENCES p_store (store_id),
+    quantity     INTEGER      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    created_by   BIGINT,
+    updated_by   BIGINT,
+    deleted_at   TIMESTAMP(6),
+    deleted_by   BIGINT
+);
+
+CREATE TABLE p_orders
+(
+    orders_id        UUID PRIMARY KEY,
+    store_id         UUID         NOT NULL REFERENCES p_store (store_id),
+    user_id          BIGINT REFERENCES p_user (user_id),
+    total_price      BIGINT       NOT NULL,
+    delivery_address VARCHAR(255) NOT NULL,
+    payment_method   VARCHAR(50)  NOT NULL,
+    order_channel    VARCHAR(20)  NOT NULL,
+    receipt_method   VARCHAR(20)  NOT NULL,
+    order_status     VARCHAR(20)  NOT NULL,
+    is_refundable    BOOLEAN      NOT NULL,
+    request_message  VARCHAR(255),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    created_by       BIGINT,
+    updated_by       BIGINT,
+    deleted_at       TIMESTAMP(6),
+    deleted_by       BIGINT
+);
+
+CREATE TABLE p_b_order_item
+(
+    order_item_id UUID PRIMARY KEY,
+    orders_id     UUID         NOT NULL REFERENCES p_orders (orders_id),
+    menu_name     VARCHAR(100) NOT NULL,
+    price         BIGINT       NOT NULL,
+    quantity      INTEGER      NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    BIGINT,
+    updated_by    BIGINT,
+    deleted_at    TIMESTAMP(6),
+    deleted_by    BIGINT
+);
+
+CREATE TABLE p_order_status_event
+(
+    event_id     UUID PRIMARY KEY,
+    orders_id    UUID         NOT NULL,
+    order_status VARCHAR(20)  NOT NULL,
+    occurred_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_order_status_event_orders_occurred ON p_order_status_event (orders_id, occurred_at);
+
+CREATE TABLE p_review
+(
+    review_id  UUID PRIMARY KEY,
+    b_order_id UUID         NOT NULL REFERENCES p_orders (orders_id),
+    user_id    BIGINT       NOT NULL REFERENCES p_user (user_id),
+    store_id   UUID         NOT NULL REFERENCES p_store (store_id),
+    rating     BIGINT       NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    created_by BIGINT,
+    updated_by BIGINT,
+    deleted_at TIMESTAMP(6),
+    deleted_by BIGINT,
+    CONSTRAINT uk_review_order UNIQUE (b_order_id)
+);
+
+CREATE TABLE p_payment
+(
+    payment_id     UUID PRIMARY KEY,
+    payment_key    VARCHAR(255) NOT NULL,
+    orders_id      UUID         NOT NULL,
+    payment_method SMALLINT     NOT NULL, -- 순서값(ordinal)으로 저장된다
+    amount         BIGINT       NOT NULL,
+    payment_status VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    created_by     BIGINT,
+    updated_by     BIGINT,
+    deleted_at     TIMESTAMP(6),
+    deleted_by     BIGINT,
+    CONSTRAINT uk_payment_orders UNIQUE (orders_id)
+);
+
+CREATE TABLE p_payment_etc
+(
+    payment_etc_id   UUID PRIMARY KEY,
+    payment_id       UUID         NOT NULL REFERENCES p_payment (payment_id),
+    payment_response TEXT         NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    created_by       BIGINT,
+    updated_by       BIGINT,
+    deleted_at       TIMESTAMP(6),
+    deleted_by       BIGINT
+);
+
+CREATE TABLE p_ai_history
+(
+    ai_request_id     UUID PRIMARY KEY,
+    user_id           BIGINT       NOT NULL,
+    store_name        VARCHAR(255) NOT NULL,
+    menu_name         VARCHAR(255) NOT NULL,
+    req_type          VARCHAR(255) NOT NULL,
+    prompt_text       VARCHAR(255) NOT NULL,
+    generated_content VARCHAR(255),
+    status            VARCHAR(255) NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    created_by        BIGINT,
+    updated_by        BIGINT,
+    deleted_at        TIMESTAMP(6),
+    deleted_by        BIGINT
+);
@@ -0,0 +1,46 @@
+-- 저장소 조회 조건에 맞춘 보조 인덱스.
+-- 커서 목록은 (필터, created_at DESC, id DESC) 순서로 읽으므로 정렬까지 인덱스로 끝나게 한다.
+-- 소프트 삭제 조건(deleted_at IS NULL)이 항상 붙는 조회는 부분 인덱스로 삭제된 행을 뺀다.
+
+-- OrdersQueryRepository.findStoreOrders, OrdersRepository.transitionStatus 의 매장 조건
+CREATE INDEX idx_orders_store_created ON p_orders (store_id, created_at DESC, orders_id DESC);
+
+-- OrdersQueryRepository.findUserOrders, findOrderDetails
+CREATE INDEX idx_orders_user_created ON p_orders (user_id, created_at DESC, orders_id DESC);
+
+-- OrderItemRepository.findByOrders, 주문 상세 목록의 주문 항목 IN 조회
+CREATE INDEX idx_order_item_orders ON p_b_order_item (orders_id);
+
+-- ReviewQueryRepository.findStoreReviews, ReviewRepository.getAverageRatingByStore, 매장 목록 평균 평점
+-- rating 을 포함해 평균 계산은 인덱스만 읽는다.
+CREATE INDEX idx_review_store_created ON p_review (store_id, created_at DESC, review_id DESC) INCLUDE (rating);
+
+-- ReviewQueryRepository.findUserReviews
+CREATE INDEX idx_review_user_created ON p_review (user_id, created_at DESC, review_id DESC);
+
+-- ReviewRepository.existsByOrders 는 uk_review_order 유니크 인덱스를 쓴다.
+
+-- CartItemRepository.findByCart_CartId, deleteByCart_CartId
+CREATE INDEX idx_cart_item_cart ON p_cart_item (cart_id);
+
+-- MenuRepository.findByStoreAndDeletedAtIsNull, existsByStoreAndNameAndDeletedAtIsNull
+CREATE INDEX idx_menu_store_name_active ON p_menu (store_id, name) WHERE deleted_at IS NULL;
+
+-- StoreQueryRepository 목록(승인 상태별 최신순), StoreRepository.findByStoreIdAndStoreAcceptStatusAndDeletedAtIsNull
+CREATE INDEX idx_store_status_created_active ON p_store (store_accept_status, created_at DESC, store_id DESC)
+    WHERE deleted_at IS NULL;
+
+-- StoreRepository.findByUser_UserId
+CREATE INDEX idx_store_user ON p_store (user_id);
+
+-- StoreRepository.existsByStoreNameAndRegion
+CREATE INDEX idx_store_region_name ON p_store (region_id, store_name);
+
+-- RegionRepository.findByRegionCode 는 uk_region_code 유니크 인덱스를 쓴다.
+
+-- UserAddressRepository.findAllByUserUserId, findByUser_UserIdAndIsDefaultTrue, countByUser
+CREATE INDEX idx_user_address_user ON p_user_address (user_id);
+
+-- UserQueryRepository.searchUser, UserRepository.findAllByUserRole (User 는 @Where deleted_at IS NULL)
+CREATE INDEX idx_user_created_active ON p_user (created_at DESC, user_id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_user_role_created_active ON p_user (user_role, created_at DESC) WHERE deleted_at IS NULL;
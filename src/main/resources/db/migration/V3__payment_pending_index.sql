@@ -0,0 +1,3 @@
+-- 복구 작업이 오래된 PENDING 결제를 찾는 쿼리 (PaymentRepository.findStalePending)
+-- PENDING 은 잠깐 머무는 상태라 부분 인덱스가 작게 유지된다.
+CREATE INDEX idx_payment_pending ON p_payment (updated_at) WHERE payment_status = 'PENDING';
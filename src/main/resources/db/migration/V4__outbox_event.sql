@@ -0,0 +1,15 @@
+-- 주문/결제 변경과 같은 트랜잭션에 기록하는 후속 작업 (OutboxEvent)
+-- 처리된 이벤트는 바로 지우므로 테이블은 처리 대기 중인 이벤트만 담는다.
+CREATE TABLE p_outbox_event
+(
+    event_id     UUID PRIMARY KEY,
+    event_type   VARCHAR(50)  NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    available_at TIMESTAMP(6) NOT NULL,
+    attempts     INTEGER      NOT NULL
+);
+
+-- OutboxEventRepository.findClaimable: 처리할 차례가 된 이벤트를 오래된 순으로 선점
+CREATE INDEX idx_outbox_event_available ON p_outbox_event (available_at);
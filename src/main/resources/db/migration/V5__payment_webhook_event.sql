@@ -0,0 +1,12 @@
+-- 받은 결제 웹훅 (PaymentWebhookEvent)
+-- 이벤트 ID 로 중복 수신을 거르고, 보관 기간이 지난 기록은 received_at 순으로 지운다.
+CREATE TABLE p_payment_webhook_event
+(
+    event_id       VARCHAR(100) PRIMARY KEY,
+    order_id       VARCHAR(100) NOT NULL,
+    gateway_status VARCHAR(50),
+    received_at    TIMESTAMP(6) NOT NULL
+);
+
+-- PaymentWebhookEventRepository.deleteReceivedBefore: 보관 기간이 지난 기록 정리
+CREATE INDEX idx_payment_webhook_event_received ON p_payment_webhook_event (received_at);
@@ -0,0 +1,13 @@
+-- 재시도 한도를 넘긴 아웃박스 이벤트 (OutboxDeadLetter)
+-- OutboxRelay 는 더 이상 전달하지 않는다. 원인을 고친 뒤 다시 보내려면 같은 값으로 p_outbox_event 에 넣고
+-- (available_at 은 현재 시각, attempts 는 0) 이 테이블에서 지운다.
+CREATE TABLE p_outbox_dead_letter
+(
+    event_id     UUID PRIMARY KEY,
+    event_type   VARCHAR(50)  NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    attempts     INTEGER      NOT NULL,
+    dead_at      TIMESTAMP(6) NOT NULL
+);
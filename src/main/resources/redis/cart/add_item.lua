@@ -0,0 +1,63 @@
+-- 장바구니 아이템 추가(이미 있으면 수량 누적)
+-- 다른 매장의 메뉴가 담겨 있으면 장바구니를 비우고 새로 담는다.
+-- KEYS[1] = cart:{userId}, KEYS[2] = 변경된 장바구니 집합(dirty)
+-- ARGV[1] = menuId(16byte), ARGV[2] = 메타 값(버전 + storeId), ARGV[3] = 추가 수량, ARGV[4] = TTL(초)
+-- 캐시에 없으면 -1, 이전(JSON) 형식이면 -2, 그 외에는 반영된 수량을 반환한다.
+local META = 'm'
+
+local function encodeVarint(n)
+	local bytes = {}
+	repeat
+		local b = n % 128
+		n = math.floor(n / 128)
+		if n > 0 then
+			b = b + 128
+		end
+		bytes[#bytes + 1] = string.char(b)
+	until n == 0
+	return table.concat(bytes)
+end
+
+local function decodeVarint(s)
+	local n, multiplier = 0, 1
+	for i = 1, #s do
+		local b = string.byte(s, i)
+		n = n + (b % 128) * multiplier
+		if b < 128 then
+			break
+		end
+		multiplier = multiplier * 128
+	end
+	return n
+end
+
+local key = KEYS[1]
+local keyType = redis.call('TYPE', key)['ok']
+if keyType == 'none' then
+	return -1
+end
+
+if keyType == 'string' then
+	redis.call('DEL', key)
+	redis.call('HSET', key, META, ARGV[2])
+else
+	local meta = redis.call('HGET', key, META)
+	if not meta then
+		return -2
+	end
+	if meta ~= ARGV[2] then
+		redis.call('DEL', key)
+		redis.call('HSET', key, META, ARGV[2])
+	end
+end
+
+local quantity = tonumber(ARGV[3])
+local current = redis.call('HGET', key, ARGV[1])
+if current then
+	quantity = quantity + decodeVarint(current)
+end
+
+redis.call('HSET', key, ARGV[1], encodeVarint(quantity))
+redis.call('EXPIRE', key, ARGV[4])
+redis.call('SADD', KEYS[2], key)
+return quantity
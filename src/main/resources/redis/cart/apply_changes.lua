@@ -0,0 +1,98 @@
+-- 장바구니 일괄 변경 (추가/수량 변경/삭제를 요청 순서대로 한 번에 반영)
+-- 각 명령의 동작은 add_item / update_quantity / remove_item 과 같다.
+-- KEYS[1] = cart:{userId}, KEYS[2] = 변경된 장바구니 집합(dirty)
+-- ARGV[1] = TTL(초), ARGV[2..] = (명령, menuId(16byte), 메타 값, 값) 4개씩
+--   'a' 추가: 메타 값(버전 + storeId), 값 = 추가 수량
+--   'u' 수량 변경: 메타 값 없음, 값 = 변경할 수량(varint)
+--   'r' 삭제: 메타 값/값 없음
+-- 캐시에 없으면 { 'NOT_CACHED' }, 이전(JSON) 형식이면 { 'LEGACY' } 를 반환하며 이때는 아무것도 반영하지 않는다.
+-- 반영되면 { 'OK', 메타 값, menuId1, 수량1, ... } 로 반영된 장바구니를 read.lua 와 같은 형식으로 함께 반환한다.
+-- 빈 장바구니면 { 'OK' } 이다.
+local META = 'm'
+
+local function encodeVarint(n)
+	local bytes = {}
+	repeat
+		local b = n % 128
+		n = math.floor(n / 128)
+		if n > 0 then
+			b = b + 128
+		end
+		bytes[#bytes + 1] = string.char(b)
+	until n == 0
+	return table.concat(bytes)
+end
+
+local function decodeVarint(s)
+	local n, multiplier = 0, 1
+	for i = 1, #s do
+		local b = string.byte(s, i)
+		n = n + (b % 128) * multiplier
+		if b < 128 then
+			break
+		end
+		multiplier = multiplier * 128
+	end
+	return n
+end
+
+local key = KEYS[1]
+local keyType = redis.call('TYPE', key)['ok']
+if keyType == 'none' then
+	return { 'NOT_CACHED' }
+end
+if keyType == 'hash' and redis.call('HEXISTS', key, META) == 0 then
+	return { 'LEGACY' }
+end
+
+local isHash = keyType == 'hash'
+local changed = false
+for i = 2, #ARGV, 4 do
+	local command, menuId, meta, value = ARGV[i], ARGV[i + 1], ARGV[i + 2], ARGV[i + 3]
+	if command == 'a' then
+		if not isHash or redis.call('HGET', key, META) ~= meta then
+			redis.call('DEL', key)
+			redis.call('HSET', key, META, meta)
+			isHash = true
+		end
+		local quantity = tonumber(value)
+		local current = redis.call('HGET', key, menuId)
+		if current then
+			quantity = quantity + decodeVarint(current)
+		end
+		redis.call('HSET', key, menuId, encodeVarint(quantity))
+		changed = true
+	elseif command == 'u' then
+		if isHash and redis.call('HEXISTS', key, menuId) == 1 then
+			redis.call('HSET', key, menuId, value)
+			changed = true
+		end
+	elseif command == 'r' then
+		if isHash and redis.call('HDEL', key, menuId) > 0 then
+			changed = true
+		end
+	end
+end
+
+-- 아이템이 모두 삭제됐으면 빈 장바구니(빈 문자열)로 남긴다.
+if isHash and redis.call('HLEN', key) <= 1 then
+	redis.call('SET', key, '')
+	isHash = false
+end
+redis.call('EXPIRE', key, ARGV[1])
+if changed then
+	redis.call('SADD', KEYS[2], key)
+end
+
+local result = { 'OK' }
+if isHash then
+	result[2] = redis.call('HGET', key, META)
+	local entries = redis.call('HGETALL', key)
+	for i = 1, #entries, 2 do
+		if entries[i] ~= META then
+			result[#result + 1] = entries[i]
+			result[#result + 1] = entries[i + 1]
+		end
+	end
+end
+return result
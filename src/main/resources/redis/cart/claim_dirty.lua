@@ -0,0 +1,25 @@
+-- 변경된 장바구니 선점 (DB 동기화용)
+-- SPOP 으로 꺼낸 장바구니는 한 노드에만 배정된다. 선점 기록은 처리 중 집합에 남겨 두고,
+-- 임대 시간이 지나도록 완료되지 않으면(노드 장애 등) 다시 dirty 집합으로 돌려보낸다.
+-- KEYS[1] = 변경된 장바구니 집합(dirty), KEYS[2] = 처리 중 집합(zset, score = 선점 시각)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 임대 시간(ms), ARGV[3] = 최대 선점 개수
+-- 선점한 장바구니 키 목록을 반환한다.
+local now = tonumber(ARGV[1])
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now - tonumber(ARGV[2]))
+for _, member in ipairs(expired) do
+	redis.call('ZREM', KEYS[2], member)
+	redis.call('SADD', KEYS[1], member)
+end
+
+local claimed = {}
+local popped = redis.call('SPOP', KEYS[1], ARGV[3])
+for _, member in ipairs(popped) do
+	if redis.call('ZSCORE', KEYS[2], member) then
+		-- 다른 노드가 아직 동기화 중이면 다음 차례로 미룬다.
+		redis.call('SADD', KEYS[1], member)
+	else
+		redis.call('ZADD', KEYS[2], now, member)
+		claimed[#claimed + 1] = member
+	end
+end
+return claimed
@@ -0,0 +1,28 @@
+-- 장바구니 조회 (+ TTL 갱신)
+-- KEYS[1] = cart:{userId}
+-- ARGV[1] = TTL(초), '0'이면 TTL을 갱신하지 않는다.
+-- 캐시에 없으면 nil, 비어있는 장바구니면 빈 배열을 반환한다.
+-- 그 외에는 { 메타 값, menuId1, 수량1, ... } 를 반환한다. 이전(JSON) 형식이면 메타 값이 빈 문자열이다.
+local META = 'm'
+local key = KEYS[1]
+local keyType = redis.call('TYPE', key)['ok']
+if keyType == 'none' then
+	return false
+end
+
+if ARGV[1] ~= '0' then
+	redis.call('EXPIRE', key, ARGV[1])
+end
+if keyType == 'string' then
+	return {}
+end
+
+local result = { redis.call('HGET', key, META) or '' }
+local entries = redis.call('HGETALL', key)
+for i = 1, #entries, 2 do
+	if entries[i] ~= META then
+		result[#result + 1] = entries[i]
+		result[#result + 1] = entries[i + 1]
+	end
+end
+return result
@@ -0,0 +1,28 @@
+-- 장바구니 아이템 삭제
+-- 마지막 아이템이 삭제되면 빈 장바구니(빈 문자열)로 남겨 DB 재조회를 막는다.
+-- KEYS[1] = cart:{userId}, KEYS[2] = 변경된 장바구니 집합(dirty)
+-- ARGV[1] = menuId(16byte), ARGV[2] = TTL(초)
+-- 캐시에 없으면 -1, 이전(JSON) 형식이면 -2, 그 외에는 삭제된 아이템 수를 반환한다.
+local META = 'm'
+local key = KEYS[1]
+local keyType = redis.call('TYPE', key)['ok']
+if keyType == 'none' then
+	return -1
+end
+if keyType == 'hash' and redis.call('HEXISTS', key, META) == 0 then
+	return -2
+end
+
+local removed = 0
+if keyType == 'hash' then
+	removed = redis.call('HDEL', key, ARGV[1])
+	if redis.call('HLEN', key) <= 1 then
+		redis.call('SET', key, '')
+	end
+	if removed > 0 then
+		redis.call('SADD', KEYS[2], key)
+	end
+end
+
+redis.call('EXPIRE', key, ARGV[2])
+return removed
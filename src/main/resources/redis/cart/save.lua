@@ -0,0 +1,32 @@
+-- 장바구니 전체 저장
+-- KEYS[1] = cart:{userId}, KEYS[2] = 변경된 장바구니 집합(dirty)
+-- ARGV[1] = TTL(초)
+-- ARGV[2] = 저장 조건: '0' 항상, '1' 캐시에 없을 때만, '2' 이전(JSON) 형식일 때만(마이그레이션)
+-- ARGV[3] = 메타 값(버전 + storeId), ARGV[4..] = menuId(16byte), 수량(varint) 쌍
+-- '0'(사용자 변경)으로 저장한 경우에만 dirty 로 표시한다. DB 에서 적재/변환한 내용은 다시 쓸 필요가 없다.
+-- 저장하면 1, 조건이 맞지 않아 저장하지 않았으면 0을 반환한다.
+local META = 'm'
+local key = KEYS[1]
+local mode = ARGV[2]
+if mode == '1' and redis.call('EXISTS', key) == 1 then
+	return 0
+end
+if mode == '2' and (redis.call('TYPE', key)['ok'] ~= 'hash' or redis.call('HEXISTS', key, META) == 1) then
+	return 0
+end
+
+redis.call('DEL', key)
+if mode == '0' then
+	redis.call('SADD', KEYS[2], key)
+end
+if #ARGV == 3 then
+	redis.call('SET', key, '', 'EX', ARGV[1])
+	return 1
+end
+
+redis.call('HSET', key, META, ARGV[3])
+for i = 4, #ARGV, 2 do
+	redis.call('HSET', key, ARGV[i], ARGV[i + 1])
+end
+redis.call('EXPIRE', key, ARGV[1])
+return 1
@@ -0,0 +1,22 @@
+-- 장바구니 아이템 수량 변경
+-- KEYS[1] = cart:{userId}, KEYS[2] = 변경된 장바구니 집합(dirty)
+-- ARGV[1] = menuId(16byte), ARGV[2] = 변경할 수량(varint), ARGV[3] = TTL(초)
+-- 캐시에 없으면 -1, 이전(JSON) 형식이면 -2, 해당 메뉴가 없으면 0, 변경되면 1을 반환한다.
+local META = 'm'
+local key = KEYS[1]
+local keyType = redis.call('TYPE', key)['ok']
+if keyType == 'none' then
+	return -1
+end
+if keyType == 'hash' and redis.call('HEXISTS', key, META) == 0 then
+	return -2
+end
+
+redis.call('EXPIRE', key, ARGV[3])
+if keyType == 'string' or redis.call('HEXISTS', key, ARGV[1]) == 0 then
+	return 0
+end
+
+redis.call('HSET', key, ARGV[1], ARGV[2])
+redis.call('SADD', KEYS[2], key)
+return 1
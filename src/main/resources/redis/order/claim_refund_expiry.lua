@@ -0,0 +1,19 @@
+-- 환불 가능 기간이 끝난 주문 선점
+-- 기한이 지난 주문을 처리 중 집합으로 옮겨 한 작업자에게만 배정한다.
+-- 임대 시간이 지나도록 완료되지 않으면(작업자 장애, 재시작 등) 즉시 처리 대상으로 대기 집합에 돌려보낸다.
+-- KEYS[1] = 대기 집합(zset, score = 기한), KEYS[2] = 처리 중 집합(zset, score = 선점 시각)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 임대 시간(ms), ARGV[3] = 최대 선점 개수
+-- 선점한 주문 ID 목록을 반환한다.
+local now = tonumber(ARGV[1])
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now - tonumber(ARGV[2]))
+for _, member in ipairs(expired) do
+	redis.call('ZREM', KEYS[2], member)
+	redis.call('ZADD', KEYS[1], now, member)
+end
+
+local claimed = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, tonumber(ARGV[3]))
+for _, member in ipairs(claimed) do
+	redis.call('ZREM', KEYS[1], member)
+	redis.call('ZADD', KEYS[2], now, member)
+end
+return claimed
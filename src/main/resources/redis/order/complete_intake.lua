@@ -0,0 +1,14 @@
+-- 접수 주문 처리 완료
+-- 처리한 항목을 확인(XACK)하고 스트림에서 지운 뒤, 주문별 접수 상태를 바꾼다.
+-- KEYS[1] = 접수 스트림, KEYS[2..n] = 주문별 접수 상태(hash)
+-- ARGV[1] = 소비자 그룹, ARGV[2] = 바꿀 상태, ARGV[3] = 상태 보관 시간(초), ARGV[4..n] = 스트림 항목 ID (KEYS[2..n] 과 같은 순서)
+-- 확인한 항목 수를 반환한다.
+local acked = 0
+for i = 2, #KEYS do
+	local messageId = ARGV[i + 2]
+	acked = acked + redis.call('XACK', KEYS[1], ARGV[1], messageId)
+	redis.call('XDEL', KEYS[1], messageId)
+	redis.call('HSET', KEYS[i], 'status', ARGV[2])
+	redis.call('EXPIRE', KEYS[i], tonumber(ARGV[3]))
+end
+return acked
@@ -0,0 +1,12 @@
+-- 오래 확인되지 않은 접수 항목 조회
+-- XPENDING 의 IDLE 조건으로 서버에서 걸러, 앞쪽 항목이 아직 처리 중이어도 뒤쪽의 오래된 항목을 찾는다.
+-- KEYS[1] = 접수 스트림
+-- ARGV[1] = 소비자 그룹, ARGV[2] = 최소 유휴 시간(ms), ARGV[3] = 최대 개수
+-- {항목 ID, 전달 횟수, 항목 ID, 전달 횟수, ...} 를 반환한다.
+local pending = redis.call('XPENDING', KEYS[1], ARGV[1], 'IDLE', tonumber(ARGV[2]), '-', '+', tonumber(ARGV[3]))
+local result = {}
+for _, entry in ipairs(pending) do
+	result[#result + 1] = entry[1]
+	result[#result + 1] = tostring(entry[4])
+end
+return result
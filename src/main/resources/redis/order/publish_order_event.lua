@@ -0,0 +1,6 @@
+-- 주문 이벤트 발행
+-- 알림 등 다른 서비스가 소비자 그룹으로 읽는 주문 이벤트 스트림에 남긴다.
+-- KEYS[1] = 주문 이벤트 스트림
+-- ARGV[1] = 아웃박스 이벤트 ID(소비자가 중복을 거르는 키), ARGV[2] = 이벤트 종류, ARGV[3] = 본문(JSON), ARGV[4] = 스트림 보관 개수(근사)
+-- 스트림 항목 ID 를 반환한다.
+return redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[4], '*', 'eventId', ARGV[1], 'type', ARGV[2], 'payload', ARGV[3])
@@ -0,0 +1,17 @@
+-- 주문 피드 이벤트 발행
+-- 매장별 피드 스트림에 이벤트를 남기고(재연결 시 이어 받기), 주문별 최신 상태를 갱신한 뒤 모든 노드가 구독하는 채널로 알린다.
+-- 커밋 후 발행이라 가까이 커밋된 두 상태 변경의 발행 순서가 뒤바뀔 수 있으므로,
+-- 최신 상태는 보관된 버전보다 오래되지 않은 이벤트일 때만 바꾼다(버전 필드가 없던 해시는 덮어쓴다).
+-- KEYS[1] = 매장별 피드 스트림, KEYS[2] = 주문별 최신 상태 해시
+-- ARGV[1] = 채널, ARGV[2] = 이벤트(JSON), ARGV[3] = 스트림 보관 개수(근사), ARGV[4] = 스트림/상태 보관 시간(초),
+-- ARGV[5] = 상태 버전(상태 변경 시각, ms)
+-- 스트림 항목 ID 를 반환한다.
+local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[3], '*', 'event', ARGV[2])
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+local current = redis.call('HGET', KEYS[2], 'version')
+if not current or tonumber(current) <= tonumber(ARGV[5]) then
+	redis.call('HSET', KEYS[2], 'id', id, 'event', ARGV[2], 'version', ARGV[5])
+	redis.call('EXPIRE', KEYS[2], tonumber(ARGV[4]))
+end
+redis.call('PUBLISH', ARGV[1], '{"id":"' .. id .. '","event":' .. ARGV[2] .. '}')
+return id
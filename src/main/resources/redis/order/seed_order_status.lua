@@ -0,0 +1,12 @@
+-- 주문별 최신 상태 해시 채우기
+-- DB 에서 읽은 상태는 그 사이 발행된 더 최신 상태를 덮어쓰지 않도록, 해시가 없을 때만 기록한다.
+-- 버전은 0 으로 두어, 읽은 뒤에 커밋된 상태 변경이 발행되면 그 이벤트가 항상 덮어쓴다.
+-- KEYS[1] = 주문별 최신 상태 해시
+-- ARGV[1] = 이벤트 ID, ARGV[2] = 이벤트(JSON), ARGV[3] = 보관 시간(초)
+-- 기록했으면 1, 이미 있으면 0 을 반환한다.
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+redis.call('HSET', KEYS[1], 'id', ARGV[1], 'event', ARGV[2], 'version', '0')
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+return 1
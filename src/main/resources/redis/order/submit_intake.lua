@@ -0,0 +1,9 @@
+-- 주문 접수
+-- 검증된 주문을 접수 스트림에 추가하고, 저장 전에도 조회할 수 있도록 접수 상태를 기록한다.
+-- KEYS[1] = 접수 스트림, KEYS[2] = 주문별 접수 상태(hash)
+-- ARGV[1] = 주문 ID, ARGV[2] = 주문 내용(JSON), ARGV[3] = 주문자 ID, ARGV[4] = 상태 보관 시간(초)
+-- 스트림 항목 ID 를 반환한다.
+local id = redis.call('XADD', KEYS[1], '*', 'orderId', ARGV[1], 'payload', ARGV[2])
+redis.call('HSET', KEYS[2], 'status', 'QUEUED', 'userId', ARGV[3])
+redis.call('EXPIRE', KEYS[2], tonumber(ARGV[4]))
+return id
@@ -0,0 +1,16 @@
+-- 결제 멱등 처리 시작
+-- 처음 들어온 요청이면 처리 중 표시를 남기고, 이미 있으면 그 상태를 돌려준다.
+-- KEYS[1] = 멱등 키별 상태(hash)
+-- ARGV[1] = 처리 중 표시의 소유 토큰, ARGV[2] = 처리 중 표시 보관 시간(밀리초)
+-- {'ACQUIRED'}, {'IN_FLIGHT'}, {'DONE', 결과 종류, 결과 본문} 중 하나를 반환한다.
+local state = redis.call('HGET', KEYS[1], 'state')
+if not state then
+	redis.call('HSET', KEYS[1], 'state', 'IN_FLIGHT', 'owner', ARGV[1])
+	redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2]))
+	return {'ACQUIRED'}
+end
+if state == 'DONE' then
+	local result = redis.call('HMGET', KEYS[1], 'outcome', 'response')
+	return {'DONE', result[1], result[2]}
+end
+return {'IN_FLIGHT'}
@@ -0,0 +1,12 @@
+-- 결제 멱등 처리 완료
+-- 처리 중 표시를 남긴 요청만 최종 결과를 저장한다. 표시가 만료되어 다른 요청이 가져간 경우에는 바꾸지 않는다.
+-- KEYS[1] = 멱등 키별 상태(hash)
+-- ARGV[1] = 소유 토큰, ARGV[2] = 결과 종류, ARGV[3] = 결과 본문, ARGV[4] = 결과 보관 시간(밀리초)
+-- 저장했으면 1, 아니면 0 을 반환한다.
+if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+	return 0
+end
+redis.call('HSET', KEYS[1], 'state', 'DONE', 'outcome', ARGV[2], 'response', ARGV[3])
+redis.call('HDEL', KEYS[1], 'owner')
+redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[4]))
+return 1
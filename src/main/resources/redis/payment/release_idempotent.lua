@@ -0,0 +1,9 @@
+-- 결제 멱등 처리 포기
+-- 결과를 확정하지 못한 요청의 처리 중 표시를 지워, 다음 재시도가 바로 처리되도록 한다.
+-- KEYS[1] = 멱등 키별 상태(hash)
+-- ARGV[1] = 소유 토큰
+-- 지웠으면 1, 아니면 0 을 반환한다.
+if redis.call('HGET', KEYS[1], 'owner') == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+return 0
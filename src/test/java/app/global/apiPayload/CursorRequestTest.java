@@ -0,0 +1,85 @@
+package app.global.apiPayload;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+@DisplayName("CursorRequest / CursorResponse 테스트")
+class CursorRequestTest {
+
+	private record Row(LocalDateTime createdAt, UUID id) {
+	}
+
+	@Test
+	@DisplayName("인코딩한 커서는 같은 (createdAt, id) 로 되돌아온다")
+	void cursorRoundTrip() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 8, 1, 12, 30, 15, 123456000);
+		UUID id = UUID.randomUUID();
+
+		CursorRequest request = new CursorRequest(CursorRequest.encode(createdAt, id), 10, false);
+
+		assertThat(request.isFirstPage()).isFalse();
+		assertThat(request.key()).contains(new CursorRequest.Key(createdAt, id.toString()));
+	}
+
+	@Test
+	@DisplayName("해석할 수 없는 커서는 INVALID_CURSOR")
+	void invalidCursor() {
+		CursorRequest request = new CursorRequest("not a cursor", 10, false);
+
+		assertThatThrownBy(request::key)
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(ErrorStatus.INVALID_CURSOR);
+	}
+
+	@Test
+	@DisplayName("size 가 없거나 너무 크면 기본값과 상한을 쓴다")
+	void pageSizeBounds() {
+		assertThat(new CursorRequest(null, null, null).pageSize()).isEqualTo(CursorRequest.DEFAULT_SIZE);
+		assertThat(new CursorRequest(null, 0, null).pageSize()).isEqualTo(CursorRequest.DEFAULT_SIZE);
+		assertThat(new CursorRequest(null, 1_000, null).pageSize()).isEqualTo(CursorRequest.MAX_SIZE);
+		assertThat(new CursorRequest(null, null, null).isWithTotal()).isFalse();
+	}
+
+	@Test
+	@DisplayName("한 개 더 읽힌 행이 있으면 잘라내고 마지막 항목으로 다음 커서를 만든다")
+	void sliceExtraRow() {
+		LocalDateTime now = LocalDateTime.of(2025, 8, 1, 12, 0);
+		List<Row> rows = List.of(
+			new Row(now, UUID.randomUUID()),
+			new Row(now.minusMinutes(1), UUID.randomUUID()),
+			new Row(now.minusMinutes(2), UUID.randomUUID()));
+
+		CursorResponse<Row> response = CursorResponse.of(rows, CursorRequest.first(2), Row::createdAt, Row::id);
+
+		assertThat(response.getContent()).containsExactly(rows.get(0), rows.get(1));
+		assertThat(response.isHasNext()).isTrue();
+		assertThat(new CursorRequest(response.getNextCursor(), 2, false).key())
+			.contains(new CursorRequest.Key(rows.get(1).createdAt(), rows.get(1).id().toString()));
+	}
+
+	@Test
+	@DisplayName("마지막 페이지는 다음 커서가 없고, 전체 개수는 요청했을 때만 센다")
+	void lastPageWithoutTotal() {
+		Row row = new Row(LocalDateTime.now(), UUID.randomUUID());
+		CursorRequest request = CursorRequest.first(2);
+
+		CursorResponse<Row> response = CursorResponse.of(List.of(row), request, Row::createdAt, Row::id)
+			.withTotal(request, () -> {
+				throw new AssertionError("withTotal=false 이면 count 를 실행하지 않는다");
+			});
+
+		assertThat(response.isHasNext()).isFalse();
+		assertThat(response.getNextCursor()).isNull();
+		assertThat(response.getTotalElements()).isNull();
+	}
+}
@@ -0,0 +1,142 @@
+package app.global.db;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Flyway 마이그레이션으로 만든 PostgreSQL 스키마에서 자주 쓰는 조회의 실행 계획을 확인한다.
+ * ddl-auto=validate 로 띄우므로 엔티티와 마이그레이션이 어긋나면 컨텍스트가 뜨지 않는다.
+ * enable_seqscan 을 끄면 쓸 수 있는 인덱스가 없을 때만 Seq Scan 이 남는다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=true",
+	"spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Sql("/db/hot_query_seed.sql")
+@DisplayName("자주 쓰는 조회 실행 계획 테스트")
+class HotQueryIndexTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final String STORE = "md5('store-1')::uuid";
+	private static final String ORDERS = "md5('orders-1')::uuid";
+	private static final String CART = "md5('cart-1')::uuid";
+	private static final String CURSOR_TIME = "now() - INTERVAL '1 day'";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.execute("ANALYZE");
+		jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+	}
+
+	static Stream<Arguments> hotQueries() {
+		return Stream.of(
+			Arguments.of("OrdersQueryRepository.findStoreOrders",
+				"SELECT o.orders_id, u.username, o.total_price, o.order_status, o.created_at FROM p_orders o "
+					+ "LEFT JOIN p_user u ON u.user_id = o.user_id WHERE o.store_id = " + STORE
+					+ " AND (o.created_at < " + CURSOR_TIME + " OR (o.created_at = " + CURSOR_TIME
+					+ " AND o.orders_id < " + ORDERS + ")) ORDER BY o.created_at DESC, o.orders_id DESC LIMIT 21"),
+			Arguments.of("OrdersQueryRepository.findUserOrders",
+				"SELECT o.orders_id, s.store_name, o.total_price, o.order_status, o.created_at FROM p_orders o "
+					+ "JOIN p_store s ON s.store_id = o.store_id WHERE o.user_id = 1 "
+					+ "ORDER BY o.created_at DESC, o.orders_id DESC LIMIT 21"),
+			Arguments.of("OrdersQueryRepository.findOrderDetails 주문 항목",
+				"SELECT orders_id, menu_name, price, quantity FROM p_b_order_item WHERE orders_id IN ("
+					+ ORDERS + ", md5('orders-2')::uuid)"),
+			Arguments.of("OrderItemRepository.findByOrders",
+				"SELECT * FROM p_b_order_item WHERE orders_id = " + ORDERS),
+			Arguments.of("OrderStatusEventRepository.findByOrdersIdOrderByOccurredAtAscEventIdAsc",
+				"SELECT * FROM p_order_status_event WHERE orders_id = " + ORDERS
+					+ " ORDER BY occurred_at, event_id"),
+			Arguments.of("ReviewQueryRepository.findStoreReviews",
+				"SELECT r.review_id, u.username, s.store_name, r.rating, r.content, r.created_at FROM p_review r "
+					+ "JOIN p_user u ON u.user_id = r.user_id JOIN p_store s ON s.store_id = r.store_id "
+					+ "WHERE r.store_id = " + STORE + " ORDER BY r.created_at DESC, r.review_id DESC LIMIT 21"),
+			Arguments.of("ReviewQueryRepository.findUserReviews",
+				"SELECT r.review_id, r.rating, r.created_at FROM p_review r WHERE r.user_id = 2 "
+					+ "ORDER BY r.created_at DESC, r.review_id DESC LIMIT 21"),
+			Arguments.of("ReviewRepository.getAverageRatingByStore",
+				"SELECT avg(rating) FROM p_review WHERE store_id = " + STORE),
+			Arguments.of("ReviewRepository.existsByOrders",
+				"SELECT review_id FROM p_review WHERE b_order_id = " + ORDERS + " FETCH FIRST 1 ROWS ONLY"),
+			Arguments.of("CartItemRepository.findByCart_CartId",
+				"SELECT * FROM p_cart_item WHERE cart_id = " + CART),
+			Arguments.of("CartRepository.findByUser_UserId",
+				"SELECT * FROM p_cart WHERE user_id = 1"),
+			Arguments.of("MenuRepository.findByStoreAndDeletedAtIsNull",
+				"SELECT * FROM p_menu WHERE store_id = " + STORE + " AND deleted_at IS NULL"),
+			Arguments.of("MenuRepository.existsByStoreAndNameAndDeletedAtIsNull",
+				"SELECT menu_id FROM p_menu WHERE store_id = " + STORE
+					+ " AND name = '메뉴1' AND deleted_at IS NULL FETCH FIRST 1 ROWS ONLY"),
+			Arguments.of("StoreQueryRepository.getApprovedStore",
+				"SELECT s.store_id, s.store_name, s.address, s.min_order_amount, coalesce(avg(r.rating), 0), s.created_at "
+					+ "FROM p_store s LEFT JOIN p_review r ON r.store_id = s.store_id "
+					+ "WHERE s.store_accept_status = 'APPROVE' AND s.deleted_at IS NULL "
+					+ "GROUP BY s.store_id, s.created_at ORDER BY s.created_at DESC, s.store_id DESC LIMIT 21"),
+			Arguments.of("StoreRepository.findByUser_UserId",
+				"SELECT * FROM p_store WHERE user_id = 10"),
+			Arguments.of("StoreRepository.existsByStoreNameAndRegion",
+				"SELECT store_id FROM p_store WHERE store_name = '가게1' AND region_id = md5('region-2')::uuid "
+					+ "FETCH FIRST 1 ROWS ONLY"),
+			Arguments.of("RegionRepository.findByRegionCode",
+				"SELECT * FROM p_region WHERE region_code = 'R000000001'"),
+			Arguments.of("UserAddressRepository.findAllByUserUserId",
+				"SELECT * FROM p_user_address WHERE user_id = 1"),
+			Arguments.of("UserQueryRepository.searchUser",
+				"SELECT * FROM p_user WHERE deleted_at IS NULL ORDER BY created_at DESC, user_id DESC LIMIT 21"),
+			Arguments.of("UserRepository.findAllByUserRole",
+				"SELECT * FROM p_user WHERE user_role = 'CUSTOMER' AND deleted_at IS NULL "
+					+ "ORDER BY created_at DESC LIMIT 20"),
+			Arguments.of("PaymentRepository.findStalePending",
+				"SELECT * FROM p_payment WHERE payment_status = 'PENDING' AND updated_at < now() "
+					+ "ORDER BY updated_at LIMIT 50"),
+			Arguments.of("OutboxEventRepository.findClaimable",
+				"SELECT * FROM p_outbox_event WHERE available_at <= now() "
+					+ "ORDER BY available_at LIMIT 100 FOR UPDATE SKIP LOCKED")
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("hotQueries")
+	@DisplayName("자주 쓰는 조회는 순차 스캔 없이 인덱스로 읽는다")
+	void hotQueriesUseIndexes(String name, String sql) {
+		String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+		assertThat(plan).as("%s 실행 계획\n%s", name, plan).doesNotContain("Seq Scan");
+	}
+
+	@Test
+	@DisplayName("모든 마이그레이션이 순서대로 적용된다")
+	void migrationsApplied() {
+		List<String> versions = jdbcTemplate.queryForList(
+			"SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+
+		assertThat(versions).containsExactly("1", "2", "3", "4", "5", "6");
+	}
+}
@@ -0,0 +1,139 @@
+package app.global.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.generator.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimeOrderedUuidGenerator 테스트")
+class TimeOrderedUuidGeneratorTest {
+
+	@Test
+	@DisplayName("버전 7, RFC variant 이며 생성 시각을 담는다")
+	void versionAndTimestamp() {
+		Instant now = Instant.parse("2025-06-01T12:00:00Z");
+		TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(Clock.fixed(now, ZoneOffset.UTC));
+
+		UUID uuid = generator.generate();
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+		assertThat(TimeOrderedUuidGenerator.extractTimestamp(uuid)).isEqualTo(now.toEpochMilli());
+	}
+
+	@Test
+	@DisplayName("미리 정한 식별자가 있으면 새로 발급하지 않고 그대로 사용한다")
+	void keepsAssignedIdentifier() {
+		TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+		UUID assigned = generator.generate();
+
+		assertThat(generator.allowAssignedIdentifiers()).isTrue();
+		assertThat(generator.generate(null, new Object(), assigned, EventType.INSERT)).isEqualTo(assigned);
+		assertThat(generator.generate(null, new Object(), null, EventType.INSERT)).isNotNull().isNotEqualTo(assigned);
+	}
+
+	@Test
+	@DisplayName("같은 밀리초 안에서도 발급 순서대로 증가하고, 카운터가 넘치면 다음 밀리초로 넘어간다")
+	void monotonicWithinMillisecond() {
+		Instant now = Instant.parse("2025-06-01T12:00:00Z");
+		TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(Clock.fixed(now, ZoneOffset.UTC));
+
+		List<UUID> uuids = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			uuids.add(generator.generate());
+		}
+
+		assertThat(uuids).isSorted();
+		assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+		assertThat(TimeOrderedUuidGenerator.extractTimestamp(uuids.get(uuids.size() - 1)))
+			.isGreaterThan(now.toEpochMilli());
+	}
+
+	@Test
+	@DisplayName("시계가 뒤로 가도 이전 값보다 작은 값을 발급하지 않는다")
+	void clockMovesBackwards() {
+		MutableClock clock = new MutableClock(Instant.parse("2025-06-01T12:00:00Z"));
+		TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock);
+
+		UUID first = generator.generate();
+		clock.now = clock.now.minusSeconds(1);
+		UUID second = generator.generate();
+
+		assertThat(second.compareTo(first)).isPositive();
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 발급해도 중복 없이 스레드별 발급 순서가 유지된다")
+	void concurrentGeneration() throws Exception {
+		TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+		int threads = 8;
+		int perThread = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		Set<UUID> all = ConcurrentHashMap.newKeySet();
+		try {
+			List<Future<List<UUID>>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					List<UUID> generated = new ArrayList<>(perThread);
+					for (int i = 0; i < perThread; i++) {
+						generated.add(generator.generate());
+					}
+					return generated;
+				}));
+			}
+			start.countDown();
+
+			for (Future<List<UUID>> future : futures) {
+				List<UUID> generated = future.get(30, TimeUnit.SECONDS);
+				assertThat(generated).isSorted();
+				all.addAll(generated);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(all).hasSize(threads * perThread);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
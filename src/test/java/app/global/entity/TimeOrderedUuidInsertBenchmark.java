@@ -0,0 +1,107 @@
+package app.global.entity;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 기본 키 생성 방식별 삽입 처리량 비교 (UUID v4 vs v7).
+ * 일반 테스트 실행에서는 건너뛰며, 다음처럼 실행한다.
+ * <pre>
+ * BENCHMARK=true BENCHMARK_JDBC_URL=jdbc:postgresql://localhost:5432/order \
+ * BENCHMARK_JDBC_USER=... BENCHMARK_JDBC_PASSWORD=... \
+ * ./gradlew test --tests '*TimeOrderedUuidInsertBenchmark'
+ * </pre>
+ * URL 을 주지 않으면 H2 메모리 DB 를 사용한다. PostgreSQL 에서는 기본 키 인덱스 크기도 함께 출력한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("UUID 생성 방식별 삽입 처리량 벤치마크")
+class TimeOrderedUuidInsertBenchmark {
+
+	private static final int ROWS = intEnv("BENCHMARK_ROWS", 500_000);
+	private static final int BATCH_SIZE = 1_000;
+	private static final int WARMUP_ROWS = 50_000;
+
+	@Test
+	void compareInsertThroughput() throws Exception {
+		TimeOrderedUuidGenerator timeOrdered = new TimeOrderedUuidGenerator();
+		try (Connection connection = connect()) {
+			connection.setAutoCommit(false);
+			run(connection, "bench_uuid_v4", UUID::randomUUID, WARMUP_ROWS);
+			run(connection, "bench_uuid_v7", timeOrdered::generate, WARMUP_ROWS);
+
+			long randomElapsed = run(connection, "bench_uuid_v4", UUID::randomUUID, ROWS);
+			report(connection, "UUID v4 (현재)", "bench_uuid_v4", randomElapsed);
+			long timeOrderedElapsed = run(connection, "bench_uuid_v7", timeOrdered::generate, ROWS);
+			report(connection, "UUID v7", "bench_uuid_v7", timeOrderedElapsed);
+		}
+	}
+
+	private long run(Connection connection, String table, Supplier<UUID> idSupplier, int rows) throws Exception {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("drop table if exists " + table);
+			statement.execute("create table " + table
+				+ " (id uuid primary key, created_at timestamp not null, payload varchar(100))");
+		}
+		connection.commit();
+
+		long started = System.nanoTime();
+		try (PreparedStatement insert = connection.prepareStatement(
+			"insert into " + table + " (id, created_at, payload) values (?, ?, ?)")) {
+			for (int i = 1; i <= rows; i++) {
+				insert.setObject(1, idSupplier.get());
+				insert.setTimestamp(2, Timestamp.from(Instant.now()));
+				insert.setString(3, "payload-" + i);
+				insert.addBatch();
+				if (i % BATCH_SIZE == 0) {
+					insert.executeBatch();
+					connection.commit();
+				}
+			}
+			insert.executeBatch();
+			connection.commit();
+		}
+		return System.nanoTime() - started;
+	}
+
+	private void report(Connection connection, String label, String table, long elapsedNanos) throws Exception {
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		System.out.printf("%-16s rows=%d elapsed=%.2fs throughput=%.0f rows/s index=%s%n",
+			label, ROWS, seconds, ROWS / seconds, primaryKeyIndexSize(connection, table));
+	}
+
+	private String primaryKeyIndexSize(Connection connection, String table) throws Exception {
+		if (!connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+			return "n/a";
+		}
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery(
+				 "select pg_size_pretty(pg_relation_size('" + table + "_pkey'))")) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+	private static Connection connect() throws Exception {
+		String url = Objects.requireNonNullElse(System.getenv("BENCHMARK_JDBC_URL"), "jdbc:h2:mem:uuid_benchmark");
+		return DriverManager.getConnection(url,
+			Objects.requireNonNullElse(System.getenv("BENCHMARK_JDBC_USER"), "sa"),
+			Objects.requireNonNullElse(System.getenv("BENCHMARK_JDBC_PASSWORD"), ""));
+	}
+
+	private static int intEnv(String name, int defaultValue) {
+		String value = System.getenv(name);
+		return value == null ? defaultValue : Integer.parseInt(value);
+	}
+}
@@ -0,0 +1,69 @@
+package app.global.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("QueryBudgetRecorder 테스트")
+class QueryBudgetRecorderTest {
+
+	private static final String URI = "/store/{storeId}/order";
+
+	private SimpleMeterRegistry meterRegistry;
+	private QueryBudgetRecorder recorder;
+
+	@BeforeEach
+	void setUp() {
+		QueryBudgetProperties properties = new QueryBudgetProperties();
+		properties.setDefaultStatements(10);
+		properties.setEndpoints(Map.of("GET " + URI, 2));
+		meterRegistry = new SimpleMeterRegistry();
+		recorder = new QueryBudgetRecorder(properties, meterRegistry);
+	}
+
+	private QueryStats statsOf(int statements) {
+		QueryStats stats = new QueryStats(null);
+		for (int i = 0; i < statements; i++) {
+			stats.recordStatement("select * from p_order where store_id = " + i, 1_000);
+			stats.recordRow();
+		}
+		return stats;
+	}
+
+	@Test
+	@DisplayName("엔드포인트별 예산을 넘은 요청만 초과로 센다")
+	void countsOverBudgetPerEndpoint() {
+		recorder.record("GET", URI, statsOf(2));
+		recorder.record("GET", URI, statsOf(3));
+		recorder.record("GET", "/customer/order", statsOf(3));
+
+		assertThat(meterRegistry.get("http.server.requests.jdbc.over_budget").tag("uri", URI).counter().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.find("http.server.requests.jdbc.over_budget").tag("uri", "/customer/order")
+			.counter()).isNull();
+		assertThat(meterRegistry.get("http.server.requests.jdbc.statements").tag("uri", URI).summary().max())
+			.isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("리포트는 최대 문장 수가 많은 엔드포인트부터 예산과 함께 보여준다")
+	void reportsPerEndpoint() {
+		recorder.record("GET", URI, statsOf(1));
+		recorder.record("GET", URI, statsOf(3));
+		recorder.record("POST", "/order", statsOf(5));
+
+		assertThat(recorder.report())
+			.extracting(QueryBudgetRecorder.EndpointReport::endpoint, QueryBudgetRecorder.EndpointReport::budget,
+				QueryBudgetRecorder.EndpointReport::requests, QueryBudgetRecorder.EndpointReport::maxStatements,
+				QueryBudgetRecorder.EndpointReport::overBudget)
+			.containsExactly(
+				tuple("POST /order", 10, 1L, 5, 0L),
+				tuple("GET " + URI, 2, 2L, 3, 1L));
+	}
+}
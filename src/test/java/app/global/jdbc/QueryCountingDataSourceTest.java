@@ -0,0 +1,138 @@
+package app.global.jdbc;
+
+import static app.global.jdbc.QueryStatsAssert.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QueryCountingDataSource 테스트")
+class QueryCountingDataSourceTest {
+
+	private QueryCountingDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		dataSource = new QueryCountingDataSource(h2);
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("create table item (id bigint primary key, name varchar(20))");
+			statement.execute("insert into item values (1, 'a'), (2, 'b'), (3, 'c')");
+		}
+	}
+
+	private void select(Connection connection, long id) throws Exception {
+		try (PreparedStatement statement = connection.prepareStatement("select name from item where id = ?")) {
+			statement.setLong(1, id);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					resultSet.getString(1);
+				}
+			}
+		}
+	}
+
+	private void run(SqlAction action) {
+		try (Connection connection = dataSource.getConnection()) {
+			action.run(connection);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private interface SqlAction {
+		void run(Connection connection) throws Exception;
+	}
+
+	@Test
+	@DisplayName("구간 안에서 실행한 문장 수와 읽은 행 수를 센다")
+	void countsStatementsAndRows() {
+		QueryStats stats = QueryStatsHolder.measure(() -> run(connection -> {
+			try (Statement statement = connection.createStatement();
+				 ResultSet resultSet = statement.executeQuery("select * from item")) {
+				while (resultSet.next()) {
+					resultSet.getLong(1);
+				}
+			}
+			select(connection, 1L);
+		}));
+
+		assertThatQueries(stats).hasStatements(2).hasAtMostRows(4).hasNoRepeatedShapes();
+		assertThat(stats.getRows()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("같은 모양의 조회를 반복하면 반복된 SQL 모양으로 드러난다")
+	void detectsRepeatedShapes() {
+		QueryStats stats = QueryStatsHolder.measure(() -> run(connection -> {
+			for (long id = 1; id <= 3; id++) {
+				select(connection, id);
+			}
+		}));
+
+		assertThat(stats.getRepeatedShapes()).containsExactly(
+			entry("select name from item where id = ?", 3));
+		assertThatThrownBy(() -> assertThatQueries(stats).hasNoRepeatedShapes())
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("3x select name from item where id = ?");
+	}
+
+	@Test
+	@DisplayName("리터럴과 IN 목록 길이가 달라도 같은 모양으로 묶는다")
+	void normalizesLiteralsAndInLists() {
+		QueryStats stats = QueryStatsHolder.measure(() -> run(connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.executeQuery("/* list */ select * from item where id in (1, 2) and name <> 'x'").close();
+				statement.executeQuery("select *  from item where id in (1, 2, 3) and name <> 'y'").close();
+			}
+		}));
+
+		assertThat(stats.getShapes()).containsExactly(
+			entry("select * from item where id in (?) and name <> ?", 2));
+	}
+
+	@Test
+	@DisplayName("배치 실행은 DB 왕복 한 번으로 센다")
+	void countsBatchOnce() {
+		QueryStats stats = QueryStatsHolder.measure(() -> run(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("insert into item values (?, ?)")) {
+				for (long id = 10; id < 15; id++) {
+					statement.setLong(1, id);
+					statement.setString(2, "n" + id);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		}));
+
+		assertThatQueries(stats).hasStatements(1);
+	}
+
+	@Test
+	@DisplayName("안쪽 구간에서 센 값은 바깥 구간에도 더해지고, 구간 밖 실행은 세지 않는다")
+	void nestedScopes() {
+		run(connection -> select(connection, 1L));
+
+		QueryStats outer = QueryStatsHolder.open();
+		QueryStats inner;
+		try {
+			run(connection -> select(connection, 1L));
+			inner = QueryStatsHolder.measure(() -> run(connection -> select(connection, 2L)));
+		} finally {
+			QueryStatsHolder.close(outer);
+		}
+
+		assertThatQueries(inner).hasStatements(1);
+		assertThatQueries(outer).hasStatements(2);
+		assertThat(QueryStatsHolder.current()).isNull();
+	}
+}
@@ -0,0 +1,59 @@
+package app.global.jdbc;
+
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * QueryStats 검증용 AssertJ 단언. 실패 메시지에 실행된 SQL 모양을 함께 보여준다.
+ *
+ * <pre>
+ * QueryStats stats = QueryStatsHolder.measure(() -> service.getList(request));
+ * assertThatQueries(stats).hasStatements(1).hasNoRepeatedShapes();
+ * </pre>
+ *
+ * DB 를 쓰는 테스트는 QueryCountingDataSourcePostProcessor 를 @Import 해야 SQL 이 세어진다.
+ */
+public class QueryStatsAssert extends AbstractAssert<QueryStatsAssert, QueryStats> {
+
+	private QueryStatsAssert(QueryStats actual) {
+		super(actual, QueryStatsAssert.class);
+	}
+
+	public static QueryStatsAssert assertThatQueries(QueryStats actual) {
+		return new QueryStatsAssert(actual);
+	}
+
+	public QueryStatsAssert hasStatements(int expected) {
+		isNotNull();
+		if (actual.getStatements() != expected) {
+			failWithMessage("SQL 문 %d 개를 기대했지만 %s", expected, actual);
+		}
+		return this;
+	}
+
+	public QueryStatsAssert hasAtMostStatements(int budget) {
+		isNotNull();
+		if (actual.getStatements() > budget) {
+			failWithMessage("SQL 문 예산 %d 개를 넘었다: %s", budget, actual);
+		}
+		return this;
+	}
+
+	public QueryStatsAssert hasAtMostRows(long budget) {
+		isNotNull();
+		if (actual.getRows() > budget) {
+			failWithMessage("읽은 행 예산 %d 개를 넘었다: %s", budget, actual);
+		}
+		return this;
+	}
+
+	/**
+	 * 같은 모양의 SQL 이 두 번 이상 실행되면 실패한다. 연관 엔티티를 하나씩 지연 로딩하는 N+1 을 잡는다.
+	 */
+	public QueryStatsAssert hasNoRepeatedShapes() {
+		isNotNull();
+		if (!actual.getRepeatedShapes().isEmpty()) {
+			failWithMessage("같은 SQL 이 반복 실행됐다 %s: %s", actual.getRepeatedShapes(), actual);
+		}
+		return this;
+	}
+}
@@ -0,0 +1,163 @@
+package app.global.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+	private static final int BATCH_SIZE = 100;
+
+	@Mock
+	private OutboxService outboxService;
+
+	@Mock
+	private OutboxHandler orderHandler;
+
+	@Mock
+	private OutboxHandler paymentHandler;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		when(orderHandler.eventTypes()).thenReturn(Set.of(OutboxEventType.ORDER_CREATED));
+		when(paymentHandler.eventTypes()).thenReturn(Set.of(OutboxEventType.PAYMENT_COMPLETED));
+		meterRegistry = new SimpleMeterRegistry();
+		relay = new OutboxRelay(outboxService, List.of(orderHandler, paymentHandler), meterRegistry, 1, BATCH_SIZE,
+			Duration.ofMillis(10));
+	}
+
+	private OutboxEvent event(OutboxEventType eventType) {
+		return OutboxEvent.builder()
+			.eventId(UUID.randomUUID())
+			.eventType(eventType)
+			.aggregateId(UUID.randomUUID().toString())
+			.payload("{\"orderId\":\"1\"}")
+			.createdAt(LocalDateTime.now().minusSeconds(2))
+			.availableAt(LocalDateTime.now().plusSeconds(30))
+			.attempts(1)
+			.build();
+	}
+
+	@Test
+	@DisplayName("선점한 이벤트를 종류별 처리기에 전달하고 처리된 이벤트를 지운다")
+	void dispatchAndComplete() throws Exception {
+		OutboxEvent created = event(OutboxEventType.ORDER_CREATED);
+		OutboxEvent paid = event(OutboxEventType.PAYMENT_COMPLETED);
+		when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(created, paid));
+
+		int processed = relay.drainOnce();
+
+		assertThat(processed).isEqualTo(2);
+		verify(orderHandler).handle(eq(created), any(JsonNode.class));
+		verify(paymentHandler).handle(eq(paid), any(JsonNode.class));
+		verify(orderHandler, never()).handle(eq(paid), any());
+		verify(outboxService).complete(List.of(created.getEventId(), paid.getEventId()));
+		assertThat(counter("published")).isEqualTo(2);
+		assertThat(meterRegistry.get("outbox.relay.lag").tag("event_type", "ORDER_CREATED").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("처리에 실패한 이벤트는 지우지 않고 다시 전달하도록 예약한다")
+	void failedEventIsRetried() throws Exception {
+		OutboxEvent failing = event(OutboxEventType.ORDER_CREATED);
+		OutboxEvent paid = event(OutboxEventType.PAYMENT_COMPLETED);
+		when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(failing, paid));
+		doThrow(new IllegalStateException("redis down")).when(orderHandler).handle(eq(failing), any());
+
+		int processed = relay.drainOnce();
+
+		assertThat(processed).isEqualTo(2);
+		verify(outboxService).retry(List.of(failing));
+		verify(outboxService).complete(List.of(paid.getEventId()));
+		assertThat(counter("published")).isEqualTo(1);
+		assertThat(counter("failed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재시도 한도를 넘겨 dead letter 로 옮긴 이벤트 수를 센다")
+	void countsDeadLetters() throws Exception {
+		OutboxEvent failing = event(OutboxEventType.ORDER_CREATED);
+		when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(failing));
+		doThrow(new IllegalStateException("redis down")).when(orderHandler).handle(eq(failing), any());
+		when(outboxService.retry(List.of(failing))).thenReturn(1);
+
+		relay.drainOnce();
+
+		assertThat(counter("dead_lettered")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재시도 예약에 실패해도 처리된 이벤트는 지운다")
+	void retryFails() throws Exception {
+		OutboxEvent failing = event(OutboxEventType.ORDER_CREATED);
+		OutboxEvent paid = event(OutboxEventType.PAYMENT_COMPLETED);
+		when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(failing, paid));
+		doThrow(new IllegalStateException("redis down")).when(orderHandler).handle(eq(failing), any());
+		when(outboxService.retry(any())).thenThrow(new IllegalStateException("db down"));
+
+		relay.drainOnce();
+
+		verify(outboxService).complete(List.of(paid.getEventId()));
+		assertThat(counter("dead_lettered")).isZero();
+	}
+
+	@Test
+	@DisplayName("처리기가 없는 종류의 이벤트는 지우지 않고 다시 전달하도록 예약한다")
+	void unknownEventTypeIsKept() {
+		OutboxEvent changed = event(OutboxEventType.ORDER_STATUS_CHANGED);
+		when(outboxService.claim(BATCH_SIZE)).thenReturn(List.of(changed));
+
+		relay.drainOnce();
+
+		verify(outboxService).retry(List.of(changed));
+		verify(outboxService).complete(List.of());
+		assertThat(counter("failed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("선점에 실패하면 처리기를 호출하지 않는다")
+	void claimFails() {
+		when(outboxService.claim(BATCH_SIZE)).thenThrow(new IllegalStateException("db down"));
+
+		assertThat(relay.drainOnce()).isZero();
+		verify(outboxService, never()).retry(any());
+		verify(outboxService, never()).complete(any());
+	}
+
+	@Test
+	@DisplayName("적체량과 가장 오래된 이벤트의 대기 시간을 지표로 노출한다")
+	void exposesBacklogAndAge() {
+		when(outboxService.countPending()).thenReturn(42L);
+		when(outboxService.oldestPendingAge()).thenReturn(Duration.ofSeconds(7));
+
+		assertThat(meterRegistry.get("outbox.relay.backlog").gauge().value()).isEqualTo(42);
+		assertThat(meterRegistry.get("outbox.relay.oldest_age").gauge().value()).isEqualTo(7);
+	}
+
+	private double counter(String result) {
+		return meterRegistry.get("outbox.relay.events").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,143 @@
+package app.global.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, TestJpaConfig.class, OutboxService.class})
+@DisplayName("OutboxService 테스트")
+class OutboxServiceTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private OutboxService outboxService;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private OutboxDeadLetterRepository outboxDeadLetterRepository;
+
+	@Test
+	@DisplayName("기록한 이벤트를 선점하면 임대 시간 동안 다시 선점되지 않는다")
+	void claimLeasesEvents() {
+		UUID orderId = UUID.randomUUID();
+		outboxService.append(OutboxEventType.ORDER_CREATED, orderId, Map.of("orderId", orderId.toString()));
+		outboxService.append(OutboxEventType.ORDER_CREATED, UUID.randomUUID(), Map.of());
+		entityManager.flush();
+
+		List<OutboxEvent> claimed = outboxService.claim(1);
+		entityManager.clear();
+
+		assertThat(claimed).hasSize(1);
+		assertThat(outboxEventRepository.findById(claimed.get(0).getEventId()).orElseThrow().getAttempts())
+			.isEqualTo(1);
+		assertThat(outboxService.claim(10)).singleElement()
+			.satisfies(event -> assertThat(event.getEventId()).isNotEqualTo(claimed.get(0).getEventId()));
+		assertThat(outboxService.claim(10)).isEmpty();
+		assertThat(outboxEventRepository.findAll())
+			.filteredOn(event -> event.getAggregateId().equals(orderId.toString()))
+			.singleElement()
+			.satisfies(event -> assertThat(event.getPayload()).isEqualTo("{\"orderId\":\"" + orderId + "\"}"));
+	}
+
+	@Test
+	@DisplayName("처리를 마친 이벤트는 지운다")
+	void completeDeletesEvents() {
+		outboxService.append(OutboxEventType.PAYMENT_COMPLETED, UUID.randomUUID(), Map.of());
+		entityManager.flush();
+		List<OutboxEvent> claimed = outboxService.claim(10);
+
+		outboxService.complete(claimed.stream().map(OutboxEvent::getEventId).toList());
+
+		assertThat(outboxService.countPending()).isZero();
+	}
+
+	@Test
+	@DisplayName("처리에 실패한 이벤트는 시도할 때마다 두 배씩 늦게 다시 선점된다")
+	void retryBacksOffExponentially() {
+		outboxService.append(OutboxEventType.ORDER_CREATED, UUID.randomUUID(), Map.of());
+		entityManager.flush();
+		List<OutboxEvent> claimed = outboxService.claim(10);
+		UUID eventId = claimed.get(0).getEventId();
+		entityManager.clear();
+
+		LocalDateTime first = LocalDateTime.now();
+		assertThat(outboxService.retry(claimed)).isZero();
+		entityManager.clear();
+		assertThat(outboxEventRepository.findById(eventId).orElseThrow().getAvailableAt())
+			.isBetween(first.plusSeconds(5), first.plusSeconds(6));
+
+		// 세 번째 시도까지 실패했다면 5초 * 2^2 뒤에 다시 전달한다
+		OutboxEvent thirdAttempt = OutboxEvent.builder()
+			.eventId(eventId)
+			.eventType(OutboxEventType.ORDER_CREATED)
+			.attempts(2)
+			.build();
+		LocalDateTime third = LocalDateTime.now();
+		outboxService.retry(List.of(thirdAttempt));
+		entityManager.clear();
+		assertThat(outboxEventRepository.findById(eventId).orElseThrow().getAvailableAt())
+			.isBetween(third.plusSeconds(20), third.plusSeconds(21));
+		assertThat(outboxService.claim(10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("재시도 한도에 이른 이벤트는 dead letter 로 옮긴다")
+	void retryMovesExhaustedEventToDeadLetter() {
+		UUID orderId = UUID.randomUUID();
+		outboxService.append(OutboxEventType.PAYMENT_COMPLETED, orderId, Map.of("orderId", orderId.toString()));
+		entityManager.flush();
+		OutboxEvent claimed = outboxService.claim(10).get(0);
+		OutboxEvent lastAttempt = OutboxEvent.builder()
+			.eventId(claimed.getEventId())
+			.eventType(claimed.getEventType())
+			.aggregateId(claimed.getAggregateId())
+			.payload(claimed.getPayload())
+			.createdAt(claimed.getCreatedAt())
+			.attempts(9)
+			.build();
+		entityManager.clear();
+
+		assertThat(outboxService.retry(List.of(lastAttempt))).isEqualTo(1);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(outboxService.countPending()).isZero();
+		assertThat(outboxDeadLetterRepository.findById(claimed.getEventId())).get()
+			.satisfies(deadLetter -> {
+				assertThat(deadLetter.getEventType()).isEqualTo(OutboxEventType.PAYMENT_COMPLETED);
+				assertThat(deadLetter.getAggregateId()).isEqualTo(orderId.toString());
+				assertThat(deadLetter.getPayload()).isEqualTo("{\"orderId\":\"" + orderId + "\"}");
+				assertThat(deadLetter.getAttempts()).isEqualTo(10);
+			});
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("트랜잭션 밖에서는 이벤트를 기록할 수 없다")
+	void appendRequiresTransaction() {
+		assertThatThrownBy(() -> outboxService.append(OutboxEventType.ORDER_CREATED, UUID.randomUUID(), Map.of()))
+			.isInstanceOf(IllegalTransactionStateException.class);
+		assertThat(outboxEventRepository.count()).isZero();
+	}
+}
@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,10 +28,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import app.domain.cart.CartController;
 import app.domain.cart.model.dto.AddCartItemRequest;
+import app.domain.cart.model.dto.BulkCartItemRequest;
+import app.domain.cart.model.dto.CartItemChange;
+import app.domain.cart.model.dto.CartViewResponse;
 import app.domain.cart.model.dto.RedisCartItem;
 import app.domain.cart.service.CartService;
 import app.domain.cart.status.CartErrorStatus;
 import app.domain.cart.status.CartSuccessStatus;
+import app.domain.menu.MenuCatalogCache.MenuInfo;
+import app.domain.menu.MenuCatalogCache.StoreInfo;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.config.MockSecurityConfig;
@@ -147,6 +153,48 @@ class CartControllerTest {
 		verify(cartService).updateCartItem(menuId, quantity);
 	}
 
+	@Test
+	@DisplayName("장바구니 아이템 일괄 변경 - 성공")
+	@WithMockUser(username = "1", roles = "CUSTOMER")
+	void applyItemChanges_Success() throws Exception {
+		UUID storeId = UUID.randomUUID();
+		UUID menuId1 = UUID.randomUUID();
+		UUID menuId2 = UUID.randomUUID();
+		BulkCartItemRequest request = new BulkCartItemRequest(List.of(
+			new CartItemChange(CartItemChange.Type.ADD, menuId1, storeId, 2),
+			new CartItemChange(CartItemChange.Type.REMOVE, menuId2, null, 0)));
+
+		when(cartService.applyCartItemChanges(any(BulkCartItemRequest.class)))
+			.thenReturn(List.of(new RedisCartItem(menuId1, storeId, 2)));
+
+		mockMvc.perform(post("/customer/cart/item/bulk")
+				.with(csrf())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value(CartSuccessStatus.CART_ITEMS_CHANGED.getCode()))
+			.andExpect(jsonPath("$.result.length()").value(1))
+			.andExpect(jsonPath("$.result[0].menuId").value(menuId1.toString()))
+			.andExpect(jsonPath("$.result[0].quantity").value(2));
+
+		verify(cartService).applyCartItemChanges(any(BulkCartItemRequest.class));
+	}
+
+	@Test
+	@DisplayName("장바구니 아이템 일괄 변경 - 빈 목록 실패")
+	@WithMockUser(username = "1", roles = "CUSTOMER")
+	void applyItemChanges_EmptyChanges() throws Exception {
+		BulkCartItemRequest request = new BulkCartItemRequest(List.of());
+
+		mockMvc.perform(post("/customer/cart/item/bulk")
+				.with(csrf())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isBadRequest());
+
+		verify(cartService, never()).applyCartItemChanges(any());
+	}
+
 	@Test
 	@DisplayName("장바구니 아이템 삭제 - 성공")
 	@WithMockUser(username = "1", roles = {"CUSTOMER"})
@@ -229,6 +277,40 @@ class CartControllerTest {
 			.andExpect(jsonPath("$.message").value(CartErrorStatus.CART_REDIS_LOAD_FAILED.getMessage()));
 	}
 
+	@Test
+	@DisplayName("장바구니 상세 조회 - 성공")
+	@WithMockUser(username = "1", roles = {"CUSTOMER"})
+	void getCartView_Success() throws Exception {
+		UUID storeId = UUID.randomUUID();
+		UUID menuId1 = UUID.randomUUID();
+		UUID menuId2 = UUID.randomUUID();
+		List<RedisCartItem> cartItems = List.of(
+			new RedisCartItem(menuId1, storeId, 2),
+			new RedisCartItem(menuId2, storeId, 1));
+		CartViewResponse cartView = CartViewResponse.of(
+			new StoreInfo(storeId, "테스트 가게", 15000L, false),
+			cartItems,
+			Map.of(
+				menuId1, new MenuInfo(menuId1, storeId, "짜장면", 7000L, false, false),
+				menuId2, new MenuInfo(menuId2, storeId, "짬뽕", 8000L, true, false)));
+
+		when(cartService.getCartView()).thenReturn(cartView);
+
+		mockMvc.perform(get("/customer/cart/view"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value(CartSuccessStatus.CART_VIEW_RETRIEVED.getCode()))
+			.andExpect(jsonPath("$.result.storeName").value("테스트 가게"))
+			.andExpect(jsonPath("$.result.minOrderAmount").value(15000))
+			.andExpect(jsonPath("$.result.totalPrice").value(14000))
+			.andExpect(jsonPath("$.result.meetsMinOrderAmount").value(false))
+			.andExpect(jsonPath("$.result.items.length()").value(2))
+			.andExpect(jsonPath("$.result.items[0].menuName").value("짜장면"))
+			.andExpect(jsonPath("$.result.items[0].lineTotal").value(14000))
+			.andExpect(jsonPath("$.result.items[1].hidden").value(true));
+
+		verify(cartService).getCartView();
+	}
+
 	@Test
 	@DisplayName("장바구니 전체 삭제 - 성공")
 	@WithMockUser(username = "1", roles = {"CUSTOMER"})
@@ -0,0 +1,129 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartItemCodec;
+import app.global.apiPayload.exception.GeneralException;
+
+class CartItemCodecTest {
+
+	private ObjectMapper objectMapper;
+	private CartItemCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new ObjectMapper();
+		codec = new CartItemCodec(objectMapper);
+	}
+
+	@Test
+	@DisplayName("storeId 는 메타에 한 번만 저장되고 모든 아이템에 복원된다")
+	void decode_SharesStoreId() {
+		UUID storeId = UUID.randomUUID();
+		UUID menuId1 = UUID.randomUUID();
+		UUID menuId2 = UUID.randomUUID();
+
+		List<RedisCartItem> items = codec.decode(List.of(
+			codec.encodeMeta(storeId),
+			codec.encodeUuid(menuId1), codec.encodeQuantity(2),
+			codec.encodeUuid(menuId2), codec.encodeQuantity(300)));
+
+		assertThat(items).extracting(RedisCartItem::getMenuId).containsExactly(menuId1, menuId2);
+		assertThat(items).extracting(RedisCartItem::getStoreId).containsOnly(storeId);
+		assertThat(items).extracting(RedisCartItem::getQuantity).containsExactly(2, 300);
+	}
+
+	@Test
+	@DisplayName("UUID 는 16바이트, 작은 수량은 1바이트로 인코딩된다")
+	void encode_CompactSizes() {
+		assertThat(codec.encodeUuid(UUID.randomUUID())).hasSize(16);
+		assertThat(codec.encodeMeta(UUID.randomUUID())).hasSize(17);
+		assertThat(codec.encodeQuantity(1)).hasSize(1);
+		assertThat(codec.encodeQuantity(127)).hasSize(1);
+		assertThat(codec.encodeQuantity(128)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("varint 수량은 경계값에서도 그대로 복원된다")
+	void quantity_RoundTrip() {
+		UUID storeId = UUID.randomUUID();
+		for (int quantity : new int[] {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE}) {
+			List<RedisCartItem> items = codec.decode(List.of(
+				codec.encodeMeta(storeId), codec.encodeUuid(UUID.randomUUID()), codec.encodeQuantity(quantity)));
+
+			assertThat(items.get(0).getQuantity()).isEqualTo(quantity);
+		}
+	}
+
+	@Test
+	@DisplayName("메타 값이 비어 있으면 이전 JSON 형식으로 읽는다")
+	void decode_LegacyJson() throws Exception {
+		RedisCartItem legacy = RedisCartItem.builder()
+			.menuId(UUID.randomUUID())
+			.storeId(UUID.randomUUID())
+			.quantity(4)
+			.build();
+
+		List<RedisCartItem> items = codec.decode(List.of(
+			new byte[0],
+			legacy.getMenuId().toString().getBytes(StandardCharsets.US_ASCII),
+			objectMapper.writeValueAsBytes(legacy)));
+
+		assertThat(items).containsExactly(legacy);
+	}
+
+	@Test
+	@DisplayName("알 수 없는 버전이면 파싱 실패 예외가 발생한다")
+	void decode_UnknownVersion() {
+		byte[] meta = codec.encodeMeta(UUID.randomUUID());
+		meta[0] = 99;
+
+		assertThatThrownBy(() -> codec.decode(List.of(meta)))
+			.isInstanceOf(GeneralException.class);
+	}
+
+	@Test
+	@DisplayName("음수 수량은 인코딩할 수 없다")
+	void encodeQuantity_Negative() {
+		assertThatThrownBy(() -> codec.encodeQuantity(-1))
+			.isInstanceOf(GeneralException.class);
+	}
+
+	@Test
+	@DisplayName("DB 스냅샷은 인코딩한 그대로 복원된다")
+	void snapshot_RoundTrip() {
+		UUID storeId = UUID.randomUUID();
+		List<RedisCartItem> items = List.of(
+			new RedisCartItem(UUID.randomUUID(), storeId, 1),
+			new RedisCartItem(UUID.randomUUID(), storeId, 1_000));
+
+		byte[] snapshot = codec.encodeSnapshot(items);
+
+		assertThat(snapshot).hasSize(1 + 16 + 1 + (16 + 1) + (16 + 2));
+		assertThat(codec.decodeSnapshot(snapshot)).isEqualTo(items);
+		assertThat(codec.decodeSnapshot(codec.encodeSnapshot(List.of()))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("잘린 스냅샷은 파싱 실패 예외가 발생한다")
+	void decodeSnapshot_Truncated() {
+		UUID storeId = UUID.randomUUID();
+		byte[] snapshot = codec.encodeSnapshot(List.of(new RedisCartItem(UUID.randomUUID(), storeId, 1)));
+		byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 3);
+
+		assertThatThrownBy(() -> codec.decodeSnapshot(truncated))
+			.isInstanceOf(GeneralException.class);
+	}
+}
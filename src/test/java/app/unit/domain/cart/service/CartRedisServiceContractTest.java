@@ -0,0 +1,202 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.cart.model.dto.CartItemChange;
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartRedisService;
+
+/**
+ * 모든 CartRedisService 구현이 지켜야 하는 동작.
+ * 구현별 테스트가 이 클래스를 상속해 같은 시나리오를 실행한다.
+ */
+abstract class CartRedisServiceContractTest {
+
+	protected static final Long USER_ID = 900_001L;
+	protected static final Long OTHER_USER_ID = 900_002L;
+
+	protected CartRedisService cartRedisService;
+
+	protected UUID storeId;
+	protected UUID menuId1;
+	protected UUID menuId2;
+
+	protected abstract CartRedisService createCartRedisService();
+
+	@BeforeEach
+	void setUpContract() {
+		cartRedisService = createCartRedisService();
+		storeId = UUID.randomUUID();
+		menuId1 = UUID.randomUUID();
+		menuId2 = UUID.randomUUID();
+	}
+
+	protected RedisCartItem item(UUID menuId, int quantity) {
+		return new RedisCartItem(menuId, storeId, quantity);
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 장바구니는 조회/변경 모두 미스로 응답한다")
+	void miss() {
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isFalse();
+		assertThat(cartRedisService.findCartAndRefreshTtl(USER_ID)).isEmpty();
+		assertThat(cartRedisService.findCart(USER_ID)).isEmpty();
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).isEmpty();
+		assertThat(cartRedisService.addCartItem(USER_ID, item(menuId1, 1))).isFalse();
+		assertThat(cartRedisService.updateCartItemQuantity(USER_ID, menuId1, 2)).isFalse();
+		assertThat(cartRedisService.removeCartItem(USER_ID, menuId1)).isFalse();
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("저장한 장바구니를 그대로 조회한다")
+	void saveAndRead() {
+		List<RedisCartItem> items = List.of(item(menuId1, 2), item(menuId2, 3));
+
+		cartRedisService.saveCartToRedis(USER_ID, items);
+
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isTrue();
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).containsExactlyInAnyOrderElementsOf(items);
+		assertThat(cartRedisService.findCartAndRefreshTtl(USER_ID).orElseThrow())
+			.containsExactlyInAnyOrderElementsOf(items);
+	}
+
+	@Test
+	@DisplayName("캐시에 없을 때만 저장하면 이미 적재된 장바구니를 덮어쓰지 않는다")
+	void saveIfAbsent() {
+		assertThat(cartRedisService.saveCartToRedisIfAbsent(USER_ID, List.of(item(menuId1, 1)))).isTrue();
+		assertThat(cartRedisService.saveCartToRedisIfAbsent(USER_ID, List.of(item(menuId2, 5)))).isFalse();
+
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).containsExactly(item(menuId1, 1));
+	}
+
+	@Test
+	@DisplayName("같은 메뉴를 다시 담으면 수량이 누적된다")
+	void addAccumulatesQuantity() {
+		cartRedisService.saveCartToRedis(USER_ID, List.of());
+
+		assertThat(cartRedisService.addCartItem(USER_ID, item(menuId1, 2))).isTrue();
+		assertThat(cartRedisService.addCartItem(USER_ID, item(menuId1, 3))).isTrue();
+		assertThat(cartRedisService.addCartItem(USER_ID, item(menuId2, 1))).isTrue();
+
+		assertThat(cartRedisService.getCartFromRedis(USER_ID))
+			.containsExactlyInAnyOrder(item(menuId1, 5), item(menuId2, 1));
+	}
+
+	@Test
+	@DisplayName("다른 매장의 메뉴를 담으면 기존 장바구니가 비워진다")
+	void addFromOtherStoreResetsCart() {
+		cartRedisService.saveCartToRedis(USER_ID, List.of(item(menuId1, 2)));
+		RedisCartItem otherStoreItem = new RedisCartItem(menuId2, UUID.randomUUID(), 1);
+
+		cartRedisService.addCartItem(USER_ID, otherStoreItem);
+
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).containsExactly(otherStoreItem);
+	}
+
+	@Test
+	@DisplayName("수량 변경은 담긴 메뉴에만 적용된다")
+	void updateQuantity() {
+		cartRedisService.saveCartToRedis(USER_ID, List.of(item(menuId1, 2)));
+
+		assertThat(cartRedisService.updateCartItemQuantity(USER_ID, menuId1, 7)).isTrue();
+		assertThat(cartRedisService.updateCartItemQuantity(USER_ID, menuId2, 4)).isTrue();
+
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).containsExactly(item(menuId1, 7));
+	}
+
+	@Test
+	@DisplayName("마지막 메뉴를 삭제해도 빈 장바구니로 캐시에 남는다")
+	void removeLastItemKeepsEmptyCart() {
+		cartRedisService.saveCartToRedis(USER_ID, List.of(item(menuId1, 2)));
+
+		assertThat(cartRedisService.removeCartItem(USER_ID, menuId1)).isTrue();
+
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isTrue();
+		assertThat(cartRedisService.findCartAndRefreshTtl(USER_ID).orElseThrow()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("장바구니를 비우면 빈 장바구니로 캐시에 남는다")
+	void clear() {
+		cartRedisService.saveCartToRedis(USER_ID, List.of(item(menuId1, 2), item(menuId2, 1)));
+
+		cartRedisService.clearCartItems(USER_ID);
+
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isTrue();
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("일괄 변경은 명령을 순서대로 반영한다")
+	void applyChanges() {
+		UUID menuId3 = UUID.randomUUID();
+		cartRedisService.saveCartToRedis(USER_ID, List.of(item(menuId1, 2), item(menuId2, 1)));
+
+		Optional<List<RedisCartItem>> result = cartRedisService.applyCartItemChanges(USER_ID, List.of(
+			new CartItemChange(CartItemChange.Type.ADD, menuId1, storeId, 3),
+			new CartItemChange(CartItemChange.Type.REMOVE, menuId2, null, 0),
+			new CartItemChange(CartItemChange.Type.ADD, menuId3, storeId, 1),
+			new CartItemChange(CartItemChange.Type.UPDATE, menuId3, null, 4),
+			new CartItemChange(CartItemChange.Type.UPDATE, menuId2, null, 9)));
+
+		assertThat(result).hasValueSatisfying(cart ->
+			assertThat(cart).containsExactlyInAnyOrder(item(menuId1, 5), item(menuId3, 4)));
+		assertThat(cartRedisService.getCartFromRedis(USER_ID))
+			.containsExactlyInAnyOrder(item(menuId1, 5), item(menuId3, 4));
+	}
+
+	@Test
+	@DisplayName("일괄 변경으로 모든 아이템을 삭제하면 빈 장바구니로 남고, 빈 장바구니에도 추가할 수 있다")
+	void applyChangesOnEmptyCart() {
+		cartRedisService.saveCartToRedis(USER_ID, List.of(item(menuId1, 2)));
+
+		assertThat(cartRedisService.applyCartItemChanges(USER_ID, List.of(
+			new CartItemChange(CartItemChange.Type.REMOVE, menuId1, null, 0)))).hasValue(List.of());
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isTrue();
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).isEmpty();
+
+		assertThat(cartRedisService.applyCartItemChanges(USER_ID, List.of(
+			new CartItemChange(CartItemChange.Type.ADD, menuId2, storeId, 2)))).hasValue(List.of(item(menuId2, 2)));
+		assertThat(cartRedisService.getCartFromRedis(USER_ID)).containsExactly(item(menuId2, 2));
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 장바구니는 일괄 변경하지 않는다")
+	void applyChangesMiss() {
+		assertThat(cartRedisService.applyCartItemChanges(USER_ID, List.of(
+			new CartItemChange(CartItemChange.Type.ADD, menuId1, storeId, 1)))).isEmpty();
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("사용자 변경만 dirty 로 표시되고, 선점된 장바구니는 완료 전까지 다시 배정되지 않는다")
+	void dirtyTracking() {
+		cartRedisService.saveCartToRedisIfAbsent(OTHER_USER_ID, List.of(item(menuId1, 1)));
+		cartRedisService.saveCartToRedis(USER_ID, List.of());
+		cartRedisService.addCartItem(USER_ID, item(menuId1, 1));
+
+		List<Long> claimed = cartRedisService.claimDirtyCarts(100);
+		assertThat(claimed).containsExactly(USER_ID);
+
+		cartRedisService.addCartItem(USER_ID, item(menuId1, 1));
+		assertThat(cartRedisService.claimDirtyCarts(100)).isEmpty();
+
+		cartRedisService.completeDirtyCarts(claimed);
+		assertThat(cartRedisService.claimDirtyCarts(100)).containsExactly(USER_ID);
+	}
+
+	@Test
+	@DisplayName("장바구니 키에서 사용자 ID 를 추출한다")
+	void extractUserIdFromKey() {
+		assertThat(cartRedisService.extractUserIdFromKey("cart:" + USER_ID)).isEqualTo(USER_ID);
+	}
+}
@@ -0,0 +1,62 @@
+package app.unit.domain.cart.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.service.CartItemCodec;
+import app.domain.cart.service.CartRedisService;
+import app.domain.cart.service.CartRedisServiceImpl;
+import app.global.config.RedisConfig;
+
+/**
+ * 테스트 전용 Redis 컨테이너에 대해 계약 테스트를 실행한다.
+ * dirty:cart 같은 실제 키를 지우므로 개발용 Redis 를 쓰지 않는다. Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CartRedisServiceImplContractTest extends CartRedisServiceContractTest {
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, byte[]> cartRedisTemplate;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+
+		cartRedisTemplate = new RedisConfig().cartRedisTemplate(connectionFactory);
+		cartRedisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void cleanUp() {
+		cartRedisTemplate.delete(List.of("cart:" + USER_ID, "cart:" + OTHER_USER_ID, "cart:1", "cart:2",
+			"cart:3", "dirty:cart", "dirty:cart:processing"));
+	}
+
+	@Override
+	protected CartRedisService createCartRedisService() {
+		return new CartRedisServiceImpl(cartRedisTemplate, new CartItemCodec(new ObjectMapper()));
+	}
+}
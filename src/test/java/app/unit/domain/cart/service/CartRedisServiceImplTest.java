@@ -0,0 +1,137 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartItemCodec;
+import app.domain.cart.service.CartRedisServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CartRedisServiceImplTest {
+
+	@Mock
+	private RedisTemplate<String, byte[]> redisTemplate;
+
+	private CartItemCodec cartItemCodec;
+
+	private CartRedisServiceImpl cartRedisService;
+
+	private Long userId;
+	private UUID menuId;
+	private UUID storeId;
+
+	@BeforeEach
+	void setUp() {
+		cartItemCodec = new CartItemCodec(new ObjectMapper());
+		cartRedisService = new CartRedisServiceImpl(redisTemplate, cartItemCodec);
+		userId = 1L;
+		menuId = UUID.randomUUID();
+		storeId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("아이템 추가는 스크립트 한 번(1 왕복)으로 처리된다")
+	@SuppressWarnings("unchecked")
+	void addCartItem_SingleRoundTrip() {
+		RedisCartItem item = RedisCartItem.builder().menuId(menuId).storeId(storeId).quantity(2).build();
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L);
+
+		boolean cached = cartRedisService.addCartItem(userId, item);
+
+		assertThat(cached).isTrue();
+		verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("cart:" + userId, "dirty:cart")),
+			any(Object[].class));
+		verifyNoMoreInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("캐시에 장바구니가 없으면 아이템 추가는 false 를 반환한다")
+	@SuppressWarnings("unchecked")
+	void addCartItem_NotCached() {
+		RedisCartItem item = RedisCartItem.builder().menuId(menuId).storeId(storeId).quantity(1).build();
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-1L);
+
+		boolean cached = cartRedisService.addCartItem(userId, item);
+
+		assertThat(cached).isFalse();
+	}
+
+	@Test
+	@DisplayName("조회 스크립트가 nil 을 반환하면 캐시 미스로 처리된다")
+	@SuppressWarnings("unchecked")
+	void findCartAndRefreshTtl_Miss() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(null);
+
+		Optional<List<RedisCartItem>> result = cartRedisService.findCartAndRefreshTtl(userId);
+
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@DisplayName("조회 스크립트 결과가 한 번의 왕복으로 아이템 목록으로 변환된다")
+	@SuppressWarnings("unchecked")
+	void findCartAndRefreshTtl_Hit() {
+		List<byte[]> reply = List.of(cartItemCodec.encodeMeta(storeId), cartItemCodec.encodeUuid(menuId),
+			cartItemCodec.encodeQuantity(3));
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(reply);
+
+		Optional<List<RedisCartItem>> result = cartRedisService.findCartAndRefreshTtl(userId);
+
+		assertThat(result).isPresent();
+		assertThat(result.get()).hasSize(1);
+		assertThat(result.get().get(0).getMenuId()).isEqualTo(menuId);
+		assertThat(result.get().get(0).getStoreId()).isEqualTo(storeId);
+		assertThat(result.get().get(0).getQuantity()).isEqualTo(3);
+		verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+		verifyNoMoreInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("이전(JSON) 형식 장바구니를 변경하면 새 형식으로 변환한 뒤 다시 실행한다")
+	@SuppressWarnings("unchecked")
+	void removeCartItem_MigratesLegacyCart() throws Exception {
+		RedisCartItem legacy = RedisCartItem.builder().menuId(menuId).storeId(storeId).quantity(1).build();
+		byte[] json = new ObjectMapper().writeValueAsBytes(legacy);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(-2L)
+			.thenReturn(List.of(new byte[0], menuId.toString().getBytes(), json))
+			.thenReturn(1L)
+			.thenReturn(1L);
+
+		boolean cached = cartRedisService.removeCartItem(userId, menuId);
+
+		assertThat(cached).isTrue();
+		verify(redisTemplate, times(4)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("선점한 dirty 장바구니 키를 사용자 ID 로 변환한다")
+	@SuppressWarnings("unchecked")
+	void claimDirtyCarts_ReturnsUserIds() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of("cart:1".getBytes(), "cart:42".getBytes()));
+
+		List<Long> userIds = cartRedisService.claimDirtyCarts(100);
+
+		assertThat(userIds).containsExactly(1L, 42L);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("dirty:cart", "dirty:cart:processing")),
+			any(Object[].class));
+	}
+}
@@ -0,0 +1,176 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.model.entity.Cart;
+import app.domain.cart.model.repository.CartItemRepository;
+import app.domain.cart.model.repository.CartRepository;
+import app.domain.cart.service.CartItemCodec;
+import app.domain.cart.service.CartRedisService;
+import app.domain.cart.service.CartSyncService;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+@ExtendWith(MockitoExtension.class)
+class CartSyncServiceTest {
+
+	@Mock
+	private CartRedisService cartRedisService;
+
+	@Mock
+	private CartRepository cartRepository;
+
+	@Mock
+	private CartItemRepository cartItemRepository;
+
+	@Mock
+	private MenuRepository menuRepository;
+
+	@Spy
+	private CartItemCodec cartItemCodec = new CartItemCodec(new ObjectMapper());
+
+	@InjectMocks
+	private CartSyncService cartSyncService;
+
+	@Test
+	@DisplayName("캐시에서 만료된 장바구니는 DB 를 비우지 않고 건너뛴다")
+	void syncCart_SkipsExpiredCache() {
+		when(cartRedisService.findCart(1L)).thenReturn(Optional.empty());
+
+		boolean synced = cartSyncService.syncCart(1L);
+
+		assertThat(synced).isFalse();
+		verifyNoInteractions(cartRepository, cartItemRepository);
+	}
+
+	@Test
+	@DisplayName("선점한 장바구니 묶음 중 캐시에 남아 있는 것만 동기화한다")
+	void syncCarts_CountsSyncedCarts() {
+		Cart cart = Cart.builder().cartId(UUID.randomUUID()).build();
+		when(cartRedisService.findCart(1L)).thenReturn(Optional.of(List.of()));
+		when(cartRedisService.findCart(2L)).thenReturn(Optional.empty());
+		when(cartRepository.findByUser_UserId(1L)).thenReturn(Optional.of(cart));
+
+		int synced = cartSyncService.syncCarts(List.of(1L, 2L));
+
+		assertThat(synced).isEqualTo(1);
+		verify(cartItemRepository).deleteByCart_CartId(cart.getCartId());
+		verify(cartItemRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("묶음 중 DB 에 장바구니가 없는 사용자는 건너뛰고 나머지는 반영한다")
+	void syncCarts_SkipsMissingCart() {
+		Cart cart = Cart.builder().cartId(UUID.randomUUID()).build();
+		when(cartRedisService.findCart(anyLong())).thenReturn(Optional.of(List.of()));
+		when(cartRepository.findByUser_UserId(1L)).thenReturn(Optional.empty());
+		when(cartRepository.findByUser_UserId(2L)).thenReturn(Optional.of(cart));
+
+		int synced = cartSyncService.syncCarts(List.of(1L, 2L));
+
+		assertThat(synced).isEqualTo(1);
+		verify(cartItemRepository).deleteByCart_CartId(cart.getCartId());
+	}
+
+	@Test
+	@DisplayName("한 사용자만 동기화할 때 DB 에 장바구니가 없으면 CART_NOT_FOUND")
+	void syncCart_MissingCart() {
+		when(cartRedisService.findCart(1L)).thenReturn(Optional.of(List.of()));
+		when(cartRepository.findByUser_UserId(1L)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> cartSyncService.syncCart(1L))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(ErrorStatus.CART_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("snapshot 모드에서는 메뉴를 IN 조회 한 번으로 검증하고 스냅샷 UPDATE 한 번으로 저장한다")
+	void syncCart_SnapshotMode() {
+		ReflectionTestUtils.setField(cartSyncService, "persistenceMode", "snapshot");
+		UUID storeId = UUID.randomUUID();
+		UUID existingMenuId = UUID.randomUUID();
+		UUID deletedMenuId = UUID.randomUUID();
+		Menu menu = mock(Menu.class);
+		when(menu.getMenuId()).thenReturn(existingMenuId);
+		when(cartRedisService.findCart(1L)).thenReturn(Optional.of(List.of(
+			new RedisCartItem(existingMenuId, storeId, 2),
+			new RedisCartItem(deletedMenuId, storeId, 1))));
+		when(menuRepository.findAllById(anyIterable())).thenReturn(List.of(menu));
+		when(cartRepository.updateExistingSnapshot(eq(1L), any(byte[].class), any())).thenReturn(1);
+		byte[] expectedSnapshot = cartItemCodec.encodeSnapshot(List.of(new RedisCartItem(existingMenuId, storeId, 2)));
+
+		boolean synced = cartSyncService.syncCart(1L);
+
+		assertThat(synced).isTrue();
+		verify(menuRepository, times(1)).findAllById(anyIterable());
+		verify(cartRepository).updateExistingSnapshot(eq(1L), eq(expectedSnapshot), any());
+		verifyNoInteractions(cartItemRepository);
+		verifyNoMoreInteractions(cartRepository, menuRepository);
+	}
+
+	@Test
+	@DisplayName("snapshot 모드의 첫 스냅샷 저장은 같은 트랜잭션에서 p_cart_item 행을 지운다")
+	void syncCart_FirstSnapshotClearsItemRows() {
+		ReflectionTestUtils.setField(cartSyncService, "persistenceMode", "snapshot");
+		when(cartRedisService.findCart(1L)).thenReturn(Optional.of(List.of()));
+		when(cartRepository.updateExistingSnapshot(eq(1L), any(byte[].class), any())).thenReturn(0);
+		when(cartRepository.updateSnapshot(eq(1L), any(byte[].class), any())).thenReturn(1);
+
+		boolean synced = cartSyncService.syncCart(1L);
+
+		assertThat(synced).isTrue();
+		verify(cartItemRepository).deleteByUserId(1L);
+		verify(cartRepository).updateSnapshot(eq(1L), any(byte[].class), any());
+	}
+
+	@Test
+	@DisplayName("snapshot 모드에서 DB 에 장바구니가 없으면 CART_NOT_FOUND")
+	void syncCart_SnapshotModeMissingCart() {
+		ReflectionTestUtils.setField(cartSyncService, "persistenceMode", "snapshot");
+		when(cartRedisService.findCart(1L)).thenReturn(Optional.of(List.of()));
+		when(cartRepository.updateExistingSnapshot(eq(1L), any(byte[].class), any())).thenReturn(0);
+		when(cartRepository.updateSnapshot(eq(1L), any(byte[].class), any())).thenReturn(0);
+
+		assertThatThrownBy(() -> cartSyncService.syncCart(1L))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(ErrorStatus.CART_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("snapshot 모드의 캐시 미스 적재는 장바구니 SELECT 한 번으로 끝난다")
+	void loadCart_SnapshotMode() {
+		ReflectionTestUtils.setField(cartSyncService, "persistenceMode", "snapshot");
+		List<RedisCartItem> items = List.of(new RedisCartItem(UUID.randomUUID(), UUID.randomUUID(), 3));
+		byte[] snapshot = cartItemCodec.encodeSnapshot(items);
+		Cart cart = mock(Cart.class);
+		when(cart.getSnapshot()).thenReturn(snapshot);
+		when(cartRepository.findByUser_UserId(1L)).thenReturn(Optional.of(cart));
+
+		List<RedisCartItem> loaded = cartSyncService.loadCart(1L);
+
+		assertThat(loaded).isEqualTo(items);
+		verifyNoInteractions(cartItemRepository, menuRepository);
+	}
+}
@@ -0,0 +1,139 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.cart.service.CartRedisService;
+import app.domain.cart.service.InMemoryCartRedisService;
+import app.domain.cart.status.CartErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+class InMemoryCartRedisServiceTest extends CartRedisServiceContractTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	@Override
+	protected CartRedisService createCartRedisService() {
+		return new InMemoryCartRedisService(clock, 64L * 1024 * 1024);
+	}
+
+	@Test
+	@DisplayName("TTL 이 지나면 타이머 휠이 장바구니를 정리한다")
+	void expiresAfterTtl() {
+		InMemoryCartRedisService service = (InMemoryCartRedisService)cartRedisService;
+		service.saveCartToRedis(USER_ID, List.of(item(menuId1, 1)));
+
+		clock.advance(Duration.ofMinutes(29));
+		service.expireCarts();
+		assertThat(service.existsCartInRedis(USER_ID)).isTrue();
+
+		clock.advance(Duration.ofMinutes(2));
+		service.expireCarts();
+		assertThat(service.getUsedBytes()).isZero();
+		assertThat(service.existsCartInRedis(USER_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("TTL 갱신 조회는 만료를 늦추고, 일반 조회는 늦추지 않는다")
+	void refreshTtlOnlyOnRefreshingRead() {
+		cartRedisService.saveCartToRedis(USER_ID, List.of(item(menuId1, 1)));
+		cartRedisService.saveCartToRedis(OTHER_USER_ID, List.of(item(menuId1, 1)));
+
+		clock.advance(Duration.ofMinutes(20));
+		cartRedisService.findCartAndRefreshTtl(USER_ID);
+		cartRedisService.getCartFromRedis(OTHER_USER_ID);
+
+		clock.advance(Duration.ofMinutes(20));
+		((InMemoryCartRedisService)cartRedisService).expireCarts();
+		assertThat(cartRedisService.existsCartInRedis(USER_ID)).isTrue();
+		assertThat(cartRedisService.existsCartInRedis(OTHER_USER_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("메모리 예산을 넘으면 가장 오래 사용되지 않은 장바구니부터 내보낸다")
+	void evictsLeastRecentlyUsed() {
+		InMemoryCartRedisService service = new InMemoryCartRedisService(clock, 1_000L);
+		service.saveCartToRedisIfAbsent(1L, List.of(item(menuId1, 1)));
+		service.saveCartToRedisIfAbsent(2L, List.of(item(menuId1, 1)));
+		service.findCartAndRefreshTtl(1L);
+
+		service.saveCartToRedisIfAbsent(3L, List.of(item(menuId1, 1), item(UUID.randomUUID(), 1)));
+
+		assertThat(service.getUsedBytes()).isLessThanOrEqualTo(1_000L);
+		assertThat(service.existsCartInRedis(1L)).isTrue();
+		assertThat(service.existsCartInRedis(2L)).isFalse();
+		assertThat(service.existsCartInRedis(3L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("DB 에 반영되지 않은 장바구니는 내보내기 대상에서 뒤로 밀린다")
+	void prefersCleanCartsForEviction() {
+		InMemoryCartRedisService service = new InMemoryCartRedisService(clock, 1_000L);
+		service.saveCartToRedis(1L, List.of(item(menuId1, 1)));
+		service.saveCartToRedisIfAbsent(2L, List.of(item(menuId1, 1)));
+
+		service.saveCartToRedisIfAbsent(3L, List.of(item(menuId1, 1), item(UUID.randomUUID(), 1)));
+
+		assertThat(service.existsCartInRedis(1L)).isTrue();
+		assertThat(service.existsCartInRedis(2L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("DB 에 반영되지 않은 장바구니만 남으면 내보내지 않고 장바구니를 늘리는 쓰기를 거절한다")
+	void neverEvictsUnsyncedCarts() {
+		InMemoryCartRedisService service = new InMemoryCartRedisService(clock, 1_000L);
+		service.saveCartToRedis(1L, List.of(item(menuId1, 1)));
+		service.saveCartToRedis(2L, List.of(item(menuId1, 1)));
+		service.saveCartToRedis(3L, List.of(item(menuId1, 1), item(UUID.randomUUID(), 1)));
+
+		assertThat(service.getUsedBytes()).isGreaterThan(1_000L);
+		assertThat(service.existsCartInRedis(1L)).isTrue();
+		assertThat(service.existsCartInRedis(2L)).isTrue();
+		assertThatThrownBy(() -> service.saveCartToRedisIfAbsent(4L, List.of(item(menuId1, 1))))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(CartErrorStatus.CART_STORE_FULL);
+
+		List<Long> claimed = service.claimDirtyCarts(10);
+		assertThatThrownBy(() -> service.addCartItem(1L, item(menuId2, 1)))
+			.isInstanceOf(GeneralException.class);
+		service.completeDirtyCarts(claimed);
+
+		assertThat(service.saveCartToRedisIfAbsent(4L, List.of(item(menuId1, 1)))).isTrue();
+		assertThat(service.getUsedBytes()).isLessThanOrEqualTo(1_000L);
+		assertThat(service.existsCartInRedis(1L)).isFalse();
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
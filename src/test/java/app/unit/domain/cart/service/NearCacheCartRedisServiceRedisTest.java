@@ -0,0 +1,125 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartItemCodec;
+import app.domain.cart.service.CartRedisServiceImpl;
+import app.domain.cart.service.NearCacheCartRedisService;
+import app.global.config.CartNearCacheConfig;
+import app.global.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 실제 Redis 와 무효화 채널을 공유하는 두 노드를 띄워, 한 노드의 변경이 다른 노드의 근거리 캐시에 반영되는지 확인한다.
+ * REDIS_HOST/REDIS_PORT(기본 localhost:6379)에 접속할 수 없으면 건너뛴다.
+ */
+class NearCacheCartRedisServiceRedisTest {
+
+	private static final Long USER_ID = 900_101L;
+
+	private LettuceConnectionFactory connectionFactory;
+	private RedisTemplate<String, byte[]> cartRedisTemplate;
+	private RedisMessageListenerContainer containerA;
+	private RedisMessageListenerContainer containerB;
+	private NearCacheCartRedisService nodeA;
+	private NearCacheCartRedisService nodeB;
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+			System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+			Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		String password = System.getenv("REDIS_PASSWORD");
+		if (password != null && !password.isBlank()) {
+			configuration.setPassword(password);
+		}
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		boolean redisAvailable;
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+			redisAvailable = true;
+		} catch (Exception e) {
+			redisAvailable = false;
+		}
+		assumeTrue(redisAvailable, "Redis 에 접속할 수 없어 두 노드 테스트를 건너뜁니다.");
+
+		cartRedisTemplate = new RedisConfig().cartRedisTemplate(connectionFactory);
+		cartRedisTemplate.afterPropertiesSet();
+		cartRedisTemplate.delete(List.of("cart:" + USER_ID));
+
+		CartNearCacheConfig config = new CartNearCacheConfig();
+		nodeA = createNode(config);
+		nodeB = createNode(config);
+		containerA = startContainer(config, nodeA);
+		containerB = startContainer(config, nodeB);
+	}
+
+	private NearCacheCartRedisService createNode(CartNearCacheConfig config) {
+		StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		CartRedisServiceImpl cartRedisService = new CartRedisServiceImpl(cartRedisTemplate,
+			new CartItemCodec(new ObjectMapper()));
+		return config.nearCacheCartRedisService(cartRedisService, stringRedisTemplate, new SimpleMeterRegistry(),
+			1000, Duration.ofSeconds(30));
+	}
+
+	private RedisMessageListenerContainer startContainer(CartNearCacheConfig config,
+		NearCacheCartRedisService node) {
+		RedisMessageListenerContainer container = config.cartInvalidationListenerContainer(connectionFactory, node);
+		container.afterPropertiesSet();
+		container.start();
+		return container;
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (containerA != null) {
+			containerA.destroy();
+			containerB.destroy();
+		}
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("노드 B 에서 담은 메뉴가 노드 A 의 근거리 캐시에 반영된다")
+	void mutationFromSecondInstanceIsVisible() throws InterruptedException {
+		UUID storeId = UUID.randomUUID();
+		UUID menuId = UUID.randomUUID();
+		nodeA.saveCartToRedis(USER_ID, List.of(new RedisCartItem(menuId, storeId, 1)));
+		assertThat(nodeA.findCartAndRefreshTtl(USER_ID).orElseThrow()).hasSize(1);
+
+		nodeB.addCartItem(USER_ID, new RedisCartItem(menuId, storeId, 2));
+
+		List<RedisCartItem> seenByA = List.of();
+		long deadline = System.currentTimeMillis() + 2_000;
+		while (System.currentTimeMillis() < deadline) {
+			seenByA = nodeA.findCartAndRefreshTtl(USER_ID).orElseThrow();
+			if (seenByA.get(0).getQuantity() == 3) {
+				break;
+			}
+			Thread.sleep(20);
+		}
+		assertThat(seenByA).containsExactly(new RedisCartItem(menuId, storeId, 3));
+	}
+}
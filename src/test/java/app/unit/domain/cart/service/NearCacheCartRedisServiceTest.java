@@ -0,0 +1,188 @@
+package app.unit.domain.cart.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartRedisService;
+import app.domain.cart.service.InMemoryCartRedisService;
+import app.domain.cart.service.NearCacheCartRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 두 애플리케이션 노드가 같은 원본 저장소와 무효화 채널을 공유하는 상황을 재현한다.
+ */
+class NearCacheCartRedisServiceTest {
+
+	private static final Long USER_ID = 1L;
+
+	private final MutableClock clock = new MutableClock();
+	private final List<NearCacheCartRedisService> subscribers = new ArrayList<>();
+	private boolean deliverInvalidations = true;
+
+	private InMemoryCartRedisService sharedStore;
+	private SimpleMeterRegistry registryA;
+	private NearCacheCartRedisService nodeA;
+	private NearCacheCartRedisService nodeB;
+	private UUID storeId;
+
+	@BeforeEach
+	void setUp() {
+		sharedStore = new InMemoryCartRedisService(clock, 64L * 1024 * 1024);
+		registryA = new SimpleMeterRegistry();
+		nodeA = createNode(sharedStore, registryA, 100);
+		nodeB = createNode(sharedStore, new SimpleMeterRegistry(), 100);
+		storeId = UUID.randomUUID();
+	}
+
+	private NearCacheCartRedisService createNode(CartRedisService delegate, SimpleMeterRegistry registry,
+		int maxEntries) {
+		NearCacheCartRedisService node = new NearCacheCartRedisService(delegate, this::publish, maxEntries,
+			Duration.ofSeconds(30), clock, registry);
+		subscribers.add(node);
+		return node;
+	}
+
+	private void publish(String message) {
+		if (deliverInvalidations) {
+			subscribers.forEach(subscriber -> subscriber.onInvalidationMessage(message));
+		}
+	}
+
+	private RedisCartItem item(UUID menuId, int quantity) {
+		return new RedisCartItem(menuId, storeId, quantity);
+	}
+
+	private double count(String name, String tagKey, String tagValue) {
+		return registryA.get(name).tag(tagKey, tagValue).counter().count();
+	}
+
+	@Test
+	@DisplayName("한 노드에서 변경한 장바구니를 다른 노드가 바로 다시 읽는다")
+	void mutationOnOneNodeInvalidatesOtherNode() {
+		UUID menuId = UUID.randomUUID();
+		nodeA.saveCartToRedis(USER_ID, List.of(item(menuId, 1)));
+		assertThat(nodeA.findCartAndRefreshTtl(USER_ID).orElseThrow()).containsExactly(item(menuId, 1));
+		assertThat(nodeB.findCartAndRefreshTtl(USER_ID).orElseThrow()).containsExactly(item(menuId, 1));
+
+		nodeB.addCartItem(USER_ID, item(menuId, 2));
+		assertThat(nodeA.findCartAndRefreshTtl(USER_ID).orElseThrow()).containsExactly(item(menuId, 3));
+
+		nodeA.removeCartItem(USER_ID, menuId);
+		assertThat(nodeB.findCartAndRefreshTtl(USER_ID).orElseThrow()).isEmpty();
+
+		assertThat(count("cart.near_cache.invalidations", "source", "remote")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("반복 조회는 원본 저장소를 다시 읽지 않는다")
+	void repeatedReadsHitNearCache() {
+		CartRedisService delegate = mock(CartRedisService.class);
+		when(delegate.findCartAndRefreshTtl(USER_ID)).thenReturn(Optional.of(List.of(item(UUID.randomUUID(), 1))));
+		NearCacheCartRedisService node = createNode(delegate, registryA, 100);
+
+		node.findCartAndRefreshTtl(USER_ID);
+		node.findCartAndRefreshTtl(USER_ID);
+		node.findCartAndRefreshTtl(USER_ID);
+
+		verify(delegate, times(1)).findCartAndRefreshTtl(USER_ID);
+		assertThat(count("cart.near_cache.requests", "result", "hit")).isEqualTo(2);
+		assertThat(count("cart.near_cache.requests", "result", "miss")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("무효화 메시지가 유실돼도 TTL 이 지나면 원본을 다시 읽는다")
+	void lostInvalidationIsBoundedByTtl() {
+		UUID menuId = UUID.randomUUID();
+		nodeA.saveCartToRedis(USER_ID, List.of(item(menuId, 1)));
+		nodeA.findCartAndRefreshTtl(USER_ID);
+
+		deliverInvalidations = false;
+		nodeB.updateCartItemQuantity(USER_ID, menuId, 5);
+		assertThat(nodeA.findCartAndRefreshTtl(USER_ID).orElseThrow()).containsExactly(item(menuId, 1));
+
+		clock.advance(Duration.ofSeconds(31));
+		assertThat(nodeA.findCartAndRefreshTtl(USER_ID).orElseThrow()).containsExactly(item(menuId, 5));
+	}
+
+	@Test
+	@DisplayName("원본을 읽는 도중 무효화되면 읽은 값을 캐시에 넣지 않는다")
+	void invalidationDuringLoadIsNotCached() {
+		CartRedisService delegate = mock(CartRedisService.class);
+		NearCacheCartRedisService node = createNode(delegate, registryA, 100);
+		when(delegate.findCartAndRefreshTtl(USER_ID)).thenAnswer(invocation -> {
+			node.onInvalidationMessage("other-node:" + USER_ID);
+			return Optional.of(List.of(item(UUID.randomUUID(), 1)));
+		});
+
+		node.findCartAndRefreshTtl(USER_ID);
+		node.findCartAndRefreshTtl(USER_ID);
+
+		verify(delegate, times(2)).findCartAndRefreshTtl(USER_ID);
+	}
+
+	@Test
+	@DisplayName("캐시 항목 수는 상한을 넘지 않는다")
+	void sizeIsCapped() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		NearCacheCartRedisService node = createNode(sharedStore, registry, 2);
+		for (long userId = 10; userId < 13; userId++) {
+			sharedStore.saveCartToRedis(userId, List.of(item(UUID.randomUUID(), 1)));
+			node.findCartAndRefreshTtl(userId);
+		}
+
+		assertThat(registry.get("cart.near_cache.size").gauge().value()).isEqualTo(2);
+		assertThat(registry.get("cart.near_cache.evictions").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("DB 동기화용 조회는 근거리 캐시를 거치지 않는다")
+	void findCartBypassesNearCache() {
+		CartRedisService delegate = mock(CartRedisService.class);
+		when(delegate.findCartAndRefreshTtl(USER_ID)).thenReturn(Optional.of(List.of()));
+		when(delegate.findCart(USER_ID)).thenReturn(Optional.of(List.of()));
+		NearCacheCartRedisService node = createNode(delegate, registryA, 100);
+
+		node.findCartAndRefreshTtl(USER_ID);
+		node.findCart(USER_ID);
+
+		verify(delegate).findCart(USER_ID);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -6,7 +6,6 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +29,8 @@ import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.review.ReviewService;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.config.MockSecurityConfig;
@@ -73,24 +74,27 @@ class CustomerOrderControllerTest {
 			ReceiptMethod.DELIVERY,
 			OrderStatus.PENDING,
 			true,
-			"{}",
 			"요청사항 없음",
 			LocalDateTime.now()
 		);
-		List<CustomerOrderResponse> responses = Collections.singletonList(response);
+		CursorResponse<CustomerOrderResponse> responses =
+			new CursorResponse<>(List.of(response), 10, true, "next-cursor", null);
 
-		given(customerOrderService.getCustomerOrders()).willReturn(responses);
+		given(customerOrderService.getCustomerOrders(any(CursorRequest.class))).willReturn(responses);
 
-		mockMvc.perform(get("/customer/order"))
+		mockMvc.perform(get("/customer/order").param("size", "10"))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$.result[0].storeName").value("테스트 가게"));
+			.andExpect(jsonPath("$.result.content[0].storeName").value("테스트 가게"))
+			.andExpect(jsonPath("$.result.hasNext").value(true))
+			.andExpect(jsonPath("$.result.nextCursor").value("next-cursor"))
+			.andExpect(jsonPath("$.result.totalElements").doesNotExist());
 	}
 
 	@Test
 	@DisplayName("고객 주문 내역 조회 실패 - 사용자를 찾을 수 없음")
 	@WithMockUser(username = "1", roles = "CUSTOMER")
 	void getCustomerOrders_UserNotFound() throws Exception {
-		given(customerOrderService.getCustomerOrders()).willThrow(
+		given(customerOrderService.getCustomerOrders(any(CursorRequest.class))).willThrow(
 			new GeneralException(ErrorStatus.USER_NOT_FOUND));
 
 		mockMvc.perform(get("/customer/order"))
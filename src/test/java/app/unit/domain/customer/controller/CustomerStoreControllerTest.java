@@ -14,9 +14,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -28,7 +25,8 @@ import app.domain.customer.CustomerStoreController;
 import app.domain.customer.CustomerStoreService;
 import app.domain.customer.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.customer.dto.response.GetStoreListResponse;
-import app.global.apiPayload.PagedResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.config.MockSecurityConfig;
@@ -90,18 +88,18 @@ class CustomerStoreControllerTest {
 				.build()
 		);
 
-		Page<GetStoreListResponse> page = new PageImpl<>(stores, PageRequest.of(0, 20), stores.size());
-		given(customerStoreService.getApprovedStore(any())).willReturn(PagedResponse.from(page));
+		given(customerStoreService.getApprovedStore(new CursorRequest(null, 20, null)))
+			.willReturn(new CursorResponse<>(stores, 20, false, null, null));
 
 		mockMvc.perform(get("/customer/store")
-				.param("page", "0")
 				.param("size", "20")
 				.contentType(MediaType.APPLICATION_JSON))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.result.content.length()").value(2))
 			.andExpect(jsonPath("$.result.content[0].storeName").value("맛집1"))
 			.andExpect(jsonPath("$.result.content[0].address").value("서울 강남구"))
-			.andExpect(jsonPath("$.result.content[0].averageRating").value(4.5));
+			.andExpect(jsonPath("$.result.content[0].averageRating").value(4.5))
+			.andExpect(jsonPath("$.result.hasNext").value(false));
 	}
 
 	@Test
@@ -140,12 +138,11 @@ class CustomerStoreControllerTest {
 				.averageRating(4.5)
 				.build()
 		);
-		Page<GetStoreListResponse> page = new PageImpl<>(stores, PageRequest.of(0, 10), 1);
-		given(customerStoreService.searchApproveStores(eq(keyword), any())).willReturn(PagedResponse.from(page));
+		given(customerStoreService.searchApproveStores(eq(keyword), any()))
+			.willReturn(new CursorResponse<>(stores, 10, false, null, null));
 
 		mockMvc.perform(get("/customer/store/search")
 				.param("keyword", keyword)
-				.param("page", "0")
 				.param("size", "10"))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.result.content.length()").value(1))
@@ -157,15 +154,14 @@ class CustomerStoreControllerTest {
 	@WithMockUser(username = "1", roles = "CUSTOMER")
 	void searchApprovedStore_emptyResult() throws Exception {
 		// given
-		Page<GetStoreListResponse> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
 		given(customerStoreService.searchApproveStores(eq("없는키워드"), any()))
-			.willReturn(PagedResponse.from(emptyPage));
+			.willReturn(new CursorResponse<>(List.of(), 10, false, null, 0L));
 
 		// when & then
 		mockMvc.perform(get("/customer/store/search")
 				.param("keyword", "없는키워드")
-				.param("page", "0")
-				.param("size", "10"))
+				.param("size", "10")
+				.param("withTotal", "true"))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.result.content").isEmpty())
 			.andExpect(jsonPath("$.result.totalElements").value(0));
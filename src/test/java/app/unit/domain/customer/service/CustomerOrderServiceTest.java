@@ -3,8 +3,7 @@ package app.unit.domain.customer.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,11 +23,13 @@ import app.domain.order.model.entity.enums.OrderChannel;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
-import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.model.repository.OrdersQueryRepository;
 import app.domain.store.model.entity.Store;
 import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.exception.GeneralException;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +37,7 @@ import app.global.apiPayload.exception.GeneralException;
 class CustomerOrderServiceTest {
 
 	@Mock
-	private OrdersRepository ordersRepository;
+	private OrdersQueryRepository ordersQueryRepository;
 
 	@Mock
 	private UserRepository userRepository;
@@ -74,7 +75,6 @@ class CustomerOrderServiceTest {
 			.orderChannel(OrderChannel.ONLINE)
 			.receiptMethod(ReceiptMethod.DELIVERY)
 			.isRefundable(false)
-			.orderHistory("{}")
 			.build();
 	}
 
@@ -82,28 +82,47 @@ class CustomerOrderServiceTest {
 	@DisplayName("고객 주문 내역 조회 성공")
 	void getCustomerOrders_Success() {
 		when(securityUtil.getCurrentUser()).thenReturn(testUser);
-		when(ordersRepository.findByUser(testUser)).thenReturn(Arrays.asList(testOrder));
+		CursorRequest request = CursorRequest.first(20);
+		when(ordersQueryRepository.findUserOrders(testUser.getUserId(), request))
+			.thenReturn(new CursorResponse<>(List.of(CustomerOrderResponse.of(testOrder)), 20, false, null, null));
 
-		List<CustomerOrderResponse> result = customerOrderService.getCustomerOrders();
+		CursorResponse<CustomerOrderResponse> result = customerOrderService.getCustomerOrders(request);
 
-		assertThat(result).hasSize(1);
-		assertThat(result.get(0).getStoreName()).isEqualTo("Test Store");
-		assertThat(result.get(0).getTotalPrice()).isEqualTo(15000L);
+		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getContent().get(0).getStoreName()).isEqualTo("Test Store");
+		assertThat(result.getContent().get(0).getTotalPrice()).isEqualTo(15000L);
 
-		verify(ordersRepository, times(1)).findByUser(testUser);
+		verify(ordersQueryRepository, times(1)).findUserOrders(testUser.getUserId(), request);
 	}
 
 	@Test
 	@DisplayName("고객 주문 내역 조회 실패 - 주문이 없는 경우")
 	void getCustomerOrders_NoOrdersFound() {
 		when(securityUtil.getCurrentUser()).thenReturn(testUser);
-		when(ordersRepository.findByUser(testUser)).thenReturn(Collections.emptyList());
+		CursorRequest request = CursorRequest.first(20);
+		when(ordersQueryRepository.findUserOrders(testUser.getUserId(), request))
+			.thenReturn(CursorResponse.empty(request));
 
-		assertThatThrownBy(() -> customerOrderService.getCustomerOrders())
+		assertThatThrownBy(() -> customerOrderService.getCustomerOrders(request))
 			.isInstanceOf(GeneralException.class)
 			.extracting(ex -> ((GeneralException)ex).getErrorReason().getCode())
 			.isEqualTo(CustomerErrorStatus.CUSTOMER_ORDER_NOT_FOUND.getCode());
 
-		verify(ordersRepository, times(1)).findByUser(testUser);
+		verify(ordersQueryRepository, times(1)).findUserOrders(testUser.getUserId(), request);
+	}
+
+	@Test
+	@DisplayName("다음 페이지가 비어 있으면 예외 없이 빈 목록을 돌려준다")
+	void getCustomerOrders_EmptyNextPage() {
+		String cursor = CursorRequest.encode(LocalDateTime.now(), testOrder.getOrdersId());
+		CursorRequest request = new CursorRequest(cursor, 20, false);
+		when(securityUtil.getCurrentUser()).thenReturn(testUser);
+		when(ordersQueryRepository.findUserOrders(testUser.getUserId(), request))
+			.thenReturn(CursorResponse.empty(request));
+
+		CursorResponse<CustomerOrderResponse> result = customerOrderService.getCustomerOrders(request);
+
+		assertThat(result.getContent()).isEmpty();
+		assertThat(result.isHasNext()).isFalse();
 	}
 }
\ No newline at end of file
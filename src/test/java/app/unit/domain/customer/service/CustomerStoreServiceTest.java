@@ -3,7 +3,6 @@ package app.unit.domain.customer.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,11 +13,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 import app.domain.customer.CustomerStoreService;
 import app.domain.customer.dto.response.GetCustomerStoreDetailResponse;
@@ -29,7 +23,8 @@ import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreAcceptStatus;
-import app.global.apiPayload.PagedResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 
@@ -55,7 +50,7 @@ class CustomerStoreServiceTest {
 	void getApprovedStore_success() {
 		// given
 		UUID storeId = UUID.randomUUID();
-		Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+		CursorRequest request = CursorRequest.first(10);
 
 		GetStoreListResponse dto = GetStoreListResponse.builder()
 			.storeId(storeId)
@@ -65,12 +60,11 @@ class CustomerStoreServiceTest {
 			.averageRating(4.5)
 			.build();
 
-		Page<GetStoreListResponse> page = new PageImpl<>(List.of(dto), pageable, 1);
-		given(storeQueryRepository.getApprovedStore(pageable))
-			.willReturn(PagedResponse.from(page));
+		given(storeQueryRepository.getApprovedStore(request))
+			.willReturn(new CursorResponse<>(List.of(dto), 10, false, null, null));
 
 		// when
-		PagedResponse<GetStoreListResponse> result = customerStoreService.getApprovedStore(pageable);
+		CursorResponse<GetStoreListResponse> result = customerStoreService.getApprovedStore(request);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
@@ -121,7 +115,7 @@ class CustomerStoreServiceTest {
 	void searchApproveStores_success() {
 		// given
 		UUID storeId = UUID.randomUUID();
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = CursorRequest.first(10);
 
 		GetStoreListResponse dto = GetStoreListResponse.builder()
 			.storeId(storeId)
@@ -131,14 +125,13 @@ class CustomerStoreServiceTest {
 			.averageRating(5.0)
 			.build();
 
-		Page<GetStoreListResponse> page = new PageImpl<>(List.of(dto), pageable, 1);
-		PagedResponse<GetStoreListResponse> pagedResponse = PagedResponse.from(page);
+		CursorResponse<GetStoreListResponse> cursorResponse = new CursorResponse<>(List.of(dto), 10, false, null, null);
 
-		given(storeQueryRepository.searchStoresWithAvgRating("족발", StoreAcceptStatus.APPROVE, pageable))
-			.willReturn(pagedResponse);
+		given(storeQueryRepository.searchStoresWithAvgRating("족발", StoreAcceptStatus.APPROVE, request))
+			.willReturn(cursorResponse);
 
 		// when
-		PagedResponse<GetStoreListResponse> response = customerStoreService.searchApproveStores("족발", pageable);
+		CursorResponse<GetStoreListResponse> response = customerStoreService.searchApproveStores("족발", request);
 
 		// then
 		assertThat(response.getContent()).hasSize(1);
@@ -150,13 +143,12 @@ class CustomerStoreServiceTest {
 	@DisplayName("승인된 가게 키워드 검색 성공 - 결과 없음")
 	void searchApproveStores_emptyResult() {
 		// given
-		Pageable pageable = PageRequest.of(0, 10);
-		Page<GetStoreListResponse> page = new PageImpl<>(Collections.emptyList(), pageable, 0);
-		given(storeQueryRepository.searchStoresWithAvgRating("없는 키워드", StoreAcceptStatus.APPROVE, pageable))
-			.willReturn(PagedResponse.from(page));
+		CursorRequest request = CursorRequest.first(10);
+		given(storeQueryRepository.searchStoresWithAvgRating("없는 키워드", StoreAcceptStatus.APPROVE, request))
+			.willReturn(CursorResponse.empty(request));
 
 		// when
-		PagedResponse<GetStoreListResponse> response = customerStoreService.searchApproveStores("없는 키워드", pageable);
+		CursorResponse<GetStoreListResponse> response = customerStoreService.searchApproveStores("없는 키워드", request);
 
 		// then
 		assertThat(response.getContent()).isEmpty();
@@ -16,7 +16,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -38,6 +37,8 @@ import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.store.status.StoreAcceptStatus;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -195,7 +196,6 @@ class ManagerControllerTest {
 	void searchCustomerTest() throws Exception {
 		// given
 		String keyword = "홍길동";
-		Pageable pageable = PageRequest.of(0, 20);
 		List<GetCustomerListResponse> content = List.of(
 			GetCustomerListResponse.builder()
 				.id(1L)
@@ -204,17 +204,19 @@ class ManagerControllerTest {
 				.createdAt(LocalDateTime.now())
 				.build()
 		);
-		PagedResponse<GetCustomerListResponse> response = new PagedResponse<>(content, 0, 20, 2, 1, true);
+		CursorResponse<GetCustomerListResponse> response = new CursorResponse<>(content, 20, true, "next-cursor", null);
 
-		when(managerService.searchCustomer(eq(keyword), any(Pageable.class))).thenReturn(response);
+		when(managerService.searchCustomer(eq(keyword), eq(new CursorRequest("prev-cursor", 20, null))))
+			.thenReturn(response);
 
 		// when & then
 		mockMvc.perform(get("/manager/customer/search")
 				.param("keyWord", keyword)
-				.param("page", "0")
+				.param("cursor", "prev-cursor")
 				.param("size", "20"))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$.result.content[0].name").value("홍길동"));
+			.andExpect(jsonPath("$.result.content[0].name").value("홍길동"))
+			.andExpect(jsonPath("$.result.nextCursor").value("next-cursor"));
 	}
 
 	@DisplayName("존재하지 않는 사용자 조회 시 예외 테스트")
@@ -261,16 +263,15 @@ class ManagerControllerTest {
 	@WithMockUser(username = "1", roles = "MANAGER")
 	void testGetAllStoreWithStatus() throws Exception {
 		// given
-		PagedResponse<GetStoreListResponse> mockResponse =
-			new PagedResponse<>(List.of(), 0, 0, 0, 0, true);
+		CursorResponse<GetStoreListResponse> mockResponse =
+			new CursorResponse<>(List.of(), 20, false, null, null);
 
-		when(managerService.getAllStore(eq(StoreAcceptStatus.PENDING), any(Pageable.class)))
+		when(managerService.getAllStore(eq(StoreAcceptStatus.PENDING), any(CursorRequest.class)))
 			.thenReturn(mockResponse);
 
 		// when & then
 		mockMvc.perform(get("/manager/store")
 				.param("status", "PENDING")
-				.param("page", "0")
 				.param("size", "20"))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.result").exists());
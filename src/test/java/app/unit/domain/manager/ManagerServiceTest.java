@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,9 +30,7 @@ import app.domain.manager.dto.response.GetCustomerListResponse;
 import app.domain.manager.dto.response.GetStoreDetailResponse;
 import app.domain.menu.model.entity.Category;
 import app.domain.order.model.dto.response.OrderDetailResponse;
-import app.domain.order.model.entity.Orders;
-import app.domain.order.model.repository.OrderItemRepository;
-import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.model.repository.OrdersQueryRepository;
 import app.domain.review.model.ReviewRepository;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.entity.Region;
@@ -46,6 +43,8 @@ import app.domain.user.model.UserRepository;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.UserAddress;
 import app.domain.user.model.entity.enums.UserRole;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.PagedResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -62,14 +61,11 @@ class ManagerServiceTest {
 	private UserQueryRepository userQueryRepository;
 
 	@Mock
-	private OrdersRepository ordersRepository;
+	private OrdersQueryRepository ordersQueryRepository;
 
 	@Mock
 	private UserAddressRepository userAddressRepository;
 
-	@Mock
-	private OrderItemRepository orderItemRepository;
-
 	@Mock
 	private StoreRepository storeRepository;
 
@@ -203,33 +199,24 @@ class ManagerServiceTest {
 	void getCustomerOrderList_onlyOrders() {
 
 		Long userId = 1L;
-		User user = User.builder()
-			.userId(userId)
-			.email("test@example.com")
-			.username("테스트")
-			.build();
-
-		Store store = Store.builder()
-			.storeId(UUID.randomUUID())
-			.storeName("테스트매장")
-			.build();
 
 		Pageable pageable = PageRequest.of(0, 5);
-		Page<Orders> ordersPage = new PageImpl<>(List.of(
-			Orders.builder().ordersId(UUID.fromString("11111111-1111-1111-1111-111111111111"))
+		Page<OrderDetailResponse> ordersPage = new PageImpl<>(List.of(
+			OrderDetailResponse.builder()
+				.storeName("테스트매장")
 				.deliveryAddress("강남")
-				.user(user)
-				.store(store)
+				.menuList(List.of(new OrderDetailResponse.Menu("족발", 1, 30000L)))
 				.build()
 		));
 
-		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-		when(ordersRepository.findAllByUserAndDeliveryAddressIsNotNull(user, pageable)).thenReturn(ordersPage);
+		when(userRepository.existsById(userId)).thenReturn(true);
+		when(ordersQueryRepository.findOrderDetails(userId, pageable)).thenReturn(ordersPage);
 
 		PagedResponse<OrderDetailResponse> result = managerService.getCustomerOrderListById(userId, pageable);
 
 		assertThat(result.getTotalElements()).isEqualTo(1);
 		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getContent().get(0).getMenuList()).hasSize(1);
 	}
 
 	@DisplayName("사용자 상세 조회 시 주소 목록이 없을 경우 빈 리스트 반환")
@@ -261,17 +248,12 @@ class ManagerServiceTest {
 	void getCustomerOrderList_noOrders_shouldReturnEmptyList() {
 
 		Long userId = 1L;
-		User user = User.builder()
-			.userId(userId)
-			.email("test@example.com")
-			.username("테스트")
-			.build();
 
 		Pageable pageable = PageRequest.of(0, 5);
-		Page<Orders> emptyOrdersPage = new PageImpl<>(List.of());
+		Page<OrderDetailResponse> emptyOrdersPage = new PageImpl<>(List.of());
 
-		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-		when(ordersRepository.findAllByUserAndDeliveryAddressIsNotNull(user, pageable)).thenReturn(emptyOrdersPage);
+		when(userRepository.existsById(userId)).thenReturn(true);
+		when(ordersQueryRepository.findOrderDetails(userId, pageable)).thenReturn(emptyOrdersPage);
 
 		PagedResponse<OrderDetailResponse> result = managerService.getCustomerOrderListById(userId, pageable);
 
@@ -284,7 +266,7 @@ class ManagerServiceTest {
 	void searchUsers_withKeyword_shouldReturnFilteredUsers() {
 
 		String keyword = "test";
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = CursorRequest.first(10);
 
 		User user1 = User.builder()
 			.userId(1L)
@@ -298,10 +280,10 @@ class ManagerServiceTest {
 			.email("another@mail.com")
 			.build();
 
-		Page<User> page = new PageImpl<>(List.of(user1));
-		when(userQueryRepository.searchUser(eq(keyword), any(Pageable.class))).thenReturn(page);
+		when(userQueryRepository.searchUser(eq(keyword), any(CursorRequest.class)))
+			.thenReturn(new CursorResponse<>(List.of(user1), 10, false, null, null));
 
-		PagedResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, pageable);
+		CursorResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, request);
 
 		assertThat(result.getContent()).hasSize(1);
 		assertThat(result.getContent().get(0).getName()).isEqualTo("testUser1");
@@ -312,14 +294,15 @@ class ManagerServiceTest {
 	void searchCustomer_noResults_shouldReturnEmptyList() {
 
 		String keyword = "unknown";
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = new CursorRequest(null, 10, true);
 
-		Page<User> emptyPage = new PageImpl<>(Collections.emptyList());
-		when(userQueryRepository.searchUser(eq(keyword), any(Pageable.class))).thenReturn(emptyPage);
+		when(userQueryRepository.searchUser(eq(keyword), any(CursorRequest.class)))
+			.thenReturn(new CursorResponse<>(List.of(), 10, false, null, 0L));
 
-		PagedResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, pageable);
+		CursorResponse<GetCustomerListResponse> result = managerService.searchCustomer(keyword, request);
 
 		assertThat(result.getContent()).isEmpty();
+		assertThat(result.isHasNext()).isFalse();
 		assertThat(result.getTotalElements()).isZero();
 	}
 
@@ -330,7 +313,7 @@ class ManagerServiceTest {
 		Long userId = 999L;
 		Pageable pageable = PageRequest.of(0, 5);
 
-		when(userRepository.findById(userId)).thenReturn(Optional.empty());
+		when(userRepository.existsById(userId)).thenReturn(false);
 
 		GeneralException ex = catchThrowableOfType(
 			() -> managerService.getCustomerOrderListById(userId, pageable),
@@ -447,7 +430,7 @@ class ManagerServiceTest {
 	void getAllStore_success() {
 		// given
 		UUID storeId = UUID.randomUUID();
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = CursorRequest.first(10);
 
 		GetStoreListResponse dto = GetStoreListResponse.builder()
 			.storeId(storeId)
@@ -457,13 +440,11 @@ class ManagerServiceTest {
 			.averageRating(4.0)
 			.build();
 
-		Page<GetStoreListResponse> page = new PageImpl<>(List.of(dto), pageable, 1);
-
-		given(storeQueryRepository.getAllStore(StoreAcceptStatus.APPROVE, pageable))
-			.willReturn(PagedResponse.from(page));
+		given(storeQueryRepository.getAllStore(StoreAcceptStatus.APPROVE, request))
+			.willReturn(new CursorResponse<>(List.of(dto), 10, false, null, null));
 
 		// when
-		PagedResponse<GetStoreListResponse> response = managerService.getAllStore(StoreAcceptStatus.APPROVE, pageable);
+		CursorResponse<GetStoreListResponse> response = managerService.getAllStore(StoreAcceptStatus.APPROVE, request);
 
 		// then
 		assertThat(response.getContent()).hasSize(1);
@@ -476,7 +457,7 @@ class ManagerServiceTest {
 	void searchStore_success() {
 		// given
 		UUID storeId = UUID.randomUUID();
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = CursorRequest.first(10);
 		GetStoreListResponse responseDto = GetStoreListResponse.builder()
 			.storeId(storeId)
 			.storeName("맛있는 족발집")
@@ -485,15 +466,15 @@ class ManagerServiceTest {
 			.averageRating(4.5)
 			.build();
 
-		Page<GetStoreListResponse> page = new PageImpl<>(List.of(responseDto), pageable, 1);
-		PagedResponse<GetStoreListResponse> pagedResponse = PagedResponse.from(page);
+		CursorResponse<GetStoreListResponse> cursorResponse =
+			new CursorResponse<>(List.of(responseDto), 10, false, null, null);
 
-		when(storeQueryRepository.searchStoresWithAvgRating("족발", StoreAcceptStatus.PENDING, pageable))
-			.thenReturn(pagedResponse);
+		when(storeQueryRepository.searchStoresWithAvgRating("족발", StoreAcceptStatus.PENDING, request))
+			.thenReturn(cursorResponse);
 
 		// when
-		PagedResponse<GetStoreListResponse> response = managerService.searchStore(StoreAcceptStatus.PENDING, "족발",
-			pageable);
+		CursorResponse<GetStoreListResponse> response = managerService.searchStore(StoreAcceptStatus.PENDING, "족발",
+			request);
 
 		// then
 		assertThat(response.getContent()).hasSize(1);
@@ -0,0 +1,182 @@
+package app.unit.domain.menu;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.menu.MenuCatalogCache;
+import app.domain.menu.MenuCatalogCache.MenuInfo;
+import app.domain.menu.MenuCatalogCache.StoreInfo;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuCatalogCache 테스트")
+class MenuCatalogCacheTest {
+
+	@Mock
+	private MenuRepository menuRepository;
+
+	@Mock
+	private StoreRepository storeRepository;
+
+	private final MutableClock clock = new MutableClock();
+
+	private MenuCatalogCache menuCatalogCache;
+
+	private Store store;
+	private Menu menu1;
+	private Menu menu2;
+
+	@BeforeEach
+	void setUp() {
+		menuCatalogCache = new MenuCatalogCache(menuRepository, storeRepository, clock, Duration.ofSeconds(60), 100);
+		store = Store.builder()
+			.storeId(UUID.randomUUID())
+			.storeName("테스트 가게")
+			.minOrderAmount(15000L)
+			.build();
+		menu1 = Menu.builder().menuId(UUID.randomUUID()).store(store).name("짜장면").price(7000L).build();
+		menu2 = Menu.builder().menuId(UUID.randomUUID()).store(store).name("짬뽕").price(8000L).isHidden(true).build();
+	}
+
+	@Test
+	@DisplayName("캐시가 채워지면 같은 메뉴를 다시 조회해도 DB 를 조회하지 않는다")
+	void warmCacheSkipsRepository() {
+		when(menuRepository.findAllById(anyCollection())).thenReturn(List.of(menu1, menu2));
+
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId(), menu2.getMenuId()));
+		Map<UUID, MenuInfo> menus = menuCatalogCache.getMenus(List.of(menu1.getMenuId(), menu2.getMenuId()));
+
+		verify(menuRepository, times(1)).findAllById(anyCollection());
+		assertThat(menus.get(menu1.getMenuId()).getName()).isEqualTo("짜장면");
+		assertThat(menus.get(menu1.getMenuId()).isOrderable()).isTrue();
+		assertThat(menus.get(menu2.getMenuId()).isHidden()).isTrue();
+		assertThat(menus.get(menu2.getMenuId()).isOrderable()).isFalse();
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 메뉴만 DB 에서 읽는다")
+	void loadsOnlyMissingMenus() {
+		when(menuRepository.findAllById(anyCollection()))
+			.thenReturn(List.of(menu1))
+			.thenReturn(List.of(menu2));
+
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId()));
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId(), menu2.getMenuId()));
+
+		verify(menuRepository).findAllById(List.of(menu1.getMenuId()));
+		verify(menuRepository).findAllById(List.of(menu2.getMenuId()));
+	}
+
+	@Test
+	@DisplayName("없는 메뉴는 삭제된 메뉴로 캐시한다")
+	void missingMenuIsCachedAsDeleted() {
+		UUID unknownMenuId = UUID.randomUUID();
+		when(menuRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+		menuCatalogCache.getMenus(List.of(unknownMenuId));
+		MenuInfo info = menuCatalogCache.getMenus(List.of(unknownMenuId)).get(unknownMenuId);
+
+		verify(menuRepository, times(1)).findAllById(anyCollection());
+		assertThat(info.isDeleted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("삭제된 메뉴는 삭제 표시와 함께 반환한다")
+	void deletedMenu() {
+		menu1.setDeletedAt(LocalDateTime.now());
+		when(menuRepository.findAllById(anyCollection())).thenReturn(List.of(menu1));
+
+		MenuInfo info = menuCatalogCache.getMenus(List.of(menu1.getMenuId())).get(menu1.getMenuId());
+
+		assertThat(info.isDeleted()).isTrue();
+		assertThat(info.isOrderable()).isFalse();
+	}
+
+	@Test
+	@DisplayName("메뉴를 무효화하면 다음 조회에서 다시 읽는다")
+	void evictMenu() {
+		when(menuRepository.findAllById(anyCollection())).thenReturn(List.of(menu1));
+
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId()));
+		menuCatalogCache.evictMenu(menu1.getMenuId());
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId()));
+
+		verify(menuRepository, times(2)).findAllById(anyCollection());
+	}
+
+	@Test
+	@DisplayName("TTL 이 지나면 다시 읽는다")
+	void expiresAfterTtl() {
+		when(menuRepository.findAllById(anyCollection())).thenReturn(List.of(menu1));
+
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId()));
+		clock.advance(Duration.ofSeconds(59));
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId()));
+		verify(menuRepository, times(1)).findAllById(anyCollection());
+
+		clock.advance(Duration.ofSeconds(2));
+		menuCatalogCache.getMenus(List.of(menu1.getMenuId()));
+		verify(menuRepository, times(2)).findAllById(anyCollection());
+	}
+
+	@Test
+	@DisplayName("매장 정보를 캐시하고 무효화하면 다시 읽는다")
+	void storeCacheAndEvict() {
+		when(storeRepository.findById(store.getStoreId())).thenReturn(Optional.of(store));
+
+		StoreInfo first = menuCatalogCache.getStore(store.getStoreId());
+		menuCatalogCache.getStore(store.getStoreId());
+		verify(storeRepository, times(1)).findById(store.getStoreId());
+		assertThat(first.getStoreName()).isEqualTo("테스트 가게");
+		assertThat(first.getMinOrderAmount()).isEqualTo(15000L);
+
+		menuCatalogCache.evictStore(store.getStoreId());
+		menuCatalogCache.getStore(store.getStoreId());
+		verify(storeRepository, times(2)).findById(store.getStoreId());
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
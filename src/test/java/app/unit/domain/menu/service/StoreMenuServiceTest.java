@@ -18,6 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import app.domain.menu.MenuCatalogCache;
 import app.domain.menu.StoreMenuService;
 import app.domain.menu.model.dto.request.MenuCreateRequest;
 import app.domain.menu.model.dto.request.MenuDeleteRequest;
@@ -53,6 +54,9 @@ public class StoreMenuServiceTest {
 	@Mock
 	private SecurityUtil securityUtil;
 
+	@Mock
+	private MenuCatalogCache menuCatalogCache;
+
 	private final Long TEST_USER_ID = 1L;
 	private final UUID TEST_STORE_ID = UUID.randomUUID();
 	private final UUID TEST_MENU_ID = UUID.randomUUID();
@@ -7,6 +7,7 @@ import static org.springframework.security.test.web.servlet.setup.SecurityMockMv
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,17 +23,22 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import app.domain.order.OrderController;
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.dto.response.OrderIntakeStatusResponse;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
 import app.domain.order.model.entity.enums.OrderChannel;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.service.OrderIntakeService;
 import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderTrackingService;
 import app.domain.order.status.OrderSuccessStatus;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -55,6 +61,12 @@ class OrderControllerTest {
 	@MockitoBean
 	private OrderService orderService;
 
+	@MockitoBean
+	private OrderIntakeService orderIntakeService;
+
+	@MockitoBean
+	private OrderTrackingService orderTrackingService;
+
 	@BeforeEach
 	void setUp() {
 		mockMvc = MockMvcBuilders
@@ -333,4 +345,84 @@ class OrderControllerTest {
 
 		verify(orderService, never()).getOrderDetail(any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("주문 상태 이력 조회 - 성공")
+	@WithMockUser(username = "1", authorities = {"CUSTOMER"})
+	void getOrderHistory_Success() throws Exception {
+		UUID orderId = UUID.randomUUID();
+		LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+		List<OrderStatusHistoryResponse> response = List.of(
+			new OrderStatusHistoryResponse(OrderStatus.PENDING, createdAt),
+			new OrderStatusHistoryResponse(OrderStatus.ACCEPTED, createdAt.plusMinutes(3)));
+
+		when(orderService.getOrderHistory(orderId)).thenReturn(response);
+
+		mockMvc.perform(get("/order/{orderId}/history", orderId))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value(OrderSuccessStatus.ORDER_HISTORY_FETCHED.getCode()))
+			.andExpect(jsonPath("$.result.length()").value(2))
+			.andExpect(jsonPath("$.result[0].orderStatus").value("PENDING"))
+			.andExpect(jsonPath("$.result[1].orderStatus").value("ACCEPTED"));
+
+		verify(orderService).getOrderHistory(orderId);
+	}
+
+	@Test
+	@DisplayName("주문 생성 - 비동기 접수 모드에서는 저장하지 않고 접수한 주문 ID 를 돌려준다")
+	@WithMockUser(username = "1", authorities = {"CUSTOMER"})
+	void createOrder_Accepted() throws Exception {
+		UUID orderId = UUID.randomUUID();
+		CreateOrderRequest request = new CreateOrderRequest(
+			PaymentMethod.CREDIT_CARD,
+			OrderChannel.ONLINE,
+			ReceiptMethod.DELIVERY,
+			"문 앞에 놓아주세요",
+			10000L,
+			"서울시 강남구"
+		);
+
+		when(orderIntakeService.isEnabled()).thenReturn(true);
+		when(orderIntakeService.submit(any(CreateOrderRequest.class))).thenReturn(orderId);
+
+		mockMvc.perform(post("/order")
+				.with(csrf())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value(OrderSuccessStatus.ORDER_ACCEPTED.getCode()))
+			.andExpect(jsonPath("$.result").value(orderId.toString()));
+
+		verify(orderService, never()).createOrder(any());
+	}
+
+	@Test
+	@DisplayName("주문 접수 상태 조회 - 성공")
+	@WithMockUser(username = "1", authorities = {"CUSTOMER"})
+	void getIntakeStatus_Success() throws Exception {
+		UUID orderId = UUID.randomUUID();
+		when(orderIntakeService.getStatus(orderId))
+			.thenReturn(new OrderIntakeStatusResponse(orderId, OrderIntakeStatusResponse.Status.QUEUED));
+
+		mockMvc.perform(get("/order/{orderId}/intake", orderId))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value(OrderSuccessStatus.ORDER_INTAKE_STATUS_FETCHED.getCode()))
+			.andExpect(jsonPath("$.result.orderId").value(orderId.toString()))
+			.andExpect(jsonPath("$.result.status").value("QUEUED"));
+	}
+
+	@Test
+	@DisplayName("주문 상태 추적 - SSE 응답을 연다")
+	@WithMockUser(username = "1", authorities = {"CUSTOMER"})
+	void trackOrderStatus_Success() throws Exception {
+		UUID orderId = UUID.randomUUID();
+		when(orderTrackingService.subscribeOrderStatus(orderId)).thenReturn(new SseEmitter());
+
+		mockMvc.perform(get("/order/{orderId}/status/stream", orderId)
+				.accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(status().isOk())
+			.andExpect(request().asyncStarted());
+
+		verify(orderTrackingService).subscribeOrderStatus(orderId);
+	}
+}
@@ -30,10 +30,14 @@ import app.domain.order.OrderController;
 import app.domain.order.model.dto.request.UpdateOrderStatusRequest;
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
 import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.service.OrderIntakeService;
 import app.domain.order.service.OrderService;
+import app.domain.order.service.OrderTrackingService;
+import app.domain.order.status.OrderErrorStatus;
 import app.domain.order.status.OrderSuccessStatus;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
 import app.global.config.MockSecurityConfig;
 
 @WebMvcTest(controllers = OrderController.class)
@@ -53,6 +57,12 @@ class OrderControllerUpdateOrderStatusTest {
 	@MockitoBean
 	private OrderService orderService;
 
+	@MockitoBean
+	private OrderIntakeService orderIntakeService;
+
+	@MockitoBean
+	private OrderTrackingService orderTrackingService;
+
 	@MockitoBean
 	private SecurityUtil securityUtil;
 
@@ -81,7 +91,7 @@ class OrderControllerUpdateOrderStatusTest {
 				.updatedStatus(OrderStatus.ACCEPTED)
 				.build();
 
-			given(orderService.updateOrderStatus(eq(orderId), eq(OrderStatus.ACCEPTED))).willReturn(mockResponse);
+			given(orderService.updateOrderStatus(eq(orderId), isNull(), eq(OrderStatus.ACCEPTED))).willReturn(mockResponse);
 
 			// when
 			ResultActions resultActions = mockMvc.perform(patch("/order/{orderId}/status", orderId)
@@ -122,5 +132,28 @@ class OrderControllerUpdateOrderStatusTest {
 				.andDo(print());
 		}
 
+		@Test
+		@DisplayName("실패(충돌): 다른 요청이 먼저 상태를 바꿨다면 409 Conflict를 반환한다.")
+		void updateOrderStatus_Fail_Conflict() throws Exception {
+			// given
+			UUID orderId = UUID.randomUUID();
+			UpdateOrderStatusRequest request = new UpdateOrderStatusRequest(OrderStatus.COOKING, OrderStatus.ACCEPTED);
+
+			given(orderService.updateOrderStatus(eq(orderId), eq(OrderStatus.ACCEPTED), eq(OrderStatus.COOKING)))
+				.willThrow(new GeneralException(OrderErrorStatus.ORDER_STATUS_CONFLICT));
+
+			// when
+			ResultActions resultActions = mockMvc.perform(patch("/order/{orderId}/status", orderId)
+				.with(csrf())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)));
+
+			// then
+			resultActions
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.isSuccess").value(false))
+				.andExpect(jsonPath("$.code").value(OrderErrorStatus.ORDER_STATUS_CONFLICT.getCode()))
+				.andDo(print());
+		}
 	}
 }
\ No newline at end of file
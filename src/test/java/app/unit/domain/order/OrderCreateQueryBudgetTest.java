@@ -0,0 +1,161 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartService;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.model.dto.request.CreateOrderRequest;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.order.service.OrderService;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.StoreRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.SecurityUtil;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+import app.global.outbox.OutboxService;
+
+/**
+ * 주문 생성이 장바구니 아이템 수와 관계없이 일정한 수의 SQL 문만 실행하는지 확인한다.
+ * 매장 조회 1 + 메뉴 IN 조회 1 + 주문 삽입 1 + 주문 아이템 배치 삽입 1 + 상태 이벤트 삽입 1 + 아웃박스 이벤트 삽입 1
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslConfig.class, TestJpaConfig.class, OutboxService.class, OrderEventOutbox.class})
+@DisplayName("주문 생성 쿼리 수 테스트")
+class OrderCreateQueryBudgetTest {
+
+	private static final long QUERY_BUDGET = 6;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private MenuRepository menuRepository;
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Autowired
+	private OrderEventOutbox orderEventOutbox;
+
+	private final CartService cartService = mock(CartService.class);
+	private final SecurityUtil securityUtil = mock(SecurityUtil.class);
+
+	private OrderService orderService;
+	private Statistics statistics;
+
+	private User user;
+	private Store store;
+	private List<Menu> menus;
+
+	@BeforeEach
+	void setUp() {
+		orderService = new OrderService(ordersRepository, orderItemRepository, cartService, storeRepository,
+			menuRepository, orderEventOutbox, securityUtil, orderStatusEventRepository,
+			mock(OrderFeedService.class));
+		statistics = entityManager.getEntityManager().getEntityManagerFactory()
+			.unwrap(SessionFactory.class).getStatistics();
+
+		user = entityManager.persist(User.builder()
+			.username("budgetuser")
+			.password("password123!")
+			.email("budget@example.com")
+			.nickname("budget")
+			.realName("김주문")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010100")
+			.regionName("청운동")
+			.fullName("서울특별시 종로구 청운동")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("한식").build());
+		store = entityManager.persist(Store.builder()
+			.user(user)
+			.region(region)
+			.category(category)
+			.storeName("쿼리 수 테스트 가게")
+			.address("서울시 종로구")
+			.minOrderAmount(0)
+			.build());
+
+		menus = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			menus.add(entityManager.persist(Menu.builder()
+				.store(store)
+				.name("메뉴" + i)
+				.price(1000L)
+				.build()));
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("아이템이 20개인 주문도 아이템이 1개인 주문과 같은 수의 SQL 문을 실행한다")
+	void constantStatementCount() {
+		long singleItemStatements = statementsForOrderOf(1);
+		long twentyItemStatements = statementsForOrderOf(20);
+
+		assertThat(singleItemStatements).isLessThanOrEqualTo(QUERY_BUDGET);
+		assertThat(twentyItemStatements).isEqualTo(singleItemStatements);
+		assertThat(orderItemRepository.count()).isEqualTo(21);
+	}
+
+	private long statementsForOrderOf(int itemCount) {
+		List<RedisCartItem> cartItems = menus.subList(0, itemCount).stream()
+			.map(menu -> new RedisCartItem(menu.getMenuId(), store.getStoreId(), 1))
+			.toList();
+		when(cartService.getCartFromCache()).thenReturn(cartItems);
+		when(securityUtil.getCurrentUser()).thenReturn(entityManager.find(User.class, user.getUserId()));
+		CreateOrderRequest request = new CreateOrderRequest(PaymentMethod.CREDIT_CARD, OrderChannel.ONLINE,
+			ReceiptMethod.DELIVERY, null, 1000L * itemCount, "서울시 종로구");
+
+		statistics.clear();
+		orderService.createOrder(request);
+		entityManager.flush();
+		long statements = statistics.getPrepareStatementCount();
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(3 + itemCount);
+
+		entityManager.clear();
+		return statements;
+	}
+}
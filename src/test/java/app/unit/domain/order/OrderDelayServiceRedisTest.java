@@ -0,0 +1,157 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import app.domain.order.service.OrderDelayService;
+import app.global.config.RedisConfig;
+
+/**
+ * 실제 Redis 에 대해 환불 만료 일정의 선점/완료 동작을 확인한다.
+ * REDIS_HOST/REDIS_PORT(기본 localhost:6379)에 접속할 수 없으면 건너뛴다.
+ */
+@DisplayName("OrderDelayService Redis 테스트")
+class OrderDelayServiceRedisTest {
+
+	private static final String QUEUE = "test:refund-expiry";
+	private static final Duration WINDOW = Duration.ofMinutes(5);
+	private static final Duration LEASE = Duration.ofMinutes(1);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> redisTemplate;
+	private static boolean redisAvailable;
+
+	private final MutableClock clock = new MutableClock();
+	private OrderDelayService orderDelayService;
+
+	@BeforeAll
+	static void connect() {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+			System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+			Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		String password = System.getenv("REDIS_PASSWORD");
+		if (password != null && !password.isBlank()) {
+			configuration.setPassword(password);
+		}
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+			redisAvailable = true;
+		} catch (Exception e) {
+			redisAvailable = false;
+		}
+
+		redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		assumeTrue(redisAvailable, "Redis 에 접속할 수 없어 테스트를 건너뜁니다.");
+		redisTemplate.delete(List.of(QUEUE + ":due", QUEUE + ":processing"));
+		orderDelayService = new OrderDelayService(redisTemplate, mock(RedissonClient.class), clock, QUEUE, WINDOW,
+			LEASE);
+	}
+
+	@Test
+	@DisplayName("환불 가능 기간이 끝난 주문만 선점한다")
+	void claimsOnlyDueOrders() {
+		UUID early = UUID.randomUUID();
+		orderDelayService.scheduleRefundDisable(early);
+		clock.advance(Duration.ofMinutes(1));
+		UUID late = UUID.randomUUID();
+		orderDelayService.scheduleRefundDisable(late);
+
+		clock.advance(Duration.ofMinutes(4).plusSeconds(1));
+		assertThat(orderDelayService.countDue()).isEqualTo(1);
+		assertThat(orderDelayService.oldestDueLag()).isEqualTo(Duration.ofSeconds(1));
+
+		assertThat(orderDelayService.claimDueRefundDisables(10)).containsExactly(early);
+		assertThat(orderDelayService.countDue()).isZero();
+		assertThat(orderDelayService.countInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("선점한 주문은 임대 시간 동안 다시 배정되지 않고, 완료하면 사라진다")
+	void claimedOrdersAreExclusiveUntilCompleted() {
+		List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		orderIds.forEach(orderDelayService::scheduleRefundDisable);
+		clock.advance(WINDOW);
+
+		List<UUID> first = orderDelayService.claimDueRefundDisables(2);
+		List<UUID> second = orderDelayService.claimDueRefundDisables(2);
+		assertThat(first).hasSize(2);
+		assertThat(second).hasSize(1).doesNotContainAnyElementsOf(first);
+		assertThat(orderDelayService.claimDueRefundDisables(10)).isEmpty();
+
+		orderDelayService.completeRefundDisables(first);
+		orderDelayService.completeRefundDisables(second);
+		clock.advance(LEASE.multipliedBy(2));
+		assertThat(orderDelayService.claimDueRefundDisables(10)).isEmpty();
+		assertThat(orderDelayService.countInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("완료되지 않은 선점은 임대 시간이 지나면 다시 처리된다")
+	void expiredClaimIsRedelivered() {
+		UUID orderId = UUID.randomUUID();
+		orderDelayService.scheduleRefundDisable(orderId);
+		clock.advance(WINDOW);
+		assertThat(orderDelayService.claimDueRefundDisables(10)).containsExactly(orderId);
+
+		clock.advance(LEASE.minusSeconds(1));
+		assertThat(orderDelayService.claimDueRefundDisables(10)).isEmpty();
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(orderDelayService.claimDueRefundDisables(10)).containsExactly(orderId);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.order.OrderFeedBroker;
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.service.OrderFeedService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderFeedBroker 테스트")
+class OrderFeedBrokerTest {
+
+	private static final int BUFFER_SIZE = 1;
+	private static final int REPLAY_LIMIT = 100;
+
+	@Mock
+	private OrderFeedService orderFeedService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OrderFeedBroker broker;
+	private UUID storeId;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		broker = new OrderFeedBroker(orderFeedService, meterRegistry, BUFFER_SIZE, REPLAY_LIMIT,
+			Duration.ofMinutes(1), Duration.ofMinutes(1), 2);
+		storeId = UUID.randomUUID();
+	}
+
+	@AfterEach
+	void tearDown() {
+		broker.shutdown();
+	}
+
+	private OrderFeedEvent event(UUID storeId, String eventId) {
+		return OrderFeedEvent.statusChanged(storeId, UUID.randomUUID(), 1L, OrderStatus.ACCEPTED)
+			.withEventId(eventId);
+	}
+
+	private void deliver(OrderFeedEvent event) throws Exception {
+		String message = "message-" + event.getEventId();
+		when(orderFeedService.parseMessage(message)).thenReturn(event);
+		broker.onMessage(message);
+	}
+
+	private double sentCount() {
+		return meterRegistry.get("order.feed.events").counter().count();
+	}
+
+	private void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	@Test
+	@DisplayName("이벤트는 같은 매장을 구독한 연결에만 전달한다")
+	void routesByStore() throws Exception {
+		broker.subscribeStore(storeId, null);
+
+		deliver(event(UUID.randomUUID(), "1-0"));
+		deliver(event(storeId, "2-0"));
+
+		await(() -> sentCount() == 1);
+		assertThat(broker.countConnections(storeId)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 이후 이벤트를 이어 보내고, 재전송과 겹친 실시간 이벤트는 한 번만 보낸다")
+	void resumesAfterLastEventId() throws Exception {
+		when(orderFeedService.mayHaveGap(storeId, "1-0")).thenReturn(false);
+		when(orderFeedService.readAfter(storeId, "1-0", REPLAY_LIMIT))
+			.thenReturn(List.of(event(storeId, "2-0"), event(storeId, "3-0")));
+
+		broker.subscribeStore(storeId, "1-0");
+		await(() -> sentCount() == 2);
+
+		deliver(event(storeId, "3-0"));
+		deliver(event(storeId, "4-0"));
+
+		await(() -> sentCount() == 3);
+		Thread.sleep(50);
+		assertThat(sentCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 연결을 끊어 다시 연결하게 한다")
+	void disconnectsOnOverflow() throws Exception {
+		CountDownLatch replayStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(orderFeedService.mayHaveGap(eq(storeId), anyString())).thenAnswer(invocation -> {
+			replayStarted.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return false;
+		});
+
+		broker.subscribeStore(storeId, "1-0");
+		assertThat(replayStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 재전송이 끝나기 전에 대기열 한도를 넘는 실시간 이벤트가 도착한다.
+		deliver(event(storeId, "2-0"));
+		deliver(event(storeId, "3-0"));
+		release.countDown();
+
+		assertThat(broker.countConnections(storeId)).isZero();
+		assertThat(meterRegistry.get("order.feed.disconnects").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("주문 구독은 현재 상태를 먼저 보내고, 그 주문의 변경만 이어 보낸다")
+	void orderSubscriptionSendsCurrentThenChanges() throws Exception {
+		UUID orderId = UUID.randomUUID();
+		OrderFeedEvent current = OrderFeedEvent.statusChanged(storeId, orderId, 1L, OrderStatus.ACCEPTED)
+			.withEventId("3-0");
+
+		broker.subscribeOrder(orderId, () -> current);
+		await(() -> sentCount() == 1);
+
+		deliver(event(storeId, "4-0"));
+		deliver(OrderFeedEvent.statusChanged(storeId, orderId, 1L, OrderStatus.COOKING).withEventId("5-0"));
+
+		await(() -> sentCount() == 2);
+		assertThat(broker.countOrderConnections(orderId)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("더 바뀌지 않는 상태를 보내면 주문 구독을 닫는다")
+	void orderSubscriptionClosesOnFinalStatus() throws Exception {
+		UUID orderId = UUID.randomUUID();
+		broker.subscribeOrder(orderId,
+			() -> OrderFeedEvent.statusChanged(storeId, orderId, 1L, OrderStatus.IN_DELIVERY).withEventId("3-0"));
+		await(() -> sentCount() == 1);
+
+		deliver(OrderFeedEvent.statusChanged(storeId, orderId, 1L, OrderStatus.COMPLETED).withEventId("4-0"));
+
+		await(() -> broker.countOrderConnections(orderId) == 0);
+		assertThat(sentCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("스트림 ID 는 시간, 순번 순으로 비교한다")
+	void compareEventIds() {
+		assertThat(OrderFeedService.compareEventIds("10-0", "9-5")).isPositive();
+		assertThat(OrderFeedService.compareEventIds("9-5", "9-10")).isNegative();
+		assertThat(OrderFeedService.compareEventIds("9-5", "9-5")).isZero();
+		assertThat(OrderFeedService.validEventId("not-an-id")).isEmpty();
+	}
+}
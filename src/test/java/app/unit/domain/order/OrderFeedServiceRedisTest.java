@@ -0,0 +1,94 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.service.OrderFeedService;
+import app.global.config.RedisConfig;
+
+/**
+ * 테스트 전용 Redis 컨테이너에서 주문별 최신 상태 해시의 버전 비교를 확인한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OrderFeedService Redis 테스트")
+class OrderFeedServiceRedisTest {
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> redisTemplate;
+
+	private OrderFeedService orderFeedService;
+	private UUID storeId;
+	private UUID orderId;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		orderFeedService = new OrderFeedService(redisTemplate, new RedisConfig().redisObjectMapper(), 100,
+			Duration.ofDays(1));
+		storeId = UUID.randomUUID();
+		orderId = UUID.randomUUID();
+	}
+
+	private OrderFeedEvent event(OrderStatus status, long occurredAtMillis) {
+		return OrderFeedEvent.statusChanged(storeId, orderId, 1L, status).toBuilder()
+			.occurredAtMillis(occurredAtMillis)
+			.build();
+	}
+
+	@Test
+	@DisplayName("먼저 바뀐 상태가 늦게 발행돼도 최신 상태를 되돌리지 않는다")
+	void olderEventDoesNotOverwriteNewerStatus() {
+		orderFeedService.publish(event(OrderStatus.COOKING, 2_000L));
+		orderFeedService.publish(event(OrderStatus.ACCEPTED, 1_000L));
+
+		assertThat(orderFeedService.findStatus(orderId)).get()
+			.extracting(OrderFeedEvent::getOrderStatus)
+			.isEqualTo(OrderStatus.COOKING);
+	}
+
+	@Test
+	@DisplayName("DB 에서 채운 상태는 이후 발행된 상태가 덮어쓴다")
+	void publishedStatusReplacesSeededStatus() {
+		orderFeedService.cacheStatus(event(OrderStatus.PENDING, 5_000L));
+		orderFeedService.publish(event(OrderStatus.ACCEPTED, 1_000L));
+
+		assertThat(orderFeedService.findStatus(orderId)).get()
+			.extracting(OrderFeedEvent::getOrderStatus)
+			.isEqualTo(OrderStatus.ACCEPTED);
+	}
+}
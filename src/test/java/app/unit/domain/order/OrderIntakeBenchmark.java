@@ -0,0 +1,332 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartService;
+import app.domain.menu.MenuCatalogCache;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.repository.CategoryRepository;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.OrderIntakeConsumer;
+import app.domain.order.model.dto.request.CreateOrderRequest;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.order.service.OrderIntakeService;
+import app.domain.order.service.OrderIntakeWriter;
+import app.domain.order.service.OrderService;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.RegionRepository;
+import app.domain.store.repository.StoreRepository;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.SecurityUtil;
+import app.global.config.QueryDslConfig;
+import app.global.config.RedisConfig;
+import app.global.config.TestJpaConfig;
+import app.global.outbox.OutboxEventRepository;
+import app.global.outbox.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 동기 주문 생성(OrderService.createOrder)과 비동기 접수(OrderIntakeService.submit)의 응답 처리량/지연 시간 비교.
+ * 비동기 접수는 소비자가 접수된 주문을 모두 저장하는 데 걸린 시간도 함께 출력한다.
+ * 일반 테스트 실행에서는 건너뛰며, Redis(REDIS_HOST/REDIS_PORT)를 띄운 뒤 다음처럼 실행한다.
+ * <pre>
+ * BENCHMARK=true BENCHMARK_ORDERS=5000 BENCHMARK_THREADS=32 \
+ * ./gradlew test --tests '*OrderIntakeBenchmark'
+ * </pre>
+ * 기본 설정은 H2 메모리 DB 를 사용하므로 PostgreSQL 에서의 수치는 spring.datasource.* 를 지정해 측정한다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DataJpaTest
+@Import({QueryDslConfig.class, TestJpaConfig.class, OutboxService.class, OrderEventOutbox.class,
+	OrderIntakeWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("주문 생성 방식별 처리량/지연 시간 벤치마크")
+class OrderIntakeBenchmark {
+
+	private static final int ORDERS = intEnv("BENCHMARK_ORDERS", 2_000);
+	private static final int THREADS = intEnv("BENCHMARK_THREADS", 16);
+	private static final int WARMUP_ORDERS = 200;
+	private static final String STREAM = "bench:order-intake";
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Autowired
+	private OrderIntakeWriter orderIntakeWriter;
+
+	@Autowired
+	private OrderEventOutbox orderEventOutbox;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private MenuRepository menuRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	private final CartService cartService = mock(CartService.class);
+	private final SecurityUtil securityUtil = mock(SecurityUtil.class);
+
+	private LettuceConnectionFactory connectionFactory;
+	private RedisTemplate<String, String> redisTemplate;
+	private final List<UUID> intakeOrderIds = Collections.synchronizedList(new ArrayList<>());
+
+	private TransactionTemplate transactionTemplate;
+	private OrderService orderService;
+	private OrderIntakeService orderIntakeService;
+	private OrderIntakeConsumer orderIntakeConsumer;
+	private long totalPrice;
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+			System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+			Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		String password = System.getenv("REDIS_PASSWORD");
+		if (password != null && !password.isBlank()) {
+			configuration.setPassword(password);
+		}
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		boolean redisAvailable;
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+			redisAvailable = true;
+		} catch (Exception e) {
+			redisAvailable = false;
+		}
+		assumeTrue(redisAvailable, "Redis 에 접속할 수 없어 벤치마크를 건너뜁니다.");
+		redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		redisTemplate.delete(STREAM);
+
+		User user = userRepository.save(User.builder()
+			.username("benchuser")
+			.password("password123!")
+			.email("bench@example.com")
+			.nickname("bench")
+			.realName("김측정")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		Region region = regionRepository.save(Region.builder()
+			.regionCode("1111010400")
+			.regionName("효자동")
+			.fullName("서울특별시 종로구 효자동")
+			.isActive(true)
+			.build());
+		Category category = categoryRepository.save(Category.builder().categoryName("일식").build());
+		Store store = storeRepository.save(Store.builder()
+			.user(user)
+			.region(region)
+			.category(category)
+			.storeName("벤치마크 가게")
+			.address("서울시 종로구")
+			.minOrderAmount(0)
+			.build());
+		List<RedisCartItem> cartItems = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Menu menu = menuRepository.save(Menu.builder()
+				.store(store)
+				.name("메뉴" + i)
+				.price(1000L * (i + 1))
+				.build());
+			cartItems.add(new RedisCartItem(menu.getMenuId(), store.getStoreId(), 1));
+			totalPrice += menu.getPrice();
+		}
+		when(cartService.getCartFromCache()).thenReturn(cartItems);
+		when(securityUtil.getCurrentUser()).thenReturn(user);
+		when(securityUtil.getCurrentUserId()).thenReturn(user.getUserId());
+
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		orderService = new OrderService(ordersRepository, orderItemRepository, cartService, storeRepository,
+			menuRepository, orderEventOutbox, securityUtil, orderStatusEventRepository, mock(OrderFeedService.class));
+
+		orderIntakeService = new OrderIntakeService(redisTemplate, new RedisConfig().redisObjectMapper(),
+			cartService, new MenuCatalogCache(menuRepository, storeRepository, Duration.ofSeconds(60), 1000),
+			ordersRepository, securityUtil, Clock.systemUTC(), true, STREAM, Duration.ofMinutes(5));
+		orderIntakeService.createGroup();
+		orderIntakeConsumer = new OrderIntakeConsumer(orderIntakeService, orderIntakeWriter,
+			new SimpleMeterRegistry(), intEnv("BENCHMARK_WORKERS", 2), 50, Duration.ofMillis(100),
+			Duration.ofSeconds(30), 3);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (redisTemplate == null) {
+			connectionFactory.destroy();
+			return;
+		}
+		if (orderIntakeConsumer != null) {
+			orderIntakeConsumer.shutdown();
+		}
+		redisTemplate.delete(STREAM);
+		redisTemplate.delete(intakeOrderIds.stream().map(orderId -> "order:intake:" + orderId).toList());
+		connectionFactory.destroy();
+
+		outboxEventRepository.deleteAllInBatch();
+		orderStatusEventRepository.deleteAllInBatch();
+		orderItemRepository.deleteAllInBatch();
+		ordersRepository.deleteAllInBatch();
+		menuRepository.deleteAllInBatch();
+		storeRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+		regionRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void compareThroughputAndLatency() throws Exception {
+		CreateOrderRequest request = new CreateOrderRequest(PaymentMethod.CREDIT_CARD, OrderChannel.ONLINE,
+			ReceiptMethod.DELIVERY, null, totalPrice, "서울시 종로구");
+
+		// 서비스 객체를 직접 만들었으므로 요청마다 트랜잭션을 직접 연다.
+		Supplier<UUID> createOrder = () -> transactionTemplate.execute(status -> orderService.createOrder(request));
+		run(WARMUP_ORDERS, createOrder);
+		run(WARMUP_ORDERS, () -> record(orderIntakeService.submit(request)));
+		while (orderIntakeConsumer.pollOnce("bench-warmup") > 0) {
+			// 워밍업 주문은 소비자를 띄우기 전에 모두 저장해 둔다.
+		}
+
+		Result sync = run(ORDERS, createOrder);
+		report("동기 주문 생성", sync);
+
+		Result intake = run(ORDERS, () -> record(orderIntakeService.submit(request)));
+		report("비동기 주문 접수", intake);
+
+		long drainStarted = System.nanoTime();
+		orderIntakeConsumer.start();
+		awaitDrained();
+		double drainSeconds = (System.nanoTime() - drainStarted) / 1_000_000_000.0;
+		System.out.printf("%-16s orders=%d elapsed=%.2fs throughput=%.0f orders/s%n",
+			"접수 주문 저장", ORDERS, drainSeconds, ORDERS / drainSeconds);
+
+		assertThat(ordersRepository.count()).isEqualTo(2L * (WARMUP_ORDERS + ORDERS));
+	}
+
+	private UUID record(UUID orderId) {
+		intakeOrderIds.add(orderId);
+		return orderId;
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + Duration.ofMinutes(5).toMillis();
+		while (orderIntakeService.countBacklog() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(orderIntakeService.countBacklog()).isZero();
+	}
+
+	private Result run(int orders, Supplier<UUID> call) throws Exception {
+		long[] latencies = new long[orders];
+		AtomicInteger next = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		long started = System.nanoTime();
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					int index;
+					while ((index = next.getAndIncrement()) < orders) {
+						long callStarted = System.nanoTime();
+						call.get();
+						latencies[index] = System.nanoTime() - callStarted;
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return new Result(orders, System.nanoTime() - started, latencies);
+	}
+
+	private void report(String label, Result result) {
+		long[] sorted = result.latencies().clone();
+		Arrays.sort(sorted);
+		double seconds = result.elapsedNanos() / 1_000_000_000.0;
+		System.out.printf("%-16s orders=%d threads=%d throughput=%.0f orders/s p50=%.2fms p99=%.2fms%n",
+			label, result.orders(), THREADS, result.orders() / seconds, percentile(sorted, 0.50),
+			percentile(sorted, 0.99));
+	}
+
+	private static double percentile(long[] sorted, double quantile) {
+		int index = (int)Math.ceil(quantile * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1_000_000.0;
+	}
+
+	private record Result(int orders, long elapsedNanos, long[] latencies) {
+	}
+
+	private static int intEnv(String name, int defaultValue) {
+		String value = System.getenv(name);
+		return value == null ? defaultValue : Integer.parseInt(value);
+	}
+}
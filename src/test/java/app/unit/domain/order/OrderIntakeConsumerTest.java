@@ -0,0 +1,160 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import app.domain.order.OrderIntakeConsumer;
+import app.domain.order.model.dto.OrderIntakeCommand;
+import app.domain.order.model.dto.response.OrderIntakeStatusResponse.Status;
+import app.domain.order.service.OrderIntakeService;
+import app.domain.order.service.OrderIntakeService.Delivery;
+import app.domain.order.service.OrderIntakeWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIntakeConsumer 테스트")
+class OrderIntakeConsumerTest {
+
+	private static final String CONSUMER = "intake-test-1";
+	private static final int BATCH_SIZE = 50;
+	private static final Duration BLOCK = Duration.ofMillis(10);
+	private static final Duration CLAIM_IDLE = Duration.ofSeconds(30);
+	private static final int MAX_DELIVERIES = 3;
+
+	@Mock
+	private OrderIntakeService orderIntakeService;
+
+	@Mock
+	private OrderIntakeWriter orderIntakeWriter;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OrderIntakeConsumer consumer;
+	private long sequence;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		consumer = new OrderIntakeConsumer(orderIntakeService, orderIntakeWriter, meterRegistry,
+			1, BATCH_SIZE, BLOCK, CLAIM_IDLE, MAX_DELIVERIES);
+	}
+
+	private Delivery delivery(long deliveryCount) {
+		UUID orderId = UUID.randomUUID();
+		OrderIntakeCommand command = OrderIntakeCommand.builder()
+			.orderId(orderId)
+			.acceptedAtMillis(1_000L)
+			.items(List.of())
+			.build();
+		return new Delivery(RecordId.of(1L, sequence++), orderId, command, deliveryCount);
+	}
+
+	@Test
+	@DisplayName("읽은 묶음을 한 번에 저장한 뒤 확인한다")
+	void persistBatch() {
+		List<Delivery> deliveries = List.of(delivery(1), delivery(1), delivery(1));
+		List<OrderIntakeCommand> commands = deliveries.stream().map(Delivery::command).toList();
+		when(orderIntakeService.readNew(CONSUMER, BATCH_SIZE, BLOCK)).thenReturn(deliveries);
+		when(orderIntakeWriter.persist(commands))
+			.thenReturn(new OrderIntakeWriter.Result(
+				List.of(deliveries.get(0).orderId(), deliveries.get(1).orderId()), List.of()));
+
+		int read = consumer.pollOnce(CONSUMER);
+
+		assertThat(read).isEqualTo(3);
+		verify(orderIntakeWriter, times(1)).persist(anyList());
+		verify(orderIntakeService).complete(deliveries, Status.PERSISTED);
+		assertThat(counter("persisted")).isEqualTo(2);
+		assertThat(counter("duplicate")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("묶음 저장이 실패하면 한 건씩 다시 저장하고, 실패한 주문만 확인하지 않고 남긴다")
+	void fallsBackToSingleOrders() {
+		Delivery good = delivery(1);
+		Delivery bad = delivery(1);
+		when(orderIntakeService.readNew(CONSUMER, BATCH_SIZE, BLOCK)).thenReturn(List.of(good, bad));
+		when(orderIntakeWriter.persist(List.of(good.command(), bad.command())))
+			.thenThrow(new IllegalStateException("constraint violation"));
+		when(orderIntakeWriter.persist(List.of(good.command()))).thenReturn(new OrderIntakeWriter.Result(List.of(good.orderId()), List.of()));
+		when(orderIntakeWriter.persist(List.of(bad.command())))
+			.thenThrow(new IllegalStateException("constraint violation"));
+
+		consumer.pollOnce(CONSUMER);
+
+		verify(orderIntakeService).complete(List.of(good), Status.PERSISTED);
+		verify(orderIntakeService, never()).complete(eq(List.of(bad)), any());
+		assertThat(counter("persisted")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("접수 후 가격이나 판매 여부가 바뀌어 거절된 주문은 실패로 표시한다")
+	void rejectedOrders() {
+		Delivery good = delivery(1);
+		Delivery stale = delivery(1);
+		when(orderIntakeService.readNew(CONSUMER, BATCH_SIZE, BLOCK)).thenReturn(List.of(good, stale));
+		when(orderIntakeWriter.persist(List.of(good.command(), stale.command())))
+			.thenReturn(new OrderIntakeWriter.Result(List.of(good.orderId()), List.of(stale.orderId())));
+
+		consumer.pollOnce(CONSUMER);
+
+		verify(orderIntakeService).complete(List.of(good), Status.PERSISTED);
+		verify(orderIntakeService).complete(List.of(stale), Status.FAILED);
+		assertThat(counter("persisted")).isEqualTo(1);
+		assertThat(counter("duplicate")).isZero();
+		assertThat(counter("failed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("해석할 수 없는 항목은 저장하지 않고 실패로 표시한다")
+	void unreadablePayload() {
+		Delivery unreadable = new Delivery(RecordId.of(1L, 0L), UUID.randomUUID(), null, 1);
+		when(orderIntakeService.readNew(CONSUMER, BATCH_SIZE, BLOCK)).thenReturn(List.of(unreadable));
+
+		consumer.pollOnce(CONSUMER);
+
+		verify(orderIntakeService).complete(List.of(unreadable), Status.FAILED);
+		verifyNoInteractions(orderIntakeWriter);
+		assertThat(counter("failed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("멈춘 항목을 회수해 저장하고, 전달 횟수를 넘긴 항목은 실패로 표시한다")
+	void recoverStaleDeliveries() {
+		Delivery retry = delivery(2);
+		Delivery exhausted = delivery(MAX_DELIVERIES + 1);
+		when(orderIntakeService.claimStale(CONSUMER, CLAIM_IDLE, BATCH_SIZE)).thenReturn(List.of(retry, exhausted));
+		when(orderIntakeWriter.persist(List.of(retry.command()))).thenReturn(new OrderIntakeWriter.Result(List.of(retry.orderId()), List.of()));
+
+		int recovered = consumer.recoverOnce(CONSUMER);
+
+		assertThat(recovered).isEqualTo(2);
+		verify(orderIntakeService).complete(List.of(retry), Status.PERSISTED);
+		verify(orderIntakeService).complete(List.of(exhausted), Status.FAILED);
+		verify(orderIntakeWriter, never()).persist(List.of(exhausted.command()));
+	}
+
+	@Test
+	@DisplayName("적체량을 지표로 노출한다")
+	void exposesBacklog() {
+		when(orderIntakeService.countBacklog()).thenReturn(12L);
+
+		assertThat(meterRegistry.get("order.intake.backlog").gauge().value()).isEqualTo(12);
+	}
+
+	private double counter(String result) {
+		return meterRegistry.get("order.intake.orders").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,290 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.cart.model.dto.RedisCartItem;
+import app.domain.cart.service.CartService;
+import app.domain.menu.MenuCatalogCache;
+import app.domain.menu.MenuCatalogCache.MenuInfo;
+import app.domain.menu.MenuCatalogCache.StoreInfo;
+import app.domain.order.model.dto.OrderIntakeCommand;
+import app.domain.order.model.dto.request.CreateOrderRequest;
+import app.domain.order.model.dto.response.OrderIntakeStatusResponse;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderIntakeService;
+import app.domain.order.status.OrderErrorStatus;
+import app.global.SecurityUtil;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.config.RedisConfig;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIntakeService 테스트")
+class OrderIntakeServiceTest {
+
+	private static final String STREAM = "order-intake";
+	private static final Instant NOW = Instant.parse("2025-01-01T03:00:00Z");
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	@Mock
+	private CartService cartService;
+
+	@Mock
+	private MenuCatalogCache menuCatalogCache;
+
+	@Mock
+	private OrdersRepository ordersRepository;
+
+	@Mock
+	private SecurityUtil securityUtil;
+
+	private final ObjectMapper objectMapper = new RedisConfig().redisObjectMapper();
+
+	private OrderIntakeService orderIntakeService;
+
+	private UUID storeId;
+	private UUID menuId1;
+	private UUID menuId2;
+
+	@BeforeEach
+	void setUp() {
+		orderIntakeService = new OrderIntakeService(redisTemplate, objectMapper, cartService, menuCatalogCache,
+			ordersRepository, securityUtil, Clock.fixed(NOW, ZoneOffset.UTC), true, STREAM, Duration.ofHours(1));
+		storeId = UUID.randomUUID();
+		menuId1 = UUID.randomUUID();
+		menuId2 = UUID.randomUUID();
+	}
+
+	private CreateOrderRequest request(long totalPrice) {
+		return new CreateOrderRequest(PaymentMethod.CREDIT_CARD, OrderChannel.ONLINE, ReceiptMethod.DELIVERY,
+			"문 앞에 놓아주세요", totalPrice, "서울시 강남구");
+	}
+
+	private void givenCart() {
+		when(securityUtil.getCurrentUserId()).thenReturn(1L);
+		when(cartService.getCartFromCache()).thenReturn(List.of(
+			new RedisCartItem(menuId1, storeId, 2),
+			new RedisCartItem(menuId2, storeId, 1)));
+		when(menuCatalogCache.getStore(storeId)).thenReturn(new StoreInfo(storeId, "테스트 가게", 0L, false));
+	}
+
+	@Test
+	@DisplayName("검증한 주문을 접수 스트림에 기록하고 DB 에 접근하지 않는다")
+	@SuppressWarnings("unchecked")
+	void submitAppendsToStream() throws Exception {
+		givenCart();
+		when(menuCatalogCache.getMenus(List.of(menuId1, menuId2))).thenReturn(Map.of(
+			menuId1, new MenuInfo(menuId1, storeId, "짜장면", 7000L, false, false),
+			menuId2, new MenuInfo(menuId2, storeId, "짬뽕", 8000L, false, false)));
+
+		UUID orderId = orderIntakeService.submit(request(22000L));
+
+		ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(STREAM, "order:intake:" + orderId)),
+			eq(orderId.toString()), payload.capture(), eq("1"), eq("3600"));
+		verifyNoInteractions(ordersRepository);
+
+		OrderIntakeCommand command = objectMapper.readValue((String)payload.getValue(), OrderIntakeCommand.class);
+		assertThat(command.getOrderId()).isEqualTo(orderId);
+		assertThat(command.getUserId()).isEqualTo(1L);
+		assertThat(command.getStoreId()).isEqualTo(storeId);
+		assertThat(command.getTotalPrice()).isEqualTo(22000L);
+		assertThat(command.getAcceptedAtMillis()).isEqualTo(NOW.toEpochMilli());
+		assertThat(command.getItems()).extracting(OrderIntakeCommand.Item::getMenuName, OrderIntakeCommand.Item::getPrice,
+				OrderIntakeCommand.Item::getQuantity)
+			.containsExactly(tuple("짜장면", 7000L, 2), tuple("짬뽕", 8000L, 1));
+	}
+
+	@Test
+	@DisplayName("장바구니가 비어 있으면 접수하지 않는다")
+	void emptyCart() {
+		when(securityUtil.getCurrentUserId()).thenReturn(1L);
+		when(cartService.getCartFromCache()).thenReturn(List.of());
+
+		assertThatThrownBy(() -> orderIntakeService.submit(request(1000L)))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", ErrorStatus.CART_NOT_FOUND);
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("삭제된 메뉴가 있으면 접수하지 않는다")
+	void deletedMenu() {
+		givenCart();
+		when(menuCatalogCache.getMenus(anyCollection())).thenReturn(Map.of(
+			menuId1, new MenuInfo(menuId1, storeId, "짜장면", 7000L, false, false),
+			menuId2, new MenuInfo(menuId2, null, null, 0L, false, true)));
+
+		assertThatThrownBy(() -> orderIntakeService.submit(request(22000L)))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", ErrorStatus.MENU_NOT_FOUND);
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("다른 매장의 메뉴가 섞여 있으면 접수하지 않는다")
+	void menuOfAnotherStore() {
+		givenCart();
+		when(menuCatalogCache.getMenus(anyCollection())).thenReturn(Map.of(
+			menuId1, new MenuInfo(menuId1, storeId, "짜장면", 7000L, false, false),
+			menuId2, new MenuInfo(menuId2, UUID.randomUUID(), "짬뽕", 8000L, false, false)));
+
+		assertThatThrownBy(() -> orderIntakeService.submit(request(22000L)))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", OrderErrorStatus.ORDER_DIFFERENT_STORE);
+	}
+
+	@Test
+	@DisplayName("총 금액이 메뉴 가격과 다르면 접수하지 않는다")
+	void priceMismatch() {
+		givenCart();
+		when(menuCatalogCache.getMenus(anyCollection())).thenReturn(Map.of(
+			menuId1, new MenuInfo(menuId1, storeId, "짜장면", 7000L, false, false),
+			menuId2, new MenuInfo(menuId2, storeId, "짬뽕", 8000L, false, false)));
+
+		assertThatThrownBy(() -> orderIntakeService.submit(request(10000L)))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", OrderErrorStatus.ORDER_PRICE_MISMATCH);
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("삭제된 매장이면 접수하지 않는다")
+	void deletedStore() {
+		when(securityUtil.getCurrentUserId()).thenReturn(1L);
+		when(cartService.getCartFromCache()).thenReturn(List.of(new RedisCartItem(menuId1, storeId, 1)));
+		when(menuCatalogCache.getStore(storeId)).thenReturn(new StoreInfo(storeId, null, 0L, true));
+
+		assertThatThrownBy(() -> orderIntakeService.submit(request(7000L)))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", ErrorStatus.STORE_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("저장 전에는 접수 상태를 돌려준다")
+	void statusWhileQueued() {
+		UUID orderId = UUID.randomUUID();
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries("order:intake:" + orderId)).thenReturn(Map.of("status", "QUEUED", "userId", "1"));
+		when(securityUtil.getCurrentUserId()).thenReturn(1L);
+
+		OrderIntakeStatusResponse response = orderIntakeService.getStatus(orderId);
+
+		assertThat(response.getStatus()).isEqualTo(OrderIntakeStatusResponse.Status.QUEUED);
+		verifyNoInteractions(ordersRepository);
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 접수 주문은 찾을 수 없다")
+	void statusOfAnotherUser() {
+		UUID orderId = UUID.randomUUID();
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries("order:intake:" + orderId)).thenReturn(Map.of("status", "QUEUED", "userId", "2"));
+		when(securityUtil.getCurrentUserId()).thenReturn(1L);
+
+		assertThatThrownBy(() -> orderIntakeService.getStatus(orderId))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", ErrorStatus.ORDER_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("접수 상태가 만료된 주문은 내 주문으로 저장되었는지로 판단한다")
+	void statusAfterExpiry() {
+		UUID persistedId = UUID.randomUUID();
+		UUID unknownId = UUID.randomUUID();
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries(anyString())).thenReturn(Map.of());
+		when(securityUtil.getCurrentUserId()).thenReturn(1L);
+		when(ordersRepository.existsByOrdersIdAndUser_UserId(persistedId, 1L)).thenReturn(true);
+		when(ordersRepository.existsByOrdersIdAndUser_UserId(unknownId, 1L)).thenReturn(false);
+
+		assertThat(orderIntakeService.getStatus(persistedId).getStatus())
+			.isEqualTo(OrderIntakeStatusResponse.Status.PERSISTED);
+		assertThatThrownBy(() -> orderIntakeService.getStatus(unknownId))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", ErrorStatus.ORDER_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("접수 상태가 만료된 뒤에도 다른 사용자의 주문은 찾을 수 없다")
+	void statusOfAnotherUserAfterExpiry() {
+		UUID orderId = UUID.randomUUID();
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries(anyString())).thenReturn(Map.of());
+		when(securityUtil.getCurrentUserId()).thenReturn(2L);
+		when(ordersRepository.existsByOrdersIdAndUser_UserId(orderId, 2L)).thenReturn(false);
+
+		assertThatThrownBy(() -> orderIntakeService.getStatus(orderId))
+			.isInstanceOf(GeneralException.class)
+			.hasFieldOrPropertyWithValue("code", ErrorStatus.ORDER_NOT_FOUND);
+		verify(ordersRepository, never()).existsById(any());
+	}
+
+	@Test
+	@DisplayName("오래 확인되지 않은 항목만 서버에서 골라 선점하고 전달 횟수를 하나 올린다")
+	void claimStale() {
+		UUID orderId = UUID.randomUUID();
+		MapRecord<String, Object, Object> record = MapRecord.<String, Object, Object>create(STREAM,
+			Map.of("orderId", orderId.toString(), "payload", "{}")).withId(RecordId.of("2-0"));
+		doReturn(List.of("2-0", "3")).when(redisTemplate).execute(any(RedisScript.class), eq(List.of(STREAM)),
+			eq(OrderIntakeService.CONSUMER_GROUP), eq("30000"), eq("10"));
+		doReturn(streamOperations).when(redisTemplate).opsForStream();
+		when(streamOperations.claim(STREAM, OrderIntakeService.CONSUMER_GROUP, "writer-1", Duration.ofSeconds(30),
+			RecordId.of("2-0"))).thenReturn(List.of(record));
+
+		List<OrderIntakeService.Delivery> deliveries = orderIntakeService.claimStale("writer-1",
+			Duration.ofSeconds(30), 10);
+
+		assertThat(deliveries).singleElement().satisfies(delivery -> {
+			assertThat(delivery.orderId()).isEqualTo(orderId);
+			assertThat(delivery.deliveryCount()).isEqualTo(4);
+		});
+	}
+
+	@Test
+	@DisplayName("오래된 항목이 없으면 선점하지 않는다")
+	void claimStale_NothingIdle() {
+		doReturn(List.of()).when(redisTemplate).execute(any(RedisScript.class), eq(List.of(STREAM)),
+			eq(OrderIntakeService.CONSUMER_GROUP), anyString(), anyString());
+
+		assertThat(orderIntakeService.claimStale("writer-1", Duration.ofSeconds(30), 10)).isEmpty();
+		verify(redisTemplate, never()).opsForStream();
+	}
+}
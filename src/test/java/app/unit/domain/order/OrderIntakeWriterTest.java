@@ -0,0 +1,216 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.order.model.dto.OrderIntakeCommand;
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.order.service.OrderIntakeWriter;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+import app.global.entity.TimeOrderedUuidGenerator;
+import app.global.outbox.OutboxEvent;
+import app.global.outbox.OutboxEventRepository;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxService;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, TestJpaConfig.class, OutboxService.class, OrderEventOutbox.class,
+	OrderIntakeWriter.class})
+@DisplayName("OrderIntakeWriter 테스트")
+class OrderIntakeWriterTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private OrderIntakeWriter orderIntakeWriter;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@MockitoBean
+	private OrderFeedService orderFeedService;
+
+	private final TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator();
+
+	private User user;
+	private Store store;
+	private Menu jajangmyeon;
+	private Menu jjamppong;
+
+	@BeforeEach
+	void setUp() {
+		user = entityManager.persist(User.builder()
+			.username("intakeuser")
+			.password("password123!")
+			.email("intake@example.com")
+			.nickname("intake")
+			.realName("김접수")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010300")
+			.regionName("궁정동")
+			.fullName("서울특별시 종로구 궁정동")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("중식").build());
+		store = entityManager.persist(Store.builder()
+			.user(user)
+			.region(region)
+			.category(category)
+			.storeName("접수 테스트 가게")
+			.address("서울시 종로구")
+			.minOrderAmount(0)
+			.build());
+		jajangmyeon = entityManager.persist(Menu.builder().store(store).name("짜장면").price(7000L).build());
+		jjamppong = entityManager.persist(Menu.builder().store(store).name("짬뽕").price(8000L).build());
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private OrderIntakeCommand command(long acceptedAtMillis) {
+		return OrderIntakeCommand.builder()
+			.orderId(idGenerator.generate())
+			.userId(user.getUserId())
+			.storeId(store.getStoreId())
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.totalPrice(22000L)
+			.deliveryAddress("서울시 종로구")
+			.acceptedAtMillis(acceptedAtMillis)
+			.items(List.of(
+				new OrderIntakeCommand.Item(jajangmyeon.getMenuId(), "짜장면", 7000L, 2),
+				new OrderIntakeCommand.Item(jjamppong.getMenuId(), "짬뽕", 8000L, 1)))
+			.build();
+	}
+
+	@Test
+	@DisplayName("접수 때 발급한 주문 ID 그대로 주문, 아이템, 상태 이력과 주문 생성 이벤트를 저장한다")
+	void persistsWithAssignedIds() {
+		long acceptedAt = Instant.parse("2025-01-01T03:00:00Z").toEpochMilli();
+		OrderIntakeCommand first = command(acceptedAt);
+		OrderIntakeCommand second = command(acceptedAt + 1);
+
+		OrderIntakeWriter.Result result = orderIntakeWriter.persist(List.of(first, second));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(result.persisted()).containsExactly(first.getOrderId(), second.getOrderId());
+		assertThat(result.rejected()).isEmpty();
+		Orders order = ordersRepository.findById(first.getOrderId()).orElseThrow();
+		assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+		assertThat(order.getTotalPrice()).isEqualTo(22000L);
+		assertThat(order.isRefundable()).isTrue();
+		assertThat(orderItemRepository.findByOrders(order))
+			.extracting("menuName", "price", "quantity")
+			.containsExactlyInAnyOrder(tuple("짜장면", 7000L, 2), tuple("짬뽕", 8000L, 1));
+
+		List<OrderStatusEvent> events = orderStatusEventRepository
+			.findByOrdersIdOrderByOccurredAtAscEventIdAsc(first.getOrderId());
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getOccurredAt())
+			.isEqualTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(acceptedAt), ZoneId.systemDefault()));
+		assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getEventType, OutboxEvent::getAggregateId)
+			.containsExactlyInAnyOrder(
+				tuple(OutboxEventType.ORDER_CREATED, first.getOrderId().toString()),
+				tuple(OutboxEventType.ORDER_CREATED, second.getOrderId().toString()));
+		assertThat(outboxEventRepository.findAll())
+			.anySatisfy(event -> assertThat(event.getPayload()).contains("\"occurredAt\":" + acceptedAt));
+	}
+
+	@Test
+	@DisplayName("다시 전달된 주문은 건너뛰고 새 주문만 저장한다")
+	void skipsAlreadyPersisted() {
+		OrderIntakeCommand first = command(System.currentTimeMillis());
+		orderIntakeWriter.persist(List.of(first));
+		entityManager.flush();
+		entityManager.clear();
+
+		OrderIntakeCommand second = command(System.currentTimeMillis());
+		OrderIntakeWriter.Result result = orderIntakeWriter.persist(List.of(first, second));
+		entityManager.flush();
+
+		assertThat(result.persisted()).containsExactly(second.getOrderId());
+		assertThat(ordersRepository.count()).isEqualTo(2);
+		assertThat(orderItemRepository.count()).isEqualTo(4);
+		assertThat(orderStatusEventRepository.count()).isEqualTo(2);
+		assertThat(outboxEventRepository.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("접수 후 메뉴 가격이 바뀌었거나 숨김/삭제된 메뉴가 있는 주문은 저장하지 않고 거절한다")
+	void rejectsOrdersThatNoLongerMatchCatalog() {
+		OrderIntakeCommand repriced = command(System.currentTimeMillis());
+		OrderIntakeCommand hidden = OrderIntakeCommand.builder()
+			.orderId(idGenerator.generate())
+			.userId(user.getUserId())
+			.storeId(store.getStoreId())
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.totalPrice(8000L)
+			.deliveryAddress("서울시 종로구")
+			.acceptedAtMillis(System.currentTimeMillis())
+			.items(List.of(new OrderIntakeCommand.Item(jjamppong.getMenuId(), "짬뽕", 8000L, 1)))
+			.build();
+		Menu changedJajangmyeon = entityManager.find(Menu.class, jajangmyeon.getMenuId());
+		changedJajangmyeon.update(null, 7500L, null, null);
+		Menu hiddenJjamppong = entityManager.find(Menu.class, jjamppong.getMenuId());
+		hiddenJjamppong.update(null, null, null, true);
+		entityManager.flush();
+		entityManager.clear();
+
+		OrderIntakeWriter.Result result = orderIntakeWriter.persist(List.of(repriced, hidden));
+		entityManager.flush();
+
+		assertThat(result.persisted()).isEmpty();
+		assertThat(result.rejected()).containsExactly(repriced.getOrderId(), hidden.getOrderId());
+		assertThat(ordersRepository.count()).isZero();
+		assertThat(orderItemRepository.count()).isZero();
+		assertThat(outboxEventRepository.count()).isZero();
+	}
+}
@@ -0,0 +1,176 @@
+package app.unit.domain.order;
+
+import static app.global.jdbc.QueryStatsAssert.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import app.domain.customer.dto.response.CustomerOrderResponse;
+import app.domain.menu.model.entity.Category;
+import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrdersQueryRepository;
+import app.domain.order.model.repository.OrdersQueryRepositoryImpl;
+import app.domain.review.model.ReviewQueryRepository;
+import app.domain.review.model.ReviewQueryRepositoryImpl;
+import app.domain.review.model.dto.response.GetReviewResponse;
+import app.domain.review.model.entity.Review;
+import app.domain.store.model.dto.response.StoreOrderResponse;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+import app.global.jdbc.QueryCountingDataSourcePostProcessor;
+import app.global.jdbc.QueryStats;
+import app.global.jdbc.QueryStatsHolder;
+
+/**
+ * 목록 조회가 페이지 크기와 관계없이 일정한 수의 SQL 문만 실행하는지 확인한다.
+ * 커서 목록은 조회 1, 관리자 주문 상세 목록은 주문 1 + 주문 항목 IN 조회 1 + 개수 1
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, TestJpaConfig.class, QueryCountingDataSourcePostProcessor.class,
+	OrdersQueryRepositoryImpl.class, ReviewQueryRepositoryImpl.class})
+@DisplayName("목록 조회 쿼리 수 테스트")
+class OrderListQueryBudgetTest {
+
+	private static final int ORDER_COUNT = 12;
+	private static final int ITEMS_PER_ORDER = 3;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private OrdersQueryRepository ordersQueryRepository;
+
+	@Autowired
+	private ReviewQueryRepository reviewQueryRepository;
+
+	private User user;
+	private Store store;
+
+	@BeforeEach
+	void setUp() {
+		user = entityManager.persist(User.builder()
+			.username("listuser")
+			.password("password123!")
+			.email("list@example.com")
+			.nickname("list")
+			.realName("김목록")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		Region region = entityManager.persist(Region.builder()
+			.regionCode("1111010100")
+			.regionName("청운동")
+			.fullName("서울특별시 종로구 청운동")
+			.isActive(true)
+			.build());
+		Category category = entityManager.persist(Category.builder().categoryName("한식").build());
+		store = entityManager.persist(Store.builder()
+			.user(user)
+			.region(region)
+			.category(category)
+			.storeName("목록 테스트 가게")
+			.address("서울시 종로구")
+			.minOrderAmount(0)
+			.build());
+
+		for (int i = 0; i < ORDER_COUNT; i++) {
+			Orders order = entityManager.persist(Orders.builder()
+				.user(user)
+				.store(store)
+				.totalPrice(1000L * ITEMS_PER_ORDER)
+				.deliveryAddress("서울시 종로구")
+				.paymentMethod(PaymentMethod.CREDIT_CARD)
+				.orderChannel(OrderChannel.ONLINE)
+				.receiptMethod(ReceiptMethod.DELIVERY)
+				.orderStatus(OrderStatus.COMPLETED)
+				.isRefundable(false)
+				.build());
+			for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+				entityManager.persist(OrderItem.builder()
+					.orders(order)
+					.menuName("메뉴" + j)
+					.price(1000L)
+					.quantity(1)
+					.build());
+			}
+			entityManager.persist(Review.builder()
+				.orders(order)
+				.user(user)
+				.store(store)
+				.rating(5L)
+				.content("리뷰" + i)
+				.build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("관리자 주문 상세 목록은 주문 수와 관계없이 주문, 주문 항목, 개수 쿼리만 실행한다")
+	void orderDetailsUseFixedStatements() {
+		QueryStats smallPage = QueryStatsHolder.measure(() -> ordersQueryRepository.findOrderDetails(
+			user.getUserId(), PageRequest.of(0, 2, Sort.by("createdAt").descending()))).stats();
+		QueryStatsHolder.Measured<Page<OrderDetailResponse>> largePage = QueryStatsHolder.measure(
+			() -> ordersQueryRepository.findOrderDetails(user.getUserId(),
+				PageRequest.of(0, 10, Sort.by("createdAt").descending())));
+
+		assertThatQueries(smallPage).hasStatements(3).hasNoRepeatedShapes();
+		assertThatQueries(largePage.stats()).hasStatements(3).hasNoRepeatedShapes();
+		Page<OrderDetailResponse> page = largePage.result();
+		assertThat(page.getTotalElements()).isEqualTo(ORDER_COUNT);
+		assertThat(page.getContent()).hasSize(10)
+			.allSatisfy(detail -> {
+				assertThat(detail.getStoreName()).isEqualTo("목록 테스트 가게");
+				assertThat(detail.getMenuList()).hasSize(ITEMS_PER_ORDER);
+			});
+	}
+
+	@Test
+	@DisplayName("커서 목록은 연관 엔티티를 지연 로딩하지 않고 쿼리 한 번으로 응답을 만든다")
+	void cursorListsUseSingleStatement() {
+		CursorRequest request = CursorRequest.first(10);
+
+		QueryStatsHolder.Measured<CursorResponse<CustomerOrderResponse>> customerOrders = QueryStatsHolder.measure(
+			() -> ordersQueryRepository.findUserOrders(user.getUserId(), request));
+		assertThatQueries(customerOrders.stats()).hasStatements(1).hasAtMostRows(11);
+		assertThat(customerOrders.result().getContent()).hasSize(10)
+			.allSatisfy(order -> assertThat(order.getStoreName()).isEqualTo("목록 테스트 가게"));
+
+		QueryStatsHolder.Measured<CursorResponse<StoreOrderResponse>> storeOrders = QueryStatsHolder.measure(
+			() -> ordersQueryRepository.findStoreOrders(store.getStoreId(), request));
+		assertThatQueries(storeOrders.stats()).hasStatements(1);
+		assertThat(storeOrders.result().getContent())
+			.allSatisfy(order -> assertThat(order.getCustomerName()).isEqualTo("listuser"));
+
+		QueryStatsHolder.Measured<CursorResponse<GetReviewResponse>> reviews = QueryStatsHolder.measure(
+			() -> reviewQueryRepository.findStoreReviews(store.getStoreId(), request));
+		assertThatQueries(reviews.stats()).hasStatements(1);
+		assertThat(reviews.result().getContent())
+			.allSatisfy(review -> {
+				assertThat(review.getCustomerName()).isEqualTo("listuser");
+				assertThat(review.getStoreName()).isEqualTo("목록 테스트 가게");
+			});
+		assertThat(reviews.result().isHasNext()).isTrue();
+	}
+}
@@ -23,14 +23,19 @@ import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.MenuRepository;
 import app.domain.order.model.dto.request.CreateOrderRequest;
 import app.domain.order.model.dto.response.OrderDetailResponse;
+import app.domain.order.model.dto.response.OrderStatusHistoryResponse;
 import app.domain.order.model.entity.OrderItem;
+import app.domain.order.model.entity.OrderStatusEvent;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
 import app.domain.order.model.entity.enums.ReceiptMethod;
 import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
 import app.domain.order.model.repository.OrdersRepository;
-import app.domain.order.service.OrderDelayService;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
 import app.domain.order.service.OrderService;
 import app.domain.order.status.OrderErrorStatus;
 import app.domain.store.model.entity.Store;
@@ -63,11 +68,17 @@ class OrderServiceTest {
 	private MenuRepository menuRepository;
 
 	@Mock
-	private OrderDelayService orderDelayService;
+	private OrderEventOutbox orderEventOutbox;
 
 	@Mock
 	private SecurityUtil securityUtil;
 
+	@Mock
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Mock
+	private OrderFeedService orderFeedService;
+
 	@InjectMocks
 	private OrderService orderService;
 
@@ -105,14 +116,14 @@ class OrderServiceTest {
 		List<RedisCartItem> cartItems = List.of(cartItem);
 
 		Store store = Store.builder().storeId(storeId).build();
-		Menu menu = Menu.builder().menuId(menuId).name("테스트메뉴").price(5000L).build();
-		Orders savedOrder = Orders.builder().ordersId(UUID.randomUUID()).build();
+		Menu menu = Menu.builder().menuId(menuId).store(store).name("테스트메뉴").price(5000L).build();
+		Orders savedOrder = Orders.builder().ordersId(UUID.randomUUID()).store(store).build();
 		User testUser = User.builder().userId(userId).build();
 
 		when(securityUtil.getCurrentUser()).thenReturn(testUser);
 		when(cartService.getCartFromCache()).thenReturn(cartItems);
 		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-		when(menuRepository.findById(menuId)).thenReturn(Optional.of(menu));
+		when(menuRepository.findAllById(List.of(menuId))).thenReturn(List.of(menu));
 		when(ordersRepository.save(any(Orders.class))).thenReturn(savedOrder);
 
 		// When
@@ -122,10 +133,14 @@ class OrderServiceTest {
 		assertThat(result).isInstanceOf(UUID.class);
 		verify(cartService).getCartFromCache();
 		verify(storeRepository).findById(storeId);
-		verify(menuRepository).findById(menuId);
+		verify(menuRepository).findAllById(List.of(menuId));
 		verify(ordersRepository).save(any(Orders.class));
-		verify(orderItemRepository).save(any(OrderItem.class));
-		verify(orderDelayService).scheduleRefundDisable(any(UUID.class));
+		verify(orderItemRepository).saveAll(argThat((List<OrderItem> items) -> items.size() == 1));
+		verify(orderStatusEventRepository).save(argThat(event -> event.getOrdersId().equals(savedOrder.getOrdersId())
+			&& event.getOrderStatus() == OrderStatus.PENDING));
+		verify(orderEventOutbox).created(eq(savedOrder.getOrdersId()), eq(storeId), eq(userId), anyLong());
+		verify(orderFeedService).publish(argThat(event -> event.getStoreId().equals(storeId)
+			&& event.getOrderId().equals(savedOrder.getOrdersId())));
 	}
 
 	@Test
@@ -219,7 +234,7 @@ class OrderServiceTest {
 			.build();
 		List<RedisCartItem> cartItems = List.of(cartItem);
 		Store store = Store.builder().storeId(storeId).build();
-		Menu menu = Menu.builder().menuId(menuId).name("테스트메뉴").price(5000L).build();
+		Menu menu = Menu.builder().menuId(menuId).store(store).name("테스트메뉴").price(5000L).build();
 
 		CreateOrderRequest mismatchRequest = new CreateOrderRequest(
 			PaymentMethod.CREDIT_CARD,
@@ -232,7 +247,7 @@ class OrderServiceTest {
 
 		when(cartService.getCartFromCache()).thenReturn(cartItems);
 		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-		when(menuRepository.findById(menuId)).thenReturn(Optional.of(menu));
+		when(menuRepository.findAllById(List.of(menuId))).thenReturn(List.of(menu));
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(mismatchRequest))
@@ -245,7 +260,36 @@ class OrderServiceTest {
 
 		verify(cartService).getCartFromCache();
 		verify(storeRepository).findById(storeId);
-		verify(menuRepository).findById(menuId);
+		verify(menuRepository).findAllById(List.of(menuId));
+		verify(ordersRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("장바구니 메뉴가 장바구니 매장의 메뉴가 아님")
+	void createOrder_MenuOfAnotherStore() {
+		// Given
+		RedisCartItem cartItem = RedisCartItem.builder()
+			.menuId(menuId)
+			.storeId(storeId)
+			.quantity(2)
+			.build();
+		Store store = Store.builder().storeId(storeId).build();
+		Store anotherStore = Store.builder().storeId(UUID.randomUUID()).build();
+		Menu menu = Menu.builder().menuId(menuId).store(anotherStore).name("테스트메뉴").price(5000L).build();
+
+		when(cartService.getCartFromCache()).thenReturn(List.of(cartItem));
+		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
+		when(menuRepository.findAllById(List.of(menuId))).thenReturn(List.of(menu));
+
+		// When & Then
+		assertThatThrownBy(() -> orderService.createOrder(request))
+			.isInstanceOf(GeneralException.class)
+			.satisfies(ex -> {
+				GeneralException generalEx = (GeneralException)ex;
+				assertThat(generalEx.getErrorReason().getMessage()).isEqualTo(
+					OrderErrorStatus.ORDER_DIFFERENT_STORE.getMessage());
+			});
+
 		verify(ordersRepository, never()).save(any());
 	}
 
@@ -263,7 +307,7 @@ class OrderServiceTest {
 
 		when(cartService.getCartFromCache()).thenReturn(cartItems);
 		when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
-		when(menuRepository.findById(menuId)).thenReturn(Optional.empty());
+		when(menuRepository.findAllById(List.of(menuId))).thenReturn(List.of());
 
 		// When & Then
 		assertThatThrownBy(() -> orderService.createOrder(request))
@@ -276,7 +320,7 @@ class OrderServiceTest {
 		verify(cartService).getCartFromCache();
 		verify(storeRepository).findById(storeId);
 		verify(ordersRepository, never()).save(any());
-		verify(orderItemRepository, never()).save(any());
+		verify(orderItemRepository, never()).saveAll(any());
 	}
 
 	@Test
@@ -350,4 +394,39 @@ class OrderServiceTest {
 		verify(ordersRepository).findById(orderId);
 		verify(orderItemRepository, never()).findByOrders(any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("주문 상태 이력 조회 성공")
+	void getOrderHistory_Success() {
+		// Given
+		UUID orderId = UUID.randomUUID();
+		when(orderStatusEventRepository.findByOrdersIdOrderByOccurredAtAscEventIdAsc(orderId)).thenReturn(List.of(
+			OrderStatusEvent.of(orderId, OrderStatus.PENDING),
+			OrderStatusEvent.of(orderId, OrderStatus.ACCEPTED)));
+
+		// When
+		List<OrderStatusHistoryResponse> result = orderService.getOrderHistory(orderId);
+
+		// Then
+		assertThat(result).extracting(OrderStatusHistoryResponse::getOrderStatus)
+			.containsExactly(OrderStatus.PENDING, OrderStatus.ACCEPTED);
+		verify(ordersRepository, never()).existsById(any());
+	}
+
+	@Test
+	@DisplayName("주문 상태 이력 조회 - 주문을 찾을 수 없음")
+	void getOrderHistory_OrderNotFound() {
+		// Given
+		UUID orderId = UUID.randomUUID();
+		when(orderStatusEventRepository.findByOrdersIdOrderByOccurredAtAscEventIdAsc(orderId)).thenReturn(List.of());
+		when(ordersRepository.existsById(orderId)).thenReturn(false);
+
+		// When & Then
+		assertThatThrownBy(() -> orderService.getOrderHistory(orderId))
+			.isInstanceOf(GeneralException.class)
+			.satisfies(ex -> {
+				GeneralException generalEx = (GeneralException)ex;
+				assertThat(generalEx.getErrorReason().getMessage()).isEqualTo(ErrorStatus.ORDER_NOT_FOUND.getMessage());
+			});
+	}
+}
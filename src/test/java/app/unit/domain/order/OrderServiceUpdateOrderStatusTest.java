@@ -4,8 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,20 +16,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import app.domain.order.model.dto.response.UpdateOrderStatusResponse;
-import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrdersRepository.FeedKey;
+import app.domain.order.model.repository.OrderStatusEventRepository;
 import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
 import app.domain.order.service.OrderService;
 import app.domain.order.status.OrderErrorStatus;
-import app.domain.store.model.entity.Store;
-import app.domain.user.model.entity.User;
-import app.domain.user.model.entity.enums.UserRole;
 import app.global.SecurityUtil;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
@@ -39,46 +34,31 @@ import app.global.apiPayload.exception.GeneralException;
 @DisplayName("OrderService.updateOrderStatus 테스트")
 class OrderServiceUpdateOrderStatusTest {
 
+	private static final Long OWNER_ID = 1L;
+
 	@Mock
 	private SecurityUtil securityUtil;
 
 	@Mock
-	private ObjectMapper objectMapper;
+	private OrderStatusEventRepository orderStatusEventRepository;
 
 	@Mock
 	private OrdersRepository ordersRepository;
 
+	@Mock
+	private OrderFeedService orderFeedService;
+
+	@Mock
+	private OrderEventOutbox orderEventOutbox;
+
 	@InjectMocks
 	private OrderService orderService;
 
-	private User storeOwner;
-	private Store store;
-	private Orders pendingOrder;
 	private UUID orderId;
 
 	@BeforeEach
 	void setUp() {
 		orderId = UUID.randomUUID();
-
-		storeOwner = User.builder()
-			.userId(1L)
-			.userRole(UserRole.OWNER)
-			.build();
-
-		store = Store.builder()
-			.storeId(UUID.randomUUID())
-			.user(storeOwner)
-			.build();
-
-		pendingOrder = Orders.builder()
-			.ordersId(orderId)
-			.orderStatus(OrderStatus.PENDING)
-			.store(store)
-			.orderHistory("{}")
-			.build();
-		ReflectionTestUtils.setField(pendingOrder, "createdAt", LocalDateTime.now());
-
-		when(securityUtil.getCurrentUser()).thenReturn(storeOwner);
 	}
 
 	@Nested
@@ -87,20 +67,62 @@ class OrderServiceUpdateOrderStatusTest {
 
 		@Test
 		@DisplayName("가게 주인이 주문 상태를 PENDING에서 ACCEPTED로 성공적으로 변경한다.")
-		void updateOrderStatus_ByOwner_Success() throws JsonProcessingException {
+		void updateOrderStatus_ByOwner_Success() {
 			// Given
 			OrderStatus newStatus = OrderStatus.ACCEPTED;
-			when(ordersRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
-			when(objectMapper.writeValueAsString(any(Map.class))).thenReturn("{\"ACCEPTED\":\"...\"}");
+			when(securityUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+			when(ordersRepository.transitionStatus(eq(orderId), eq(OWNER_ID), eq(EnumSet.of(OrderStatus.PENDING)),
+				eq(newStatus), any())).thenReturn(1);
 
 			// When
 			UpdateOrderStatusResponse response = orderService.updateOrderStatus(orderId, newStatus);
 
 			// Then
-			verify(ordersRepository).findById(orderId);
-			assertThat(pendingOrder.getOrderStatus()).isEqualTo(newStatus);
 			assertThat(response.getUpdatedStatus()).isEqualTo(newStatus);
 			assertThat(response.getOrderId()).isEqualTo(orderId);
+			verify(ordersRepository, never()).findById(any());
+			verify(ordersRepository, never()).findStatusSnapshot(any());
+			verify(orderStatusEventRepository).save(argThat(event ->
+				event.getOrdersId().equals(orderId) && event.getOrderStatus() == newStatus));
+		}
+
+		@Test
+		@DisplayName("상태가 바뀌면 매장 주문 피드에 변경을 발행한다.")
+		void updateOrderStatus_PublishesFeedEvent() {
+			// Given
+			UUID storeId = UUID.randomUUID();
+			FeedKey feedKey = mock(FeedKey.class);
+			when(feedKey.getStoreId()).thenReturn(storeId);
+			when(feedKey.getUserId()).thenReturn(2L);
+			when(securityUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+			when(ordersRepository.transitionStatus(any(), any(), any(), any(), any())).thenReturn(1);
+			when(ordersRepository.findFeedKey(orderId)).thenReturn(Optional.of(feedKey));
+
+			// When
+			orderService.updateOrderStatus(orderId, OrderStatus.ACCEPTED);
+
+			// Then
+			verify(orderFeedService).publish(argThat(event -> event.getStoreId().equals(storeId)
+				&& event.getOrderId().equals(orderId)
+				&& event.getUserId().equals(2L)
+				&& event.getOrderStatus() == OrderStatus.ACCEPTED));
+			verify(orderEventOutbox).statusChanged(orderId, storeId, 2L, OrderStatus.ACCEPTED);
+		}
+
+		@Test
+		@DisplayName("기대 상태를 지정하면 그 상태에서만 전이한다.")
+		void updateOrderStatus_WithExpectedStatus_Success() {
+			// Given
+			when(securityUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+			when(ordersRepository.transitionStatus(eq(orderId), eq(OWNER_ID), eq(EnumSet.of(OrderStatus.ACCEPTED)),
+				eq(OrderStatus.COOKING), any())).thenReturn(1);
+
+			// When
+			UpdateOrderStatusResponse response = orderService.updateOrderStatus(orderId, OrderStatus.ACCEPTED,
+				OrderStatus.COOKING);
+
+			// Then
+			assertThat(response.getUpdatedStatus()).isEqualTo(OrderStatus.COOKING);
 		}
 	}
 
@@ -112,32 +134,87 @@ class OrderServiceUpdateOrderStatusTest {
 		@DisplayName("다른 가게 주인이 주문 상태 변경을 시도하면 접근 거부 예외가 발생한다.")
 		void updateOrderStatus_ByWrongOwner_ThrowsAccessDenied() {
 			// Given
-			OrderStatus newStatus = OrderStatus.ACCEPTED;
-			User anotherOwner = User.builder().userId(99L).userRole(UserRole.OWNER).build();
-			when(securityUtil.getCurrentUser()).thenReturn(anotherOwner);
-			when(ordersRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+			when(securityUtil.getCurrentUserId()).thenReturn(99L);
+			when(ordersRepository.transitionStatus(any(), any(), any(), any(), any())).thenReturn(0);
+			when(ordersRepository.findStatusSnapshot(orderId))
+				.thenReturn(Optional.of(snapshot(OrderStatus.PENDING, OWNER_ID)));
 
 			// When & Then
-			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, newStatus))
+			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, OrderStatus.ACCEPTED))
 				.isInstanceOf(GeneralException.class)
 				.extracting("code")
 				.isEqualTo(OrderErrorStatus.ORDER_ACCESS_DENIED);
+			verify(orderStatusEventRepository, never()).save(any());
 		}
 
 		@Test
 		@DisplayName("유효하지 않은 상태(PENDING -> COOKING)로 변경을 시도하면 예외가 발생한다.")
 		void updateOrderStatus_InvalidTransition_ThrowsException() {
 			// Given
-			OrderStatus invalidNewStatus = OrderStatus.COOKING;
-			when(ordersRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+			when(securityUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+			when(ordersRepository.transitionStatus(eq(orderId), eq(OWNER_ID), eq(EnumSet.of(OrderStatus.ACCEPTED)),
+				eq(OrderStatus.COOKING), any())).thenReturn(0);
+			when(ordersRepository.findStatusSnapshot(orderId))
+				.thenReturn(Optional.of(snapshot(OrderStatus.PENDING, OWNER_ID)));
 
 			// When & Then
-			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, invalidNewStatus))
+			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, OrderStatus.COOKING))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
+			verify(orderStatusEventRepository, never()).save(any());
+		}
+
+		@Test
+		@DisplayName("어떤 상태에서도 전이할 수 없는 상태로의 변경은 DB 를 조회하지 않고 거부한다.")
+		void updateOrderStatus_UnreachableTarget_ThrowsException() {
+			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, OrderStatus.PENDING))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
+			verifyNoInteractions(ordersRepository);
+		}
+
+		@Test
+		@DisplayName("기대 상태에서 허용되지 않는 전이는 DB 를 조회하지 않고 거부한다.")
+		void updateOrderStatus_InvalidExpectedStatus_ThrowsException() {
+			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, OrderStatus.PENDING, OrderStatus.COOKING))
 				.isInstanceOf(GeneralException.class)
 				.extracting("code")
 				.isEqualTo(OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION);
+			verifyNoInteractions(ordersRepository);
+		}
+
+		@Test
+		@DisplayName("다른 요청이 먼저 주문을 수락했다면 거절 요청은 충돌 예외가 발생한다.")
+		void updateOrderStatus_ConcurrentTransition_ThrowsConflict() {
+			// Given
+			when(securityUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+			when(ordersRepository.transitionStatus(any(), any(), any(), any(), any())).thenReturn(0);
+			when(ordersRepository.findStatusSnapshot(orderId))
+				.thenReturn(Optional.of(snapshot(OrderStatus.ACCEPTED, OWNER_ID)));
+
+			// When & Then
+			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, OrderStatus.REJECTED))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(OrderErrorStatus.ORDER_STATUS_CONFLICT);
+		}
 
-			assertThat(pendingOrder.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+		@Test
+		@DisplayName("기대 상태와 현재 상태가 다르면 충돌 예외가 발생한다.")
+		void updateOrderStatus_ExpectedStatusMismatch_ThrowsConflict() {
+			// Given
+			when(securityUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+			when(ordersRepository.transitionStatus(any(), any(), any(), any(), any())).thenReturn(0);
+			when(ordersRepository.findStatusSnapshot(orderId))
+				.thenReturn(Optional.of(snapshot(OrderStatus.IN_DELIVERY, OWNER_ID)));
+
+			// When & Then
+			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, OrderStatus.ACCEPTED, OrderStatus.COOKING))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(OrderErrorStatus.ORDER_STATUS_CONFLICT);
 		}
 
 		@Test
@@ -145,11 +222,12 @@ class OrderServiceUpdateOrderStatusTest {
 		void updateOrderStatus_OrderNotFound_ThrowsException() {
 			// Given
 			UUID nonExistentOrderId = UUID.randomUUID();
-			OrderStatus newStatus = OrderStatus.ACCEPTED;
-			when(ordersRepository.findById(nonExistentOrderId)).thenReturn(Optional.empty());
+			when(securityUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+			when(ordersRepository.transitionStatus(any(), any(), any(), any(), any())).thenReturn(0);
+			when(ordersRepository.findStatusSnapshot(nonExistentOrderId)).thenReturn(Optional.empty());
 
 			// When & Then
-			assertThatThrownBy(() -> orderService.updateOrderStatus(nonExistentOrderId, newStatus))
+			assertThatThrownBy(() -> orderService.updateOrderStatus(nonExistentOrderId, OrderStatus.ACCEPTED))
 				.isInstanceOf(GeneralException.class)
 				.extracting("code")
 				.isEqualTo(ErrorStatus.ORDER_NOT_FOUND);
@@ -159,16 +237,30 @@ class OrderServiceUpdateOrderStatusTest {
 		@DisplayName("CUSTOMER 권한으로 주문 상태 변경을 시도하면 접근 거부 예외가 발생한다.")
 		void updateOrderStatus_ByCustomer_ThrowsAccessDenied() {
 			// Given
-			OrderStatus newStatus = OrderStatus.ACCEPTED;
-			User customer = User.builder().userId(2L).userRole(UserRole.CUSTOMER).build();
-			when(securityUtil.getCurrentUser()).thenReturn(customer);
-			when(ordersRepository.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+			when(securityUtil.getCurrentUserId()).thenReturn(2L);
+			when(ordersRepository.transitionStatus(any(), any(), any(), any(), any())).thenReturn(0);
+			when(ordersRepository.findStatusSnapshot(orderId))
+				.thenReturn(Optional.of(snapshot(OrderStatus.PENDING, OWNER_ID)));
 
 			// When & Then
-			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, newStatus))
+			assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, OrderStatus.ACCEPTED))
 				.isInstanceOf(GeneralException.class)
 				.extracting("code")
 				.isEqualTo(OrderErrorStatus.ORDER_ACCESS_DENIED);
 		}
 	}
-}
\ No newline at end of file
+
+	private static OrdersRepository.StatusSnapshot snapshot(OrderStatus status, Long ownerId) {
+		return new OrdersRepository.StatusSnapshot() {
+			@Override
+			public OrderStatus getOrderStatus() {
+				return status;
+			}
+
+			@Override
+			public Long getOwnerId() {
+				return ownerId;
+			}
+		};
+	}
+}
@@ -0,0 +1,289 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.cart.service.CartService;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.repository.CategoryRepository;
+import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderItemRepository;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.order.service.OrderService;
+import app.domain.order.status.OrderErrorStatus;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.RegionRepository;
+import app.domain.store.repository.StoreRepository;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.SecurityUtil;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+/**
+ * 여러 요청이 같은 주문의 상태를 동시에 바꿀 때 전이가 정확히 한 번씩만 적용되는지 확인한다.
+ * 각 요청은 별도 트랜잭션/커넥션에서 실행되므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, TestJpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("주문 상태 전이 동시성 테스트")
+class OrderStatusTransitionConcurrencyTest {
+
+	private static final int THREADS = 8;
+	private static final List<OrderStatus> CHAIN = List.of(OrderStatus.ACCEPTED, OrderStatus.COOKING,
+		OrderStatus.IN_DELIVERY, OrderStatus.COMPLETED);
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private MenuRepository menuRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	private final SecurityUtil securityUtil = mock(SecurityUtil.class);
+
+	private TransactionTemplate transactionTemplate;
+	private OrderService orderService;
+	private User owner;
+	private Store store;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		orderService = new OrderService(ordersRepository, orderItemRepository, mock(CartService.class), storeRepository,
+			menuRepository, mock(OrderEventOutbox.class), securityUtil, orderStatusEventRepository,
+			mock(OrderFeedService.class));
+
+		owner = userRepository.save(User.builder()
+			.username("raceowner")
+			.password("password123!")
+			.email("race@example.com")
+			.nickname("race")
+			.realName("김점주")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.OWNER)
+			.build());
+		Region region = regionRepository.save(Region.builder()
+			.regionCode("1111010200")
+			.regionName("신교동")
+			.fullName("서울특별시 종로구 신교동")
+			.isActive(true)
+			.build());
+		Category category = categoryRepository.save(Category.builder().categoryName("분식").build());
+		store = storeRepository.save(Store.builder()
+			.user(owner)
+			.region(region)
+			.category(category)
+			.storeName("동시성 테스트 가게")
+			.address("서울시 종로구")
+			.build());
+		when(securityUtil.getCurrentUserId()).thenReturn(owner.getUserId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		orderStatusEventRepository.deleteAllInBatch();
+		ordersRepository.deleteAllInBatch();
+		storeRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+		regionRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("수락과 거절이 경쟁하면 주문마다 정확히 하나만 적용되고 나머지는 충돌로 응답한다")
+	void acceptAndRejectRace() throws Exception {
+		List<UUID> orderIds = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			orderIds.add(pendingOrder());
+		}
+		Map<UUID, List<OrderStatus>> applied = new ConcurrentHashMap<>();
+		AtomicInteger conflicts = new AtomicInteger();
+		List<Throwable> unexpected = new ArrayList<>();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (UUID orderId : orderIds) {
+				CountDownLatch start = new CountDownLatch(1);
+				CountDownLatch done = new CountDownLatch(THREADS);
+				for (int t = 0; t < THREADS; t++) {
+					OrderStatus target = t % 2 == 0 ? OrderStatus.ACCEPTED : OrderStatus.REJECTED;
+					executor.submit(() -> {
+						try {
+							start.await();
+							transition(orderId, target);
+							applied.computeIfAbsent(orderId, key -> Collections.synchronizedList(new ArrayList<>())).add(target);
+						} catch (GeneralException e) {
+							if (e.getCode() == OrderErrorStatus.ORDER_STATUS_CONFLICT) {
+								conflicts.incrementAndGet();
+							} else {
+								synchronized (unexpected) {
+									unexpected.add(e);
+								}
+							}
+						} catch (Throwable e) {
+							synchronized (unexpected) {
+								unexpected.add(e);
+							}
+						} finally {
+							done.countDown();
+						}
+						return null;
+					});
+				}
+				start.countDown();
+				assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(unexpected).isEmpty();
+		assertThat(conflicts.get()).isEqualTo(orderIds.size() * (THREADS - 1));
+		for (UUID orderId : orderIds) {
+			assertThat(applied.get(orderId)).hasSize(1);
+			OrderStatus winner = applied.get(orderId).get(0);
+			assertThat(ordersRepository.findById(orderId).orElseThrow().getOrderStatus()).isEqualTo(winner);
+			assertThat(history(orderId)).containsExactly(winner);
+		}
+	}
+
+	@Test
+	@DisplayName("여러 요청이 주문을 끝까지 진행시켜도 각 전이는 순서대로 한 번씩만 기록된다")
+	void chainedTransitionsAreNeverLost() throws Exception {
+		UUID orderId = pendingOrder();
+		Map<OrderStatus, AtomicInteger> successes = new ConcurrentHashMap<>();
+		AtomicBoolean completed = new AtomicBoolean();
+		List<Throwable> unexpected = new ArrayList<>();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREADS);
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				int offset = t;
+				executor.submit(() -> {
+					try {
+						start.await();
+						for (int i = offset; !completed.get() && System.nanoTime() < deadline; i++) {
+							OrderStatus target = CHAIN.get(i % CHAIN.size());
+							try {
+								transition(orderId, target);
+								successes.computeIfAbsent(target, key -> new AtomicInteger()).incrementAndGet();
+								if (target == OrderStatus.COMPLETED) {
+									completed.set(true);
+								}
+							} catch (GeneralException e) {
+								if (e.getCode() != OrderErrorStatus.ORDER_STATUS_CONFLICT
+									&& e.getCode() != OrderErrorStatus.INVALID_ORDER_STATUS_TRANSITION) {
+									throw e;
+								}
+							}
+						}
+					} catch (Throwable e) {
+						synchronized (unexpected) {
+							unexpected.add(e);
+						}
+					} finally {
+						done.countDown();
+					}
+					return null;
+				});
+			}
+			start.countDown();
+			assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(unexpected).isEmpty();
+		assertThat(completed).isTrue();
+		for (OrderStatus status : CHAIN) {
+			assertThat(successes.get(status)).hasValue(1);
+		}
+		assertThat(history(orderId)).containsExactlyElementsOf(CHAIN);
+	}
+
+	private void transition(UUID orderId, OrderStatus target) {
+		transactionTemplate.executeWithoutResult(status -> orderService.updateOrderStatus(orderId, target));
+	}
+
+	private List<OrderStatus> history(UUID orderId) {
+		return orderStatusEventRepository.findByOrdersIdOrderByOccurredAtAscEventIdAsc(orderId).stream()
+			.map(OrderStatusEvent::getOrderStatus)
+			.toList();
+	}
+
+	private UUID pendingOrder() {
+		return ordersRepository.save(Orders.builder()
+			.store(store)
+			.user(owner)
+			.totalPrice(10000L)
+			.deliveryAddress("서울시 종로구")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.orderStatus(OrderStatus.PENDING)
+			.isRefundable(true)
+			.build()).getOrdersId();
+	}
+}
@@ -0,0 +1,136 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import app.domain.order.OrderFeedBroker;
+import app.domain.order.model.dto.OrderFeedEvent;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.model.repository.OrdersRepository.FeedKey;
+import app.domain.order.service.OrderFeedService;
+import app.domain.order.service.OrderTrackingService;
+import app.domain.order.status.OrderErrorStatus;
+import app.global.SecurityUtil;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderTrackingService 테스트")
+class OrderTrackingServiceTest {
+
+	private static final Long CUSTOMER_ID = 1L;
+
+	@Mock
+	private OrderFeedService orderFeedService;
+
+	@Mock
+	private OrderFeedBroker orderFeedBroker;
+
+	@Mock
+	private OrdersRepository ordersRepository;
+
+	@Mock
+	private SecurityUtil securityUtil;
+
+	@InjectMocks
+	private OrderTrackingService orderTrackingService;
+
+	private UUID orderId;
+	private UUID storeId;
+
+	@BeforeEach
+	void setUp() {
+		orderId = UUID.randomUUID();
+		storeId = UUID.randomUUID();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Supplier<OrderFeedEvent> captureCurrentStatus() {
+		ArgumentCaptor<Supplier<OrderFeedEvent>> captor = ArgumentCaptor.forClass(Supplier.class);
+		verify(orderFeedBroker).subscribeOrder(eq(orderId), captor.capture());
+		return captor.getValue();
+	}
+
+	@Test
+	@DisplayName("보관된 최신 상태가 있으면 DB 를 조회하지 않고 구독한다")
+	void subscribeFromCachedStatus() {
+		OrderFeedEvent cached = OrderFeedEvent.statusChanged(storeId, orderId, CUSTOMER_ID, OrderStatus.COOKING)
+			.withEventId("5-0");
+		SseEmitter emitter = new SseEmitter();
+		when(securityUtil.getCurrentUserId()).thenReturn(CUSTOMER_ID);
+		when(orderFeedService.findStatus(orderId)).thenReturn(Optional.of(cached));
+		when(orderFeedBroker.subscribeOrder(eq(orderId), any())).thenReturn(emitter);
+
+		SseEmitter result = orderTrackingService.subscribeOrderStatus(orderId);
+
+		assertThat(result).isSameAs(emitter);
+		assertThat(captureCurrentStatus().get().getOrderStatus()).isEqualTo(OrderStatus.COOKING);
+		verifyNoInteractions(ordersRepository);
+	}
+
+	@Test
+	@DisplayName("보관된 상태가 없으면 DB 에서 한 번 읽어 보관한다")
+	void loadsAndCachesMissingStatus() {
+		FeedKey feedKey = mock(FeedKey.class);
+		when(feedKey.getStoreId()).thenReturn(storeId);
+		when(feedKey.getUserId()).thenReturn(CUSTOMER_ID);
+		when(feedKey.getOrderStatus()).thenReturn(OrderStatus.ACCEPTED);
+		when(securityUtil.getCurrentUserId()).thenReturn(CUSTOMER_ID);
+		when(orderFeedService.findStatus(orderId)).thenReturn(Optional.empty());
+		when(ordersRepository.findFeedKey(orderId)).thenReturn(Optional.of(feedKey));
+		when(orderFeedService.cacheStatus(any())).thenAnswer(invocation ->
+			invocation.<OrderFeedEvent>getArgument(0).withEventId(OrderFeedService.INITIAL_EVENT_ID));
+
+		orderTrackingService.subscribeOrderStatus(orderId);
+
+		verify(orderFeedService).cacheStatus(argThat(event -> event.getOrderId().equals(orderId)
+			&& event.getStoreId().equals(storeId)
+			&& event.getOrderStatus() == OrderStatus.ACCEPTED));
+		verify(orderFeedBroker).subscribeOrder(eq(orderId), any());
+	}
+
+	@Test
+	@DisplayName("다른 고객의 주문은 추적할 수 없다")
+	void otherCustomerIsDenied() {
+		OrderFeedEvent cached = OrderFeedEvent.statusChanged(storeId, orderId, CUSTOMER_ID + 1, OrderStatus.PENDING)
+			.withEventId("1-0");
+		when(securityUtil.getCurrentUserId()).thenReturn(CUSTOMER_ID);
+		when(orderFeedService.findStatus(orderId)).thenReturn(Optional.of(cached));
+
+		assertThatThrownBy(() -> orderTrackingService.subscribeOrderStatus(orderId))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(OrderErrorStatus.ORDER_ACCESS_DENIED);
+		verifyNoInteractions(orderFeedBroker);
+	}
+
+	@Test
+	@DisplayName("없는 주문은 ORDER_NOT_FOUND")
+	void missingOrder() {
+		when(securityUtil.getCurrentUserId()).thenReturn(CUSTOMER_ID);
+		when(orderFeedService.findStatus(orderId)).thenReturn(Optional.empty());
+		when(ordersRepository.findFeedKey(orderId)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> orderTrackingService.subscribeOrderStatus(orderId))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(ErrorStatus.ORDER_NOT_FOUND);
+		verify(orderFeedService, never()).cacheStatus(any());
+	}
+}
@@ -0,0 +1,97 @@
+package app.unit.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.order.RefundDisableProcessor;
+import app.domain.order.service.OrderDelayService;
+import app.domain.order.service.RefundUpdateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefundDisableProcessor 테스트")
+class RefundDisableProcessorTest {
+
+	private static final int BATCH_SIZE = 100;
+
+	@Mock
+	private OrderDelayService orderDelayService;
+
+	@Mock
+	private RefundUpdateService refundUpdateService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private RefundDisableProcessor processor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		processor = new RefundDisableProcessor(orderDelayService, refundUpdateService, meterRegistry, 1, BATCH_SIZE,
+			Duration.ofMillis(10));
+	}
+
+	@Test
+	@DisplayName("선점한 주문을 한 번에 환불 불가 처리하고 완료 처리한다")
+	void drainBatch() {
+		List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		when(orderDelayService.claimDueRefundDisables(BATCH_SIZE)).thenReturn(orderIds);
+		when(refundUpdateService.disableRefunds(orderIds)).thenReturn(2);
+
+		int processed = processor.drainOnce();
+
+		assertThat(processed).isEqualTo(3);
+		verify(refundUpdateService, times(1)).disableRefunds(orderIds);
+		verify(orderDelayService).completeRefundDisables(orderIds);
+		assertThat(counter("disabled")).isEqualTo(2);
+		assertThat(counter("skipped")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("DB 반영에 실패하면 완료 처리하지 않아 임대가 끝난 뒤 다시 처리된다")
+	void failedBatchStaysClaimed() {
+		List<UUID> orderIds = List.of(UUID.randomUUID());
+		when(orderDelayService.claimDueRefundDisables(BATCH_SIZE)).thenReturn(orderIds);
+		when(refundUpdateService.disableRefunds(orderIds)).thenThrow(new IllegalStateException("db down"));
+
+		int processed = processor.drainOnce();
+
+		assertThat(processed).isZero();
+		verify(orderDelayService, never()).completeRefundDisables(any());
+		assertThat(counter("failed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("만료된 주문이 없으면 DB 를 호출하지 않는다")
+	void nothingDue() {
+		when(orderDelayService.claimDueRefundDisables(BATCH_SIZE)).thenReturn(List.of());
+
+		assertThat(processor.drainOnce()).isZero();
+		verifyNoInteractions(refundUpdateService);
+	}
+
+	@Test
+	@DisplayName("적체량과 지연 시간을 지표로 노출한다")
+	void exposesBacklogAndLag() {
+		when(orderDelayService.countDue()).thenReturn(42L);
+		when(orderDelayService.oldestDueLag()).thenReturn(Duration.ofSeconds(7));
+
+		assertThat(meterRegistry.get("order.refund_expiry.backlog").gauge().value()).isEqualTo(42);
+		assertThat(meterRegistry.get("order.refund_expiry.lag").gauge().value()).isEqualTo(7);
+	}
+
+	private double counter(String result) {
+		return meterRegistry.get("order.refund_expiry.orders").tag("result", result).counter().count();
+	}
+}
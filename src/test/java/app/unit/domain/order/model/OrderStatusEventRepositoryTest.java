@@ -0,0 +1,68 @@
+package app.unit.domain.order.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import app.domain.order.model.entity.OrderStatusEvent;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, TestJpaConfig.class})
+@DisplayName("OrderStatusEventRepository 테스트")
+class OrderStatusEventRepositoryTest {
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Test
+	@DisplayName("주문별 이력을 발생 시각 순으로 조회하고 다른 주문의 이력은 섞이지 않는다")
+	void findByOrdersIdOrdered() {
+		UUID orderId = UUID.randomUUID();
+		UUID otherOrderId = UUID.randomUUID();
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+		orderStatusEventRepository.saveAll(List.of(
+			event(orderId, OrderStatus.COOKING, base.plusMinutes(10)),
+			event(orderId, OrderStatus.PENDING, base),
+			event(otherOrderId, OrderStatus.PENDING, base.plusMinutes(1)),
+			event(orderId, OrderStatus.ACCEPTED, base.plusMinutes(5))));
+
+		List<OrderStatusEvent> history = orderStatusEventRepository.findByOrdersIdOrderByOccurredAtAscEventIdAsc(orderId);
+
+		assertThat(history).extracting(OrderStatusEvent::getOrderStatus)
+			.containsExactly(OrderStatus.PENDING, OrderStatus.ACCEPTED, OrderStatus.COOKING);
+	}
+
+	@Test
+	@DisplayName("같은 시각의 이력은 삽입 순서(시간 순 식별자)로 정렬된다")
+	void sameTimestampOrderedByEventId() {
+		UUID orderId = UUID.randomUUID();
+		LocalDateTime at = LocalDateTime.of(2025, 1, 1, 12, 0);
+		orderStatusEventRepository.save(event(orderId, OrderStatus.PENDING, at));
+		orderStatusEventRepository.save(event(orderId, OrderStatus.REFUNDED, at));
+
+		List<OrderStatusEvent> history = orderStatusEventRepository.findByOrdersIdOrderByOccurredAtAscEventIdAsc(orderId);
+
+		assertThat(history).extracting(OrderStatusEvent::getOrderStatus)
+			.containsExactly(OrderStatus.PENDING, OrderStatus.REFUNDED);
+	}
+
+	private OrderStatusEvent event(UUID orderId, OrderStatus status, LocalDateTime occurredAt) {
+		return OrderStatusEvent.builder()
+			.ordersId(orderId)
+			.orderStatus(status)
+			.occurredAt(occurredAt)
+			.build();
+	}
+}
@@ -0,0 +1,95 @@
+package app.unit.domain.payment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트용 가짜 토스페이먼츠 서버. 127.0.0.1 의 빈 포트에서 뜨고, 응답 지연과 상태 코드를 바꿔 가며 쓴다.
+ * 받은 요청은 경로, 헤더, 본문을 기록해 둔다.
+ */
+public class FakeTossGateway implements AutoCloseable {
+
+	public record Received(String path, String authorization, String idempotencyKey, String body) {
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final List<Received> received = new CopyOnWriteArrayList<>();
+
+	private volatile Duration latency = Duration.ZERO;
+	private volatile int status = 200;
+	private volatile String responseBody = "{\"status\":\"DONE\"}";
+	private volatile Runnable onRequest = () -> {
+	};
+
+	public FakeTossGateway() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/payments";
+	}
+
+	public FakeTossGateway respond(int status, String body) {
+		this.status = status;
+		this.responseBody = body;
+		return this;
+	}
+
+	public FakeTossGateway delay(Duration latency) {
+		this.latency = latency;
+		return this;
+	}
+
+	/**
+	 * 요청을 받을 때마다 응답 전에 실행할 동작. 호출 도중의 상태를 관찰할 때 쓴다.
+	 */
+	public FakeTossGateway onRequest(Runnable onRequest) {
+		this.onRequest = onRequest;
+		return this;
+	}
+
+	public List<Received> received() {
+		return received;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		received.add(new Received(exchange.getRequestURI().getPath(),
+			exchange.getRequestHeaders().getFirst("Authorization"),
+			exchange.getRequestHeaders().getFirst("Idempotency-Key"), body));
+		onRequest.run();
+		try {
+			Thread.sleep(latency.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		byte[] response = responseBody.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			exchange.sendResponseHeaders(status, response.length);
+			outputStream.write(response);
+		} catch (IOException ignored) {
+			// 클라이언트가 시간 초과로 먼저 끊은 경우
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
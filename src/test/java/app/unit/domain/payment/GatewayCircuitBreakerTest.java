@@ -0,0 +1,153 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.payment.gateway.GatewayCircuitBreaker;
+import app.domain.payment.gateway.GatewayCircuitBreaker.Permit;
+import app.domain.payment.gateway.GatewayCircuitBreaker.State;
+
+@DisplayName("GatewayCircuitBreaker 테스트")
+class GatewayCircuitBreakerTest {
+
+	private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+	private Instant now;
+	private GatewayCircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	void setUp() {
+		now = Instant.parse("2025-01-01T00:00:00Z");
+		Clock clock = new Clock() {
+			@Override
+			public ZoneOffset getZone() {
+				return ZoneOffset.UTC;
+			}
+
+			@Override
+			public Clock withZone(java.time.ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				return now;
+			}
+		};
+		circuitBreaker = new GatewayCircuitBreaker(50, 4, 4, OPEN_DURATION, clock);
+	}
+
+	private void call(boolean success) {
+		Permit permit = circuitBreaker.tryAcquire().orElseThrow();
+		if (success) {
+			circuitBreaker.onSuccess(permit);
+		} else {
+			circuitBreaker.onFailure(permit);
+		}
+	}
+
+	@Test
+	@DisplayName("최소 호출 수를 채우기 전에는 실패해도 열리지 않는다")
+	void staysClosedBelowMinimumCalls() {
+		call(false);
+		call(false);
+		call(false);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("최근 호출의 실패 비율이 기준 이상이면 열리고, 오래된 결과는 창에서 밀려난다")
+	void opensOnFailureRate() {
+		call(false);
+		call(true);
+		call(true);
+		call(true);
+		call(true);
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+		call(false);
+		call(false);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("열린 뒤 대기 시간이 지나면 시험 호출 하나만 보내고, 성공하면 닫힌다")
+	void halfOpenProbe() {
+		for (int i = 0; i < 4; i++) {
+			call(false);
+		}
+		now = now.plus(OPEN_DURATION);
+
+		Optional<Permit> probe = circuitBreaker.tryAcquire();
+		assertThat(probe).isPresent();
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isEmpty();
+
+		circuitBreaker.onSuccess(probe.get());
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(circuitBreaker.tryAcquire()).isPresent();
+	}
+
+	@Test
+	@DisplayName("열리기 전에 시작해 시험 중에 끝난 호출의 결과로는 닫히거나 다시 열리지 않는다")
+	void halfOpenIgnoresCallsStartedBeforeOpening() {
+		Permit lateSuccess = circuitBreaker.tryAcquire().orElseThrow();
+		Permit lateFailure = circuitBreaker.tryAcquire().orElseThrow();
+		for (int i = 0; i < 4; i++) {
+			call(false);
+		}
+		now = now.plus(OPEN_DURATION);
+		Permit probe = circuitBreaker.tryAcquire().orElseThrow();
+
+		circuitBreaker.onSuccess(lateSuccess);
+		circuitBreaker.onFailure(lateFailure);
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+
+		circuitBreaker.onSuccess(probe);
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("열려 있는 동안 끝난 늦은 실패는 시험 호출 시점을 미루지 않는다")
+	void openIgnoresLateFailures() {
+		Permit late = circuitBreaker.tryAcquire().orElseThrow();
+		for (int i = 0; i < 4; i++) {
+			call(false);
+		}
+		now = now.plus(OPEN_DURATION.dividedBy(2));
+
+		circuitBreaker.onFailure(late);
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+		now = now.plus(OPEN_DURATION.dividedBy(2));
+		assertThat(circuitBreaker.tryAcquire()).isPresent();
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+	}
+
+	@Test
+	@DisplayName("시험 호출이 실패하면 다시 열린다")
+	void halfOpenProbeFails() {
+		for (int i = 0; i < 4; i++) {
+			call(false);
+		}
+		now = now.plus(OPEN_DURATION);
+
+		call(false);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isEmpty();
+	}
+}
@@ -0,0 +1,258 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.repository.CategoryRepository;
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderChannel;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.entity.enums.ReceiptMethod;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.payment.PaymentIdempotencyCache;
+import app.domain.payment.PaymentService;
+import app.domain.payment.PaymentWriter;
+import app.domain.payment.gateway.GatewayCircuitBreaker;
+import app.domain.payment.gateway.TossPaymentsClient;
+import app.domain.payment.model.dto.request.PaymentConfirmRequest;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentEtcRepository;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.domain.store.model.entity.Region;
+import app.domain.store.model.entity.Store;
+import app.domain.store.repository.RegionRepository;
+import app.domain.store.repository.StoreRepository;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.SecurityUtil;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+import app.global.outbox.OutboxEvent;
+import app.global.outbox.OutboxEventRepository;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 대행사 응답이 느릴 때 결제 승인 요청들이 DB 커넥션을 얼마나 붙잡는지 측정한다.
+ * 커넥션 풀(4개)보다 많은 승인 요청을 동시에 보내고, 모든 요청이 대행사 응답을 기다리는 시점에 사용 중인 커넥션 수를 잰다.
+ * 승인 호출 동안 트랜잭션을 열어 두면 풀 크기만큼만 대행사에 도달하고 나머지는 커넥션을 기다리다 실패한다.
+ */
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:payment-confirm;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.datasource.hikari.maximum-pool-size=" + PaymentConfirmConnectionTest.POOL_SIZE,
+	"spring.datasource.hikari.connection-timeout=2000"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QueryDslConfig.class, TestJpaConfig.class, OutboxService.class, OrderEventOutbox.class,
+	PaymentWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("결제 승인 DB 커넥션 점유 테스트")
+class PaymentConfirmConnectionTest {
+
+	static final int POOL_SIZE = 4;
+	private static final int CONCURRENT_CONFIRMS = POOL_SIZE * 4;
+	private static final Duration GATEWAY_LATENCY = Duration.ofMillis(300);
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PaymentWriter paymentWriter;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private PaymentEtcRepository paymentEtcRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RegionRepository regionRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@MockitoBean
+	private OrderFeedService orderFeedService;
+
+	private final SecurityUtil securityUtil = mock(SecurityUtil.class);
+	private final PaymentIdempotencyCache paymentIdempotencyCache = mock(PaymentIdempotencyCache.class);
+
+	private FakeTossGateway gateway;
+	private PaymentService paymentService;
+	private User customer;
+	private Store store;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		gateway = new FakeTossGateway().delay(GATEWAY_LATENCY);
+		TossPaymentsClient tossPaymentsClient = new TossPaymentsClient(
+			new GatewayCircuitBreaker(50, 20, 10, Duration.ofSeconds(30), Clock.systemUTC()),
+			new SimpleMeterRegistry(), gateway.baseUrl(), "test_sk", Duration.ofSeconds(1), Duration.ofSeconds(10),
+			CONCURRENT_CONFIRMS);
+		paymentService = new PaymentService(ordersRepository, orderStatusEventRepository,
+			orderFeedService, paymentRepository, securityUtil, tossPaymentsClient, paymentWriter,
+			mock(OrderEventOutbox.class), paymentIdempotencyCache);
+		// 멱등 처리 없이 바로 처리한다. 각 요청은 서로 다른 주문이라 키가 겹치지 않는다
+		when(paymentIdempotencyCache.execute(any(), anyString(), any()))
+			.thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(2).get());
+
+		customer = userRepository.save(User.builder()
+			.username("paycustomer")
+			.password("password123!")
+			.email("pay@example.com")
+			.nickname("pay")
+			.realName("김고객")
+			.phoneNumber("01012345678")
+			.userRole(UserRole.CUSTOMER)
+			.build());
+		Region region = regionRepository.save(Region.builder()
+			.regionCode("1111010200")
+			.regionName("신교동")
+			.fullName("서울특별시 종로구 신교동")
+			.isActive(true)
+			.build());
+		Category category = categoryRepository.save(Category.builder().categoryName("분식").build());
+		store = storeRepository.save(Store.builder()
+			.user(customer)
+			.region(region)
+			.category(category)
+			.storeName("결제 테스트 가게")
+			.address("서울시 종로구")
+			.build());
+		when(securityUtil.getCurrentUserId()).thenReturn(customer.getUserId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		gateway.close();
+		outboxEventRepository.deleteAllInBatch();
+		paymentEtcRepository.deleteAllInBatch();
+		paymentRepository.deleteAllInBatch();
+		ordersRepository.deleteAllInBatch();
+		storeRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+		regionRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("대행사 응답을 기다리는 동안에는 DB 커넥션을 하나도 잡고 있지 않아 풀보다 많은 승인이 동시에 진행된다")
+	void noConnectionHeldDuringGatewayCall() throws Exception {
+		List<PaymentConfirmRequest> requests = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_CONFIRMS; i++) {
+			requests.add(new PaymentConfirmRequest("pk_" + i, pendingOrder().toString(), "10000"));
+		}
+		HikariPoolMXBean pool = ((HikariDataSource)dataSource).getHikariPoolMXBean();
+		CountDownLatch arrived = new CountDownLatch(CONCURRENT_CONFIRMS);
+		List<Integer> activeDuringCall = new CopyOnWriteArrayList<>();
+		List<Integer> waitingDuringCall = new CopyOnWriteArrayList<>();
+		gateway.onRequest(() -> {
+			arrived.countDown();
+			try {
+				// 모든 승인 요청이 대행사 응답을 기다리는 시점에 풀 상태를 잰다
+				arrived.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			activeDuringCall.add(pool.getActiveConnections());
+			waitingDuringCall.add(pool.getThreadsAwaitingConnection());
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CONFIRMS);
+		List<Future<String>> results = new ArrayList<>();
+		try {
+			for (PaymentConfirmRequest request : requests) {
+				results.add(executor.submit(() -> paymentService.confirmPayment(request)));
+			}
+			for (Future<String> result : results) {
+				assertThat(result.get(30, TimeUnit.SECONDS)).contains("결제 승인이 완료되었습니다");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(arrived.getCount()).as("대행사에 동시에 도달하지 못한 승인 요청 수").isZero();
+		assertThat(activeDuringCall).as("대행사 응답을 기다리는 동안 사용 중인 DB 커넥션 수")
+			.hasSize(CONCURRENT_CONFIRMS)
+			.containsOnly(0);
+		assertThat(waitingDuringCall).as("대행사 응답을 기다리는 동안 커넥션을 기다리는 스레드 수").containsOnly(0);
+		assertThat(paymentRepository.findAll()).hasSize(CONCURRENT_CONFIRMS)
+			.extracting(Payment::getPaymentStatus)
+			.containsOnly(PaymentStatus.COMPLETED);
+		assertThat(paymentEtcRepository.count()).isEqualTo(CONCURRENT_CONFIRMS);
+		assertThat(outboxEventRepository.findAll()).hasSize(CONCURRENT_CONFIRMS)
+			.extracting(OutboxEvent::getEventType)
+			.containsOnly(OutboxEventType.PAYMENT_COMPLETED);
+	}
+
+	private UUID pendingOrder() {
+		return ordersRepository.save(Orders.builder()
+			.store(store)
+			.user(customer)
+			.totalPrice(10000L)
+			.deliveryAddress("서울시 종로구")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderChannel(OrderChannel.ONLINE)
+			.receiptMethod(ReceiptMethod.DELIVERY)
+			.orderStatus(OrderStatus.PENDING)
+			.isRefundable(true)
+			.build()).getOrdersId();
+	}
+}
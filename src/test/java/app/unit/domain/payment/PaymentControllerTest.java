@@ -25,6 +25,7 @@ import org.springframework.web.context.WebApplicationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import app.domain.payment.PaymentService;
+import app.domain.payment.PaymentWebhookService;
 import app.domain.payment.controller.PaymentController;
 import app.domain.payment.model.dto.request.CancelPaymentRequest;
 import app.domain.payment.model.dto.request.PaymentConfirmRequest;
@@ -52,6 +53,9 @@ class PaymentControllerTest {
 	@MockitoBean
 	private PaymentService paymentService;
 
+	@MockitoBean
+	private PaymentWebhookService paymentWebhookService;
+
 	@BeforeEach
 	void setUp() {
 		mockMvc = MockMvcBuilders
@@ -481,4 +485,36 @@ class PaymentControllerTest {
 
 		verify(paymentService, never()).cancelPayment(any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("결제 웹훅 - 접수")
+	void webhook_Accepted() throws Exception {
+		String body = "{\"eventType\": \"PAYMENT_STATUS_CHANGED\", \"data\": {}}";
+
+		mockMvc.perform(post("/payment/webhook")
+				.with(csrf())
+				.header("tosspayments-webhook-transmission-id", "wh_1")
+				.header("tosspayments-webhook-transmission-time", "2026-10-18T12:00:00+09:00")
+				.header("tosspayments-webhook-signature", "v1:c2lnbmF0dXJl")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value(PaymentSuccessStatus.PAYMENT_WEBHOOK_ACCEPTED.getCode()));
+
+		verify(paymentWebhookService).receive("wh_1", "2026-10-18T12:00:00+09:00", "v1:c2lnbmF0dXJl", body);
+	}
+
+	@Test
+	@DisplayName("결제 웹훅 - 서명 불일치")
+	void webhook_InvalidSignature() throws Exception {
+		doThrow(new GeneralException(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_SIGNATURE))
+			.when(paymentWebhookService).receive(any(), any(), any(), anyString());
+
+		mockMvc.perform(post("/payment/webhook")
+				.with(csrf())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{}"))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.code").value(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_SIGNATURE.getCode()));
+	}
+}
@@ -0,0 +1,239 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import app.domain.payment.PaymentIdempotencyCache;
+import app.domain.payment.PaymentIdempotencyCache.Operation;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 실제 Redis 에 대해 결제 멱등 처리의 잠금, 대기, 재사용 동작을 확인한다.
+ * REDIS_HOST/REDIS_PORT(기본 localhost:6379)에 접속할 수 없으면 건너뛴다.
+ */
+@DisplayName("PaymentIdempotencyCache Redis 테스트")
+class PaymentIdempotencyCacheRedisTest {
+
+	private static final String PREFIX = "test:payment:idempotency";
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> redisTemplate;
+	private static boolean redisAvailable;
+
+	private SimpleMeterRegistry meterRegistry;
+	private PaymentIdempotencyCache cache;
+	private String idempotencyKey;
+
+	@BeforeAll
+	static void connect() {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+			System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+			Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		String password = System.getenv("REDIS_PASSWORD");
+		if (password != null && !password.isBlank()) {
+			configuration.setPassword(password);
+		}
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+			redisAvailable = true;
+		} catch (Exception e) {
+			redisAvailable = false;
+		}
+
+		redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		assumeTrue(redisAvailable, "Redis 에 접속할 수 없어 테스트를 건너뜁니다.");
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new PaymentIdempotencyCache(redisTemplate, meterRegistry, PREFIX, Duration.ofSeconds(5),
+			Duration.ofMinutes(1), Duration.ofSeconds(3), Duration.ofMillis(10));
+		idempotencyKey = UUID.randomUUID().toString();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (redisAvailable) {
+			Set<String> keys = redisTemplate.keys(PREFIX + ":*");
+			if (keys != null && !keys.isEmpty()) {
+				redisTemplate.delete(keys);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("처리된 요청을 다시 보내면 처리하지 않고 저장된 결과를 돌려준다")
+	void replaysStoredResult() {
+		AtomicInteger calls = new AtomicInteger();
+
+		String first = cache.execute(Operation.CONFIRM, idempotencyKey, () -> "done-" + calls.incrementAndGet());
+		String second = cache.execute(Operation.CONFIRM, idempotencyKey, () -> "done-" + calls.incrementAndGet());
+
+		assertThat(first).isEqualTo("done-1");
+		assertThat(second).isEqualTo("done-1");
+		assertThat(calls).hasValue(1);
+		assertThat(counter("replayed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("승인과 취소는 같은 멱등 키여도 따로 처리한다")
+	void separatesOperations() {
+		cache.execute(Operation.CONFIRM, idempotencyKey, () -> "confirmed");
+
+		assertThat(cache.execute(Operation.CANCEL, idempotencyKey, () -> "cancelled")).isEqualTo("cancelled");
+	}
+
+	@Test
+	@DisplayName("처리 중에 들어온 같은 요청은 처음 요청의 결과를 기다려 받는다")
+	void concurrentDuplicatesWaitForFirstResult() throws Exception {
+		int duplicates = 8;
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+		List<Future<String>> results = new ArrayList<>();
+		try {
+			results.add(executor.submit(() -> cache.execute(Operation.CONFIRM, idempotencyKey, () -> {
+				calls.incrementAndGet();
+				started.countDown();
+				sleep(300);
+				return "done";
+			})));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			for (int i = 1; i < duplicates; i++) {
+				results.add(executor.submit(() -> cache.execute(Operation.CONFIRM, idempotencyKey, () -> {
+					calls.incrementAndGet();
+					return "duplicate";
+				})));
+			}
+			for (Future<String> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("done");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(calls).hasValue(1);
+		assertThat(counter("replayed_after_wait")).isEqualTo(duplicates - 1);
+	}
+
+	@Test
+	@DisplayName("결과가 바뀌지 않는 실패는 저장해 재시도에 같은 실패를 돌려준다")
+	void replaysFinalFailure() {
+		AtomicInteger calls = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> cache.execute(Operation.CONFIRM, idempotencyKey, () -> {
+				calls.incrementAndGet();
+				throw new GeneralException(PaymentErrorStatus.PAYMENT_CONFIRM_FAILED);
+			}))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(PaymentErrorStatus.PAYMENT_CONFIRM_FAILED);
+		}
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("시간 초과처럼 결과가 확정되지 않은 실패는 저장하지 않아 재시도가 다시 처리된다")
+	void releasesOnTransientFailure() {
+		assertThatThrownBy(() -> cache.execute(Operation.CONFIRM, idempotencyKey, () -> {
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_GATEWAY_TIMEOUT);
+		})).isInstanceOf(GeneralException.class);
+
+		assertThat(cache.execute(Operation.CONFIRM, idempotencyKey, () -> "retried")).isEqualTo("retried");
+	}
+
+	@Test
+	@DisplayName("금액 불일치는 저장하지 않아 고친 요청이 다시 처리된다")
+	void releasesOnAmountMismatch() {
+		assertThatThrownBy(() -> cache.execute(Operation.CONFIRM, idempotencyKey, () -> {
+			throw new GeneralException(PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH);
+		})).isInstanceOf(GeneralException.class);
+
+		assertThat(cache.execute(Operation.CONFIRM, idempotencyKey, () -> "retried")).isEqualTo("retried");
+	}
+
+	@Test
+	@DisplayName("처음 요청이 wait-timeout 안에 끝나지 않으면 PAYMENT_IN_PROGRESS")
+	void rejectsWhenFirstRequestTakesTooLong() throws Exception {
+		PaymentIdempotencyCache impatient = new PaymentIdempotencyCache(redisTemplate, meterRegistry, PREFIX,
+			Duration.ofSeconds(5), Duration.ofMinutes(1), Duration.ofMillis(100), Duration.ofMillis(10));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> first = executor.submit(() -> cache.execute(Operation.CONFIRM, idempotencyKey, () -> {
+				started.countDown();
+				await(release);
+				return "done";
+			}));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+			assertThatThrownBy(() -> impatient.execute(Operation.CONFIRM, idempotencyKey, () -> "duplicate"))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+
+			release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private double counter(String result) {
+		return meterRegistry.get("payment.idempotency.requests").tags("operation", "confirm", "result", result)
+			.counter().count();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.payment.PaymentRecoveryScheduler;
+import app.domain.payment.PaymentWriter;
+import app.domain.payment.gateway.GatewayResponse;
+import app.domain.payment.gateway.TossPaymentsClient;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentRecoveryScheduler 테스트")
+class PaymentRecoverySchedulerTest {
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private PaymentWriter paymentWriter;
+
+	@Mock
+	private TossPaymentsClient tossPaymentsClient;
+
+	private PaymentRecoveryScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new PaymentRecoveryScheduler(paymentRepository, paymentWriter, tossPaymentsClient,
+			Duration.ofMinutes(1), 50);
+	}
+
+	private Payment pending() {
+		return Payment.builder()
+			.paymentId(UUID.randomUUID())
+			.ordersId(UUID.randomUUID())
+			.paymentStatus(PaymentStatus.PENDING)
+			.build();
+	}
+
+	private void lookupReturns(Payment payment, int status, String body) {
+		when(tossPaymentsClient.lookup(payment.getOrdersId().toString()))
+			.thenReturn(CompletableFuture.completedFuture(new GatewayResponse(status, body)));
+	}
+
+	@Test
+	@DisplayName("대행사에서 승인된 결제는 COMPLETED, 승인이 닿지 않았거나 취소된 결제는 FAILED 로 확정한다")
+	void resolvesFromLookup() {
+		Payment done = pending();
+		Payment notFound = pending();
+		Payment aborted = pending();
+		when(paymentRepository.findStalePending(any(), any())).thenReturn(List.of(done, notFound, aborted));
+		lookupReturns(done, 200, "{\"status\":\"DONE\"}");
+		lookupReturns(notFound, 404, "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+		lookupReturns(aborted, 200, "{\"status\":\"ABORTED\"}");
+		when(paymentWriter.complete(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+
+		int resolved = scheduler.recover();
+
+		assertThat(resolved).isEqualTo(3);
+		verify(paymentWriter).complete(done.getPaymentId(), PaymentStatus.COMPLETED, "{\"status\":\"DONE\"}");
+		verify(paymentWriter).complete(notFound.getPaymentId(), PaymentStatus.FAILED,
+			"{\"code\":\"NOT_FOUND_PAYMENT\"}");
+		verify(paymentWriter).complete(aborted.getPaymentId(), PaymentStatus.FAILED, "{\"status\":\"ABORTED\"}");
+	}
+
+	@Test
+	@DisplayName("아직 진행 중이거나 조회에 실패한 결제는 다음 주기에 다시 본다")
+	void leavesUnknownPending() {
+		Payment inProgress = pending();
+		Payment timedOut = pending();
+		when(paymentRepository.findStalePending(any(), any())).thenReturn(List.of(inProgress, timedOut));
+		lookupReturns(inProgress, 200, "{\"status\":\"IN_PROGRESS\"}");
+		when(tossPaymentsClient.lookup(timedOut.getOrdersId().toString())).thenReturn(CompletableFuture.failedFuture(
+			new GeneralException(PaymentErrorStatus.PAYMENT_GATEWAY_TIMEOUT)));
+
+		int resolved = scheduler.recover();
+
+		assertThat(resolved).isZero();
+		verifyNoInteractions(paymentWriter);
+	}
+
+	@Test
+	@DisplayName("대행사 호출이 막혀 있으면 남은 결제를 조회하지 않고 멈춘다")
+	void stopsWhenGatewayUnavailable() {
+		Payment first = pending();
+		Payment second = pending();
+		when(paymentRepository.findStalePending(any(), any())).thenReturn(List.of(first, second));
+		when(tossPaymentsClient.lookup(first.getOrdersId().toString())).thenReturn(CompletableFuture.failedFuture(
+			new GeneralException(PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE)));
+
+		scheduler.recover();
+
+		verify(tossPaymentsClient, never()).lookup(second.getOrdersId().toString());
+		verifyNoInteractions(paymentWriter);
+	}
+}
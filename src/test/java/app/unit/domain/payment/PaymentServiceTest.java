@@ -6,30 +6,37 @@ import static org.mockito.Mockito.*;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import app.domain.cart.service.CartService;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.entity.enums.OrderStatus;
 import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.repository.OrderStatusEventRepository;
 import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.payment.PaymentIdempotencyCache;
+import app.domain.payment.PaymentIdempotencyCache.Operation;
 import app.domain.payment.PaymentService;
+import app.domain.payment.PaymentWriter;
+import app.domain.payment.gateway.GatewayResponse;
+import app.domain.payment.gateway.TossPaymentsClient;
 import app.domain.payment.model.dto.request.CancelPaymentRequest;
 import app.domain.payment.model.dto.request.PaymentConfirmRequest;
 import app.domain.payment.model.dto.request.PaymentFailRequest;
 import app.domain.payment.model.entity.Payment;
-import app.domain.payment.model.entity.PaymentEtc;
 import app.domain.payment.model.entity.enums.PaymentStatus;
-import app.domain.payment.model.repository.PaymentEtcRepository;
 import app.domain.payment.model.repository.PaymentRepository;
 import app.domain.payment.status.PaymentErrorStatus;
 import app.domain.store.model.entity.Store;
@@ -44,19 +51,30 @@ class PaymentServiceTest {
 	@Mock
 	private OrdersRepository ordersRepository;
 
+	@Mock
+	private OrderStatusEventRepository orderStatusEventRepository;
+
 	@Mock
 	private PaymentRepository paymentRepository;
 
 	@Mock
-	private PaymentEtcRepository paymentEtcRepository;
+	private SecurityUtil securityUtil;
+
+	@Mock
+	private OrderFeedService orderFeedService;
 
 	@Mock
-	private CartService cartService;
+	private TossPaymentsClient tossPaymentsClient;
 
 	@Mock
-	private SecurityUtil securityUtil;
+	private PaymentWriter paymentWriter;
+
+	@Mock
+	private OrderEventOutbox orderEventOutbox;
+
+	@Mock
+	private PaymentIdempotencyCache paymentIdempotencyCache;
 
-	@Spy
 	@InjectMocks
 	private PaymentService paymentService;
 
@@ -74,9 +92,6 @@ class PaymentServiceTest {
 		orderId = UUID.randomUUID();
 		userId = 1L;
 
-		ReflectionTestUtils.setField(paymentService, "tossSecretKey", "test_secret_key");
-		ReflectionTestUtils.setField(paymentService, "tossUrl", "https://api.tosspayments.com/v1/payments");
-
 		confirmRequest = new PaymentConfirmRequest(
 			"test_payment_key",
 			orderId.toString(),
@@ -97,7 +112,6 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.build();
 
 		payment = Payment.builder()
@@ -108,39 +122,115 @@ class PaymentServiceTest {
 			.paymentStatus(PaymentStatus.COMPLETED)
 			.amount(10000L)
 			.build();
+
+		// 처음 들어온 요청처럼 바로 처리한다
+		lenient().when(paymentIdempotencyCache.execute(any(), anyString(), any()))
+			.thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(2).get());
+	}
+
+	private Payment pendingPayment() {
+		return Payment.builder()
+			.paymentId(UUID.randomUUID())
+			.ordersId(orderId)
+			.paymentKey("test_payment_key")
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.paymentStatus(PaymentStatus.PENDING)
+			.amount(10000L)
+			.build();
+	}
+
+	private CompletableFuture<GatewayResponse> gatewayResponse(int status, String body) {
+		return CompletableFuture.completedFuture(new GatewayResponse(status, body));
 	}
 
 	@Test
 	@DisplayName("결제 승인 성공")
 	void confirmPayment_Success() {
 		// Given
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
-		when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("success:{\"status\":\"DONE\"}").when(paymentService).callTossConfirmApi(any(PaymentConfirmRequest.class), any(Long.class));
+		Payment pending = pendingPayment();
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		when(paymentWriter.recordIntent(confirmRequest)).thenReturn(pending);
+		when(tossPaymentsClient.confirm(anyString(), anyString(), anyString(), anyString()))
+			.thenReturn(gatewayResponse(200, "{\"status\":\"DONE\"}"));
+		when(paymentWriter.complete(pending.getPaymentId(), PaymentStatus.COMPLETED, "{\"status\":\"DONE\"}"))
+			.thenReturn(PaymentStatus.COMPLETED);
 
 		// When
 		String result = paymentService.confirmPayment(confirmRequest);
 
 		// Then
 		assertThat(result).contains("결제 승인이 완료되었습니다");
-		verify(securityUtil).getCurrentUser();
-		verify(ordersRepository).findById(orderId);
-		verify(paymentRepository).save(any(Payment.class));
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
-		verify(cartService).clearCartItems();
+		verify(securityUtil).getCurrentUserId();
+		verify(paymentWriter).complete(pending.getPaymentId(), PaymentStatus.COMPLETED, "{\"status\":\"DONE\"}");
+		ArgumentCaptor<String> idempotencyKey = ArgumentCaptor.forClass(String.class);
+		verify(paymentIdempotencyCache).execute(eq(Operation.CONFIRM), idempotencyKey.capture(), any());
+		verify(tossPaymentsClient).confirm("test_payment_key", orderId.toString(), "10000", idempotencyKey.getValue());
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 이미 처리된 요청의 재시도는 저장된 결과를 돌려주고 DB 와 대행사를 거치지 않는다")
+	void confirmPayment_Replayed() {
+		// Given
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		doReturn("결제 승인이 완료되었습니다. PaymentKey: 10000")
+			.when(paymentIdempotencyCache).execute(eq(Operation.CONFIRM), anyString(), any());
+
+		// When
+		String result = paymentService.confirmPayment(confirmRequest);
+
+		// Then
+		assertThat(result).contains("결제 승인이 완료되었습니다");
+		verifyNoInteractions(paymentWriter, tossPaymentsClient, ordersRepository, paymentRepository);
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 같은 사용자, 주문, 결제 키, 금액이면 항상 같은 멱등 키를 쓴다")
+	void confirmPayment_SameIdempotencyKey() {
+		// Given
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		doReturn("ok").when(paymentIdempotencyCache).execute(eq(Operation.CONFIRM), anyString(), any());
+
+		// When
+		paymentService.confirmPayment(confirmRequest);
+		paymentService.confirmPayment(confirmRequest);
+
+		// Then
+		ArgumentCaptor<String> idempotencyKey = ArgumentCaptor.forClass(String.class);
+		verify(paymentIdempotencyCache, times(2)).execute(eq(Operation.CONFIRM), idempotencyKey.capture(), any());
+		assertThat(idempotencyKey.getAllValues().get(0)).isNotBlank()
+			.isEqualTo(idempotencyKey.getAllValues().get(1));
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 결제 키나 금액이 다르면 다른 멱등 키를 써 저장된 결과를 받지 않는다")
+	void confirmPayment_DifferentRequestDifferentIdempotencyKey() {
+		// Given
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		doReturn("ok").when(paymentIdempotencyCache).execute(eq(Operation.CONFIRM), anyString(), any());
+
+		// When
+		paymentService.confirmPayment(confirmRequest);
+		paymentService.confirmPayment(new PaymentConfirmRequest("other_payment_key", orderId.toString(), "10000"));
+		paymentService.confirmPayment(new PaymentConfirmRequest("test_payment_key", orderId.toString(), "1"));
+
+		// Then
+		ArgumentCaptor<String> idempotencyKey = ArgumentCaptor.forClass(String.class);
+		verify(paymentIdempotencyCache, times(3)).execute(eq(Operation.CONFIRM), idempotencyKey.capture(), any());
+		assertThat(idempotencyKey.getAllValues()).doesNotHaveDuplicates();
 	}
 
 	@Test
 	@DisplayName("결제 승인 실패 - API 호출 실패")
 	void confirmPayment_ApiCallFailed() {
 		// Given
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
-		when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("fail:{\"code\":\"INVALID_REQUEST\",\"message\":\"Invalid request\"}").when(paymentService).callTossConfirmApi(any(PaymentConfirmRequest.class), any(Long.class));
+		Payment pending = pendingPayment();
+		String body = "{\"code\":\"INVALID_REQUEST\",\"message\":\"Invalid request\"}";
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		when(paymentWriter.recordIntent(confirmRequest)).thenReturn(pending);
+		when(tossPaymentsClient.confirm(anyString(), anyString(), anyString(), anyString()))
+			.thenReturn(gatewayResponse(400, body));
+		when(paymentWriter.complete(pending.getPaymentId(), PaymentStatus.FAILED, body))
+			.thenReturn(PaymentStatus.FAILED);
 
 		// When & Then
 		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
@@ -151,16 +241,58 @@ class PaymentServiceTest {
 					PaymentErrorStatus.PAYMENT_CONFIRM_FAILED.getCode());
 			});
 
-		verify(paymentRepository).save(any(Payment.class));
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
-		verify(cartService, never()).clearCartItems();
+		verify(paymentWriter).complete(pending.getPaymentId(), PaymentStatus.FAILED, body);
 	}
 
 	@Test
-	@DisplayName("결제 승인 실패 - 주문을 찾을 수 없음")
+	@DisplayName("결제 승인 실패 - 결제 대행사 호출 불가면 결제 의도를 지운다")
+	void confirmPayment_GatewayUnavailable() {
+		// Given
+		Payment pending = pendingPayment();
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		when(paymentWriter.recordIntent(confirmRequest)).thenReturn(pending);
+		when(tossPaymentsClient.confirm(anyString(), anyString(), anyString(), anyString()))
+			.thenReturn(CompletableFuture.failedFuture(
+				new GeneralException(PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE)));
+
+		// When & Then
+		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE);
+
+		verify(paymentWriter).abandon(pending.getPaymentId());
+		verify(paymentWriter, never()).complete(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("결제 승인 실패 - 응답 시간 초과면 PENDING 으로 남겨 복구 작업에 맡긴다")
+	void confirmPayment_GatewayTimeout() {
+		// Given
+		Payment pending = pendingPayment();
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		when(paymentWriter.recordIntent(confirmRequest)).thenReturn(pending);
+		when(tossPaymentsClient.confirm(anyString(), anyString(), anyString(), anyString()))
+			.thenReturn(CompletableFuture.failedFuture(
+				new GeneralException(PaymentErrorStatus.PAYMENT_GATEWAY_TIMEOUT)));
+
+		// When & Then
+		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_GATEWAY_TIMEOUT);
+
+		verify(paymentWriter, never()).abandon(any());
+		verify(paymentWriter, never()).complete(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("결제 승인 실패 - 주문을 찾을 수 없으면 대행사를 호출하지 않는다")
 	void confirmPayment_OrderNotFound() {
 		// Given
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.empty());
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		when(paymentWriter.recordIntent(confirmRequest))
+			.thenThrow(new GeneralException(ErrorStatus.ORDER_NOT_FOUND));
 
 		// When & Then
 		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
@@ -170,32 +302,44 @@ class PaymentServiceTest {
 				assertThat(generalEx.getErrorReason().getCode()).isEqualTo(ErrorStatus.ORDER_NOT_FOUND.getCode());
 			});
 
-		verify(ordersRepository).findById(orderId);
-		verify(paymentRepository, never()).save(any());
+		verifyNoInteractions(tossPaymentsClient);
 	}
 
 	@Test
-	@DisplayName("결제 승인 실패 - 금액 불일치")
-	void confirmPayment_AmountMismatch() {
+	@DisplayName("결제 승인 실패 - 같은 주문의 승인 요청이 동시에 들어오면 하나만 진행한다")
+	void confirmPayment_ConcurrentDuplicate() {
 		// Given
-		PaymentConfirmRequest wrongAmountRequest = new PaymentConfirmRequest(
-			"test_payment_key",
-			orderId.toString(),
-			"20000"
-		);
-		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		when(paymentWriter.recordIntent(confirmRequest))
+			.thenThrow(new DataIntegrityViolationException("uk_payment_orders_id"));
 
 		// When & Then
-		assertThatThrownBy(() -> paymentService.confirmPayment(wrongAmountRequest))
+		assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
 			.isInstanceOf(GeneralException.class)
-			.satisfies(ex -> {
-				GeneralException generalEx = (GeneralException)ex;
-				assertThat(generalEx.getErrorReason().getCode()).isEqualTo(
-					PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH.getCode());
-			});
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
 
-		verify(ordersRepository).findById(orderId);
-		verify(paymentRepository, never()).save(any());
+		verifyNoInteractions(tossPaymentsClient);
+	}
+
+	@Test
+	@DisplayName("결제 승인 - 복구 작업이 먼저 확정한 결과를 따른다")
+	void confirmPayment_AlreadyResolvedByRecovery() {
+		// Given
+		Payment pending = pendingPayment();
+		String body = "{\"code\":\"PROVIDER_ERROR\"}";
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
+		when(paymentWriter.recordIntent(confirmRequest)).thenReturn(pending);
+		when(tossPaymentsClient.confirm(anyString(), anyString(), anyString(), anyString()))
+			.thenReturn(gatewayResponse(500, body));
+		when(paymentWriter.complete(pending.getPaymentId(), PaymentStatus.FAILED, body))
+			.thenReturn(PaymentStatus.COMPLETED);
+
+		// When
+		String result = paymentService.confirmPayment(confirmRequest);
+
+		// Then
+		assertThat(result).contains("결제 승인이 완료되었습니다");
 	}
 
 	@Test
@@ -210,6 +354,8 @@ class PaymentServiceTest {
 		// Then
 		assertThat(result).isEqualTo("결제 실패 처리가 완료되었습니다.");
 		verify(ordersRepository).findById(orderId);
+		verify(orderStatusEventRepository).save(argThat(event -> event.getOrderStatus() == OrderStatus.FAILED));
+		verify(orderEventOutbox).statusChanged(order);
 	}
 
 	@Test
@@ -241,16 +387,14 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(true)
 			.build();
 
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
 		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(refundableOrder));
 		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(payment));
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("success:{\"status\":\"CANCELED\"}").when(paymentService)
-			.callTossCancelApi(anyString(), anyString(), any(Long.class), any(UUID.class));
+		when(tossPaymentsClient.cancel(anyString(), anyString(), anyString()))
+			.thenReturn(gatewayResponse(200, "{\"status\":\"CANCELED\"}"));
 
 		// When
 		String result = paymentService.cancelPayment(cancelRequest);
@@ -259,7 +403,8 @@ class PaymentServiceTest {
 		assertThat(result).isEqualTo("결제 취소가 완료되었습니다.");
 		verify(ordersRepository).findById(orderId);
 		verify(paymentRepository).findByOrdersId(orderId);
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
+		verify(paymentWriter).recordCancel(orderId, payment.getPaymentId(), true, "{\"status\":\"CANCELED\"}");
+		verify(paymentIdempotencyCache).execute(eq(Operation.CANCEL), anyString(), any());
 	}
 
 	@Test
@@ -273,16 +418,15 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(true)
 			.build();
 
-		when(securityUtil.getCurrentUser()).thenReturn(testuser);
+		String body = "{\"code\":\"CANCEL_FAILED\",\"message\":\"Cancel failed\"}";
+		when(securityUtil.getCurrentUserId()).thenReturn(userId);
 		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(refundableOrder));
 		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(payment));
-		when(paymentEtcRepository.save(any(PaymentEtc.class))).thenReturn(mock(PaymentEtc.class));
-		doReturn("fail:{\"code\":\"CANCEL_FAILED\",\"message\":\"Cancel failed\"}").when(paymentService)
-			.callTossCancelApi(anyString(), anyString(), any(Long.class), any(UUID.class));
+		when(tossPaymentsClient.cancel(anyString(), anyString(), anyString()))
+			.thenReturn(gatewayResponse(400, body));
 
 		// When & Then
 		assertThatThrownBy(() -> paymentService.cancelPayment(cancelRequest))
@@ -293,7 +437,7 @@ class PaymentServiceTest {
 					ErrorStatus._INTERNAL_SERVER_ERROR.getCode());
 			});
 
-		verify(paymentEtcRepository).save(any(PaymentEtc.class));
+		verify(paymentWriter).recordCancel(orderId, payment.getPaymentId(), false, body);
 	}
 
 	@Test
@@ -325,7 +469,6 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(true)
 			.build();
 
@@ -356,7 +499,6 @@ class PaymentServiceTest {
 			.totalPrice(10000L)
 			.paymentMethod(PaymentMethod.CREDIT_CARD)
 			.orderStatus(OrderStatus.PENDING)
-			.orderHistory("pending:" + "2024-01-01 10:00:00")
 			.isRefundable(false)
 			.build();
 
@@ -373,5 +515,6 @@ class PaymentServiceTest {
 
 		verify(ordersRepository).findById(orderId);
 		verify(paymentRepository, never()).findByOrdersId(any());
+		verifyNoInteractions(tossPaymentsClient, paymentWriter);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package app.unit.domain.payment;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import app.domain.payment.PaymentWebhookHandler;
+import app.domain.payment.PaymentWriter;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.global.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentWebhookHandler 테스트")
+class PaymentWebhookHandlerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private PaymentWriter paymentWriter;
+
+	private PaymentWebhookHandler handler;
+	private UUID orderId;
+	private UUID paymentId;
+
+	@BeforeEach
+	void setUp() {
+		handler = new PaymentWebhookHandler(paymentRepository, paymentWriter, new SimpleMeterRegistry());
+		orderId = UUID.randomUUID();
+		paymentId = UUID.randomUUID();
+	}
+
+	private void paymentIs(PaymentStatus status) {
+		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.of(Payment.builder()
+			.paymentId(paymentId)
+			.ordersId(orderId)
+			.paymentKey("test_payment_key")
+			.paymentStatus(status)
+			.build()));
+	}
+
+	private JsonNode payload(String paymentKey, String status) {
+		ObjectNode payload = objectMapper.createObjectNode();
+		payload.put("eventId", "wh_1");
+		payload.put("orderId", orderId.toString());
+		payload.put("paymentKey", paymentKey);
+		payload.put("status", status);
+		payload.put("body", "{\"status\":\"" + status + "\"}");
+		return payload;
+	}
+
+	@Test
+	@DisplayName("PENDING 결제에 승인 완료 웹훅이 오면 결제를 확정한다")
+	void completesPendingPayment() {
+		paymentIs(PaymentStatus.PENDING);
+
+		handler.handle(mock(OutboxEvent.class), payload("test_payment_key", "DONE"));
+
+		verify(paymentWriter).complete(paymentId, PaymentStatus.COMPLETED, "{\"status\":\"DONE\"}");
+	}
+
+	@Test
+	@DisplayName("PENDING 결제에 만료 웹훅이 오면 실패로 확정한다")
+	void failsExpiredPayment() {
+		paymentIs(PaymentStatus.PENDING);
+
+		handler.handle(mock(OutboxEvent.class), payload("test_payment_key", "EXPIRED"));
+
+		verify(paymentWriter).complete(eq(paymentId), eq(PaymentStatus.FAILED), any());
+	}
+
+	@Test
+	@DisplayName("완료된 결제에 취소 웹훅이 오면 취소를 반영한다")
+	void recordsCancel() {
+		paymentIs(PaymentStatus.COMPLETED);
+
+		handler.handle(mock(OutboxEvent.class), payload("test_payment_key", "CANCELED"));
+
+		verify(paymentWriter).recordCancel(orderId, paymentId, true, "{\"status\":\"CANCELED\"}");
+	}
+
+	@Test
+	@DisplayName("이미 확정된 결제에 승인 웹훅이 다시 오면 아무것도 바꾸지 않는다")
+	void ignoresAlreadyResolved() {
+		paymentIs(PaymentStatus.COMPLETED);
+
+		handler.handle(mock(OutboxEvent.class), payload("test_payment_key", "DONE"));
+
+		verifyNoInteractions(paymentWriter);
+	}
+
+	@Test
+	@DisplayName("결제가 없거나 결제 키가 다르면 반영하지 않는다")
+	void ignoresUnmatchedPayment() {
+		paymentIs(PaymentStatus.PENDING);
+
+		handler.handle(mock(OutboxEvent.class), payload("other_payment_key", "DONE"));
+
+		verifyNoInteractions(paymentWriter);
+	}
+}
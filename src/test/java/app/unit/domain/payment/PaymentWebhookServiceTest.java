@@ -0,0 +1,135 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import app.domain.payment.PaymentWebhookService;
+import app.domain.payment.PaymentWriter;
+import app.domain.payment.gateway.PaymentWebhookVerifier;
+import app.domain.payment.model.repository.PaymentWebhookEventRepository;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentWebhookService 테스트")
+class PaymentWebhookServiceTest {
+
+	private static final String SENT_AT = "2026-10-18T12:00:00+09:00";
+	private static final String SIGNATURE = "v1:c2lnbmF0dXJl";
+
+	@Mock
+	private PaymentWebhookVerifier paymentWebhookVerifier;
+
+	@Mock
+	private PaymentWriter paymentWriter;
+
+	@Mock
+	private PaymentWebhookEventRepository paymentWebhookEventRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private PaymentWebhookService paymentWebhookService;
+	private String orderId;
+	private String body;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		paymentWebhookService = new PaymentWebhookService(paymentWebhookVerifier, paymentWriter,
+			paymentWebhookEventRepository, meterRegistry, Duration.ofDays(7));
+		orderId = UUID.randomUUID().toString();
+		body = "{\"eventType\":\"PAYMENT_STATUS_CHANGED\",\"data\":{\"orderId\":\"" + orderId
+			+ "\",\"paymentKey\":\"test_payment_key\",\"status\":\"DONE\"}}";
+	}
+
+	@Test
+	@DisplayName("검증된 결제 상태 변경 웹훅을 기록한다")
+	void receive_Accepted() {
+		when(paymentWebhookVerifier.verify(body, SENT_AT, SIGNATURE)).thenReturn(true);
+		when(paymentWriter.recordWebhook("wh_1", orderId, "test_payment_key", "DONE", body)).thenReturn(true);
+
+		paymentWebhookService.receive("wh_1", SENT_AT, SIGNATURE, body);
+
+		assertThat(counter("accepted")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("서명이 맞지 않으면 기록하지 않고 PAYMENT_WEBHOOK_INVALID_SIGNATURE")
+	void receive_InvalidSignature() {
+		when(paymentWebhookVerifier.verify(body, SENT_AT, SIGNATURE)).thenReturn(false);
+
+		assertThatThrownBy(() -> paymentWebhookService.receive("wh_1", SENT_AT, SIGNATURE, body))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_SIGNATURE);
+		verifyNoInteractions(paymentWriter);
+		assertThat(counter("rejected")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이벤트 ID 가 없거나 본문이 JSON 이 아니면 PAYMENT_WEBHOOK_INVALID_PAYLOAD")
+	void receive_InvalidPayload() {
+		when(paymentWebhookVerifier.verify(any(), eq(SENT_AT), eq(SIGNATURE))).thenReturn(true);
+
+		assertThatThrownBy(() -> paymentWebhookService.receive(null, SENT_AT, SIGNATURE, body))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_PAYLOAD);
+		assertThatThrownBy(() -> paymentWebhookService.receive("wh_1", SENT_AT, SIGNATURE, "not-json"))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_WEBHOOK_INVALID_PAYLOAD);
+		verifyNoInteractions(paymentWriter);
+	}
+
+	@Test
+	@DisplayName("다른 종류의 웹훅은 기록하지 않고 접수만 한다")
+	void receive_Ignored() {
+		String other = "{\"eventType\":\"DEPOSIT_CALLBACK\",\"data\":{\"orderId\":\"" + orderId + "\"}}";
+		when(paymentWebhookVerifier.verify(other, SENT_AT, SIGNATURE)).thenReturn(true);
+
+		paymentWebhookService.receive("wh_1", SENT_AT, SIGNATURE, other);
+
+		verifyNoInteractions(paymentWriter);
+		assertThat(counter("ignored")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이미 받았거나 동시에 먼저 기록된 웹훅은 중복으로 접수한다")
+	void receive_Duplicate() {
+		when(paymentWebhookVerifier.verify(body, SENT_AT, SIGNATURE)).thenReturn(true);
+		when(paymentWriter.recordWebhook(eq("wh_1"), any(), any(), any(), any())).thenReturn(false);
+		when(paymentWriter.recordWebhook(eq("wh_2"), any(), any(), any(), any()))
+			.thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+		paymentWebhookService.receive("wh_1", SENT_AT, SIGNATURE, body);
+		paymentWebhookService.receive("wh_2", SENT_AT, SIGNATURE, body);
+
+		assertThat(counter("duplicate")).isEqualTo(2);
+		assertThat(counter("accepted")).isZero();
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지난 수신 기록을 지운다")
+	void purge() {
+		when(paymentWebhookEventRepository.deleteReceivedBefore(any())).thenReturn(3);
+
+		assertThat(paymentWebhookService.purge()).isEqualTo(3);
+	}
+
+	private double counter(String result) {
+		return meterRegistry.get("payment.webhook.events").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,68 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.payment.gateway.PaymentWebhookVerifier;
+
+@DisplayName("PaymentWebhookVerifier 테스트")
+class PaymentWebhookVerifierTest {
+
+	private static final String SECRET = "test-webhook-secret";
+	private static final String SENT_AT = "2026-10-18T12:00:00+09:00";
+	private static final String BODY = "{\"eventType\":\"PAYMENT_STATUS_CHANGED\"}";
+
+	private final PaymentWebhookVerifier verifier = new PaymentWebhookVerifier(SECRET, Duration.ofMinutes(5),
+		Clock.fixed(Instant.parse("2026-10-18T03:01:00Z"), ZoneOffset.UTC));
+
+	@Test
+	@DisplayName("웹훅 보안 키로 만든 서명이면 통과한다")
+	void validSignature() throws Exception {
+		assertThat(verifier.verify(BODY, SENT_AT, "v1:" + sign(SECRET, BODY, SENT_AT))).isTrue();
+	}
+
+	@Test
+	@DisplayName("키 교체 중 여러 서명이 오면 하나만 맞아도 통과한다")
+	void oneOfSeveralSignatures() throws Exception {
+		String header = "v1:" + sign("old-secret", BODY, SENT_AT) + ", v1:" + sign(SECRET, BODY, SENT_AT);
+
+		assertThat(verifier.verify(BODY, SENT_AT, header)).isTrue();
+	}
+
+	@Test
+	@DisplayName("본문이 바뀌었거나 다른 키로 서명했으면 거절한다")
+	void tamperedPayload() throws Exception {
+		assertThat(verifier.verify(BODY + " ", SENT_AT, "v1:" + sign(SECRET, BODY, SENT_AT))).isFalse();
+		assertThat(verifier.verify(BODY, SENT_AT, "v1:" + sign("other-secret", BODY, SENT_AT))).isFalse();
+		assertThat(verifier.verify(BODY, SENT_AT, "v1:not-base64!")).isFalse();
+		assertThat(verifier.verify(BODY, SENT_AT, null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("전송 시각이 허용 범위를 벗어나면 서명이 맞아도 거절한다")
+	void staleTransmission() throws Exception {
+		String sentAt = "2026-10-18T11:50:00+09:00";
+
+		assertThat(verifier.verify(BODY, sentAt, "v1:" + sign(SECRET, BODY, sentAt))).isFalse();
+		assertThat(verifier.verify(BODY, "yesterday", "v1:" + sign(SECRET, BODY, "yesterday"))).isFalse();
+	}
+
+	private static String sign(String secret, String body, String sentAt) throws Exception {
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		return Base64.getEncoder().encodeToString(
+			mac.doFinal((body + ":" + sentAt).getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,354 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.order.model.entity.Orders;
+import app.domain.order.model.entity.enums.OrderStatus;
+import app.domain.order.model.entity.enums.PaymentMethod;
+import app.domain.order.model.repository.OrderStatusEventRepository;
+import app.domain.order.model.repository.OrdersRepository;
+import app.domain.order.service.OrderEventOutbox;
+import app.domain.order.service.OrderFeedService;
+import app.domain.payment.PaymentWriter;
+import app.domain.payment.model.dto.request.PaymentConfirmRequest;
+import app.domain.payment.model.entity.Payment;
+import app.domain.payment.model.entity.PaymentEtc;
+import app.domain.payment.model.entity.PaymentWebhookEvent;
+import app.domain.payment.model.entity.enums.PaymentStatus;
+import app.domain.payment.model.repository.PaymentEtcRepository;
+import app.domain.payment.model.repository.PaymentRepository;
+import app.domain.payment.model.repository.PaymentWebhookEventRepository;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.domain.store.model.entity.Store;
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.outbox.OutboxEventType;
+import app.global.outbox.OutboxService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentWriter 테스트")
+class PaymentWriterTest {
+
+	@Mock
+	private OrdersRepository ordersRepository;
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private PaymentEtcRepository paymentEtcRepository;
+
+	@Mock
+	private OutboxService outboxService;
+
+	@Mock
+	private OrderStatusEventRepository orderStatusEventRepository;
+
+	@Mock
+	private OrderFeedService orderFeedService;
+
+	@Mock
+	private OrderEventOutbox orderEventOutbox;
+
+	@Mock
+	private PaymentWebhookEventRepository paymentWebhookEventRepository;
+
+	@InjectMocks
+	private PaymentWriter paymentWriter;
+
+	private UUID orderId;
+	private UUID paymentId;
+	private PaymentConfirmRequest request;
+	private Orders order;
+
+	@BeforeEach
+	void setUp() {
+		orderId = UUID.randomUUID();
+		paymentId = UUID.randomUUID();
+		request = new PaymentConfirmRequest("test_payment_key", orderId.toString(), "10000");
+		order = Orders.builder()
+			.ordersId(orderId)
+			.totalPrice(10000L)
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.orderStatus(OrderStatus.PENDING)
+			.build();
+	}
+
+	@Test
+	@DisplayName("주문 금액이 맞으면 PENDING 결제 의도를 기록한다")
+	void recordIntent() {
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findByOrdersId(orderId)).thenReturn(Optional.empty());
+		when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		Payment payment = paymentWriter.recordIntent(request);
+
+		assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+		assertThat(payment.getOrdersId()).isEqualTo(orderId);
+		assertThat(payment.getPaymentKey()).isEqualTo("test_payment_key");
+		assertThat(payment.getAmount()).isEqualTo(10000L);
+	}
+
+	@Test
+	@DisplayName("주문을 찾을 수 없으면 ORDER_NOT_FOUND")
+	void recordIntent_OrderNotFound() {
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> paymentWriter.recordIntent(request))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(ErrorStatus.ORDER_NOT_FOUND);
+		verify(paymentRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("요청 금액이 주문 금액과 다르면 PAYMENT_AMOUNT_MISMATCH")
+	void recordIntent_AmountMismatch() {
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+		assertThatThrownBy(() -> paymentWriter.recordIntent(
+			new PaymentConfirmRequest("test_payment_key", orderId.toString(), "20000")))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_AMOUNT_MISMATCH);
+		verify(paymentRepository, never()).save(any());
+	}
+
+	private Payment existingPayment(PaymentStatus status, String paymentKey) {
+		return Payment.builder()
+			.paymentId(paymentId)
+			.ordersId(orderId)
+			.paymentKey(paymentKey)
+			.paymentMethod(PaymentMethod.CREDIT_CARD)
+			.paymentStatus(status)
+			.amount(10000L)
+			.build();
+	}
+
+	@Test
+	@DisplayName("같은 주문에 완료된 결제가 있으면 PAYMENT_ALREADY_PROCESSED")
+	void recordIntent_AlreadyProcessed() {
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findByOrdersId(orderId))
+			.thenReturn(Optional.of(existingPayment(PaymentStatus.COMPLETED, "test_payment_key")));
+
+		assertThatThrownBy(() -> paymentWriter.recordIntent(request))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_ALREADY_PROCESSED);
+		verify(paymentRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("같은 주문의 결제가 아직 승인 결과를 기다리면 PAYMENT_IN_PROGRESS")
+	void recordIntent_InProgress() {
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findByOrdersId(orderId))
+			.thenReturn(Optional.of(existingPayment(PaymentStatus.PENDING, "test_payment_key")));
+
+		assertThatThrownBy(() -> paymentWriter.recordIntent(request))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+		verify(paymentRepository, never()).save(any());
+		verify(paymentRepository, never()).retryFailed(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("실패로 확정된 결제는 새 결제 키로 다시 PENDING 으로 돌려 재결제를 받는다")
+	void recordIntent_RetryAfterFailure() {
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findByOrdersId(orderId))
+			.thenReturn(Optional.of(existingPayment(PaymentStatus.FAILED, "declined_payment_key")));
+		when(paymentRepository.retryFailed(eq(paymentId), eq("test_payment_key"), eq(10000L), any())).thenReturn(1);
+		when(paymentRepository.findById(paymentId))
+			.thenReturn(Optional.of(existingPayment(PaymentStatus.PENDING, "test_payment_key")));
+
+		Payment payment = paymentWriter.recordIntent(request);
+
+		assertThat(payment.getPaymentId()).isEqualTo(paymentId);
+		assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+		assertThat(payment.getPaymentKey()).isEqualTo("test_payment_key");
+		verify(paymentRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("실패한 결제의 재시도가 겹쳐 다른 요청이 먼저 되돌렸으면 PAYMENT_IN_PROGRESS")
+	void recordIntent_ConcurrentRetryAfterFailure() {
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findByOrdersId(orderId))
+			.thenReturn(Optional.of(existingPayment(PaymentStatus.FAILED, "declined_payment_key")));
+		when(paymentRepository.retryFailed(eq(paymentId), eq("test_payment_key"), eq(10000L), any())).thenReturn(0);
+
+		assertThatThrownBy(() -> paymentWriter.recordIntent(request))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_IN_PROGRESS);
+	}
+
+	@Test
+	@DisplayName("PENDING 결제를 확정하면 응답 본문과 결제 완료 이벤트를 함께 남긴다")
+	void complete() {
+		Payment reference = mock(Payment.class);
+		OrdersRepository.FeedKey feedKey = mock(OrdersRepository.FeedKey.class);
+		when(paymentRepository.resolvePending(eq(paymentId), eq(PaymentStatus.COMPLETED), any())).thenReturn(1);
+		when(paymentRepository.getReferenceById(paymentId)).thenReturn(reference);
+		when(reference.getOrdersId()).thenReturn(orderId);
+		when(feedKey.getUserId()).thenReturn(1L);
+		when(ordersRepository.findFeedKey(orderId)).thenReturn(Optional.of(feedKey));
+
+		PaymentStatus status = paymentWriter.complete(paymentId, PaymentStatus.COMPLETED, "{\"status\":\"DONE\"}");
+
+		assertThat(status).isEqualTo(PaymentStatus.COMPLETED);
+		ArgumentCaptor<PaymentEtc> captor = ArgumentCaptor.forClass(PaymentEtc.class);
+		verify(paymentEtcRepository).save(captor.capture());
+		assertThat(captor.getValue().getPayment()).isSameAs(reference);
+		assertThat(captor.getValue().getPaymentResponse()).isEqualTo("{\"status\":\"DONE\"}");
+		verify(outboxService).append(OutboxEventType.PAYMENT_COMPLETED, paymentId,
+			Map.of("paymentId", paymentId.toString(), "orderId", orderId.toString(), "userId", 1L));
+	}
+
+	@Test
+	@DisplayName("실패로 확정한 결제는 결제 완료 이벤트를 남기지 않는다")
+	void complete_Failed() {
+		when(paymentRepository.resolvePending(eq(paymentId), eq(PaymentStatus.FAILED), any())).thenReturn(1);
+		when(paymentRepository.getReferenceById(paymentId)).thenReturn(mock(Payment.class));
+
+		PaymentStatus status = paymentWriter.complete(paymentId, PaymentStatus.FAILED, "{}");
+
+		assertThat(status).isEqualTo(PaymentStatus.FAILED);
+		verify(paymentEtcRepository).save(any(PaymentEtc.class));
+		verifyNoInteractions(outboxService);
+	}
+
+	@Test
+	@DisplayName("이미 확정된 결제는 바꾸지 않고 확정된 상태를 돌려준다")
+	void complete_AlreadyResolved() {
+		Payment resolved = Payment.builder()
+			.paymentId(paymentId)
+			.paymentStatus(PaymentStatus.COMPLETED)
+			.build();
+		when(paymentRepository.resolvePending(eq(paymentId), eq(PaymentStatus.FAILED), any())).thenReturn(0);
+		when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(resolved));
+
+		PaymentStatus status = paymentWriter.complete(paymentId, PaymentStatus.FAILED, "{}");
+
+		assertThat(status).isEqualTo(PaymentStatus.COMPLETED);
+		verify(paymentEtcRepository, never()).save(any());
+		verifyNoInteractions(outboxService);
+	}
+
+	@Test
+	@DisplayName("취소에 성공하면 결제를 취소 상태로 바꾸고 주문을 환불 상태로 바꾼다")
+	void recordCancel() {
+		Orders refundable = Orders.builder()
+			.ordersId(orderId)
+			.store(Store.builder().storeId(UUID.randomUUID()).build())
+			.totalPrice(10000L)
+			.orderStatus(OrderStatus.COMPLETED)
+			.isRefundable(true)
+			.build();
+		Payment completed = Payment.builder()
+			.paymentId(paymentId)
+			.ordersId(orderId)
+			.paymentStatus(PaymentStatus.COMPLETED)
+			.build();
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(refundable));
+		when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(completed));
+		when(paymentRepository.cancelCompleted(eq(paymentId), any())).thenReturn(1);
+
+		paymentWriter.recordCancel(orderId, paymentId, true, "{\"status\":\"CANCELED\"}");
+
+		assertThat(refundable.getOrderStatus()).isEqualTo(OrderStatus.REFUNDED);
+		verify(orderStatusEventRepository).save(argThat(event ->
+			event.getOrdersId().equals(orderId) && event.getOrderStatus() == OrderStatus.REFUNDED));
+		verify(orderEventOutbox).statusChanged(refundable);
+		verify(paymentEtcRepository).save(argThat(etc -> etc.getPaymentResponse().contains("CANCELED")));
+	}
+
+	@Test
+	@DisplayName("취소에 실패하면 응답 본문만 남기고 주문과 결제는 그대로 둔다")
+	void recordCancel_Failed() {
+		Payment completed = Payment.builder()
+			.paymentId(paymentId)
+			.ordersId(orderId)
+			.paymentStatus(PaymentStatus.COMPLETED)
+			.build();
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(completed));
+
+		paymentWriter.recordCancel(orderId, paymentId, false, "{\"code\":\"CANCEL_FAILED\"}");
+
+		assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+		assertThat(completed.getPaymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+		verify(paymentEtcRepository).save(any(PaymentEtc.class));
+		verifyNoInteractions(orderStatusEventRepository, orderFeedService, orderEventOutbox);
+	}
+
+	@Test
+	@DisplayName("다른 쪽에서 이미 취소를 반영했으면 주문은 다시 바꾸지 않는다")
+	void recordCancel_AlreadyCancelled() {
+		Payment cancelled = Payment.builder()
+			.paymentId(paymentId)
+			.ordersId(orderId)
+			.paymentStatus(PaymentStatus.CANCELLED)
+			.build();
+		when(ordersRepository.findById(orderId)).thenReturn(Optional.of(order));
+		when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(cancelled));
+		when(paymentRepository.cancelCompleted(eq(paymentId), any())).thenReturn(0);
+
+		paymentWriter.recordCancel(orderId, paymentId, true, "{\"status\":\"CANCELED\"}");
+
+		assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+		verify(paymentEtcRepository).save(any(PaymentEtc.class));
+		verifyNoInteractions(orderStatusEventRepository, orderFeedService, orderEventOutbox);
+	}
+
+	@Test
+	@DisplayName("처음 받은 웹훅은 수신 기록과 반영 이벤트를 남긴다")
+	void recordWebhook() {
+		when(paymentWebhookEventRepository.existsById("wh_1")).thenReturn(false);
+
+		boolean recorded = paymentWriter.recordWebhook("wh_1", orderId.toString(), "test_payment_key", "DONE", "{}");
+
+		assertThat(recorded).isTrue();
+		verify(paymentWebhookEventRepository).save(any(PaymentWebhookEvent.class));
+		verify(outboxService).append(eq(OutboxEventType.PAYMENT_WEBHOOK_RECEIVED), eq(orderId.toString()),
+			argThat(payload -> "wh_1".equals(payload.get("eventId")) && "DONE".equals(payload.get("status"))));
+	}
+
+	@Test
+	@DisplayName("이미 받은 웹훅은 다시 기록하지 않는다")
+	void recordWebhook_Duplicate() {
+		when(paymentWebhookEventRepository.existsById("wh_1")).thenReturn(true);
+
+		boolean recorded = paymentWriter.recordWebhook("wh_1", orderId.toString(), "test_payment_key", "DONE", "{}");
+
+		assertThat(recorded).isFalse();
+		verify(paymentWebhookEventRepository, never()).save(any());
+		verifyNoInteractions(outboxService);
+	}
+
+	@Test
+	@DisplayName("대행사에 보내지 못한 결제 의도는 지운다")
+	void abandon() {
+		paymentWriter.abandon(paymentId);
+
+		verify(paymentRepository).deletePending(paymentId);
+	}
+}
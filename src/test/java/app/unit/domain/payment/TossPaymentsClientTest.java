@@ -0,0 +1,159 @@
+package app.unit.domain.payment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.payment.gateway.GatewayCircuitBreaker;
+import app.domain.payment.gateway.GatewayResponse;
+import app.domain.payment.gateway.TossPaymentsClient;
+import app.domain.payment.status.PaymentErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TossPaymentsClient 테스트")
+class TossPaymentsClientTest {
+
+	private static final String SECRET_KEY = "test_sk";
+	private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+	private static final int MAX_CONCURRENCY = 2;
+
+	private FakeTossGateway gateway;
+	private GatewayCircuitBreaker circuitBreaker;
+	private SimpleMeterRegistry meterRegistry;
+	private TossPaymentsClient client;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		gateway = new FakeTossGateway();
+		circuitBreaker = new GatewayCircuitBreaker(50, 4, 4, Duration.ofMinutes(1), Clock.systemUTC());
+		meterRegistry = new SimpleMeterRegistry();
+		client = new TossPaymentsClient(circuitBreaker, meterRegistry, gateway.baseUrl(), SECRET_KEY,
+			Duration.ofSeconds(1), READ_TIMEOUT, MAX_CONCURRENCY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		gateway.close();
+	}
+
+	private GatewayResponse confirm() {
+		return TossPaymentsClient.await(client.confirm("pk_1", "order-1", "10000", "key-1"));
+	}
+
+	@Test
+	@DisplayName("승인 요청에 인증, 멱등 키 헤더와 본문을 담아 보낸다")
+	void sendsConfirmRequest() {
+		GatewayResponse response = confirm();
+
+		assertThat(response.isSuccess()).isTrue();
+		assertThat(gateway.received()).singleElement().satisfies(received -> {
+			assertThat(received.path()).isEqualTo("/v1/payments/confirm");
+			assertThat(received.authorization()).isEqualTo("Basic "
+				+ Base64.getEncoder().encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8)));
+			assertThat(received.idempotencyKey()).isEqualTo("key-1");
+			assertThat(received.body()).contains("\"paymentKey\":\"pk_1\"", "\"amount\":\"10000\"");
+		});
+		assertThat(meterRegistry.get("payment.gateway.latency").tags("operation", "confirm", "outcome", "success")
+			.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("취소 요청은 결제 키 경로로 보낸다")
+	void sendsCancelRequest() {
+		gateway.respond(200, "{\"status\":\"CANCELED\"}");
+
+		GatewayResponse response = TossPaymentsClient.await(client.cancel("pk_1", "단순 변심", "key-2"));
+
+		assertThat(response.body()).contains("CANCELED");
+		assertThat(gateway.received()).singleElement()
+			.satisfies(received -> assertThat(received.path()).isEqualTo("/v1/payments/pk_1/cancel"));
+	}
+
+	@Test
+	@DisplayName("조회 요청은 주문 번호 경로로 보낸다")
+	void sendsLookupRequest() {
+		gateway.respond(404, "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+
+		GatewayResponse response = TossPaymentsClient.await(client.lookup("order-1"));
+
+		assertThat(response.status()).isEqualTo(404);
+		assertThat(gateway.received()).singleElement().satisfies(received -> {
+			assertThat(received.path()).isEqualTo("/v1/payments/orders/order-1");
+			assertThat(received.idempotencyKey()).isNull();
+		});
+		assertThat(circuitBreaker.getState()).isEqualTo(GatewayCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("대행사가 거절한 응답은 실패가 아니라 응답으로 돌려준다")
+	void returnsRejectedResponse() {
+		gateway.respond(400, "{\"code\":\"INVALID_CARD\"}");
+
+		GatewayResponse response = confirm();
+
+		assertThat(response.isSuccess()).isFalse();
+		assertThat(response.body()).contains("INVALID_CARD");
+		assertThat(circuitBreaker.getState()).isEqualTo(GatewayCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("응답 시간 제한을 넘으면 PAYMENT_GATEWAY_TIMEOUT")
+	void timesOut() {
+		gateway.delay(READ_TIMEOUT.multipliedBy(3));
+
+		assertThatThrownBy(this::confirm)
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_GATEWAY_TIMEOUT);
+		assertThat(meterRegistry.get("payment.gateway.latency").tags("outcome", "timeout").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("실패가 이어지면 서킷이 열려 대행사를 호출하지 않고 바로 거절한다")
+	void opensCircuitAfterFailures() {
+		gateway.respond(500, "{\"code\":\"PROVIDER_ERROR\"}");
+		for (int i = 0; i < 4; i++) {
+			confirm();
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(GatewayCircuitBreaker.State.OPEN);
+		assertThatThrownBy(this::confirm)
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE);
+		assertThat(gateway.received()).hasSize(4);
+		assertThat(meterRegistry.get("payment.gateway.rejected").tag("reason", "circuit_open").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("동시 호출 수 제한을 넘는 호출은 기다리지 않고 바로 거절한다")
+	void rejectsWhenBusy() {
+		gateway.delay(Duration.ofMillis(200));
+		CompletableFuture<GatewayResponse> first = client.confirm("pk_1", "order-1", "10000", "key-1");
+		CompletableFuture<GatewayResponse> second = client.confirm("pk_2", "order-2", "10000", "key-2");
+
+		CompletableFuture<GatewayResponse> third = client.confirm("pk_3", "order-3", "10000", "key-3");
+
+		assertThat(third).isCompletedExceptionally();
+		assertThatThrownBy(() -> TossPaymentsClient.await(third))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(PaymentErrorStatus.PAYMENT_GATEWAY_UNAVAILABLE);
+		assertThat(TossPaymentsClient.await(first).isSuccess()).isTrue();
+		assertThat(TossPaymentsClient.await(second).isSuccess()).isTrue();
+		assertThat(TossPaymentsClient.await(client.confirm("pk_4", "order-4", "10000", "key-4")).isSuccess())
+			.isTrue();
+	}
+}
@@ -8,7 +8,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,6 +32,8 @@ import app.domain.review.model.dto.request.CreateReviewRequest;
 import app.domain.review.model.dto.response.GetReviewResponse;
 import app.domain.review.status.ReviewErrorStatus;
 import app.domain.review.status.ReviewSuccessStatus;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.config.MockSecurityConfig;
@@ -96,9 +97,10 @@ class ReviewControllerTest {
 			"Great!",
 			LocalDateTime.now()
 		);
-		List<GetReviewResponse> responseList = Collections.singletonList(reviewResponse);
+		CursorResponse<GetReviewResponse> responseList =
+			new CursorResponse<>(List.of(reviewResponse), 20, false, null, null);
 
-		when(reviewService.getReviews())
+		when(reviewService.getReviews(any(CursorRequest.class)))
 			.thenReturn(responseList);
 
 		mockMvc.perform(get("/customer/review")).andDo(print())
@@ -106,12 +108,13 @@ class ReviewControllerTest {
 			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
 			.andExpect(jsonPath("$.code").value(ReviewSuccessStatus.GET_REVIEWS_SUCCESS.getCode()))
 			.andExpect(jsonPath("$.message").value(ReviewSuccessStatus.GET_REVIEWS_SUCCESS.getMessage()))
-			.andExpect(jsonPath("$.result").isArray())
-			.andExpect(jsonPath("$.result.length()").value(1))
-			.andExpect(jsonPath("$.result[0].customerName").value(reviewResponse.getCustomerName()))
-			.andExpect(jsonPath("$.result[0].storeName").value(reviewResponse.getStoreName()))
-			.andExpect(jsonPath("$.result[0].rating").value(reviewResponse.getRating()))
-			.andExpect(jsonPath("$.result[0].content").value(reviewResponse.getContent()));
+			.andExpect(jsonPath("$.result.content").isArray())
+			.andExpect(jsonPath("$.result.content.length()").value(1))
+			.andExpect(jsonPath("$.result.content[0].customerName").value(reviewResponse.getCustomerName()))
+			.andExpect(jsonPath("$.result.content[0].storeName").value(reviewResponse.getStoreName()))
+			.andExpect(jsonPath("$.result.content[0].rating").value(reviewResponse.getRating()))
+			.andExpect(jsonPath("$.result.content[0].content").value(reviewResponse.getContent()))
+			.andExpect(jsonPath("$.result.hasNext").value(false));
 	}
 
 	@Test
@@ -137,7 +140,7 @@ class ReviewControllerTest {
 	@DisplayName("리뷰 조회 - 실패 (사용자 없음)")
 	@WithMockUser(username = "999", roles = "CUSTOMER")
 	void getReviews_Fail_UserNotFound() throws Exception {
-		when(reviewService.getReviews())
+		when(reviewService.getReviews(any(CursorRequest.class)))
 			.thenThrow(new GeneralException(ErrorStatus.USER_NOT_FOUND));
 
 		mockMvc.perform(get("/customer/review"))
@@ -151,7 +154,7 @@ class ReviewControllerTest {
 	@DisplayName("리뷰 조회 - 실패 (리뷰 없음)")
 	@WithMockUser(username = "1", roles = "CUSTOMER")
 	void getReviews_Fail_NoReviewsFound() throws Exception {
-		when(reviewService.getReviews())
+		when(reviewService.getReviews(any(CursorRequest.class)))
 			.thenThrow(new GeneralException(ReviewErrorStatus.NO_REVIEWS_FOUND_FOR_USER));
 
 		mockMvc.perform(get("/customer/review"))
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import app.domain.order.model.entity.Orders;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.review.ReviewService;
+import app.domain.review.model.ReviewQueryRepository;
 import app.domain.review.model.ReviewRepository;
 import app.domain.review.model.dto.request.CreateReviewRequest;
 import app.domain.review.model.dto.response.GetReviewResponse;
@@ -28,6 +28,8 @@ import app.domain.review.status.ReviewErrorStatus;
 import app.domain.store.model.entity.Store;
 import app.domain.user.model.entity.User;
 import app.global.SecurityUtil;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 
@@ -38,6 +40,9 @@ class ReviewServiceTest {
 	@Mock
 	private ReviewRepository reviewRepository;
 
+	@Mock
+	private ReviewQueryRepository reviewQueryRepository;
+
 	@Mock
 	private OrdersRepository ordersRepository;
 
@@ -132,20 +137,24 @@ class ReviewServiceTest {
 	@Test
 	@DisplayName("사용자 리뷰 조회 - 성공")
 	void getReviews_Success() {
-		when(reviewRepository.findByUser(user)).thenReturn(Collections.singletonList(review));
+		CursorRequest request = CursorRequest.first(20);
+		GetReviewResponse projected = new GetReviewResponse(review.getReviewId(), user.getUsername(),
+			store.getStoreName(), review.getRating(), review.getContent(), review.getCreatedAt());
+		when(reviewQueryRepository.findUserReviews(user.getUserId(), request))
+			.thenReturn(new CursorResponse<>(List.of(projected), 20, false, null, null));
 		when(securityUtil.getCurrentUser()).thenReturn(user);
 
-		List<GetReviewResponse> responses = reviewService.getReviews();
+		CursorResponse<GetReviewResponse> responses = reviewService.getReviews(request);
 
 		assertNotNull(responses);
-		assertEquals(1, responses.size());
-		GetReviewResponse response = responses.get(0);
+		assertEquals(1, responses.getContent().size());
+		GetReviewResponse response = responses.getContent().get(0);
 		assertEquals(review.getReviewId(), response.getReviewId());
 		assertEquals(user.getUsername(), response.getCustomerName());
 		assertEquals(store.getStoreName(), response.getStoreName());
 		assertEquals(review.getRating(), response.getRating());
 		assertEquals(review.getContent(), response.getContent());
-		verify(reviewRepository, times(1)).findByUser(user);
+		verify(reviewQueryRepository, times(1)).findUserReviews(user.getUserId(), request);
 	}
 
 	@Test
@@ -153,10 +162,12 @@ class ReviewServiceTest {
 	void getReviews_Fail_NoReviewsFound() {
 		when(securityUtil.getCurrentUser()).thenReturn(user);
 
-		when(reviewRepository.findByUser(user)).thenReturn(Collections.emptyList());
+		CursorRequest request = CursorRequest.first(20);
+		when(reviewQueryRepository.findUserReviews(user.getUserId(), request))
+			.thenReturn(CursorResponse.empty(request));
 
 		GeneralException exception = assertThrows(GeneralException.class,
-			() -> reviewService.getReviews());
+			() -> reviewService.getReviews(request));
 		assertEquals(ReviewErrorStatus.NO_REVIEWS_FOUND_FOR_USER, exception.getCode());
 
 	}
@@ -8,7 +8,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -34,13 +34,15 @@ import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.StoreApproveResponse;
 import app.domain.store.model.dto.response.StoreInfoUpdateResponse;
-import app.domain.store.model.dto.response.StoreOrderListResponse;
+import app.domain.store.model.dto.response.StoreOrderResponse;
 import app.domain.store.model.entity.Region;
 import app.domain.store.repository.RegionRepository;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreErrorCode;
 import app.domain.store.status.StoreSuccessStatus;
 import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.exception.GeneralException;
 
 @ExtendWith(MockitoExtension.class)
@@ -409,6 +411,7 @@ public class StoreControllerTest {
 	class GetStoreReviewsTest {
 
 		private final UUID testStoreId = TEST_STORE_ID;
+		private final CursorRequest request = CursorRequest.first(20);
 
 		@Test
 		@DisplayName("성공: 리뷰 목록 조회")
@@ -416,13 +419,13 @@ public class StoreControllerTest {
 			GetReviewResponse reviewResponse = new
 				GetReviewResponse(UUID.randomUUID(), "고객1", "가게1", 5L,
 				"맛있어요", LocalDateTime.now());
-			List<GetReviewResponse> expectedResponse =
-				Collections.singletonList(reviewResponse);
+			CursorResponse<GetReviewResponse> expectedResponse =
+				new CursorResponse<>(Collections.singletonList(reviewResponse), 20, false, null, null);
 
-			when(storeService.getStoreReviewList(testStoreId)).thenReturn(expectedResponse);
+			when(storeService.getStoreReviewList(testStoreId, request)).thenReturn(expectedResponse);
 
-			ApiResponse<List<GetReviewResponse>> response =
-				storeController.getStoreReviews(testStoreId);
+			ApiResponse<CursorResponse<GetReviewResponse>> response =
+				storeController.getStoreReviews(testStoreId, request);
 
 			assertSuccessResponse(response, StoreSuccessStatus._OK,
 				expectedResponse);
@@ -432,11 +435,11 @@ public class StoreControllerTest {
 		@Test
 		@DisplayName("실패: 가게 없음")
 		void getStoreReviews_Fail_StoreNotFound() {
-			when(storeService.getStoreReviewList(testStoreId))
+			when(storeService.getStoreReviewList(testStoreId, request))
 				.thenThrow(new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeController.getStoreReviews(testStoreId);
+				storeController.getStoreReviews(testStoreId, request);
 			});
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND,
@@ -447,12 +450,12 @@ public class StoreControllerTest {
 		@Test
 		@DisplayName("실패: 권한 없음")
 		void getStoreReviews_Fail_Unauthorized() {
-			when(storeService.getStoreReviewList(testStoreId))
+			when(storeService.getStoreReviewList(testStoreId, request))
 				.thenThrow(new
 					GeneralException(StoreErrorCode.INVALID_USER_ROLE));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeController.getStoreReviews(testStoreId);
+				storeController.getStoreReviews(testStoreId, request);
 			});
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE,
@@ -466,28 +469,26 @@ public class StoreControllerTest {
 	class GetStoreOrdersTest {
 
 		private final UUID testStoreId = TEST_STORE_ID;
+		private final CursorRequest request = CursorRequest.first(20);
 
 		@Test
 		@DisplayName("성공: 주문 목록 조회")
 		void getStoreOrders_Success() {
-			StoreOrderListResponse.StoreOrderDetail orderDetail =
-				StoreOrderListResponse.StoreOrderDetail.builder()
+			StoreOrderResponse orderResponse =
+				StoreOrderResponse.builder()
 					.orderId(UUID.randomUUID())
 					.customerName("고객1")
 					.totalPrice(15000L)
 					.orderStatus(app.domain.order.model.entity.enums.OrderStatus.COMPLETED)
 					.orderedAt(LocalDateTime.now())
 					.build();
-			StoreOrderListResponse expectedResponse =
-				StoreOrderListResponse.builder()
-					.storeId(testStoreId)
-					.orderList(Collections.singletonList(orderDetail))
-					.build();
+			CursorResponse<StoreOrderResponse> expectedResponse =
+				new CursorResponse<>(Collections.singletonList(orderResponse), 20, true, "next-cursor", null);
 
-			when(storeService.getStoreOrderList(testStoreId)).thenReturn(expectedResponse);
+			when(storeService.getStoreOrderList(testStoreId, request)).thenReturn(expectedResponse);
 
-			ApiResponse<StoreOrderListResponse> response =
-				storeController.getStoreOrders(testStoreId);
+			ApiResponse<CursorResponse<StoreOrderResponse>> response =
+				storeController.getStoreOrders(testStoreId, request);
 
 			assertSuccessResponse(response, StoreSuccessStatus._OK,
 				expectedResponse);
@@ -497,11 +498,11 @@ public class StoreControllerTest {
 		@Test
 		@DisplayName("실패: 가게 없음")
 		void getStoreOrders_Fail_StoreNotFound() {
-			when(storeService.getStoreOrderList(testStoreId))
+			when(storeService.getStoreOrderList(testStoreId, request))
 				.thenThrow(new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeController.getStoreOrders(testStoreId);
+				storeController.getStoreOrders(testStoreId, request);
 			});
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND,
@@ -512,18 +513,32 @@ public class StoreControllerTest {
 		@Test
 		@DisplayName("실패: 권한 없음")
 		void getStoreOrders_Fail_Unauthorized() {
-			when(storeService.getStoreOrderList(testStoreId))
+			when(storeService.getStoreOrderList(testStoreId, request))
 				.thenThrow(new
 					GeneralException(StoreErrorCode.INVALID_USER_ROLE));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeController.getStoreOrders(testStoreId);
+				storeController.getStoreOrders(testStoreId, request);
 			});
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE,
 				exception.getCode());
 			verify(storeService, times(1)).getStoreOrderList(testStoreId);
 		}
+
+		@Test
+		@DisplayName("성공: 주문 피드 구독은 Last-Event-ID 를 넘기고 SSE 응답을 연다")
+		void subscribeStoreOrderFeed_Success() throws Exception {
+			when(storeService.subscribeOrderFeed(testStoreId, "1-0")).thenReturn(new SseEmitter());
+
+			mockMvc.perform(get("/store/{storeId}/order/feed", testStoreId)
+					.accept(MediaType.TEXT_EVENT_STREAM)
+					.header("Last-Event-ID", "1-0"))
+				.andExpect(status().isOk())
+				.andExpect(request().asyncStarted());
+
+			verify(storeService, times(1)).subscribeOrderFeed(testStoreId, "1-0");
+		}
 	}
 
 	@Nested
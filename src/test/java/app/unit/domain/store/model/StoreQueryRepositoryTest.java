@@ -11,15 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 import app.domain.customer.dto.response.GetStoreListResponse;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.status.StoreAcceptStatus;
-import app.global.apiPayload.PagedResponse;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 
 @ExtendWith(MockitoExtension.class)
 class StoreQueryRepositoryTest {
@@ -32,7 +29,7 @@ class StoreQueryRepositoryTest {
 	void searchStoresWithAvgRating_success() {
 		// given
 		UUID storeId = UUID.randomUUID();
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = CursorRequest.first(10);
 		GetStoreListResponse dto = GetStoreListResponse.builder()
 			.storeId(storeId)
 			.storeName("맛있는 족발집")
@@ -40,15 +37,14 @@ class StoreQueryRepositoryTest {
 			.minOrderAmount(15000L)
 			.averageRating(4.5)
 			.build();
-		Page<GetStoreListResponse> page = new PageImpl<>(List.of(dto), pageable, 1);
-		PagedResponse<GetStoreListResponse> response = PagedResponse.from(page);
+		CursorResponse<GetStoreListResponse> response = new CursorResponse<>(List.of(dto), 10, false, null, null);
 
-		given(storeQueryRepository.searchStoresWithAvgRating("족발", StoreAcceptStatus.APPROVE, pageable))
+		given(storeQueryRepository.searchStoresWithAvgRating("족발", StoreAcceptStatus.APPROVE, request))
 			.willReturn(response);
 
 		// when
-		PagedResponse<GetStoreListResponse> result = storeQueryRepository.searchStoresWithAvgRating("족발",
-			StoreAcceptStatus.APPROVE, pageable);
+		CursorResponse<GetStoreListResponse> result = storeQueryRepository.searchStoresWithAvgRating("족발",
+			StoreAcceptStatus.APPROVE, request);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
@@ -61,7 +57,7 @@ class StoreQueryRepositoryTest {
 	void getApprovedStore_success() {
 		// given
 		UUID storeId = UUID.randomUUID();
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = CursorRequest.first(10);
 		GetStoreListResponse dto = GetStoreListResponse.builder()
 			.storeId(storeId)
 			.storeName("족발천국")
@@ -69,13 +65,12 @@ class StoreQueryRepositoryTest {
 			.minOrderAmount(12000L)
 			.averageRating(4.3)
 			.build();
-		Page<GetStoreListResponse> page = new PageImpl<>(List.of(dto), pageable, 1);
-		PagedResponse<GetStoreListResponse> response = PagedResponse.from(page);
+		CursorResponse<GetStoreListResponse> response = new CursorResponse<>(List.of(dto), 10, false, null, null);
 
-		given(storeQueryRepository.getApprovedStore(pageable)).willReturn(response);
+		given(storeQueryRepository.getApprovedStore(request)).willReturn(response);
 
 		// when
-		PagedResponse<GetStoreListResponse> result = storeQueryRepository.getApprovedStore(pageable);
+		CursorResponse<GetStoreListResponse> result = storeQueryRepository.getApprovedStore(request);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
@@ -88,7 +83,7 @@ class StoreQueryRepositoryTest {
 	void getAllStore_success() {
 		// given
 		UUID storeId = UUID.randomUUID();
-		Pageable pageable = PageRequest.of(0, 10);
+		CursorRequest request = CursorRequest.first(10);
 		GetStoreListResponse dto = GetStoreListResponse.builder()
 			.storeId(storeId)
 			.storeName("순대국집")
@@ -96,14 +91,13 @@ class StoreQueryRepositoryTest {
 			.minOrderAmount(10000L)
 			.averageRating(4.8)
 			.build();
-		Page<GetStoreListResponse> page = new PageImpl<>(List.of(dto), pageable, 1);
-		PagedResponse<GetStoreListResponse> response = PagedResponse.from(page);
+		CursorResponse<GetStoreListResponse> response = new CursorResponse<>(List.of(dto), 10, false, null, null);
 
-		given(storeQueryRepository.getAllStore(StoreAcceptStatus.APPROVE, pageable)).willReturn(response);
+		given(storeQueryRepository.getAllStore(StoreAcceptStatus.APPROVE, request)).willReturn(response);
 
 		// when
-		PagedResponse<GetStoreListResponse> result = storeQueryRepository.getAllStore(StoreAcceptStatus.APPROVE,
-			pageable);
+		CursorResponse<GetStoreListResponse> result = storeQueryRepository.getAllStore(StoreAcceptStatus.APPROVE,
+			request);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
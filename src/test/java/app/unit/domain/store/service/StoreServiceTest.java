@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -16,24 +17,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import app.domain.menu.MenuCatalogCache;
 import app.domain.menu.model.dto.response.MenuListResponse;
 import app.domain.menu.model.entity.Category;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.CategoryRepository;
 import app.domain.menu.model.repository.MenuRepository;
+import app.domain.order.OrderFeedBroker;
 import app.domain.order.model.entity.Orders;
+import app.domain.order.model.repository.OrdersQueryRepository;
 import app.domain.order.model.repository.OrdersRepository;
 import app.domain.order.service.OrderService;
-import app.domain.review.model.ReviewRepository;
+import app.domain.review.model.ReviewQueryRepository;
 import app.domain.review.model.dto.response.GetReviewResponse;
-import app.domain.review.model.entity.Review;
 import app.domain.store.StoreService;
 import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.StoreApproveResponse;
 import app.domain.store.model.dto.response.StoreInfoUpdateResponse;
-import app.domain.store.model.dto.response.StoreOrderListResponse;
+import app.domain.store.model.dto.response.StoreOrderResponse;
 import app.domain.store.model.entity.Region;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.RegionRepository;
@@ -43,6 +47,8 @@ import app.domain.store.status.StoreErrorCode;
 import app.domain.user.model.entity.User;
 import app.domain.user.model.entity.enums.UserRole;
 import app.global.SecurityUtil;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
 import app.global.apiPayload.exception.GeneralException;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,23 +69,33 @@ class StoreServiceTest {
 	private MenuRepository menuRepository;
 
 	@Mock
-	private ReviewRepository reviewRepository;
+	private ReviewQueryRepository reviewQueryRepository;
 
 	@Mock
 	private OrdersRepository ordersRepository;
 
+	@Mock
+	private OrdersQueryRepository ordersQueryRepository;
+
 	@Mock
 	private OrderService orderService;
 
 	@Mock
 	private SecurityUtil securityUtil;
 
+	@Mock
+	private MenuCatalogCache menuCatalogCache;
+
+	@Mock
+	private OrderFeedBroker orderFeedBroker;
+
 	private final Long TEST_USER_ID = 1L;
 
 	@BeforeEach
 	void setUp() {
 		storeService = new StoreService(storeRepository, regionRepository, categoryRepository, menuRepository,
-			reviewRepository, ordersRepository, orderService, securityUtil);
+			reviewQueryRepository, ordersRepository, ordersQueryRepository, orderService, securityUtil, menuCatalogCache,
+			orderFeedBroker);
 	}
 
 	@Nested
@@ -512,36 +528,28 @@ class StoreServiceTest {
 		@Test
 		@DisplayName("성공: 리뷰 목록 조회")
 		void getStoreReviewList_Success() {
-			Review review1 = Review.builder()
-				.reviewId(UUID.randomUUID())
-				.user(mockUser)
-				.store(mockStore)
-				.rating(5L)
-				.content("맛있어요")
-				.build();
-			Review review2 = Review.builder()
-				.reviewId(UUID.randomUUID())
-				.user(mockUser)
-				.store(mockStore)
-				.rating(4L)
-				.content("좋아요")
-				.build();
-			List<Review> mockReviews = Arrays.asList(review1, review2);
+			GetReviewResponse review1 = new GetReviewResponse(UUID.randomUUID(), mockUser.getUsername(),
+				mockStore.getStoreName(), 5L, "맛있어요", LocalDateTime.now());
+			GetReviewResponse review2 = new GetReviewResponse(UUID.randomUUID(), mockUser.getUsername(),
+				mockStore.getStoreName(), 4L, "좋아요", LocalDateTime.now().minusMinutes(1));
+			List<GetReviewResponse> mockReviews = Arrays.asList(review1, review2);
+			CursorRequest request = CursorRequest.first(20);
 
 			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
-			when(reviewRepository.findByStore(mockStore)).thenReturn(mockReviews);
+			when(reviewQueryRepository.findStoreReviews(testStoreId, request))
+				.thenReturn(new CursorResponse<>(mockReviews, 20, false, null, null));
 
-			List<GetReviewResponse> response = storeService.getStoreReviewList(testStoreId);
+			CursorResponse<GetReviewResponse> response = storeService.getStoreReviewList(testStoreId, request);
 
 			assertNotNull(response);
-			assertEquals(2, response.size());
-			assertEquals(review1.getReviewId(), response.get(0).getReviewId());
-			assertEquals(review2.getReviewId(), response.get(1).getReviewId());
+			assertEquals(2, response.getContent().size());
+			assertEquals(review1.getReviewId(), response.getContent().get(0).getReviewId());
+			assertEquals(review2.getReviewId(), response.getContent().get(1).getReviewId());
 
 			verify(securityUtil, times(1)).getCurrentUser();
 			verify(storeRepository, times(1)).findById(testStoreId);
-			verify(reviewRepository, times(1)).findByStore(mockStore);
+			verify(reviewQueryRepository, times(1)).findStoreReviews(testStoreId, request);
 		}
 
 		@Test
@@ -551,13 +559,13 @@ class StoreServiceTest {
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeService.getStoreReviewList(testStoreId);
+				storeService.getStoreReviewList(testStoreId, CursorRequest.first(20));
 			});
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND, exception.getCode());
 			verify(securityUtil, times(1)).getCurrentUser();
 			verify(storeRepository, times(1)).findById(testStoreId);
-			verify(reviewRepository, never()).findByStore(any(Store.class));
+			verify(reviewQueryRepository, never()).findStoreReviews(any(), any());
 		}
 
 		@Test
@@ -571,13 +579,13 @@ class StoreServiceTest {
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeService.getStoreReviewList(testStoreId);
+				storeService.getStoreReviewList(testStoreId, CursorRequest.first(20));
 			});
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
 			verify(securityUtil, times(1)).getCurrentUser();
 			verify(storeRepository, times(1)).findById(testStoreId);
-			verify(reviewRepository, never()).findByStore(any(Store.class));
+			verify(reviewQueryRepository, never()).findStoreReviews(any(), any());
 		}
 	}
 
@@ -601,37 +609,31 @@ class StoreServiceTest {
 		@Test
 		@DisplayName("성공: 주문 목록 조회")
 		void getStoreOrderList_Success() {
-			Orders order1 = Orders.builder()
-				.ordersId(UUID.randomUUID())
-				.user(mockUser)
-				.store(mockStore)
-				.totalPrice(10000L)
-				.orderStatus(app.domain.order.model.entity.enums.OrderStatus.COMPLETED)
-				.build();
-			Orders order2 = Orders.builder()
-				.ordersId(UUID.randomUUID())
-				.user(mockUser)
-				.store(mockStore)
-				.totalPrice(20000L)
-				.orderStatus(app.domain.order.model.entity.enums.OrderStatus.PENDING)
-				.build();
-			List<Orders> mockOrders = Arrays.asList(order1, order2);
+			StoreOrderResponse order1 = new StoreOrderResponse(UUID.randomUUID(), mockUser.getUsername(), 10000L,
+				app.domain.order.model.entity.enums.OrderStatus.COMPLETED, LocalDateTime.now());
+			StoreOrderResponse order2 = new StoreOrderResponse(UUID.randomUUID(), mockUser.getUsername(), 20000L,
+				app.domain.order.model.entity.enums.OrderStatus.PENDING, LocalDateTime.now().minusMinutes(1));
+			List<StoreOrderResponse> mockOrders = Arrays.asList(order1, order2);
+			CursorRequest request = CursorRequest.first(2);
 
 			when(securityUtil.getCurrentUser()).thenReturn(mockUser);
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
-			when(ordersRepository.findByStore(mockStore)).thenReturn(mockOrders);
+			when(ordersQueryRepository.findStoreOrders(testStoreId, request))
+				.thenReturn(new CursorResponse<>(mockOrders, 2, true, "next-cursor", null));
 
-			StoreOrderListResponse response = storeService.getStoreOrderList(testStoreId);
+			CursorResponse<StoreOrderResponse> response = storeService.getStoreOrderList(testStoreId, request);
 
 			assertNotNull(response);
-			assertEquals(testStoreId, response.getStoreId());
-			assertEquals(2, response.getOrderList().size());
-			assertEquals(order1.getOrdersId(), response.getOrderList().get(0).getOrderId());
-			assertEquals(order2.getOrdersId(), response.getOrderList().get(1).getOrderId());
+			assertEquals(2, response.getContent().size());
+			assertEquals(order1.getOrderId(), response.getContent().get(0).getOrderId());
+			assertEquals(order2.getOrderId(), response.getContent().get(1).getOrderId());
+			assertEquals(mockUser.getUsername(), response.getContent().get(0).getCustomerName());
+			assertTrue(response.isHasNext());
+			assertEquals("next-cursor", response.getNextCursor());
 
 			verify(securityUtil, times(1)).getCurrentUser();
 			verify(storeRepository, times(1)).findById(testStoreId);
-			verify(ordersRepository, times(1)).findByStore(mockStore);
+			verify(ordersQueryRepository, times(1)).findStoreOrders(testStoreId, request);
 		}
 
 		@Test
@@ -641,13 +643,13 @@ class StoreServiceTest {
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.empty());
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeService.getStoreOrderList(testStoreId);
+				storeService.getStoreOrderList(testStoreId, CursorRequest.first(20));
 			});
 
 			assertEquals(StoreErrorCode.STORE_NOT_FOUND, exception.getCode());
 			verify(securityUtil, times(1)).getCurrentUser();
 			verify(storeRepository, times(1)).findById(testStoreId);
-			verify(ordersRepository, never()).findByStore(any(Store.class));
+			verify(ordersQueryRepository, never()).findStoreOrders(any(), any());
 		}
 
 		@Test
@@ -661,13 +663,57 @@ class StoreServiceTest {
 			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
 
 			GeneralException exception = assertThrows(GeneralException.class, () -> {
-				storeService.getStoreOrderList(testStoreId);
+				storeService.getStoreOrderList(testStoreId, CursorRequest.first(20));
 			});
 
 			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
 			verify(securityUtil, times(1)).getCurrentUser();
 			verify(storeRepository, times(1)).findById(testStoreId);
-			verify(ordersRepository, never()).findByStore(any(Store.class));
+			verify(ordersQueryRepository, never()).findStoreOrders(any(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("subscribeOrderFeed Test")
+	class SubscribeOrderFeedTest {
+
+		private UUID testStoreId;
+		private Store mockStore;
+
+		@BeforeEach
+		void setUp() {
+			testStoreId = UUID.randomUUID();
+			User owner = new User(TEST_USER_ID, "testuser", "test@example.com", "password", "nickname", "홍길동",
+				"01012345678", UserRole.OWNER);
+			mockStore = new Store(testStoreId, owner, mock(Region.class), mock(Category.class), "테스트 가게", null, null,
+				null, 10000L, null);
+		}
+
+		@Test
+		@DisplayName("성공: 가게 주인은 주문 피드를 구독한다")
+		void subscribeOrderFeed_Success() {
+			SseEmitter emitter = new SseEmitter();
+			when(securityUtil.getCurrentUserId()).thenReturn(TEST_USER_ID);
+			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
+			when(orderFeedBroker.subscribeStore(testStoreId, "1-0")).thenReturn(emitter);
+
+			SseEmitter result = storeService.subscribeOrderFeed(testStoreId, "1-0");
+
+			assertEquals(emitter, result);
+		}
+
+		@Test
+		@DisplayName("실패: 다른 사용자의 가게는 구독할 수 없다")
+		void subscribeOrderFeed_Fail_Unauthorized() {
+			when(securityUtil.getCurrentUserId()).thenReturn(TEST_USER_ID + 1);
+			when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
+
+			GeneralException exception = assertThrows(GeneralException.class, () -> {
+				storeService.subscribeOrderFeed(testStoreId, null);
+			});
+
+			assertEquals(StoreErrorCode.INVALID_USER_ROLE, exception.getCode());
+			verify(orderFeedBroker, never()).subscribeStore(any(), any());
 		}
 	}
 
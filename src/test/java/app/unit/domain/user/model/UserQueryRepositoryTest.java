@@ -0,0 +1,96 @@
+package app.unit.domain.user.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import app.domain.user.model.UserQueryRepository;
+import app.domain.user.model.UserQueryRepositoryImpl;
+import app.domain.user.model.UserRepository;
+import app.domain.user.model.entity.User;
+import app.domain.user.model.entity.enums.UserRole;
+import app.global.apiPayload.CursorRequest;
+import app.global.apiPayload.CursorResponse;
+import app.global.config.QueryDslConfig;
+import app.global.config.TestJpaConfig;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, TestJpaConfig.class, UserQueryRepositoryImpl.class})
+@DisplayName("UserQueryRepository 커서 페이지 테스트")
+class UserQueryRepositoryTest {
+
+	private static final int USER_COUNT = 5;
+
+	@Autowired
+	private UserQueryRepository userQueryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAllInBatch();
+		for (int i = 0; i < USER_COUNT; i++) {
+			userRepository.save(User.builder()
+				.username("cursor" + i)
+				.password("password")
+				.email("cursor" + i + "@example.com")
+				.nickname("cursor-nick" + i)
+				.realName("커서" + i)
+				.phoneNumber("0101234000" + i)
+				.userRole(UserRole.CUSTOMER)
+				.build());
+		}
+		// 커서는 DB 에 저장된 createdAt 으로 만들어야 하므로 영속성 컨텍스트를 비우고 다시 읽게 한다.
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("커서를 따라가면 모든 사용자를 최신순으로 중복 없이 한 번씩 읽는다")
+	void walksAllPages() {
+		List<Long> visited = new ArrayList<>();
+		CursorRequest request = CursorRequest.first(2);
+		int pages = 0;
+
+		while (true) {
+			CursorResponse<User> page = userQueryRepository.searchUser("cursor", request);
+			page.getContent().forEach(user -> visited.add(user.getUserId()));
+			pages++;
+			if (!page.isHasNext()) {
+				break;
+			}
+			request = new CursorRequest(page.getNextCursor(), 2, false);
+		}
+
+		List<Long> expected = userRepository.findAll().stream()
+			.sorted(Comparator.comparing(User::getCreatedAt).thenComparing(User::getUserId).reversed())
+			.map(User::getUserId)
+			.toList();
+		assertThat(pages).isEqualTo(3);
+		assertThat(visited).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	@DisplayName("withTotal=true 일 때만 전체 개수를 채운다")
+	void totalOnlyWhenRequested() {
+		CursorResponse<User> withoutTotal = userQueryRepository.searchUser("cursor", CursorRequest.first(2));
+		CursorResponse<User> withTotal = userQueryRepository.searchUser("cursor", new CursorRequest(null, 2, true));
+
+		assertThat(withoutTotal.getTotalElements()).isNull();
+		assertThat(withTotal.getTotalElements()).isEqualTo((long) USER_COUNT);
+	}
+}
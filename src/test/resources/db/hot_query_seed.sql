@@ -0,0 +1,65 @@
+-- HotQueryIndexTest 용 데이터. 식별자는 md5('<테이블>-<번호>')::uuid 로 만들어 테스트 SQL 에서 같은 값을 다시 만든다.
+
+INSERT INTO p_user (user_id, username, email, password, nickname, real_name, phone_number, user_role,
+                    created_at, updated_at, deleted_at)
+SELECT g, 'user' || g, 'user' || g || '@example.com', 'password', 'nick' || g, '사용자' || g,
+       '010' || lpad(g::text, 8, '0'),
+       CASE WHEN g % 10 = 0 THEN 'OWNER' ELSE 'CUSTOMER' END,
+       now() - g * INTERVAL '1 minute', now(),
+       CASE WHEN g % 50 = 0 THEN now() END
+FROM generate_series(1, 1000) g;
+
+INSERT INTO p_region (region_id, region_code, region_name, is_active, full_name, created_at, updated_at)
+SELECT md5('region-' || g)::uuid, 'R' || lpad(g::text, 9, '0'), '지역' || g, TRUE, '서울특별시 지역' || g, now(), now()
+FROM generate_series(1, 20) g;
+
+INSERT INTO p_category (category_id, category_name, created_at, updated_at)
+SELECT md5('category-' || g)::uuid, '분류' || g, now(), now()
+FROM generate_series(1, 5) g;
+
+INSERT INTO p_store (store_id, user_id, region_id, category_id, store_name, address, min_order_amount,
+                     store_accept_status, created_at, updated_at, deleted_at)
+SELECT md5('store-' || g)::uuid, (g % 100 + 1) * 10, md5('region-' || (g % 20 + 1))::uuid,
+       md5('category-' || (g % 5 + 1))::uuid, '가게' || g, '서울시 종로구', 0,
+       CASE g % 3 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'APPROVE' ELSE 'REJECT' END,
+       now() - g * INTERVAL '1 hour', now(),
+       CASE WHEN g % 20 = 0 THEN now() END
+FROM generate_series(1, 200) g;
+
+INSERT INTO p_menu (menu_id, store_id, name, price, is_hidden, created_at, updated_at, deleted_at)
+SELECT md5('menu-' || g)::uuid, md5('store-' || (g % 200 + 1))::uuid, '메뉴' || g, 1000, FALSE, now(), now(),
+       CASE WHEN g % 10 = 0 THEN now() END
+FROM generate_series(1, 2000) g;
+
+INSERT INTO p_orders (orders_id, store_id, user_id, total_price, delivery_address, payment_method, order_channel,
+                      receipt_method, order_status, is_refundable, created_at, updated_at)
+SELECT md5('orders-' || g)::uuid, md5('store-' || (g % 200 + 1))::uuid, g % 1000 + 1, 2000, '서울시 종로구',
+       'CREDIT_CARD', 'ONLINE', 'DELIVERY', 'COMPLETED', FALSE,
+       now() - g * INTERVAL '1 minute', now()
+FROM generate_series(1, 5000) g;
+
+INSERT INTO p_b_order_item (order_item_id, orders_id, menu_name, price, quantity, created_at, updated_at)
+SELECT md5('order-item-' || g)::uuid, md5('orders-' || (g % 5000 + 1))::uuid, '메뉴' || g, 1000, 1, now(), now()
+FROM generate_series(1, 10000) g;
+
+INSERT INTO p_order_status_event (event_id, orders_id, order_status, occurred_at)
+SELECT md5('event-' || g)::uuid, md5('orders-' || g)::uuid, 'COMPLETED', now()
+FROM generate_series(1, 5000) g;
+
+INSERT INTO p_review (review_id, b_order_id, user_id, store_id, rating, content, created_at, updated_at)
+SELECT md5('review-' || g)::uuid, md5('orders-' || g)::uuid, g % 1000 + 1, md5('store-' || (g % 200 + 1))::uuid,
+       g % 5 + 1, '리뷰' || g, now() - g * INTERVAL '1 minute', now()
+FROM generate_series(1, 5000, 2) g;
+
+INSERT INTO p_cart (cart_id, user_id, created_at, updated_at)
+SELECT md5('cart-' || g)::uuid, g, now(), now()
+FROM generate_series(1, 500) g;
+
+INSERT INTO p_cart_item (cart_item_id, cart_id, menu_id, store_id, quantity, created_at, updated_at)
+SELECT md5('cart-item-' || g)::uuid, md5('cart-' || (g % 500 + 1))::uuid, md5('menu-' || (g % 2000 + 1))::uuid,
+       md5('store-' || ((g % 2000) % 200 + 1))::uuid, 1, now(), now()
+FROM generate_series(1, 1500) g;
+
+INSERT INTO p_user_address (address_id, user_id, alias, address, address_detail, is_default, created_at, updated_at)
+SELECT md5('address-' || g)::uuid, g % 1000 + 1, '집', '서울시 종로구', g || '호', g <= 1000, now(), now()
+FROM generate_series(1, 2000) g;